@@ -0,0 +1,17 @@
+-- (날짜, 카테고리, 지표) 별 일정 수. TaskTxService 가 전이마다 증감분을 더한다.
+-- CATEGORY 가 없는 일정은 '미분류' 로 모은다. METRIC 은 CREATED / COMPLETED / DDAY_LINKED / CARRIED_OVER / DEFERRED.{DeferReason}
+-- 적용 후 dailyTaskStatsBackfillJob 으로 기존 데이터를 채운다.
+CREATE TABLE DAILY_TASK_STATS (
+    STAT_DATE DATE NOT NULL,
+    CATEGORY VARCHAR(255) NOT NULL,
+    METRIC VARCHAR(50) NOT NULL,
+    STAT_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (STAT_DATE, CATEGORY, METRIC)
+);
+
+-- dailyTaskStatsBackfillJob : 구간별로 CREATED_AT / 계획일 (TARGET_DATE, 없으면 START_AT) 범위를 따로 조회한다.
+-- (완료 시각은 IDX_TASK_STATUS_COMPLETED_AT / IDX_TASK_ARCHIVE_COMPLETED_AT)
+CREATE INDEX IDX_TASK_CREATED_AT ON TASK (CREATED_AT);
+CREATE INDEX IDX_TASK_TARGET_DATE_START_AT ON TASK (TARGET_DATE, START_AT);
+CREATE INDEX IDX_TASK_ARCHIVE_CREATED_AT ON TASK_ARCHIVE (CREATED_AT);
+CREATE INDEX IDX_TASK_ARCHIVE_TARGET_DATE_START_AT ON TASK_ARCHIVE (TARGET_DATE, START_AT);
@@ -0,0 +1,16 @@
+CREATE TABLE MAIL_OUTBOX (
+    ID BIGINT NOT NULL AUTO_INCREMENT,
+    RECIPIENT VARCHAR(255) NOT NULL,
+    SUBJECT VARCHAR(255) NOT NULL,
+    BODY LONGTEXT NOT NULL,
+    STATUS VARCHAR(30) NOT NULL DEFAULT 'PENDING',
+    ATTEMPT_COUNT INT NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT DATETIME NOT NULL,
+    LAST_ERROR VARCHAR(500) NULL,
+    CREATED_AT DATETIME NOT NULL,
+    SENT_AT DATETIME NULL,
+    PRIMARY KEY (ID)
+);
+
+-- dispatcher 조회 조건 (STATUS = 'PENDING' AND NEXT_ATTEMPT_AT <= now)
+CREATE INDEX IDX_MAIL_OUTBOX_DISPATCH ON MAIL_OUTBOX (STATUS, NEXT_ATTEMPT_AT);
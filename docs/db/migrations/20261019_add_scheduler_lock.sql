@@ -0,0 +1,9 @@
+-- BatchScheduler 분산 락 (LOCK_NAME = "{jobName}:{baseDate}")
+CREATE TABLE SCHEDULER_LOCK (
+    LOCK_NAME VARCHAR(100) NOT NULL,
+    STATUS VARCHAR(30) NOT NULL,
+    LOCKED_BY VARCHAR(255) NOT NULL,
+    LOCKED_AT DATETIME NOT NULL,
+    LOCK_UNTIL DATETIME NOT NULL,
+    PRIMARY KEY (LOCK_NAME)
+);
@@ -0,0 +1,29 @@
+-- 보관 기간이 지난 완료 일정 (taskArchiveJob 이 TASK 에서 옮긴다, ID 는 TASK 의 ID 그대로)
+-- D-Day 목표 삭제 시 DDAY_GOAL_ID 를 비우므로 FK 를 두지 않는다.
+CREATE TABLE TASK_ARCHIVE (
+    ID BIGINT NOT NULL,
+    TITLE VARCHAR(255) NOT NULL,
+    TYPE VARCHAR(30) NOT NULL,
+    START_AT DATETIME NULL,
+    END_AT DATETIME NULL,
+    ALL_DAY BOOLEAN NOT NULL DEFAULT FALSE,
+    CATEGORY VARCHAR(255) NULL,
+    DESCRIPTION VARCHAR(255) NULL,
+    STATUS VARCHAR(30) NOT NULL,
+    TARGET_DATE DATE NULL,
+    TODAY_ORDER INTEGER NULL,
+    COMPLETED_AT DATETIME NOT NULL,
+    CARRY_OVER_COUNT INT NOT NULL DEFAULT 0,
+    DEFER_REASON VARCHAR(30) NULL,
+    DDAY_GOAL_ID BIGINT NULL,
+    CREATED_AT DATETIME NOT NULL,
+    UPDATED_AT DATETIME NULL,
+    ARCHIVED_AT DATETIME NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+-- 완료 로그 조회 (COMPLETED_AT 범위)
+CREATE INDEX IDX_TASK_ARCHIVE_COMPLETED_AT ON TASK_ARCHIVE (COMPLETED_AT);
+
+-- taskArchiveJob / 완료 로그 조회 (STATUS = 'DONE' AND COMPLETED_AT 범위)
+CREATE INDEX IDX_TASK_STATUS_COMPLETED_AT ON TASK (STATUS, COMPLETED_AT);
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# 컨테이너 시작부터 첫 요청이 200 으로 응답할 때까지 걸린 시간을 잰다.
+# JDK AOT cache 를 쓴 경우 (aot) 와 끈 경우 (baseline) 를 같은 이미지로 번갈아 측정한다.
+# 이미지 기본값은 SPRING_AOT_ENABLED=false 라서 두 모드 모두 조건을 런타임에 평가하고,
+# 아래 APP_BATCH_SCHEDULER_ENABLED=false 가 실제로 적용된다.
+# (--build-arg SPRING_AOT_ENABLED=true 로 만든 이미지는 prod 값 (스케줄러 켬) 으로 고정되어 이 변수가 무시된다)
+#
+#   docker compose up -d mysql
+#   docker compose build app
+#   scripts/time-to-first-request.sh [runs]
+#
+# 환경 변수
+#   IMAGE    : 측정할 이미지 (기본 todolab-app)
+#   NETWORK  : mysql 이 떠 있는 compose 네트워크 (기본 <디렉터리명>_default)
+#   ENV_FILE : 앱 환경 변수 파일 (기본 .env)
+#   URL_PATH : 첫 요청 경로 (기본 /api/tasks/inbox)
+set -euo pipefail
+
+RUNS="${1:-5}"
+IMAGE="${IMAGE:-todolab-app}"
+NETWORK="${NETWORK:-$(basename "$(pwd)" | tr '[:upper:]' '[:lower:]')_default}"
+ENV_FILE="${ENV_FILE:-.env}"
+URL_PATH="${URL_PATH:-/api/tasks/inbox}"
+PORT=18080
+NAME=todolab-ttfr
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local mode="$1"
+  local opts=()
+  if [ "${mode}" = "baseline" ]; then
+    opts=(-e JAVA_OPTS=-XX:AOTMode=off)
+  fi
+
+  docker rm -f "${NAME}" >/dev/null 2>&1 || true
+  local start
+  start=$(now_ms)
+  docker run -d --name "${NAME}" --network "${NETWORK}" --env-file "${ENV_FILE}" \
+    -e SPRING_PROFILES_ACTIVE=prod -e APP_BATCH_SCHEDULER_ENABLED=false \
+    "${opts[@]}" -p "${PORT}:8080" "${IMAGE}" >/dev/null
+
+  until curl -fs -o /dev/null "http://localhost:${PORT}${URL_PATH}"; do
+    if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+      echo "[TTFR] ${mode} :: 120s 안에 응답하지 않았습니다." >&2
+      docker logs --tail 50 "${NAME}" >&2
+      docker rm -f "${NAME}" >/dev/null
+      exit 1
+    fi
+    sleep 0.05
+  done
+  local elapsed=$(( $(now_ms) - start ))
+
+  local started
+  started=$(docker logs "${NAME}" 2>&1 | grep -o 'Started ToDoALabApplication in [0-9.]* seconds' || true)
+  docker rm -f "${NAME}" >/dev/null
+  echo "${mode},${elapsed},${started}"
+}
+
+echo "mode,time_to_first_request_ms,spring_started"
+for _ in $(seq "${RUNS}"); do
+  measure baseline
+  measure aot
+done
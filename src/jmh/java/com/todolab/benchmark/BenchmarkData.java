@@ -0,0 +1,147 @@
+package com.todolab.benchmark;
+
+import com.todolab.dday.dto.DdayGoalResponse;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.dto.TaskResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 고정 시드 데이터.
+ * 한 사용자의 한 달 분량 (수십 ~ 수백 건) 을 기준으로, 카테고리 / 기간 일정 / 미정 일정 비율을 실제 사용과 비슷하게 섞는다.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20261019L;
+    static final LocalDate BASE_DATE = LocalDate.of(2026, 10, 19);
+
+    // null 은 미분류
+    private static final List<String> CATEGORIES = Arrays.asList("업무", "개인", "공부", "운동", "가족", null);
+    private static final DeferReason[] DEFER_REASONS = DeferReason.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * BASE_DATE 가 속한 달 앞뒤로 퍼진 Task.
+     *  - 60% 시간 지정 단일 일정, 15% 종일 일정, 10% 기간 일정, 15% 미정 (INBOX)
+     */
+    static List<Task> tasks(int count) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(random, i));
+        }
+        return tasks;
+    }
+
+    /**
+     * 조회 결과처럼 id 가 붙은 TaskResponse. (Task 는 id 를 DB 가 채우므로 직접 만든다)
+     */
+    static List<TaskResponse> responses(int count) {
+        Random random = new Random(SEED);
+        List<TaskResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(response(random, i + 1L));
+        }
+        return responses;
+    }
+
+    static List<DdayGoalResponse> ddayGoals(int count) {
+        List<DdayGoalResponse> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate targetDate = BASE_DATE.plusDays(i * 5L - 10);
+            goals.add(new DdayGoalResponse((long) i + 1, "목표 " + i, targetDate, i * 5L - 10, BASE_DATE.minusDays(30).atStartOfDay()));
+        }
+        return goals;
+    }
+
+    private static Task task(Random random, int index) {
+        String title = "일정 " + index;
+        String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+        int kind = random.nextInt(100);
+        if (kind < 15) {
+            return Task.builder()
+                    .title(title)
+                    .type(TaskType.IDEA)
+                    .category(category)
+                    .build();
+        }
+
+        LocalDate day = BASE_DATE.plusDays(random.nextInt(42) - 21);
+        if (kind < 75) {
+            return Task.builder()
+                    .title(title)
+                    .type(TaskType.SCHEDULE)
+                    .startAt(day.atTime(8 + random.nextInt(12), random.nextBoolean() ? 0 : 30))
+                    .category(category)
+                    .build();
+        }
+        if (kind < 90) {
+            return Task.builder()
+                    .title(title)
+                    .type(TaskType.TODO)
+                    .startAt(day.atStartOfDay())
+                    .allDay(true)
+                    .category(category)
+                    .build();
+        }
+        return Task.builder()
+                .title(title)
+                .type(TaskType.SCHEDULE)
+                .startAt(day.atTime(9, 0))
+                .endAt(day.plusDays(1 + random.nextInt(4)).atTime(18, 0))
+                .category(category)
+                .build();
+    }
+
+    private static TaskResponse response(Random random, long id) {
+        String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+        int kind = random.nextInt(100);
+        if (kind < 15) {
+            return TaskResponse.builder()
+                    .id(id)
+                    .type(TaskType.IDEA)
+                    .title("일정 " + id)
+                    .unscheduled(true)
+                    .category(category)
+                    .status(TaskStatus.INBOX)
+                    .build();
+        }
+
+        LocalDate day = BASE_DATE.plusDays(random.nextInt(42) - 21);
+        boolean period = kind >= 90;
+        boolean allDay = kind >= 75 && !period;
+        LocalDateTime startAt = allDay ? day.atStartOfDay() : day.atTime(8 + random.nextInt(12), 0);
+        LocalDateTime endAt = period ? day.plusDays(1 + random.nextInt(4)).atTime(18, 0) : null;
+        boolean done = day.isBefore(BASE_DATE) && random.nextInt(100) < 70;
+        int carryOverCount = done ? 0 : random.nextInt(5);
+        DeferReason deferReason = carryOverCount > 0 ? DEFER_REASONS[random.nextInt(DEFER_REASONS.length)] : null;
+
+        return TaskResponse.builder()
+                .id(id)
+                .type(allDay ? TaskType.TODO : TaskType.SCHEDULE)
+                .title("일정 " + id)
+                .startAt(startAt)
+                .endAt(endAt)
+                .allDay(allDay)
+                .category(category)
+                .status(done ? TaskStatus.DONE : TaskStatus.TODAY)
+                .plannedDate(day)
+                .targetDate(day)
+                .completedAt(done ? day.atTime(21, 0) : null)
+                .carryOverCount(carryOverCount)
+                .staleCarryOver(carryOverCount >= Task.STALE_CARRY_OVER_THRESHOLD)
+                .deferReason(deferReason)
+                .deferReasonLabel(deferReason == null ? null : deferReason.getLabel())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.todolab.benchmark;
+
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.view.CalendarFragmentCache;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.MonthPageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바쁜 달의 월간 셀 (month.html 의 monthCellsHtml) 렌더링. CalendarFragmentCache 를 거칠 때와 매번 렌더링할 때를 비교한다.
+ *  - uncached : maximum-size 0 캐시라 셀마다 calendar-cell 프래그먼트를 렌더링한다.
+ *  - cached : 같은 달을 다시 여는 경우. 셀 HTML 을 캐시에서 꺼낸다.
+ * 템플릿은 앱과 같은 classpath:templates/ 에서 읽고, 템플릿 파싱 캐시는 둘 다 켠다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarRenderBenchmark {
+
+    // 기간 (약 6주) 안의 일정 수
+    @Param({"300", "1000"})
+    private int size;
+
+    private CalendarFragmentCache uncached;
+    private CalendarFragmentCache cached;
+    private MonthPageModel page;
+
+    @Setup
+    public void setUp() {
+        List<TaskResponse> tasks = BenchmarkData.responses(size);
+        List<TaskResponse> scheduled = tasks.stream().filter(task -> !task.unscheduled()).toList();
+        List<TaskResponse> planned = scheduled.stream().filter(task -> task.status() == TaskStatus.TODAY).toList();
+        List<TaskResponse> done = scheduled.stream().filter(task -> task.status() == TaskStatus.DONE).toList();
+
+        TaskViewService taskViewService = new TaskViewService(
+                new TaskViewServiceBenchmark.StubTaskService(scheduled, planned, done),
+                new TaskViewServiceBenchmark.StubDdayGoalService(BenchmarkData.ddayGoals(8))
+        );
+        page = taskViewService.getMonthPage(null, BenchmarkData.BASE_DATE.toString());
+
+        SpringTemplateEngine templateEngine = templateEngine();
+        uncached = new CalendarFragmentCache(templateEngine, 0);
+        cached = new CalendarFragmentCache(templateEngine, 2_000);
+        cached.renderMonthCells(page.monthDays(), page.selectedDate());
+    }
+
+    @Benchmark
+    public List<String> monthCellsUncached() {
+        return uncached.renderMonthCells(page.monthDays(), page.selectedDate());
+    }
+
+    @Benchmark
+    public List<String> monthCellsCached() {
+        return cached.renderMonthCells(page.monthDays(), page.selectedDate());
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        return templateEngine;
+    }
+}
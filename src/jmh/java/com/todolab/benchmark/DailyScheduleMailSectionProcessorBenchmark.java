@@ -0,0 +1,53 @@
+package com.todolab.benchmark;
+
+import com.todolab.batch.domain.ScheduleMailSection;
+import com.todolab.batch.domain.ScheduleMailSectionContent;
+import com.todolab.batch.domain.ScheduleSectionType;
+import com.todolab.batch.domain.TaskMailRow;
+import com.todolab.batch.processor.DailyScheduleMailSectionProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 섹션 본문 생성. (오늘 ~10건, 이번 주 ~50건, 기록함이 쌓인 경우 ~200건)
+ * 로그는 src/jmh/resources/logback.xml 에서 WARN 으로 낮춰 측정에서 뺀다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DailyScheduleMailSectionProcessorBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int size;
+
+    private final DailyScheduleMailSectionProcessor processor = new DailyScheduleMailSectionProcessor();
+    private ScheduleMailSection section;
+
+    @Setup
+    public void setUp() {
+        section = new ScheduleMailSection(
+                ScheduleSectionType.WEEK,
+                BenchmarkData.BASE_DATE,
+                TaskMailRow.from(BenchmarkData.responses(size))
+        );
+    }
+
+    @Benchmark
+    public ScheduleMailSectionContent process() {
+        return processor.process(section);
+    }
+}
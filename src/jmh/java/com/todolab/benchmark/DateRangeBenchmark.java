@@ -0,0 +1,44 @@
+package com.todolab.benchmark;
+
+import com.todolab.task.domain.query.DateRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 요청마다 문자열 날짜를 파싱해 범위를 만드는 비용.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateRangeBenchmark {
+
+    private String day = BenchmarkData.BASE_DATE.toString();
+    private String month = BenchmarkData.BASE_DATE.toString().substring(0, 7);
+
+    @Benchmark
+    public DateRange ofDay() {
+        return DateRange.ofDay(day);
+    }
+
+    @Benchmark
+    public DateRange ofWeek() {
+        return DateRange.ofWeek(day);
+    }
+
+    @Benchmark
+    public DateRange ofMonth() {
+        return DateRange.ofMonth(month);
+    }
+}
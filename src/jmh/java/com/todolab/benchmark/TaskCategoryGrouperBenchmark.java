@@ -0,0 +1,44 @@
+package com.todolab.benchmark;
+
+import com.todolab.task.dto.TaskCategoryGroupResponse;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.service.TaskCategoryGrouper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskCategoryGrouperBenchmark {
+
+    @Param({"20", "200", "1000"})
+    private int size;
+
+    private final TaskCategoryGrouper grouper = new TaskCategoryGrouper();
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.responses(size);
+    }
+
+    @Benchmark
+    public List<TaskCategoryGroupResponse> group() {
+        return grouper.group(tasks);
+    }
+}
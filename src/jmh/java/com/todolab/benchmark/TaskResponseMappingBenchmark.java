@@ -0,0 +1,47 @@
+package com.todolab.benchmark;
+
+import com.todolab.task.domain.Task;
+import com.todolab.task.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 API 가 Task 목록을 응답으로 바꾸는 비용. (하루 ~ 한 달 분량)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseMappingBenchmark {
+
+    @Param({"20", "200", "1000"})
+    private int size;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> from() {
+        return tasks.stream()
+                .map(TaskResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.todolab.benchmark;
+
+import com.todolab.task.domain.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task 상태 전이 (moveToToday / carryOverTo / complete).
+ * 같은 Task 에 반복 적용해도 예외가 나지 않는 전이만 재므로 Task 는 trial 마다 한 번 만든다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskTransitionBenchmark {
+
+    private Task scheduled;
+    private Task unscheduled;
+    private LocalDate today;
+    private LocalDate tomorrow;
+    private LocalDateTime completedAt;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = BenchmarkData.tasks(100);
+        scheduled = tasks.stream().filter(task -> task.getStartAt() != null && task.getEndAt() != null).findFirst().orElseThrow();
+        unscheduled = tasks.stream().filter(Task::isUnscheduled).findFirst().orElseThrow();
+        today = BenchmarkData.BASE_DATE;
+        tomorrow = today.plusDays(1);
+        completedAt = today.atTime(21, 0);
+    }
+
+    @Benchmark
+    public Task moveToToday_scheduled() {
+        scheduled.moveToToday(today);
+        return scheduled;
+    }
+
+    @Benchmark
+    public Task moveToToday_unscheduled() {
+        unscheduled.moveToToday(today);
+        return unscheduled;
+    }
+
+    // carryOverTo 는 startAt / endAt 을 하루씩 민다. 매번 같은 날짜로 옮기면 이동 거리가 0 이 되므로 번갈아 옮긴다.
+    @Benchmark
+    public void carryOverTo(Blackhole blackhole) {
+        scheduled.carryOverTo(tomorrow);
+        scheduled.carryOverTo(today);
+        blackhole.consume(scheduled);
+    }
+
+    @Benchmark
+    public Task complete() {
+        scheduled.complete(completedAt);
+        return scheduled;
+    }
+
+    // 하루 흐름 전체: 새 Task -> 오늘로 -> 다음날로 이월 -> 완료
+    @Benchmark
+    public Task dailyLifecycle() {
+        Task task = Task.builder()
+                .title("오늘 할 일")
+                .category("업무")
+                .build();
+        task.moveToToday(today);
+        task.carryOverTo(tomorrow);
+        task.complete(completedAt);
+        return task;
+    }
+}
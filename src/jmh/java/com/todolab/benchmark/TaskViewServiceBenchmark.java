@@ -0,0 +1,114 @@
+package com.todolab.benchmark;
+
+import com.todolab.dday.dto.DdayGoalResponse;
+import com.todolab.dday.service.DdayGoalService;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.dto.TaskQueryRequest;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.service.TaskService;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.MonthPageModel;
+import com.todolab.view.model.WeekPageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 / 월간 페이지 모델 생성. (날짜별 occursOn 필터 + mergeTaskUi)
+ * 조회는 미리 만든 목록을 돌려주는 stub 으로 바꿔 DB / 캐시 비용을 뺀다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskViewServiceBenchmark {
+
+    // 기간 (약 6주) 안의 일정 수
+    @Param({"50", "300", "1000"})
+    private int size;
+
+    private TaskViewService taskViewService;
+    private String date;
+
+    @Setup
+    public void setUp() {
+        List<TaskResponse> tasks = BenchmarkData.responses(size);
+        List<TaskResponse> scheduled = tasks.stream().filter(task -> !task.unscheduled()).toList();
+        List<TaskResponse> planned = scheduled.stream().filter(task -> task.status() == TaskStatus.TODAY).toList();
+        List<TaskResponse> done = scheduled.stream().filter(task -> task.status() == TaskStatus.DONE).toList();
+
+        taskViewService = new TaskViewService(
+                new StubTaskService(scheduled, planned, done),
+                new StubDdayGoalService(BenchmarkData.ddayGoals(8))
+        );
+        date = BenchmarkData.BASE_DATE.toString();
+    }
+
+    @Benchmark
+    public WeekPageModel weekPage() {
+        return taskViewService.getWeekPage(null, date);
+    }
+
+    @Benchmark
+    public MonthPageModel monthPage() {
+        return taskViewService.getMonthPage(null, date);
+    }
+
+    static class StubTaskService extends TaskService {
+
+        private final List<TaskResponse> scheduled;
+        private final List<TaskResponse> planned;
+        private final List<TaskResponse> done;
+
+        StubTaskService(List<TaskResponse> scheduled, List<TaskResponse> planned, List<TaskResponse> done) {
+            super(null, null, null, null, null, null, null);
+            this.scheduled = scheduled;
+            this.planned = planned;
+            this.done = done;
+        }
+
+        @Override
+        public List<TaskResponse> getTasks(TaskQueryRequest request) {
+            return scheduled;
+        }
+
+        @Override
+        public List<TaskResponse> getPlannedTasksBetween(LocalDate startDate, LocalDate endDate) {
+            return planned;
+        }
+
+        @Override
+        public List<TaskResponse> getDoneTasksBetween(LocalDate startDate, LocalDate endDate) {
+            return done;
+        }
+    }
+
+    static class StubDdayGoalService extends DdayGoalService {
+
+        private final List<DdayGoalResponse> goals;
+
+        StubDdayGoalService(List<DdayGoalResponse> goals) {
+            super(null, null, null, null, null);
+            this.goals = goals;
+        }
+
+        @Override
+        public List<DdayGoalResponse> findByDateRange(LocalDate startDate, LocalDate endDate) {
+            return goals;
+        }
+    }
+}
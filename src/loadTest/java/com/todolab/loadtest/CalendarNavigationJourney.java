@@ -0,0 +1,29 @@
+package com.todolab.loadtest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 캘린더 탐색: 주간 페이지에서 다음 주로 두 번 넘기고, 월간 페이지에서 다음 달로 넘긴다.
+ * 시작 날짜를 오늘 앞뒤 4주 안에서 고르므로 캐시에 맞는 요청과 안 맞는 요청이 섞인다.
+ */
+public class CalendarNavigationJourney implements Journey {
+
+    @Override
+    public String name() {
+        return "calendar";
+    }
+
+    @Override
+    public void run(VirtualUser user) {
+        LocalDate date = user.today().plusDays(user.random().nextInt(-28, 29));
+
+        user.client().get("/tasks/week?date=" + date);
+        user.client().get("/tasks/week?move=next&date=" + date);
+        user.client().get("/tasks/week?move=next&date=" + date.plusWeeks(1));
+
+        YearMonth month = YearMonth.from(date);
+        user.client().get("/tasks/month?date=" + month);
+        user.client().get("/tasks/month?move=next&date=" + month);
+    }
+}
@@ -0,0 +1,20 @@
+package com.todolab.loadtest;
+
+/**
+ * 기록함에 빠르게 적기: 일정 없이 제목만 등록하고 기록함 목록을 다시 불러온다.
+ */
+public class InboxCaptureJourney implements Journey {
+
+    @Override
+    public String name() {
+        return "inbox";
+    }
+
+    @Override
+    public void run(VirtualUser user) {
+        user.client().postJson("/api/tasks", """
+                {"title": "%s", "type": "IDEA"}
+                """.formatted(user.nextTitle("memo")));
+        user.client().get("/api/tasks/inbox");
+    }
+}
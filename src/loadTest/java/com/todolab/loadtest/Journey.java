@@ -0,0 +1,11 @@
+package com.todolab.loadtest;
+
+/**
+ * 사용자 여정 하나. run 한 번이 end-to-end 지연 시간 측정 한 건이다.
+ */
+public interface Journey {
+
+    String name();
+
+    void run(VirtualUser user);
+}
@@ -0,0 +1,13 @@
+package com.todolab.loadtest;
+
+public record JourneyReport(
+        String journey,
+        long count,
+        long errors,
+        double throughputPerSecond,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+) {
+}
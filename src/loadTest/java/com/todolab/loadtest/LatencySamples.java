@@ -0,0 +1,55 @@
+package com.todolab.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 여정 하나의 지연 시간 (ns) 표본. 가상 사용자마다 따로 쌓고 끝난 뒤 merge 한다.
+ */
+public class LatencySamples {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public void merge(LatencySamples other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+        errors += other.errors;
+    }
+
+    public JourneyReport report(String journey, double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new JourneyReport(
+                journey,
+                size,
+                errors,
+                size / measuredSeconds,
+                percentileMs(sorted, 0.50),
+                percentileMs(sorted, 0.95),
+                percentileMs(sorted, 0.99),
+                size == 0 ? 0 : sorted[size - 1] / 1_000_000.0
+        );
+    }
+
+    // nearest-rank
+    static double percentileMs(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
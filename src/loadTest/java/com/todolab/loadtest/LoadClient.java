@@ -0,0 +1,109 @@
+package com.todolab.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 사용자 한 명이 쓰는 HTTP 클라이언트.
+ * 2xx 가 아니면 예외를 던져 그 여정을 실패로 센다.
+ */
+public class LoadClient {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public LoadClient(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    public String get(String path) {
+        return send(HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    // 브라우저가 fetch 로 조각을 가져오는 요청 (TaskPageController 의 X-Requested-With=fetch 매핑)
+    public String getFragment(String path) {
+        return send(HttpRequest.newBuilder(uri(path)).header("X-Requested-With", "fetch").GET());
+    }
+
+    public String postJson(String path, String json) {
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    public String patch(String path) {
+        return send(HttpRequest.newBuilder(uri(path)).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    /**
+     * today.js 의 Promise.all 처럼 여러 요청을 동시에 보내고 모두 끝날 때까지 기다린다.
+     */
+    public void getAll(List<String> paths) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> responses = paths.stream()
+                    .map(path -> executor.submit((Callable<String>) () -> get(path)))
+                    .toList();
+            for (Future<String> response : responses) {
+                join(response);
+            }
+        }
+    }
+
+    public static long extractId(String body) {
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("응답에서 id 를 찾을 수 없습니다. body=" + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String send(HttpRequest.Builder builder) {
+        HttpRequest request = builder.timeout(TIMEOUT).build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청이 중단되었습니다.", e);
+        }
+    }
+
+    private static void join(Future<String> response) {
+        try {
+            response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
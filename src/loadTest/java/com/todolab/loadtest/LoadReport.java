@@ -0,0 +1,55 @@
+package com.todolab.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 여정별 처리량 / p50 / p95 / p99 와 실행 조건. 콘솔에 표로 찍고 CSV 로 남긴다.
+ */
+public record LoadReport(
+        LoadTestSettings settings,
+        double measuredSeconds,
+        List<JourneyReport> journeys
+) {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n[LOADTEST] concurrency=%d, measured=%.1fs, virtualThreads=%s, tomcatThreads=%d, poolSize=%d%n",
+                settings.concurrency(), measuredSeconds, settings.virtualThreads(), settings.tomcatThreads(), settings.poolSize());
+        out.printf(Locale.ROOT, "%-10s %10s %8s %12s %10s %10s %10s %10s%n",
+                "journey", "count", "errors", "per-second", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (JourneyReport journey : journeys) {
+            out.printf(Locale.ROOT, "%-10s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    journey.journey(), journey.count(), journey.errors(), journey.throughputPerSecond(),
+                    journey.p50Ms(), journey.p95Ms(), journey.p99Ms(), journey.maxMs());
+        }
+    }
+
+    public Path writeCsv(Path directory) {
+        List<String> lines = new ArrayList<>();
+        lines.add("journey,count,errors,per_second,p50_ms,p95_ms,p99_ms,max_ms,concurrency,virtual_threads,tomcat_threads,pool_size,measured_seconds");
+        for (JourneyReport journey : journeys) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%d,%s,%d,%d,%.1f",
+                    journey.journey(), journey.count(), journey.errors(), journey.throughputPerSecond(),
+                    journey.p50Ms(), journey.p95Ms(), journey.p99Ms(), journey.maxMs(),
+                    settings.concurrency(), settings.virtualThreads(), settings.tomcatThreads(), settings.poolSize(), measuredSeconds));
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("loadtest-" + LocalDateTime.now().format(FILE_TIME) + ".csv");
+            return Files.write(file, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.todolab.loadtest;
+
+import com.todolab.ToDoALabApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ./gradlew loadTest 진입점.
+ * loadtest.baseUrl 이 없으면 같은 JVM 에서 앱을 띄운다. 스레드 설정은 명령행 인자로 넘겨
+ * application.yml 값 (spring.threads.virtual.enabled 등) 보다 우선하게 한다.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        ConfigurableApplicationContext application = settings.embedded() ? start(settings) : null;
+        try {
+            String baseUrl = application == null
+                    ? settings.baseUrl()
+                    : "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+
+            LoadReport report = new LoadTestRunner(settings, baseUrl).run();
+            report.print(System.out);
+            System.out.println("[LOADTEST] report -> " + report.writeCsv(Path.of(settings.reportDir())));
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings) {
+        return new SpringApplicationBuilder(ToDoALabApplication.class)
+                .profiles(settings.profiles().split(","))
+                .run(List.of(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + settings.virtualThreads(),
+                        "--server.tomcat.threads.max=" + settings.tomcatThreads(),
+                        "--spring.datasource.hikari.maximum-pool-size=" + settings.poolSize(),
+                        "--app.datagen.tasks=" + settings.seedTasks(),
+                        "--app.datagen.base-date=" + LocalDate.now(),
+                        "--app.datagen.exit-on-complete=false"
+                ).toArray(String[]::new));
+    }
+}
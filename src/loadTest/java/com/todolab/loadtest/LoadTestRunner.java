@@ -0,0 +1,139 @@
+package com.todolab.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * concurrency 명의 가상 사용자를 가상 스레드 하나씩으로 돌린다. (closed model, think time 없음)
+ *  - 사용자는 mix 가중치대로 여정을 골라 끝나자마자 다음 여정을 시작한다.
+ *  - warmup 동안 끝난 여정은 버리고, 그 뒤 duration 동안 시작한 여정만 센다.
+ */
+public class LoadTestRunner {
+
+    private static final long SEED = 20261019L;
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final Map<String, Journey> journeys = new LinkedHashMap<>();
+
+    public LoadTestRunner(LoadTestSettings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        for (Journey journey : List.of(
+                new TodayDashboardJourney(),
+                new CalendarNavigationJourney(),
+                new TodayBurstJourney(),
+                new InboxCaptureJourney()
+        )) {
+            journeys.put(journey.name(), journey);
+        }
+    }
+
+    public LoadReport run() {
+        List<Journey> weighted = weightedJourneys();
+        LocalDate today = LocalDate.now();
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long measureUntil = measureFrom + settings.duration().toNanos();
+
+        List<Map<String, LatencySamples>> perUser = new ArrayList<>(settings.concurrency());
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(clientExecutor)
+                     .build();
+             ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<Future<Map<String, LatencySamples>>> results = new ArrayList<>(settings.concurrency());
+            for (int i = 0; i < settings.concurrency(); i++) {
+                VirtualUser user = new VirtualUser(i, new LoadClient(httpClient, baseUrl), SEED, today);
+                results.add(users.submit(() -> drive(user, weighted, measureFrom, measureUntil)));
+            }
+            for (Future<Map<String, LatencySamples>> result : results) {
+                perUser.add(join(result));
+            }
+        }
+
+        return report(perUser);
+    }
+
+    private Map<String, LatencySamples> drive(VirtualUser user, List<Journey> weighted, long measureFrom, long measureUntil) {
+        Map<String, LatencySamples> samples = new LinkedHashMap<>();
+        while (System.nanoTime() < measureUntil) {
+            Journey journey = weighted.get(user.random().nextInt(weighted.size()));
+            long start = System.nanoTime();
+            boolean ok = true;
+            try {
+                journey.run(user);
+            } catch (RuntimeException e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (start < measureFrom || start >= measureUntil) {
+                continue;
+            }
+            LatencySamples journeySamples = samples.computeIfAbsent(journey.name(), name -> new LatencySamples());
+            if (ok) {
+                journeySamples.record(elapsed);
+            } else {
+                journeySamples.recordError();
+            }
+        }
+        return samples;
+    }
+
+    private LoadReport report(List<Map<String, LatencySamples>> perUser) {
+        Map<String, LatencySamples> merged = new LinkedHashMap<>();
+        for (String name : settings.mix().keySet()) {
+            merged.put(name, new LatencySamples());
+        }
+        for (Map<String, LatencySamples> samples : perUser) {
+            samples.forEach((name, journeySamples) -> merged.get(name).merge(journeySamples));
+        }
+
+        double measuredSeconds = settings.duration().toNanos() / 1_000_000_000.0;
+        List<JourneyReport> reports = merged.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey(), measuredSeconds))
+                .toList();
+        return new LoadReport(settings, measuredSeconds, reports);
+    }
+
+    // 가중치만큼 여정을 반복해 넣은 목록에서 고르면 가중 추첨이 된다.
+    private List<Journey> weightedJourneys() {
+        List<Journey> weighted = new ArrayList<>();
+        settings.mix().forEach((name, weight) -> {
+            Journey journey = journeys.get(name);
+            if (journey == null) {
+                throw new IllegalArgumentException("알 수 없는 journey 입니다. name=" + name + ", available=" + journeys.keySet());
+            }
+            for (int i = 0; i < weight; i++) {
+                weighted.add(journey);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 가 비어 있습니다.");
+        }
+        return weighted;
+    }
+
+    private static Map<String, LatencySamples> join(Future<Map<String, LatencySamples>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual user failed.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.todolab.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. (./gradlew loadTest -PloadTest.concurrency=200 처럼 넘기면 시스템 프로퍼티 loadtest.* 로 들어온다)
+ *  - baseUrl 이 비어 있으면 앱을 직접 띄운다. (기본: H2 메모리 DB + datagen 으로 seedTasks 건 채움)
+ *  - mix 는 "여정:가중치" 목록이다.
+ */
+public record LoadTestSettings(
+        String baseUrl,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        String profiles,
+        boolean virtualThreads,
+        int tomcatThreads,
+        int poolSize,
+        long seedTasks,
+        String reportDir
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.baseUrl", ""),
+                Integer.getInteger("loadtest.concurrency", 50),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s").toUpperCase()),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s").toUpperCase()),
+                parseMix(System.getProperty("loadtest.mix", "today:4,calendar:3,burst:2,inbox:1")),
+                System.getProperty("loadtest.profiles", "datagen,loadtest"),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtualThreads", "true")),
+                Integer.getInteger("loadtest.tomcatThreads", 200),
+                Integer.getInteger("loadtest.poolSize", 10),
+                Long.getLong("loadtest.seedTasks", 50_000L),
+                System.getProperty("loadtest.reportDir", "build/reports/loadtest")
+        );
+    }
+
+    public boolean embedded() {
+        return baseUrl.isBlank();
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식은 journey:weight 입니다. value=" + mix);
+            }
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
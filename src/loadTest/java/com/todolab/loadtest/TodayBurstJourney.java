@@ -0,0 +1,46 @@
+package com.todolab.loadtest;
+
+import com.todolab.task.domain.TodayOrderDirection;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Today 화면에서 연달아 누르는 동작: 순서 변경 -> 완료 -> 완료 취소 -> 내일로 이월 -> 다시 오늘로.
+ * 끝나면 일정 상태가 처음과 같아지므로 같은 일정으로 계속 반복할 수 있다.
+ */
+public class TodayBurstJourney implements Journey {
+
+    private static final int TASKS_PER_USER = 3;
+
+    @Override
+    public String name() {
+        return "burst";
+    }
+
+    @Override
+    public void run(VirtualUser user) {
+        LocalDate today = user.today();
+        List<Long> ids = ensureTodayTasks(user);
+        long first = ids.get(user.random().nextInt(ids.size()));
+        long second = ids.get(user.random().nextInt(ids.size()));
+
+        user.client().patch("/api/tasks/" + first + "/today-order?date=" + today + "&direction=" + TodayOrderDirection.DOWN);
+        user.client().patch("/api/tasks/" + second + "/today-order?date=" + today + "&direction=" + TodayOrderDirection.UP);
+        user.client().patch("/api/tasks/" + first + "/done");
+        user.client().patch("/api/tasks/" + first + "/done/cancel?date=" + today);
+        user.client().patch("/api/tasks/" + second + "/carry-over?date=" + today.plusDays(1));
+        user.client().patch("/api/tasks/" + second + "/today?date=" + today);
+    }
+
+    // 처음 한 번은 자기 일정을 만든다. (그 시간도 이 여정의 지연 시간에 들어간다)
+    private List<Long> ensureTodayTasks(VirtualUser user) {
+        while (user.todayTaskIds().size() < TASKS_PER_USER) {
+            String body = user.client().postJson("/api/tasks", """
+                    {"title": "%s", "type": "TODO", "startAt": "%sT09:00:00", "category": "부하테스트"}
+                    """.formatted(user.nextTitle("burst"), user.today()));
+            user.todayTaskIds().add(LoadClient.extractId(body));
+        }
+        return user.todayTaskIds();
+    }
+}
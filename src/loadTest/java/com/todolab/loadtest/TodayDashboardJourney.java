@@ -0,0 +1,28 @@
+package com.todolab.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Today 화면 진입: 페이지를 받은 뒤 today.js 처럼 다섯 API 를 동시에 호출한다.
+ */
+public class TodayDashboardJourney implements Journey {
+
+    @Override
+    public String name() {
+        return "today";
+    }
+
+    @Override
+    public void run(VirtualUser user) {
+        LocalDate today = user.today();
+        user.client().get("/tasks/today");
+        user.client().getAll(List.of(
+                "/api/tasks/today?date=" + today,
+                "/api/tasks/overdue?date=" + today,
+                "/api/tasks/recommendations/today?date=" + today,
+                "/api/tasks/inbox",
+                "/api/tasks/done?date=" + today
+        ));
+    }
+}
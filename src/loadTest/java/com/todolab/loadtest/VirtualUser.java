@@ -0,0 +1,47 @@
+package com.todolab.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 가상 사용자 한 명의 상태. 가상 스레드 하나가 한 사용자를 끝까지 맡으므로 동기화하지 않는다.
+ */
+public class VirtualUser {
+
+    private final int number;
+    private final LoadClient client;
+    private final SplittableRandom random;
+    private final LocalDate today;
+    private final List<Long> todayTaskIds = new ArrayList<>();
+    private long sequence;
+
+    public VirtualUser(int number, LoadClient client, long seed, LocalDate today) {
+        this.number = number;
+        this.client = client;
+        this.random = new SplittableRandom(seed + number);
+        this.today = today;
+    }
+
+    public LoadClient client() {
+        return client;
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    public LocalDate today() {
+        return today;
+    }
+
+    // 이 사용자가 만든 TODAY 일정 (burst 여정이 돌려 가며 쓴다)
+    public List<Long> todayTaskIds() {
+        return todayTaskIds;
+    }
+
+    public String nextTitle(String prefix) {
+        return prefix + " " + number + "-" + sequence++;
+    }
+}
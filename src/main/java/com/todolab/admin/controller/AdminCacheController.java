@@ -0,0 +1,23 @@
+package com.todolab.admin.controller;
+
+import com.todolab.admin.dto.CacheStatsResponse;
+import com.todolab.admin.service.CacheStatsService;
+import com.todolab.common.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(cacheStatsService.getStats()));
+    }
+}
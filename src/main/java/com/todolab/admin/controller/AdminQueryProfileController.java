@@ -0,0 +1,23 @@
+package com.todolab.admin.controller;
+
+import com.todolab.admin.dto.QueryProfileResponse;
+import com.todolab.common.api.ApiResponse;
+import com.todolab.common.sql.QueryProfiler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/queries")
+@RequiredArgsConstructor
+public class AdminQueryProfileController {
+
+    private final QueryProfiler queryProfiler;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<QueryProfileResponse>> getProfile() {
+        return ResponseEntity.ok(ApiResponse.success(QueryProfileResponse.from(queryProfiler)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.todolab.admin.controller;
+
+import com.todolab.admin.dto.SingleFlightStatsResponse;
+import com.todolab.common.api.ApiResponse;
+import com.todolab.common.concurrent.SingleFlightRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/single-flight")
+@RequiredArgsConstructor
+public class AdminSingleFlightController {
+
+    private final SingleFlightRegistry singleFlightRegistry;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SingleFlightStatsResponse>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(SingleFlightStatsResponse.from(singleFlightRegistry.flights())));
+    }
+}
@@ -0,0 +1,40 @@
+package com.todolab.admin.controller;
+
+import com.todolab.admin.dto.TraceResponse;
+import com.todolab.common.api.ApiResponse;
+import com.todolab.common.trace.TraceStore;
+import com.todolab.common.trace.TraceSummary;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/traces")
+@RequiredArgsConstructor
+public class AdminTraceController {
+
+    // TraceStore 기본 capacity 와 같다. 그보다 크게 요청해도 돌려줄 trace 가 없다.
+    private static final int MAX_LIMIT = 200;
+
+    private final TraceStore traceStore;
+
+    // 0 이하는 400 (INVALID_INPUT), 너무 크면 MAX_LIMIT 로 줄인다.
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TraceSummary>>> getRecentTraces(
+            @RequestParam(defaultValue = "20") @Min(1) int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(traceStore.recentTraces(Math.min(limit, MAX_LIMIT))));
+    }
+
+    @GetMapping("/{traceId}")
+    public ResponseEntity<ApiResponse<TraceResponse>> getTrace(@PathVariable String traceId) {
+        return ResponseEntity.ok(ApiResponse.success(TraceResponse.from(traceId, traceStore.spans(traceId))));
+    }
+}
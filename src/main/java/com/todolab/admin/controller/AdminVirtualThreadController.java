@@ -0,0 +1,33 @@
+package com.todolab.admin.controller;
+
+import com.todolab.admin.dto.VirtualThreadDiagnosticsResponse;
+import com.todolab.common.api.ApiResponse;
+import com.todolab.common.vthread.VirtualThreadMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/virtual-threads")
+@RequiredArgsConstructor
+public class AdminVirtualThreadController {
+
+    private final VirtualThreadMonitor virtualThreadMonitor;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<VirtualThreadDiagnosticsResponse>> getDiagnostics(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(VirtualThreadDiagnosticsResponse.from(virtualThreadMonitor, limit)));
+    }
+
+    @DeleteMapping("/pinned")
+    public ResponseEntity<ApiResponse<Void>> resetPinned() {
+        virtualThreadMonitor.reset();
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
@@ -0,0 +1,29 @@
+package com.todolab.admin.dto;
+
+import java.util.List;
+
+public record CacheStatsResponse(
+        List<CacheRegionStats> regions
+) {
+
+    public record CacheRegionStats(
+            String name,
+            long hitCount,
+            long missCount,
+            long putCount,
+            long evictionCount,
+            long size,
+            double hitRatio
+    ) {
+
+        public static CacheRegionStats of(String name, long hitCount, long missCount, long putCount) {
+            return of(name, hitCount, missCount, putCount, 0, 0);
+        }
+
+        public static CacheRegionStats of(String name, long hitCount, long missCount, long putCount, long evictionCount, long size) {
+            long requests = hitCount + missCount;
+            double hitRatio = requests == 0 ? 0.0 : (double) hitCount / requests;
+            return new CacheRegionStats(name, hitCount, missCount, putCount, evictionCount, size, hitRatio);
+        }
+    }
+}
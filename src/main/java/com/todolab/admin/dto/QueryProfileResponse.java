@@ -0,0 +1,17 @@
+package com.todolab.admin.dto;
+
+import com.todolab.common.sql.QueryMethodStats;
+import com.todolab.common.sql.QueryProfiler;
+import com.todolab.common.sql.SlowQuery;
+
+import java.util.List;
+
+public record QueryProfileResponse(
+        List<QueryMethodStats> methods,
+        List<SlowQuery> slowQueries
+) {
+
+    public static QueryProfileResponse from(QueryProfiler queryProfiler) {
+        return new QueryProfileResponse(queryProfiler.methodStats(), queryProfiler.slowQueries());
+    }
+}
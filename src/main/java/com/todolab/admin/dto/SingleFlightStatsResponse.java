@@ -0,0 +1,34 @@
+package com.todolab.admin.dto;
+
+import com.todolab.common.concurrent.SingleFlight;
+
+import java.util.List;
+import java.util.Map;
+
+public record SingleFlightStatsResponse(
+        List<FlightStats> flights
+) {
+
+    public static SingleFlightStatsResponse from(Map<String, ? extends SingleFlight<?, ?>> flights) {
+        return new SingleFlightStatsResponse(flights.entrySet().stream()
+                .map(entry -> FlightStats.of(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+
+    public record FlightStats(
+            String name,
+            long calls,
+            long coalesced,
+            long retried,
+            int inFlight,
+            double coalescedRatio
+    ) {
+
+        public static FlightStats of(String name, SingleFlight<?, ?> flight) {
+            long calls = flight.calls();
+            long coalesced = flight.coalesced();
+            double coalescedRatio = calls == 0 ? 0.0 : (double) coalesced / calls;
+            return new FlightStats(name, calls, coalesced, flight.retried(), flight.inFlight(), coalescedRatio);
+        }
+    }
+}
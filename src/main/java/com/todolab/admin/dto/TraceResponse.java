@@ -0,0 +1,91 @@
+package com.todolab.admin.dto;
+
+import com.todolab.common.trace.SpanRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * trace 하나를 부모 -> 자식 순 (깊이 우선) 으로 펼친 것.
+ * offsetMs 는 trace 첫 span 시작 시각부터의 거리라 그대로 waterfall 로 그릴 수 있다.
+ */
+public record TraceResponse(
+        String traceId,
+        List<SpanView> spans
+) {
+
+    public record SpanView(
+            String spanId,
+            String parentSpanId,
+            int depth,
+            String name,
+            String contextualName,
+            double offsetMs,
+            double durationMs,
+            String thread,
+            boolean virtualThread,
+            Map<String, String> tags,
+            String error
+    ) {
+    }
+
+    public static TraceResponse from(String traceId, List<SpanRecord> spans) {
+        if (spans.isEmpty()) {
+            return new TraceResponse(traceId, List.of());
+        }
+
+        Set<String> spanIds = new HashSet<>();
+        Map<String, List<SpanRecord>> children = new HashMap<>();
+        for (SpanRecord span : spans) {
+            spanIds.add(span.spanId());
+        }
+        List<SpanRecord> roots = new ArrayList<>();
+        for (SpanRecord span : spans) {
+            // 부모가 아직 끝나지 않았거나 버려졌으면 root 처럼 보여 준다.
+            if (span.parentSpanId() == null || !spanIds.contains(span.parentSpanId())) {
+                roots.add(span);
+            } else {
+                children.computeIfAbsent(span.parentSpanId(), id -> new ArrayList<>()).add(span);
+            }
+        }
+
+        SpanRecord first = spans.stream().min(Comparator.comparing(SpanRecord::startedAt)).orElseThrow();
+        List<SpanView> views = new ArrayList<>(spans.size());
+        for (SpanRecord root : roots) {
+            flatten(root, 0, first, children, views);
+        }
+        return new TraceResponse(traceId, views);
+    }
+
+    private static void flatten(
+            SpanRecord span,
+            int depth,
+            SpanRecord first,
+            Map<String, List<SpanRecord>> children,
+            List<SpanView> views
+    ) {
+        double offsetMs = Duration.between(first.startedAt(), span.startedAt()).toNanos() / 1_000_000.0;
+        views.add(new SpanView(
+                span.spanId(),
+                span.parentSpanId(),
+                depth,
+                span.name(),
+                span.contextualName(),
+                offsetMs,
+                span.durationMs(),
+                span.thread(),
+                span.virtualThread(),
+                span.tags(),
+                span.error()
+        ));
+        for (SpanRecord child : children.getOrDefault(span.spanId(), List.of())) {
+            flatten(child, depth + 1, first, children, views);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.todolab.admin.dto;
+
+import com.todolab.common.vthread.CarrierSchedulerSnapshot;
+import com.todolab.common.vthread.PinnedStack;
+import com.todolab.common.vthread.VirtualThreadMonitor;
+
+import java.util.List;
+
+public record VirtualThreadDiagnosticsResponse(
+        boolean monitoring,
+        long pinnedThresholdMs,
+        long pinnedCount,
+        long droppedStacks,
+        long submitFailedCount,
+        String lastSubmitFailure,
+        CarrierSchedulerSnapshot carrierScheduler,
+        List<PinnedStack> pinnedStacks
+) {
+
+    public static VirtualThreadDiagnosticsResponse from(VirtualThreadMonitor monitor, int limit) {
+        return new VirtualThreadDiagnosticsResponse(
+                monitor.isRunning(),
+                monitor.pinnedThreshold().toMillis(),
+                monitor.pinnedCount(),
+                monitor.droppedStacks(),
+                monitor.submitFailedCount(),
+                monitor.lastSubmitFailure(),
+                monitor.carrierScheduler(),
+                monitor.pinnedStacks().stream().limit(limit).toList()
+        );
+    }
+}
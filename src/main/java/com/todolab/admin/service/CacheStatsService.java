@@ -0,0 +1,64 @@
+package com.todolab.admin.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todolab.admin.dto.CacheStatsResponse;
+import com.todolab.admin.dto.CacheStatsResponse.CacheRegionStats;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.view.CalendarFragmentCache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private static final String QUERY_CACHE = "hibernate.query-cache";
+    private static final String TASK_RANGE_CACHE = "task.range-cache";
+    private static final String CALENDAR_FRAGMENT_CACHE = "view.calendar-fragment-cache";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskRangeCache taskRangeCache;
+    private final CalendarFragmentCache calendarFragmentCache;
+
+    public CacheStatsResponse getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStats> regions = new ArrayList<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(regionName -> toRegionStats(regionName, statistics.getCacheRegionStatistics(regionName)))
+                .forEach(regions::add);
+        regions.add(CacheRegionStats.of(
+                QUERY_CACHE,
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()
+        ));
+
+        regions.add(toRegionStats(TASK_RANGE_CACHE, taskRangeCache.stats(), taskRangeCache.putCount(), taskRangeCache.estimatedSize()));
+        // 렌더링 캐시는 cache.get(key, loader) 로 적재하므로 성공한 load 수가 곧 put 수다.
+        CacheStats fragmentStats = calendarFragmentCache.stats();
+        regions.add(toRegionStats(CALENDAR_FRAGMENT_CACHE, fragmentStats, fragmentStats.loadSuccessCount(), calendarFragmentCache.estimatedSize()));
+
+        return new CacheStatsResponse(regions);
+    }
+
+    private CacheRegionStats toRegionStats(String regionName, CacheRegionStatistics region) {
+        if (region == null) {
+            return CacheRegionStats.of(regionName, 0, 0, 0);
+        }
+        return CacheRegionStats.of(regionName, region.getHitCount(), region.getMissCount(), region.getPutCount());
+    }
+
+    private CacheRegionStats toRegionStats(String name, CacheStats stats, long putCount, long size) {
+        return CacheRegionStats.of(name, stats.hitCount(), stats.missCount(), putCount, stats.evictionCount(), size);
+    }
+}
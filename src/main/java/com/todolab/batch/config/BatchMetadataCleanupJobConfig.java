@@ -0,0 +1,56 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.listener.BatchObservationListener;
+import com.todolab.batch.listener.BatchStepMetricsListener;
+import com.todolab.batch.tasklet.BatchMetadataCleanupTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * BATCH_JOB_* / BATCH_STEP_* 메타데이터 보관 Job.
+ * JobParameters : baseDate (yyyy-MM-dd)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BatchMetadataCleanupJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchStepMetricsListener batchStepMetricsListener;
+    private final BatchObservationListener batchObservationListener;
+
+    @Bean
+    public Job batchMetadataCleanupJob(@Qualifier("batchMetadataCleanupStep") Step batchMetadataCleanupStep) {
+        return new JobBuilder("batchMetadataCleanupJob", jobRepository)
+                .listener(batchObservationListener)
+                .start(batchMetadataCleanupStep)
+                .build();
+    }
+
+    @Bean
+    public Step batchMetadataCleanupStep(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix,
+            @Value("${app.batch.metadata-cleanup.retention:90d}") Duration retention,
+            @Value("${app.batch.metadata-cleanup.batch-size:100}") int batchSize
+    ) {
+        return new StepBuilder("batchMetadataCleanupStep", jobRepository)
+                .tasklet(new BatchMetadataCleanupTasklet(namedParameterJdbcTemplate, tablePrefix, retention, batchSize))
+                .transactionManager(transactionManager)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+}
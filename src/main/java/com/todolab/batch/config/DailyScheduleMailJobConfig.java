@@ -2,6 +2,10 @@ package com.todolab.batch.config;
 
 import com.todolab.batch.domain.ScheduleMailSection;
 import com.todolab.batch.domain.ScheduleMailSectionContent;
+import com.todolab.batch.listener.BatchObservationListener;
+import com.todolab.batch.listener.BatchStepMetricsListener;
+import com.todolab.batch.listener.DailyMailThroughputListener;
+import com.todolab.batch.partition.MailRecipientPartitioner;
 import com.todolab.batch.processor.DailyScheduleMailSectionProcessor;
 import com.todolab.batch.reader.DailyScheduleMailSectionReader;
 import com.todolab.batch.writer.DailyScheduleMailWriter;
@@ -13,8 +17,13 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -29,26 +38,62 @@ public class DailyScheduleMailJobConfig {
     private final DailyScheduleMailSectionProcessor processor;
     private final DailyScheduleMailWriter writer;
 
+    private final MailRecipientPartitioner mailRecipientPartitioner;
+    private final DailyMailThroughputListener dailyMailThroughputListener;
+    private final BatchStepMetricsListener batchStepMetricsListener;
+    private final BatchObservationListener batchObservationListener;
+
     @PostConstruct
     public void logJobRepository() {
         log.info("jobRepository class = {}", jobRepository.getClass().getName());
     }
 
     @Bean
-    public Job dailyScheduleMailJob() {
+    public Job dailyScheduleMailJob(@Qualifier("dailyScheduleMailStep") Step dailyScheduleMailStep) {
         return new JobBuilder("dailyScheduleMailJob", jobRepository)
-                .start(dailyScheduleMailStep())
+                .listener(batchObservationListener)
+                .listener(dailyMailThroughputListener)
+                .start(dailyScheduleMailStep)
                 .build();
     }
 
+    // 수신자(shard)별 파티션으로 나눠 worker step 을 가상 스레드에서 병렬 실행한다.
     @Bean
-    public Step dailyScheduleMailStep() {
+    public Step dailyScheduleMailStep(@Qualifier("mailPartitionTaskExecutor") TaskExecutor mailPartitionTaskExecutor) {
         return new StepBuilder("dailyScheduleMailStep", jobRepository)
+                .partitioner("dailyScheduleMailWorkerStep", mailRecipientPartitioner)
+                .step(dailyScheduleMailWorkerStep())
+                .taskExecutor(mailPartitionTaskExecutor)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+
+    @Bean
+    public Step dailyScheduleMailWorkerStep() {
+        return new StepBuilder("dailyScheduleMailWorkerStep", jobRepository)
                 .<ScheduleMailSection, ScheduleMailSectionContent>chunk(3)
                 .reader(reader)
                 .processor(processor)
                 .writer(writer)
                 .transactionManager(transactionManager)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
                 .build();
     }
+
+    // 파티션마다 chunk 트랜잭션 하나 (= BATCH permit 하나) 를 쥐므로, 동시 실행 수는 BATCH permits 를 넘기지 않는다.
+    // (넘기면 남는 파티션이 permit 을 기다리다 batch.max-wait 뒤 거절된다)
+    // worker step span 이 manager step 아래에 붙도록 Observation 을 worker 스레드로 넘긴다.
+    @Bean
+    public TaskExecutor mailPartitionTaskExecutor(
+            @Value("${app.mail.daily-summary.concurrency:4}") int concurrency,
+            @Value("${app.db.bulkhead.batch.permits:3}") int batchPermits
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mail-partition-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, Math.min(concurrency, batchPermits)));
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
 }
@@ -0,0 +1,129 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.listener.BatchObservationListener;
+import com.todolab.batch.listener.BatchStepMetricsListener;
+import com.todolab.batch.partition.StatDateRangePartitioner;
+import com.todolab.batch.tasklet.DailyTaskStatsBackfillTasklet;
+import com.todolab.stats.repository.DailyTaskStatWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * TASK + TASK_ARCHIVE 로 DAILY_TASK_STATS 를 다시 만드는 Job. 스케줄 없이 필요할 때 직접 실행한다.
+ * (도입 직후, datagen 으로 데이터를 넣은 뒤, D-Day 목표를 지운 뒤 등)
+ *  --spring.batch.job.name=dailyTaskStatsBackfillJob fromDate=2026-01-01 toDate=2026-10-19
+ * JobParameters : fromDate (기본 가장 오래된 CREATED_AT), toDate (기본 오늘) (yyyy-MM-dd)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DailyTaskStatsBackfillJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchStepMetricsListener batchStepMetricsListener;
+    private final BatchObservationListener batchObservationListener;
+
+    @Bean
+    public Job dailyTaskStatsBackfillJob(@Qualifier("dailyTaskStatsBackfillStep") Step dailyTaskStatsBackfillStep) {
+        return new JobBuilder("dailyTaskStatsBackfillJob", jobRepository)
+                .listener(batchObservationListener)
+                .start(dailyTaskStatsBackfillStep)
+                .build();
+    }
+
+    // STAT_DATE 구간별 파티션을 가상 스레드에서 병렬 실행한다.
+    @Bean
+    public Step dailyTaskStatsBackfillStep(
+            StatDateRangePartitioner statDateRangePartitioner,
+            @Qualifier("dailyTaskStatsBackfillWorkerStep") Step dailyTaskStatsBackfillWorkerStep,
+            @Qualifier("statsPartitionTaskExecutor") TaskExecutor statsPartitionTaskExecutor
+    ) {
+        return new StepBuilder("dailyTaskStatsBackfillStep", jobRepository)
+                .partitioner("dailyTaskStatsBackfillWorkerStep", statDateRangePartitioner)
+                .step(dailyTaskStatsBackfillWorkerStep)
+                .taskExecutor(statsPartitionTaskExecutor)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+
+    @Bean
+    public Step dailyTaskStatsBackfillWorkerStep(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DailyTaskStatWriter dailyTaskStatWriter
+    ) {
+        return new StepBuilder("dailyTaskStatsBackfillWorkerStep", jobRepository)
+                .tasklet(new DailyTaskStatsBackfillTasklet(namedParameterJdbcTemplate, dailyTaskStatWriter))
+                .transactionManager(transactionManager)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public StatDateRangePartitioner statDateRangePartitioner(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("#{jobParameters['fromDate']}") String fromDate,
+            @Value("#{jobParameters['toDate']}") String toDate,
+            @Value("${app.stats.backfill.partition-days:31}") int partitionDays
+    ) {
+        LocalDate to = toDate == null || toDate.isBlank() ? LocalDate.now() : LocalDate.parse(toDate);
+        LocalDate from = fromDate == null || fromDate.isBlank() ? oldestCreatedDate(namedParameterJdbcTemplate, to) : LocalDate.parse(fromDate);
+        return new StatDateRangePartitioner(from, to, partitionDays, maxCarryOver(namedParameterJdbcTemplate));
+    }
+
+    // 파티션마다 트랜잭션 하나 (= BATCH permit 하나) 로 한 구간을 통째로 다시 쓰므로, 동시 실행 수는 BATCH permits 를 넘기지 않는다.
+    // (넘기면 남는 파티션이 permit 을 기다리다 batch.max-wait 뒤 거절된다)
+    @Bean
+    public TaskExecutor statsPartitionTaskExecutor(
+            @Value("${app.stats.backfill.concurrency:2}") int concurrency,
+            @Value("${app.db.bulkhead.batch.permits:3}") int batchPermits
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stats-partition-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(Math.max(1, Math.min(concurrency, batchPermits)));
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+
+    // 계획일이 구간 뒤에 있어도 CARRIED_OVER 가 구간에 들어올 수 있는 최대 일 수
+    private int maxCarryOver(NamedParameterJdbcTemplate jdbcTemplate) {
+        Integer max = jdbcTemplate.getJdbcTemplate().queryForObject("""
+                SELECT MAX(CARRY_OVER_COUNT) FROM (
+                    SELECT MAX(CARRY_OVER_COUNT) AS CARRY_OVER_COUNT FROM TASK
+                    UNION ALL
+                    SELECT MAX(CARRY_OVER_COUNT) AS CARRY_OVER_COUNT FROM TASK_ARCHIVE
+                ) LONGEST
+                """, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private LocalDate oldestCreatedDate(NamedParameterJdbcTemplate jdbcTemplate, LocalDate fallback) {
+        Timestamp oldest = jdbcTemplate.getJdbcTemplate().queryForObject("""
+                SELECT MIN(CREATED_AT) FROM (
+                    SELECT MIN(CREATED_AT) AS CREATED_AT FROM TASK
+                    UNION ALL
+                    SELECT MIN(CREATED_AT) AS CREATED_AT FROM TASK_ARCHIVE
+                ) OLDEST
+                """, Timestamp.class);
+        return oldest == null ? fallback : oldest.toLocalDateTime().toLocalDate();
+    }
+}
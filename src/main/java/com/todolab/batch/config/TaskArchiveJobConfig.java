@@ -0,0 +1,71 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.listener.BatchObservationListener;
+import com.todolab.batch.listener.BatchStepMetricsListener;
+import com.todolab.batch.listener.TaskArchiveStepListener;
+import com.todolab.batch.tasklet.TaskArchiveTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 오래된 완료 일정을 TASK 에서 TASK_ARCHIVE 로 옮기는 Job.
+ * JobParameters : baseDate (yyyy-MM-dd)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TaskArchiveJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchStepMetricsListener batchStepMetricsListener;
+    private final BatchObservationListener batchObservationListener;
+    private final TaskArchiveStepListener taskArchiveStepListener;
+
+    @Bean
+    public Job taskArchiveJob(@Qualifier("taskArchiveStep") Step taskArchiveStep) {
+        return new JobBuilder("taskArchiveJob", jobRepository)
+                .listener(batchObservationListener)
+                .start(taskArchiveStep)
+                .build();
+    }
+
+    @Bean
+    public Step taskArchiveStep(TaskArchiveTasklet taskArchiveTasklet) {
+        return new StepBuilder("taskArchiveStep", jobRepository)
+                .tasklet(taskArchiveTasklet)
+                .transactionManager(transactionManager)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .listener(taskArchiveStepListener)
+                .build();
+    }
+
+    // cutoff 는 스케줄러가 락을 잡은 baseDate 에서 계산한다. (재실행해도 같은 행을 대상으로 한다)
+    @Bean
+    @StepScope
+    public TaskArchiveTasklet taskArchiveTasklet(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("#{jobParameters['baseDate']}") String baseDate,
+            @Value("${app.task-archive.retention:180d}") Duration retention,
+            @Value("${app.task-archive.batch-size:500}") int batchSize
+    ) {
+        if (baseDate == null || baseDate.isBlank()) {
+            throw new IllegalStateException("JobParameter 'baseDate' is missing in taskArchiveJob.");
+        }
+        return new TaskArchiveTasklet(namedParameterJdbcTemplate, LocalDate.parse(baseDate), retention, batchSize);
+    }
+}
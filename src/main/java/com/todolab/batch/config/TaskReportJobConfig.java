@@ -0,0 +1,217 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.domain.ReportPeriod;
+import com.todolab.batch.domain.TaskReportAccumulator;
+import com.todolab.batch.domain.TaskReportRow;
+import com.todolab.batch.listener.BatchObservationListener;
+import com.todolab.batch.listener.BatchStepMetricsListener;
+import com.todolab.batch.processor.TaskReportAggregateProcessor;
+import com.todolab.batch.writer.TaskReportMailTasklet;
+import com.todolab.mail.MailOutboxService;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.query.DateRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * 주간 / 월간 리포트 Job.
+ *  1) taskReportAggregateStep : TASK 를 JDBC 커서로 스트리밍하며 processor 에서 카운터만 누적한다.
+ *  2) taskReportMailStep : 누적 결과를 렌더링해 메일 outbox 에 적재한다.
+ * JobParameters : period (WEEKLY | MONTHLY), baseDate (yyyy-MM-dd)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TaskReportJobConfig {
+
+    // 기간 내 완료됐거나, 기간 내로 계획된 (TARGET_DATE 또는 START_AT 기준) TASK
+    private static final String REPORT_ROW_SQL = """
+            SELECT T.ID, T.STATUS, T.CATEGORY, T.START_AT, T.TARGET_DATE, T.COMPLETED_AT,
+                   T.CARRY_OVER_COUNT, T.DEFER_REASON, T.DDAY_GOAL_ID,
+                   G.TITLE AS DDAY_TITLE, G.TARGET_DATE AS DDAY_TARGET_DATE
+            FROM TASK T
+            LEFT JOIN DDAY_GOAL G ON G.ID = T.DDAY_GOAL_ID
+            WHERE (T.COMPLETED_AT >= ? AND T.COMPLETED_AT < ?)
+               OR (T.TARGET_DATE >= ? AND T.TARGET_DATE < ?)
+               OR (T.TARGET_DATE IS NULL AND T.START_AT >= ? AND T.START_AT < ?)
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchStepMetricsListener batchStepMetricsListener;
+    private final BatchObservationListener batchObservationListener;
+
+    @Bean
+    public Job taskReportJob(
+            @Qualifier("taskReportAggregateStep") Step taskReportAggregateStep,
+            @Qualifier("taskReportMailStep") Step taskReportMailStep
+    ) {
+        return new JobBuilder("taskReportJob", jobRepository)
+                .listener(batchObservationListener)
+                .start(taskReportAggregateStep)
+                .next(taskReportMailStep)
+                .build();
+    }
+
+    // accumulator 는 Job 스코프에만 있으므로 재시작 시 집계 step 부터 다시 돈다.
+    @Bean
+    public Step taskReportAggregateStep(
+            JdbcCursorItemReader<TaskReportRow> taskReportRowReader,
+            TaskReportAccumulator taskReportAccumulator,
+            @Value("${app.batch.report.chunk-size:500}") int chunkSize
+    ) {
+        return new StepBuilder("taskReportAggregateStep", jobRepository)
+                .<TaskReportRow, TaskReportRow>chunk(chunkSize)
+                .transactionManager(transactionManager)
+                .reader(taskReportRowReader)
+                .processor(new TaskReportAggregateProcessor(taskReportAccumulator))
+                .writer(chunk -> {
+                })
+                .allowStartIfComplete(true)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+
+    @Bean
+    public Step taskReportMailStep(
+            TaskReportAccumulator taskReportAccumulator,
+            MailOutboxService mailOutboxService,
+            @Value("${app.mail.report.to:${app.mail.daily-summary.to:}}") String recipients
+    ) {
+        return new StepBuilder("taskReportMailStep", jobRepository)
+                .tasklet(new TaskReportMailTasklet(taskReportAccumulator, mailOutboxService, recipients))
+                .transactionManager(transactionManager)
+                .listener(batchStepMetricsListener)
+                .listener(batchObservationListener)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public TaskReportAccumulator taskReportAccumulator(
+            @Value("#{jobParameters['period']}") String period,
+            @Value("#{jobParameters['baseDate']}") String baseDate
+    ) {
+        ReportPeriod reportPeriod = reportPeriod(period);
+        return new TaskReportAccumulator(reportPeriod, reportPeriod.previousRange(parseBaseDate(baseDate)));
+    }
+
+    /**
+     * fetch-size 만큼씩 서버 커서로 가져온다.
+     * MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch-size 가 적용되고,
+     * 없으면 드라이버가 결과 전체를 메모리에 올리므로 그때는 행 단위 스트리밍 (Integer.MIN_VALUE) 으로 바꾼다. (cursorFetchSize)
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<TaskReportRow> taskReportRowReader(
+            DataSource dataSource,
+            @Value("#{jobParameters['period']}") String period,
+            @Value("#{jobParameters['baseDate']}") String baseDate,
+            @Value("${app.batch.report.fetch-size:500}") int fetchSize
+    ) {
+        DateRange range = reportPeriod(period).previousRange(parseBaseDate(baseDate));
+        Timestamp start = Timestamp.valueOf(range.getStart());
+        Timestamp end = Timestamp.valueOf(range.getEnd());
+        Date startDate = Date.valueOf(range.getStart().toLocalDate());
+        Date endDate = Date.valueOf(range.getEnd().toLocalDate());
+
+        return new JdbcCursorItemReaderBuilder<TaskReportRow>()
+                .name("taskReportRowReader")
+                .dataSource(dataSource)
+                .sql(REPORT_ROW_SQL)
+                .preparedStatementSetter(ps -> {
+                    ps.setTimestamp(1, start);
+                    ps.setTimestamp(2, end);
+                    ps.setDate(3, startDate);
+                    ps.setDate(4, endDate);
+                    ps.setTimestamp(5, start);
+                    ps.setTimestamp(6, end);
+                })
+                .fetchSize(cursorFetchSize(dataSource, fetchSize))
+                .saveState(false)
+                .rowMapper(taskReportRowMapper())
+                .build();
+    }
+
+    /**
+     * MySQL Connector/J 는 useCursorFetch=true 가 없으면 양수 fetch-size 를 무시한다.
+     * 이때 결과 전체를 읽지 않게 하는 방법은 Integer.MIN_VALUE (forward-only / read-only 결과를 한 행씩 스트리밍) 뿐이다.
+     * reader 는 자기 커넥션으로 커서를 열므로, 스트리밍 중 같은 커넥션에 다른 SQL 이 끼지 않는다.
+     */
+    static int cursorFetchSize(DataSource dataSource, int fetchSize) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, metaData ->
+                    "MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())
+                            && (metaData.getURL() == null || !metaData.getURL().contains("useCursorFetch=true"))
+                            ? Integer.MIN_VALUE
+                            : fetchSize);
+        } catch (MetaDataAccessException e) {
+            return fetchSize;
+        }
+    }
+
+    private RowMapper<TaskReportRow> taskReportRowMapper() {
+        return (rs, rowNum) -> {
+            Date targetDate = rs.getDate("TARGET_DATE");
+            Timestamp startAt = rs.getTimestamp("START_AT");
+            Timestamp completedAt = rs.getTimestamp("COMPLETED_AT");
+            String deferReason = rs.getString("DEFER_REASON");
+            long ddayGoalId = rs.getLong("DDAY_GOAL_ID");
+            boolean hasGoal = !rs.wasNull();
+            Date ddayTargetDate = rs.getDate("DDAY_TARGET_DATE");
+
+            LocalDate plannedDate = targetDate != null
+                    ? targetDate.toLocalDate()
+                    : startAt == null ? null : startAt.toLocalDateTime().toLocalDate();
+
+            return new TaskReportRow(
+                    rs.getLong("ID"),
+                    TaskStatus.valueOf(rs.getString("STATUS")),
+                    rs.getString("CATEGORY"),
+                    plannedDate,
+                    completedAt == null ? null : completedAt.toLocalDateTime(),
+                    rs.getInt("CARRY_OVER_COUNT"),
+                    deferReason == null ? null : DeferReason.valueOf(deferReason),
+                    hasGoal ? ddayGoalId : null,
+                    rs.getString("DDAY_TITLE"),
+                    ddayTargetDate == null ? null : ddayTargetDate.toLocalDate()
+            );
+        };
+    }
+
+    private static ReportPeriod reportPeriod(String period) {
+        if (period == null || period.isBlank()) {
+            throw new IllegalStateException("JobParameter 'period' is missing in taskReportJob.");
+        }
+        return ReportPeriod.valueOf(period);
+    }
+
+    private static LocalDate parseBaseDate(String baseDate) {
+        if (baseDate == null || baseDate.isBlank()) {
+            throw new IllegalStateException("JobParameter 'baseDate' is missing in taskReportJob.");
+        }
+        return LocalDate.parse(baseDate);
+    }
+}
@@ -0,0 +1,29 @@
+package com.todolab.batch.domain;
+
+import com.todolab.task.domain.query.DateRange;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportPeriod {
+    WEEKLY("주간"),
+    MONTHLY("월간");
+
+    private final String title;
+
+    /**
+     * baseDate 직전 기간.
+     *  - WEEKLY : 지난주 (일요일 ~ 토요일)
+     *  - MONTHLY : 지난달 (1일 ~ 말일)
+     */
+    public DateRange previousRange(LocalDate baseDate) {
+        return switch (this) {
+            case WEEKLY -> DateRange.ofWeek(baseDate.minusWeeks(1).toString());
+            case MONTHLY -> DateRange.ofMonth(YearMonth.from(baseDate.minusMonths(1)).toString());
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.todolab.batch.domain;
+
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.query.DateRange;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리포트 기간 동안의 TASK 행을 한 번씩 흘려 보내며 카운터만 누적한다.
+ * 행 자체는 보관하지 않으므로 메모리는 행 수가 아니라 카테고리 / D-Day 목표 수에만 비례한다.
+ */
+@Getter
+public class TaskReportAccumulator {
+
+    private final ReportPeriod period;
+    private final LocalDate from;          // Inclusive
+    private final LocalDate toExclusive;   // Exclusive
+
+    private long scannedCount;
+    private long plannedCount;
+    private long plannedDoneCount;
+    private long completedCount;
+    private long carriedOverCount;
+    private long carryOverTotal;
+    private long staleCarryOverCount;
+
+    private final Map<DeferReason, Long> deferReasons = new EnumMap<>(DeferReason.class);
+    private final Map<String, Long> completedByCategory = new TreeMap<>();
+    private final Map<Long, GoalProgress> goals = new LinkedHashMap<>();
+
+    public TaskReportAccumulator(ReportPeriod period, DateRange range) {
+        this.period = period;
+        this.from = range.getStart().toLocalDate();
+        this.toExclusive = range.getEnd().toLocalDate();
+    }
+
+    public void add(TaskReportRow row) {
+        scannedCount++;
+
+        boolean planned = inRange(row.plannedDate());
+        boolean completed = row.status() == TaskStatus.DONE
+                && row.completedAt() != null
+                && inRange(row.completedAt());
+
+        if (planned) {
+            plannedCount++;
+            if (row.status() == TaskStatus.DONE) {
+                plannedDoneCount++;
+            }
+            if (row.carryOverCount() > 0) {
+                carriedOverCount++;
+                carryOverTotal += row.carryOverCount();
+            }
+            if (row.carryOverCount() >= Task.STALE_CARRY_OVER_THRESHOLD) {
+                staleCarryOverCount++;
+            }
+            if (row.deferReason() != null) {
+                deferReasons.merge(row.deferReason(), 1L, Long::sum);
+            }
+        }
+
+        if (completed) {
+            completedCount++;
+            String category = row.category() == null ? "미분류" : row.category();
+            completedByCategory.merge(category, 1L, Long::sum);
+        }
+
+        if (row.ddayGoalId() != null && (planned || completed)) {
+            GoalProgress goal = goals.computeIfAbsent(row.ddayGoalId(),
+                    id -> new GoalProgress(row.ddayTitle(), row.ddayTargetDate()));
+            if (planned) {
+                goal.planned++;
+            }
+            if (completed) {
+                goal.done++;
+            }
+        }
+    }
+
+    public double completionRate() {
+        return plannedCount == 0 ? 0 : plannedDoneCount * 100.0 / plannedCount;
+    }
+
+    public Map<DeferReason, Long> getDeferReasons() {
+        return Collections.unmodifiableMap(deferReasons);
+    }
+
+    public Map<String, Long> getCompletedByCategory() {
+        return Collections.unmodifiableMap(completedByCategory);
+    }
+
+    public Map<Long, GoalProgress> getGoals() {
+        return Collections.unmodifiableMap(goals);
+    }
+
+    private boolean inRange(LocalDate date) {
+        return date != null && !date.isBefore(from) && date.isBefore(toExclusive);
+    }
+
+    private boolean inRange(LocalDateTime dateTime) {
+        return inRange(dateTime.toLocalDate());
+    }
+
+    @Getter
+    public static class GoalProgress {
+        private final String title;
+        private final LocalDate targetDate;
+        private long planned;
+        private long done;
+
+        GoalProgress(String title, LocalDate targetDate) {
+            this.title = title;
+            this.targetDate = targetDate;
+        }
+    }
+}
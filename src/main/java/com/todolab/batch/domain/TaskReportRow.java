@@ -0,0 +1,25 @@
+package com.todolab.batch.domain;
+
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 집계용 TASK 한 행.
+ * 엔티티 대신 필요한 컬럼만 JDBC 커서로 읽어 영속성 컨텍스트에 쌓이지 않게 한다.
+ */
+public record TaskReportRow(
+        Long id,
+        TaskStatus status,
+        String category,
+        LocalDate plannedDate,
+        LocalDateTime completedAt,
+        int carryOverCount,
+        DeferReason deferReason,
+        Long ddayGoalId,
+        String ddayTitle,
+        LocalDate ddayTargetDate
+) {
+}
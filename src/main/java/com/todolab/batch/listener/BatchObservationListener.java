@@ -0,0 +1,85 @@
+package com.todolab.batch.listener;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job / Step 실행을 batch.job / batch.step span 으로 남긴다.
+ * before / after 는 같은 스레드에서 호출되므로 그 사이 scope 를 열어 두면
+ * reader / processor / writer / mail span 이 Step span 아래에 붙는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchObservationListener implements JobExecutionListener, StepExecutionListener {
+
+    private final ObservationRegistry observationRegistry;
+
+    private final Map<Long, Observation.Scope> jobScopes = new ConcurrentHashMap<>();
+    private final Map<Long, Observation.Scope> stepScopes = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String job = jobExecution.getJobInstance().getJobName();
+        Observation observation = Observation.createNotStarted("batch.job", observationRegistry)
+                .contextualName("job " + job)
+                .lowCardinalityKeyValue("job", job)
+                .highCardinalityKeyValue("job.execution.id", String.valueOf(jobExecution.getId()))
+                .start();
+        jobScopes.put(jobExecution.getId(), observation.openScope());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        stop(jobScopes.remove(jobExecution.getId()), jobExecution.getStatus(), jobExecution.getAllFailureExceptions());
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        String job = stepExecution.getJobExecution().getJobInstance().getJobName();
+        Observation observation = Observation.createNotStarted("batch.step", observationRegistry)
+                .contextualName("step " + stepExecution.getStepName())
+                .lowCardinalityKeyValue("job", job)
+                .lowCardinalityKeyValue("step", stepName(stepExecution.getStepName()))
+                .highCardinalityKeyValue("step.execution.id", String.valueOf(stepExecution.getId()))
+                .start();
+        stepScopes.put(stepExecution.getId(), observation.openScope());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        stop(stepScopes.remove(stepExecution.getId()), stepExecution.getStatus(), stepExecution.getFailureExceptions());
+        return stepExecution.getExitStatus();
+    }
+
+    private static void stop(Observation.Scope scope, BatchStatus status, List<Throwable> failures) {
+        if (scope == null) {
+            return;
+        }
+
+        Observation observation = scope.getCurrentObservation();
+        scope.close();
+        observation.lowCardinalityKeyValue("status", status.name());
+        if (!failures.isEmpty()) {
+            observation.error(failures.getFirst());
+        }
+        observation.stop();
+    }
+
+    // BatchStepMetricsListener 와 같이 파티션 접미사 (":partitionN") 는 태그에서 뗀다.
+    private static String stepName(String stepName) {
+        int index = stepName.indexOf(':');
+        return index < 0 ? stepName : stepName.substring(0, index);
+    }
+}
@@ -0,0 +1,61 @@
+package com.todolab.batch.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Step 단위 소요 시간과 item 건수를 기록한다.
+ *  - batch.step : Step 실행 시간 (job, step, status)
+ *  - batch.step.items : read / write / filter / skip 건수 (job, step, type)
+ * item 하나하나의 read / process / write 시간은 Spring Batch 가 기록하는
+ * spring.batch.item.read, spring.batch.item.process, spring.batch.chunk.write 를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchStepMetricsListener implements StepExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String job = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String step = stepName(stepExecution.getStepName());
+
+        Timer.builder("batch.step")
+                .tags(Tags.of("job", job, "step", step, "status", stepExecution.getStatus().name()))
+                .register(meterRegistry)
+                .record(elapsed(stepExecution));
+
+        count(job, step, "read", stepExecution.getReadCount());
+        count(job, step, "write", stepExecution.getWriteCount());
+        count(job, step, "filter", stepExecution.getFilterCount());
+        count(job, step, "skip", stepExecution.getSkipCount());
+
+        return stepExecution.getExitStatus();
+    }
+
+    private void count(String job, String step, String type, long amount) {
+        meterRegistry.counter("batch.step.items", "job", job, "step", step, "type", type)
+                .increment(amount);
+    }
+
+    private Duration elapsed(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        return start == null ? Duration.ZERO : Duration.between(start, LocalDateTime.now());
+    }
+
+    // 파티션 worker 는 "step:partitionN" 으로 이름이 붙으므로 태그 수가 늘지 않게 접미사를 뗀다.
+    private static String stepName(String stepName) {
+        int index = stepName.indexOf(':');
+        return index < 0 ? stepName : stepName.substring(0, index);
+    }
+}
@@ -0,0 +1,61 @@
+package com.todolab.batch.listener;
+
+import com.todolab.batch.partition.MailRecipientPartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 Job 이 outbox 에 적재한 처리량(mails/second)을 기록한다.
+ * 완료된 worker 파티션의 수신자 수를 합산해 Job 실행 시간으로 나눈다.
+ * Job 은 MAIL_OUTBOX 에 적재만 하므로 실제 SMTP 발송 처리량은 MailOutboxDispatcher 의 mail.outbox.* meter 로 본다.
+ */
+@Slf4j
+@Component
+public class DailyMailThroughputListener implements JobExecutionListener {
+
+    public static final String ENQUEUED_COUNT = "mailsEnqueued";
+    public static final String ENQUEUED_PER_SECOND = "enqueuedPerSecond";
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        int enqueued = jobExecution.getStepExecutions().stream()
+                .filter(DailyMailThroughputListener::isWorker)
+                .filter(step -> step.getStatus() == BatchStatus.COMPLETED)
+                .mapToInt(step -> step.getExecutionContext().getInt(MailRecipientPartitioner.RECIPIENT_COUNT))
+                .sum();
+        int failedPartitions = (int) jobExecution.getStepExecutions().stream()
+                .filter(DailyMailThroughputListener::isWorker)
+                .filter(step -> step.getStatus() != BatchStatus.COMPLETED)
+                .count();
+
+        Duration elapsed = elapsed(jobExecution);
+        double enqueuedPerSecond = elapsed.isZero() ? enqueued : enqueued * 1_000.0 / elapsed.toMillis();
+
+        jobExecution.getExecutionContext().putInt(ENQUEUED_COUNT, enqueued);
+        jobExecution.getExecutionContext().putDouble(ENQUEUED_PER_SECOND, enqueuedPerSecond);
+
+        log.info("[BATCH] dailyScheduleMailJob throughput. enqueued={}, failedPartitions={}, elapsedMs={}, enqueuedPerSecond={}",
+                enqueued, failedPartitions, elapsed.toMillis(), String.format("%.2f", enqueuedPerSecond));
+    }
+
+    private Duration elapsed(JobExecution jobExecution) {
+        LocalDateTime start = jobExecution.getStartTime();
+        if (start == null) {
+            return Duration.ZERO;
+        }
+        LocalDateTime end = jobExecution.getEndTime() != null ? jobExecution.getEndTime() : LocalDateTime.now();
+        return Duration.between(start, end);
+    }
+
+    // 파티션 worker 는 StepExecution 단위로 수신자 수를 갖는다.
+    private static boolean isWorker(StepExecution stepExecution) {
+        return stepExecution.getExecutionContext().containsKey(MailRecipientPartitioner.RECIPIENT_COUNT);
+    }
+}
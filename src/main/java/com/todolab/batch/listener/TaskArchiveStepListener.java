@@ -0,0 +1,37 @@
+package com.todolab.batch.listener;
+
+import com.todolab.batch.tasklet.TaskArchiveTasklet;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.repository.TaskArchiveBoundary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * taskArchiveStep 이 옮긴 행이 있으면 (커밋 이후)
+ *  - 완료 로그 조회가 TASK_ARCHIVE 를 읽도록 보관 경계를 cutoff 로 올리고
+ *  - 옮긴 행을 TASK id / archived=false 로 들고 있는 날짜 범위 캐시를 비운다.
+ * 중간 배치가 커밋된 뒤 실패해도 옮긴 행은 남으므로 Step 결과와 관계없이 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskArchiveStepListener implements StepExecutionListener {
+
+    private final TaskArchiveBoundary taskArchiveBoundary;
+    private final TaskRangeCache taskRangeCache;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (context.getLong(TaskArchiveTasklet.ARCHIVED_TASKS, 0) > 0) {
+            taskArchiveBoundary.advanceTo(LocalDateTime.parse(context.getString(TaskArchiveTasklet.CUTOFF)));
+            taskRangeCache.invalidateAll();
+        }
+        return stepExecution.getExitStatus();
+    }
+}
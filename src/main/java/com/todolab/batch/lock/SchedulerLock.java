@@ -0,0 +1,180 @@
+package com.todolab.batch.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SCHEDULER_LOCK 테이블 기반 분산 락.
+ *  - 락 이름 : "{jobName}:{baseDate}" → 같은 baseDate 의 Job 은 클러스터 전체에서 한 노드만 실행한다.
+ *  - RUNNING : 실행 중. LOCK_UNTIL 이 지나면 (보유 노드가 죽은 것으로 보고) 다른 노드가 가져갈 수 있다.
+ *  - COMPLETED : 실행 완료. 같은 baseDate 로는 다시 실행하지 않는다.
+ *  - RELEASED : 실패로 반납. 다음 스케줄이나 catch-up 에서 다시 실행할 수 있다.
+ * 시각은 노드 시계가 아니라 DB 시계 (LOCALTIMESTAMP) 를 쓴다. 노드 간 시계가 어긋나도 lease 판정이 같다.
+ * 실행 중에는 heartbeat 가 lease 를 연장하므로, lease 보다 오래 도는 Job 을 다른 노드가 가로채지 않는다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock implements DisposableBean {
+
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String RELEASED = "RELEASED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lease;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("scheduler-lock-heartbeat").daemon().factory()
+    );
+
+    @Autowired
+    public SchedulerLock(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.batch.scheduler.lock-lease:30m}") Duration lease
+    ) {
+        // "pid@hostname"
+        this(jdbcTemplate, lease, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    SchedulerLock(JdbcTemplate jdbcTemplate, Duration lease, String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = lease;
+        this.nodeId = nodeId;
+    }
+
+    public boolean tryAcquire(String lockName) {
+        return tryAcquire(lockName, dbNow());
+    }
+
+    boolean tryAcquire(String lockName, LocalDateTime now) {
+        LocalDateTime lockUntil = now.plus(lease);
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO SCHEDULER_LOCK (LOCK_NAME, STATUS, LOCKED_BY, LOCKED_AT, LOCK_UNTIL)
+                    VALUES (?, ?, ?, ?, ?)
+                    """, lockName, RUNNING, nodeId, now, lockUntil);
+            log.info("[BATCH] scheduler lock acquired. lockName={}, lockedBy={}", lockName, nodeId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return takeOver(lockName, now, lockUntil);
+        }
+    }
+
+    public void complete(String lockName) {
+        int updated = jdbcTemplate.update("""
+                UPDATE SCHEDULER_LOCK
+                SET STATUS = ?
+                WHERE LOCK_NAME = ? AND LOCKED_BY = ?
+                """, COMPLETED, lockName, nodeId);
+        log.info("[BATCH] scheduler lock completed. lockName={}, updated={}", lockName, updated);
+    }
+
+    public void release(String lockName) {
+        release(lockName, dbNow());
+    }
+
+    void release(String lockName, LocalDateTime now) {
+        int updated = jdbcTemplate.update("""
+                UPDATE SCHEDULER_LOCK
+                SET STATUS = ?, LOCK_UNTIL = ?
+                WHERE LOCK_NAME = ? AND LOCKED_BY = ? AND STATUS = ?
+                """, RELEASED, now, lockName, nodeId, RUNNING);
+        log.info("[BATCH] scheduler lock released. lockName={}, updated={}", lockName, updated);
+    }
+
+    /**
+     * 보유 중인 RUNNING 락의 lease 를 지금부터 다시 lease 만큼 연장한다.
+     * false 면 lease 가 이미 끝나 다른 노드가 가져갔거나 반납된 것이다.
+     */
+    public boolean renew(String lockName) {
+        return renew(lockName, dbNow());
+    }
+
+    boolean renew(String lockName, LocalDateTime now) {
+        int updated = jdbcTemplate.update("""
+                UPDATE SCHEDULER_LOCK
+                SET LOCK_UNTIL = ?
+                WHERE LOCK_NAME = ? AND LOCKED_BY = ? AND STATUS = ?
+                """, now.plus(lease), lockName, nodeId, RUNNING);
+        return updated == 1;
+    }
+
+    /**
+     * 실행하는 동안 lease 의 1/3 마다 renew 한다. Job 이 끝나면 close 한다.
+     */
+    public Heartbeat heartbeat(String lockName) {
+        long periodMillis = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> future = heartbeatExecutor.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(lockName)) {
+                    log.warn("[BATCH] scheduler lock lost. lockName={}, lockedBy={}", lockName, nodeId);
+                }
+            } catch (Exception e) {
+                log.warn("[BATCH] scheduler lock renew 실패. lockName={}", lockName, e);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    /**
+     * 끝나지 않은 락 (실패로 반납됐거나, 보유 노드가 죽어 lease 가 끝난 RUNNING) 중 window 안에 잡힌 것.
+     * catch-up 이 이 락 이름으로 Job 을 다시 실행한다.
+     */
+    public List<String> findUnfinished(Duration window) {
+        return findUnfinished(window, dbNow());
+    }
+
+    List<String> findUnfinished(Duration window, LocalDateTime now) {
+        return jdbcTemplate.queryForList("""
+                SELECT LOCK_NAME
+                FROM SCHEDULER_LOCK
+                WHERE STATUS <> ? AND LOCK_UNTIL <= ? AND LOCKED_AT >= ?
+                ORDER BY LOCKED_AT
+                """, String.class, COMPLETED, now, now.minus(window));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private LocalDateTime dbNow() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    // 이미 행이 있으면, 완료되지 않았고 lease 가 끝난 경우에만 가져온다.
+    private boolean takeOver(String lockName, LocalDateTime now, LocalDateTime lockUntil) {
+        int updated = jdbcTemplate.update("""
+                UPDATE SCHEDULER_LOCK
+                SET STATUS = ?, LOCKED_BY = ?, LOCKED_AT = ?, LOCK_UNTIL = ?
+                WHERE LOCK_NAME = ? AND STATUS <> ? AND LOCK_UNTIL <= ?
+                """, RUNNING, nodeId, now, lockUntil, lockName, COMPLETED, now);
+
+        if (updated == 1) {
+            log.info("[BATCH] scheduler lock taken over. lockName={}, lockedBy={}", lockName, nodeId);
+            return true;
+        }
+        log.info("[BATCH] scheduler lock held by another run. lockName={}", lockName);
+        return false;
+    }
+
+    public interface Heartbeat extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
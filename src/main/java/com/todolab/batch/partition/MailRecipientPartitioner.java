@@ -0,0 +1,70 @@
+package com.todolab.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수신자 목록을 shard 단위 파티션으로 나눈다.
+ *  - app.mail.daily-summary.to : 콤마 구분 수신자 목록
+ *  - app.mail.daily-summary.shard-size : 파티션 하나가 담당할 수신자 수 (기본 1 = 수신자별 파티션)
+ */
+@Slf4j
+@Component
+public class MailRecipientPartitioner implements Partitioner {
+
+    public static final String RECIPIENTS = "recipients";
+    public static final String RECIPIENT_COUNT = "recipientCount";
+
+    private final String recipientsProperty;
+    private final int shardSize;
+
+    public MailRecipientPartitioner(
+            @Value("${app.mail.daily-summary.to:}") String recipientsProperty,
+            @Value("${app.mail.daily-summary.shard-size:1}") int shardSize
+    ) {
+        this.recipientsProperty = recipientsProperty;
+        this.shardSize = Math.max(1, shardSize);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<String> recipients = parseRecipients();
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int from = 0, index = 0; from < recipients.size(); from += shardSize, index++) {
+            List<String> shard = recipients.subList(from, Math.min(from + shardSize, recipients.size()));
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(RECIPIENTS, String.join(",", shard));
+            context.putInt(RECIPIENT_COUNT, shard.size());
+            partitions.put("partition" + index, context);
+        }
+
+        log.info("[BATCH] mail partitions created. recipients={}, shardSize={}, partitions={}",
+                recipients.size(), shardSize, partitions.size());
+        return partitions;
+    }
+
+    private List<String> parseRecipients() {
+        List<String> recipients = recipientsProperty == null
+                ? List.of()
+                : Arrays.stream(recipientsProperty.split(","))
+                .map(String::trim)
+                .filter(recipient -> !recipient.isEmpty())
+                .distinct()
+                .toList();
+
+        if (recipients.isEmpty()) {
+            throw new IllegalStateException("Property 'app.mail.daily-summary.to' is missing.");
+        }
+        return recipients;
+    }
+}
@@ -0,0 +1,55 @@
+package com.todolab.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [fromDate, toDate] 를 partitionDays 일씩 겹치지 않는 STAT_DATE 구간으로 나눈다.
+ * 파티션마다 자기 구간의 DAILY_TASK_STATS 만 지우고 다시 쓰므로, 병렬로 돌아도 서로의 행을 건드리지 않는다.
+ */
+@Slf4j
+public class StatDateRangePartitioner implements Partitioner {
+
+    public static final String FROM_DATE = "fromDate";
+    public static final String TO_DATE = "toDate";
+    public static final String MAX_CARRY_OVER = "maxCarryOver";
+
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final int partitionDays;
+    private final int maxCarryOver;
+
+    public StatDateRangePartitioner(LocalDate fromDate, LocalDate toDate, int partitionDays, int maxCarryOver) {
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalStateException("JobParameter 'toDate' is before 'fromDate'. fromDate=" + fromDate + ", toDate=" + toDate);
+        }
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.partitionDays = Math.max(1, partitionDays);
+        this.maxCarryOver = Math.max(0, maxCarryOver);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        int index = 0;
+        for (LocalDate start = fromDate; !start.isAfter(toDate); start = start.plusDays(partitionDays), index++) {
+            LocalDate end = start.plusDays(partitionDays - 1L);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(FROM_DATE, start.toString());
+            context.putString(TO_DATE, (end.isAfter(toDate) ? toDate : end).toString());
+            context.putInt(MAX_CARRY_OVER, maxCarryOver);
+            partitions.put("partition" + index, context);
+        }
+
+        log.info("[BATCH] stats partitions created. fromDate={}, toDate={}, partitionDays={}, maxCarryOver={}, partitions={}",
+                fromDate, toDate, partitionDays, maxCarryOver, partitions.size());
+        return partitions;
+    }
+}
@@ -3,6 +3,7 @@ package com.todolab.batch.processor;
 import com.todolab.batch.domain.ScheduleMailSection;
 import com.todolab.batch.domain.ScheduleMailSectionContent;
 import com.todolab.batch.domain.TaskMailRow;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Slf4j
 @Component
+@Observed(name = "batch.processor")
 public class DailyScheduleMailSectionProcessor implements ItemProcessor<ScheduleMailSection, ScheduleMailSectionContent> {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
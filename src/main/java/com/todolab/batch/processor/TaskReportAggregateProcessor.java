@@ -0,0 +1,22 @@
+package com.todolab.batch.processor;
+
+import com.todolab.batch.domain.TaskReportAccumulator;
+import com.todolab.batch.domain.TaskReportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+
+/**
+ * 커서로 읽은 TASK 행을 TaskReportAccumulator 에 누적하고 null 을 반환해 writer 로 넘기지 않는다.
+ * 결과는 taskReportMailStep 이 같은 Job 스코프의 accumulator 에서 꺼내 렌더링한다.
+ */
+@RequiredArgsConstructor
+public class TaskReportAggregateProcessor implements ItemProcessor<TaskReportRow, TaskReportRow> {
+
+    private final TaskReportAccumulator accumulator;
+
+    @Override
+    public TaskReportRow process(TaskReportRow item) {
+        accumulator.add(item);
+        return null;
+    }
+}
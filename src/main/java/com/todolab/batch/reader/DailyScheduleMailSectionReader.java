@@ -6,6 +6,7 @@ import com.todolab.batch.domain.TaskMailRow;
 import com.todolab.task.domain.query.TaskQueryType;
 import com.todolab.task.dto.TaskQueryRequest;
 import com.todolab.task.service.TaskService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -20,6 +21,7 @@ import java.util.List;
 @Slf4j
 @Component
 @StepScope
+@Observed(name = "batch.reader")
 @RequiredArgsConstructor
 public class DailyScheduleMailSectionReader implements ItemReader<ScheduleMailSection> {
 
@@ -50,6 +52,8 @@ public class DailyScheduleMailSectionReader implements ItemReader<ScheduleMailSe
         return LocalDate.parse(baseDateParam);
     }
 
+    // 세 섹션은 파티션의 chunk 트랜잭션 (커넥션 하나) 안에서 차례로 조회한다. (순서는 SEED -> TODAY -> WEEK)
+    // 가상 스레드로 나눠 조회하면 섹션마다 Hikari 커넥션을 하나씩 더 쥐어, BATCH permits 로 잡은 커넥션 수를 넘는다.
     private List<ScheduleMailSection> createSections(LocalDate baseDate) {
         return List.of(
                 createSeedSection(baseDate),
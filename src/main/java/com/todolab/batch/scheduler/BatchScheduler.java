@@ -1,22 +1,34 @@
 package com.todolab.batch.scheduler;
 
 import com.todolab.Constant;
-import lombok.RequiredArgsConstructor;
+import com.todolab.batch.domain.ReportPeriod;
+import com.todolab.batch.lock.SchedulerLock;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(
         name = "app.batch.scheduler.enabled",
         havingValue = "true"
@@ -25,21 +37,170 @@ public class BatchScheduler {
 
     private final JobOperator jobOperator;
     private final Job dailyScheduleMailJob;
+    private final Job taskReportJob;
+    private final Job batchMetadataCleanupJob;
+    private final Job taskArchiveJob;
+    private final SchedulerLock schedulerLock;
+    private final JobRepository jobRepository;
+    private final Duration catchUpWindow;
 
-//    @Scheduled(cron = "0 0 9 * * *", zone = Constant.ZONE_ID)
-    @Scheduled(initialDelay = 1_000, fixedDelay = 86_400_000)
+    public BatchScheduler(
+            JobOperator jobOperator,
+            Job dailyScheduleMailJob,
+            Job taskReportJob,
+            Job batchMetadataCleanupJob,
+            Job taskArchiveJob,
+            SchedulerLock schedulerLock,
+            JobRepository jobRepository,
+            @Value("${app.batch.scheduler.catch-up-window:1d}") Duration catchUpWindow
+    ) {
+        this.jobOperator = jobOperator;
+        this.dailyScheduleMailJob = dailyScheduleMailJob;
+        this.taskReportJob = taskReportJob;
+        this.batchMetadataCleanupJob = batchMetadataCleanupJob;
+        this.taskArchiveJob = taskArchiveJob;
+        this.schedulerLock = schedulerLock;
+        this.jobRepository = jobRepository;
+        this.catchUpWindow = catchUpWindow;
+    }
+
+    // 여러 노드가 같은 cron 으로 깨어나도 baseDate 락을 잡은 한 노드만 실행한다.
+    @Scheduled(cron = "${app.batch.scheduler.daily-mail-cron:0 0 9 * * *}", zone = Constant.ZONE_ID)
     public void runDailyScheduleMailJob() {
+        String baseDate = today();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", baseDate)
+                .toJobParameters();
+
+        launch(dailyScheduleMailJob, dailyScheduleMailJob.getName() + ":" + baseDate, jobParameters);
+    }
+
+    @Scheduled(cron = "${app.batch.scheduler.weekly-report-cron:0 0 8 * * SUN}", zone = Constant.ZONE_ID)
+    public void runWeeklyReportJob() {
+        runTaskReportJob(ReportPeriod.WEEKLY);
+    }
+
+    @Scheduled(cron = "${app.batch.scheduler.monthly-report-cron:0 0 8 1 * *}", zone = Constant.ZONE_ID)
+    public void runMonthlyReportJob() {
+        runTaskReportJob(ReportPeriod.MONTHLY);
+    }
+
+    @Scheduled(cron = "${app.batch.scheduler.metadata-cleanup-cron:0 30 3 * * *}", zone = Constant.ZONE_ID)
+    public void runBatchMetadataCleanupJob() {
+        String baseDate = today();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", baseDate)
+                .toJobParameters();
+
+        launch(batchMetadataCleanupJob, batchMetadataCleanupJob.getName() + ":" + baseDate, jobParameters);
+    }
+
+    @Scheduled(cron = "${app.batch.scheduler.task-archive-cron:0 0 4 * * *}", zone = Constant.ZONE_ID)
+    public void runTaskArchiveJob() {
+        String baseDate = today();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", baseDate)
+                .toJobParameters();
+
+        launch(taskArchiveJob, taskArchiveJob.getName() + ":" + baseDate, jobParameters);
+    }
+
+    /**
+     * cron 은 하루 (주 / 달) 에 한 번이라, 그 실행이 실패하거나 노드가 죽으면 그 baseDate 는 다시 돌 기회가 없다.
+     * 끝나지 않은 락 (RELEASED, lease 가 끝난 RUNNING) 을 찾아 같은 jobParameters 로 다시 실행한다.
+     * baseDate 가 catch-up-window 보다 오래된 것은 포기한다.
+     */
+    @Scheduled(cron = "${app.batch.scheduler.catch-up-cron:0 15 * * * *}", zone = Constant.ZONE_ID)
+    public void runCatchUp() {
+        List<String> lockNames;
         try {
-            String baseDate = LocalDate.now(ZoneId.of(Constant.ZONE_ID)).toString();
-            JobParameters jobParameters = new JobParametersBuilder()
+            lockNames = schedulerLock.findUnfinished(catchUpWindow);
+        } catch (Exception e) {
+            log.error("[BATCH] catch-up 대상 조회 실패", e);
+            return;
+        }
+
+        LocalDate oldest = LocalDate.now(ZoneId.of(Constant.ZONE_ID)).minusDays(catchUpWindow.toDays());
+        Map<String, Job> jobs = Stream.of(dailyScheduleMailJob, taskReportJob, batchMetadataCleanupJob, taskArchiveJob)
+                .collect(Collectors.toMap(Job::getName, Function.identity()));
+
+        for (String lockName : lockNames) {
+            // "{jobName}:{baseDate}" 또는 "{jobName}:{period}:{baseDate}"
+            String[] parts = lockName.split(":");
+            Job job = jobs.get(parts[0]);
+            String baseDate = parts[parts.length - 1];
+            if (job == null || parts.length > 3 || LocalDate.parse(baseDate).isBefore(oldest)) {
+                continue;
+            }
+
+            JobParametersBuilder builder = new JobParametersBuilder();
+            if (parts.length == 3) {
+                builder.addString("period", parts[1]);
+            }
+            JobParameters jobParameters = builder
                     .addString("baseDate", baseDate)
-                    .addLong("timestamp", System.currentTimeMillis())
                     .toJobParameters();
 
-            log.info("[BATCH] dailyScheduleMailJob start. baseDate={}", baseDate);
-            jobOperator.start(dailyScheduleMailJob, jobParameters);
+            log.info("[BATCH] {} catch-up. lockName={}", job.getName(), lockName);
+            launch(job, lockName, jobParameters);
+        }
+    }
+
+    private void runTaskReportJob(ReportPeriod period) {
+        String baseDate = today();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("period", period.name())
+                .addString("baseDate", baseDate)
+                .toJobParameters();
+
+        launch(taskReportJob, taskReportJob.getName() + ":" + period.name() + ":" + baseDate, jobParameters);
+    }
+
+    private void launch(Job job, String lockName, JobParameters jobParameters) {
+        try {
+            if (!schedulerLock.tryAcquire(lockName)) {
+                log.info("[BATCH] {} skipped. lockName={}", job.getName(), lockName);
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[BATCH] scheduler lock 획득 실패. lockName={}", lockName, e);
+            return;
+        }
+
+        try (SchedulerLock.Heartbeat heartbeat = schedulerLock.heartbeat(lockName)) {
+            failAbandonedExecution(job, jobParameters);
+            log.info("[BATCH] {} start. jobParameters={}", job.getName(), jobParameters);
+            JobExecution execution = jobOperator.start(job, jobParameters);
+
+            if (execution != null && execution.getStatus() == BatchStatus.COMPLETED) {
+                schedulerLock.complete(lockName);
+            } else {
+                schedulerLock.release(lockName);
+            }
         } catch (Exception e) {
-            log.error("[BATCH] dailyScheduleMailJob 실행 실패", e);
+            log.error("[BATCH] {} 실행 실패", job.getName(), e);
+            schedulerLock.release(lockName);
         }
     }
+
+    /**
+     * 락을 잡았는데 같은 jobParameters 의 실행이 아직 STARTED 로 남아 있다면,
+     * 이전 보유 노드가 죽어 heartbeat 가 끊긴 것이다. FAILED 로 닫아야 재시작할 수 있다.
+     */
+    private void failAbandonedExecution(Job job, JobParameters jobParameters) {
+        JobExecution last = jobRepository.getLastJobExecution(job.getName(), jobParameters);
+        if (last == null || !last.isRunning()) {
+            return;
+        }
+
+        log.warn("[BATCH] {} abandoned execution 을 FAILED 로 닫는다. jobExecutionId={}", job.getName(), last.getId());
+        last.setStatus(BatchStatus.FAILED);
+        last.setExitStatus(ExitStatus.FAILED.addExitDescription("scheduler lock lease expired"));
+        last.setEndTime(LocalDateTime.now());
+        jobRepository.update(last);
+    }
+
+    private static String today() {
+        return LocalDate.now(ZoneId.of(Constant.ZONE_ID)).toString();
+    }
 }
@@ -0,0 +1,59 @@
+package com.todolab.batch.scheduler;
+
+import com.todolab.Constant;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.warmup.HotDataWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 자정 전후로 새 날짜의 hot 데이터를 미리 데워 둔다.
+ *  - 23:55 : 다음 날 키로 조회해 쿼리 플랜 / JIT / 2차 캐시를 데운다.
+ *  - 00:00:05 : 범위 조회 캐시를 비우고 오늘 기준으로 다시 채운다.
+ *    (TaskResponse 의 D-Day 남은 일수가 날짜 기준이라 어제 적재한 결과는 쓸 수 없다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.batch.rollover.enabled",
+        havingValue = "true"
+)
+public class RolloverWarmupScheduler {
+
+    private final HotDataWarmer hotDataWarmer;
+    private final TaskRangeCache taskRangeCache;
+
+    @Scheduled(cron = "0 55 23 * * *", zone = Constant.ZONE_ID)
+    public void prewarmNextDay() {
+        try {
+            LocalDate nextDate = today().plusDays(1);
+            log.info("[BATCH] rollover prewarm start. baseDate={}", nextDate);
+            hotDataWarmer.warmUp(nextDate);
+        } catch (Exception e) {
+            log.error("[BATCH] rollover prewarm 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "5 0 0 * * *", zone = Constant.ZONE_ID)
+    public void rollover() {
+        try {
+            LocalDate today = today();
+            log.info("[BATCH] rollover start. baseDate={}", today);
+            taskRangeCache.invalidateAll();
+            hotDataWarmer.warmUp(today);
+        } catch (Exception e) {
+            log.error("[BATCH] rollover 실패", e);
+        }
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(ZoneId.of(Constant.ZONE_ID));
+    }
+}
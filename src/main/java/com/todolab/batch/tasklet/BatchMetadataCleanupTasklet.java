@@ -0,0 +1,105 @@
+package com.todolab.batch.tasklet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * retention 보다 오래된 Spring Batch 메타데이터를 batchSize 개의 JobExecution 단위로 삭제한다.
+ * CONTINUABLE 을 반환해 한 번의 execute 가 한 트랜잭션이 되므로, 삭제가 길어져도 락과 undo 가 batchSize 로 묶인다.
+ * 종료되지 않은 (END_TIME IS NULL) 실행은 건드리지 않는다.
+ */
+@Slf4j
+public class BatchMetadataCleanupTasklet implements Tasklet {
+
+    public static final String DELETED_JOB_EXECUTIONS = "deletedJobExecutions";
+    public static final String DELETED_STEP_EXECUTIONS = "deletedStepExecutions";
+    public static final String DELETED_JOB_INSTANCES = "deletedJobInstances";
+    public static final String DELETED_ROWS = "deletedRows";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String prefix;
+    private final Duration retention;
+    private final int batchSize;
+
+    public BatchMetadataCleanupTasklet(NamedParameterJdbcTemplate jdbcTemplate, String tablePrefix,
+                                       Duration retention, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefix = tablePrefix;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        List<Long> jobExecutionIds = jdbcTemplate.getJdbcTemplate().queryForList("""
+                SELECT JOB_EXECUTION_ID FROM %sJOB_EXECUTION
+                WHERE CREATE_TIME < ? AND END_TIME IS NOT NULL
+                ORDER BY JOB_EXECUTION_ID
+                """.formatted(prefix) + " LIMIT " + batchSize, Long.class, Timestamp.valueOf(cutoff));
+
+        if (jobExecutionIds.isEmpty()) {
+            return finish(context, cutoff);
+        }
+
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", jobExecutionIds);
+        List<Long> jobInstanceIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT JOB_INSTANCE_ID FROM %sJOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)".formatted(prefix),
+                ids, Long.class);
+
+        // FK 순서대로 자식 테이블부터 지운다.
+        int stepContexts = jdbcTemplate.update("""
+                DELETE FROM %1$sSTEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN (
+                    SELECT STEP_EXECUTION_ID FROM %1$sSTEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))
+                """.formatted(prefix), ids);
+        int stepExecutions = jdbcTemplate.update(
+                "DELETE FROM %sSTEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)".formatted(prefix), ids);
+        int jobContexts = jdbcTemplate.update(
+                "DELETE FROM %sJOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)".formatted(prefix), ids);
+        int jobParams = jdbcTemplate.update(
+                "DELETE FROM %sJOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)".formatted(prefix), ids);
+        int jobExecutions = jdbcTemplate.update(
+                "DELETE FROM %sJOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)".formatted(prefix), ids);
+
+        // 남은 실행이 없는 JobInstance 만 지운다.
+        int jobInstances = jdbcTemplate.update("""
+                DELETE FROM %1$sJOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:instanceIds)
+                AND NOT EXISTS (SELECT 1 FROM %1$sJOB_EXECUTION E WHERE E.JOB_INSTANCE_ID = %1$sJOB_INSTANCE.JOB_INSTANCE_ID)
+                """.formatted(prefix), new MapSqlParameterSource("instanceIds", jobInstanceIds));
+
+        int rows = stepContexts + stepExecutions + jobContexts + jobParams + jobExecutions + jobInstances;
+        increment(context, DELETED_JOB_EXECUTIONS, jobExecutions);
+        increment(context, DELETED_STEP_EXECUTIONS, stepExecutions);
+        increment(context, DELETED_JOB_INSTANCES, jobInstances);
+        increment(context, DELETED_ROWS, rows);
+        contribution.incrementWriteCount(jobExecutions);
+
+        log.info("[BATCH] batch metadata cleanup batch. jobExecutions={}, stepExecutions={}, jobInstances={}, rows={}",
+                jobExecutions, stepExecutions, jobInstances, rows);
+        return jobExecutionIds.size() < batchSize ? finish(context, cutoff) : RepeatStatus.CONTINUABLE;
+    }
+
+    private RepeatStatus finish(ExecutionContext context, LocalDateTime cutoff) {
+        log.info("[BATCH] batch metadata cleanup end. cutoff={}, jobExecutions={}, stepExecutions={}, jobInstances={}, rows={}",
+                cutoff, context.getLong(DELETED_JOB_EXECUTIONS, 0), context.getLong(DELETED_STEP_EXECUTIONS, 0),
+                context.getLong(DELETED_JOB_INSTANCES, 0), context.getLong(DELETED_ROWS, 0));
+        return RepeatStatus.FINISHED;
+    }
+
+    private void increment(ExecutionContext context, String key, long delta) {
+        context.putLong(key, context.getLong(key, 0) + delta);
+    }
+}
@@ -0,0 +1,145 @@
+package com.todolab.batch.tasklet;
+
+import com.todolab.batch.partition.StatDateRangePartitioner;
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.stats.domain.DailyTaskStatId;
+import com.todolab.stats.domain.TaskStatsSnapshot;
+import com.todolab.stats.repository.DailyTaskStatWriter;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파티션 하나의 STAT_DATE 구간 [fromDate, toDate] 를 TASK + TASK_ARCHIVE 에서 다시 집계해 DAILY_TASK_STATS 를 갈아 끼운다.
+ * 지우기와 다시 쓰기가 한 트랜잭션이라 몇 번을 다시 돌려도 결과가 같다.
+ *
+ * CARRIED_OVER 는 미룬 이력이 따로 남지 않으므로, 미룬 횟수 n 을 계획일 전날부터 n 일에 하루 한 번씩 나눠 넣는다.
+ * (하루씩 미뤘다고 보는 근사. 실시간 집계는 실제로 미룬 날에 더한다)
+ */
+@Slf4j
+public class DailyTaskStatsBackfillTasklet implements Tasklet {
+
+    public static final String STAT_ROWS = "statRows";
+    public static final String SCANNED_TASKS = "scannedTasks";
+
+    private static final String COLUMNS = """
+            ID, CATEGORY, STATUS, CREATED_AT, COMPLETED_AT, TARGET_DATE, START_AT, CARRY_OVER_COUNT, DEFER_REASON, DDAY_GOAL_ID""";
+
+    /*
+     * 한 구간에 기여하는 일정을 조건마다 따로 범위 조회해 UNION 으로 합친다. (OR 하나로 묶으면 인덱스를 못 타고 전체를 읽는다)
+     *  - CREATED      : CREATED_AT 이 구간 안
+     *  - COMPLETED    : 완료 시각이 구간 안 (IDX_TASK_STATUS_COMPLETED_AT / IDX_TASK_ARCHIVE_COMPLETED_AT)
+     *  - DEFERRED / CARRIED_OVER : 계획일이 [fromDate, toDate + 가장 많이 미룬 횟수] 안
+     * 여러 조건에 걸리는 일정은 UNION 이 ID 로 한 번만 남긴다.
+     */
+    private static final String SOURCE = """
+            SELECT %1$s FROM %2$s
+            WHERE CREATED_AT >= :fromAt AND CREATED_AT < :toAt
+            UNION
+            SELECT %1$s FROM %2$s
+            WHERE STATUS = 'DONE' AND COMPLETED_AT >= :fromAt AND COMPLETED_AT < :toAt
+            UNION
+            SELECT %1$s FROM %2$s
+            WHERE TARGET_DATE >= :fromDate AND TARGET_DATE <= :plannedTo
+              AND (DEFER_REASON IS NOT NULL OR CARRY_OVER_COUNT > 0)
+            UNION
+            SELECT %1$s FROM %2$s
+            WHERE TARGET_DATE IS NULL AND START_AT >= :fromAt AND START_AT < :plannedToAt
+              AND (DEFER_REASON IS NOT NULL OR CARRY_OVER_COUNT > 0)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DailyTaskStatWriter dailyTaskStatWriter;
+
+    public DailyTaskStatsBackfillTasklet(NamedParameterJdbcTemplate jdbcTemplate, DailyTaskStatWriter dailyTaskStatWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dailyTaskStatWriter = dailyTaskStatWriter;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        LocalDate fromDate = LocalDate.parse(context.getString(StatDateRangePartitioner.FROM_DATE));
+        LocalDate toDate = LocalDate.parse(context.getString(StatDateRangePartitioner.TO_DATE));
+        // 계획일이 toDate 보다 n 일 뒤여도, n 번 미뤘다면 CARRIED_OVER 가 이 구간에 들어온다.
+        LocalDate plannedTo = toDate.plusDays(context.getInt(StatDateRangePartitioner.MAX_CARRY_OVER, 0));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromAt", Timestamp.valueOf(fromDate.atStartOfDay()))
+                .addValue("toAt", Timestamp.valueOf(toDate.plusDays(1).atStartOfDay()))
+                .addValue("fromDate", Date.valueOf(fromDate))
+                .addValue("plannedTo", Date.valueOf(plannedTo))
+                .addValue("plannedToAt", Timestamp.valueOf(plannedTo.plusDays(1).atStartOfDay()));
+
+        Map<DailyTaskStatId, Long> counts = new HashMap<>();
+        long[] scanned = {0};
+        jdbcTemplate.query(SOURCE.formatted(COLUMNS, "TASK") + " UNION " + SOURCE.formatted(COLUMNS, "TASK_ARCHIVE"), params, rs -> {
+            scanned[0]++;
+            TaskStatsSnapshot snapshot = snapshot(rs);
+            snapshot.contributions().forEach((key, count) -> count(counts, key, count, fromDate, toDate));
+            if (snapshot.plannedDate() != null) {
+                for (int i = 1; i <= snapshot.carryOverCount(); i++) {
+                    count(counts, snapshot.key(snapshot.plannedDate().minusDays(i), DailyTaskMetric.CARRIED_OVER.name()), 1L, fromDate, toDate);
+                }
+            }
+        });
+
+        int rows = dailyTaskStatWriter.replace(fromDate, toDate, counts);
+
+        context.putLong(STAT_ROWS, rows);
+        context.putLong(SCANNED_TASKS, scanned[0]);
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(rows);
+
+        log.info("[BATCH] daily task stats backfill. fromDate={}, toDate={}, tasks={}, rows={}", fromDate, toDate, scanned[0], rows);
+        return RepeatStatus.FINISHED;
+    }
+
+    private static void count(Map<DailyTaskStatId, Long> counts, DailyTaskStatId key, long count, LocalDate fromDate, LocalDate toDate) {
+        if (!key.getStatDate().isBefore(fromDate) && !key.getStatDate().isAfter(toDate)) {
+            counts.merge(key, count, Long::sum);
+        }
+    }
+
+    private static TaskStatsSnapshot snapshot(ResultSet rs) throws SQLException {
+        Date targetDate = rs.getDate("TARGET_DATE");
+        Timestamp startAt = rs.getTimestamp("START_AT");
+        LocalDate plannedDate = targetDate != null
+                ? targetDate.toLocalDate()
+                : startAt == null ? null : startAt.toLocalDateTime().toLocalDate();
+
+        String deferReason = rs.getString("DEFER_REASON");
+        boolean ddayLinked = rs.getObject("DDAY_GOAL_ID") != null;
+
+        return TaskStatsSnapshot.of(
+                rs.getString("CATEGORY"),
+                toLocalDateTime(rs.getTimestamp("CREATED_AT")),
+                TaskStatus.valueOf(rs.getString("STATUS")),
+                toLocalDateTime(rs.getTimestamp("COMPLETED_AT")),
+                plannedDate,
+                rs.getInt("CARRY_OVER_COUNT"),
+                deferReason == null ? null : DeferReason.valueOf(deferReason),
+                ddayLinked
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,82 @@
+package com.todolab.batch.tasklet;
+
+import com.todolab.task.domain.TaskArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * baseDate 기준 retention 보다 오래 전에 완료된 (DONE) TASK 를 batchSize 건씩 TASK_ARCHIVE 로 옮긴다.
+ * CONTINUABLE 을 반환해 한 번의 execute 가 한 트랜잭션이 되므로, 복사와 삭제가 같은 batchSize 단위로 커밋된다.
+ * 옮길 행은 FOR UPDATE 로 잠가, 그 사이 완료 취소된 일정이 양쪽에 남지 않게 한다.
+ */
+@Slf4j
+public class TaskArchiveTasklet implements Tasklet {
+
+    public static final String ARCHIVED_TASKS = "archivedTasks";
+    public static final String CUTOFF = "cutoff";
+
+    private static final String COLUMNS = """
+            ID, TITLE, DESCRIPTION, TYPE, START_AT, END_AT, ALL_DAY, CATEGORY, STATUS, TARGET_DATE, TODAY_ORDER,
+            COMPLETED_AT, CARRY_OVER_COUNT, DEFER_REASON, DDAY_GOAL_ID, CREATED_AT, UPDATED_AT""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LocalDateTime cutoff;
+    private final int batchSize;
+
+    public TaskArchiveTasklet(NamedParameterJdbcTemplate jdbcTemplate, LocalDate baseDate, Duration retention, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cutoff = TaskArchive.cutoff(baseDate, retention);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        context.putString(CUTOFF, cutoff.toString());
+
+        List<Long> taskIds = jdbcTemplate.getJdbcTemplate().queryForList("""
+                SELECT ID FROM TASK
+                WHERE STATUS = 'DONE' AND COMPLETED_AT < ?
+                ORDER BY ID
+                """ + " LIMIT " + batchSize + " FOR UPDATE", Long.class, Timestamp.valueOf(cutoff));
+
+        if (taskIds.isEmpty()) {
+            return finish(context);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", taskIds)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        int copied = jdbcTemplate.update("""
+                INSERT INTO TASK_ARCHIVE (%1$s, ARCHIVED_AT)
+                SELECT %1$s, :archivedAt FROM TASK WHERE ID IN (:ids)
+                """.formatted(COLUMNS), params);
+        int deleted = jdbcTemplate.update("DELETE FROM TASK WHERE ID IN (:ids)", params);
+        if (copied != deleted) {
+            // 잠근 행만 옮기므로 일어나지 않아야 한다. 롤백해 어느 쪽도 잃지 않게 한다.
+            throw new IllegalStateException("Task archive mismatch. copied=" + copied + ", deleted=" + deleted);
+        }
+
+        context.putLong(ARCHIVED_TASKS, context.getLong(ARCHIVED_TASKS, 0) + deleted);
+        contribution.incrementWriteCount(deleted);
+
+        log.info("[BATCH] task archive batch. tasks={}, firstId={}, lastId={}", deleted, taskIds.getFirst(), taskIds.getLast());
+        return taskIds.size() < batchSize ? finish(context) : RepeatStatus.CONTINUABLE;
+    }
+
+    private RepeatStatus finish(ExecutionContext context) {
+        log.info("[BATCH] task archive end. cutoff={}, tasks={}", cutoff, context.getLong(ARCHIVED_TASKS, 0));
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -1,7 +1,8 @@
 package com.todolab.batch.writer;
 
 import com.todolab.batch.domain.ScheduleMailSectionContent;
-import com.todolab.mail.MailService;
+import com.todolab.mail.MailOutboxService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -11,19 +12,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 @Slf4j
 @Component
 @StepScope
+@Observed(name = "batch.writer")
 @RequiredArgsConstructor
 public class DailyScheduleMailWriter implements ItemWriter<ScheduleMailSectionContent> {
 
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
 
-    @Value("${app.mail.daily-summary.to}")
-    private String toEmail;
+    // MailRecipientPartitioner 가 파티션마다 담아 둔 수신자 목록 (콤마 구분)
+    @Value("#{stepExecutionContext['recipients']}")
+    private String recipients;
 
     @Value("#{jobParameters['baseDate']}")
     private String baseDateParam;
@@ -38,16 +42,17 @@ public class DailyScheduleMailWriter implements ItemWriter<ScheduleMailSectionCo
         }
 
         LocalDate baseDate = getBaseDate();
-        String recipient = getRecipientEmail();
+        List<String> recipientEmails = getRecipientEmails();
         String subject = "[ToDoLab] " + baseDate + " 일정 요약";
         String body = buildMailBody(baseDate, items);
 
-        log.info("[BATCH] try send mail. to={}, subject={}, sectionCount={}, bodyLength={}",
-                recipient, subject, items.size(), body.length());
+        // SMTP 발송은 MailOutboxDispatcher 가 chunk 트랜잭션 밖에서 처리한다.
+        for (String recipient : recipientEmails) {
+            log.info("[BATCH] enqueue mail. to={}, subject={}, sectionCount={}, bodyLength={}",
+                    recipient, subject, items.size(), body.length());
 
-        mailService.sendText(recipient, subject, body);
-
-        log.info("[BATCH] mail send completed. to={}", recipient);
+            mailOutboxService.enqueue(recipient, subject, body);
+        }
     }
 
     private LocalDate getBaseDate() {
@@ -57,11 +62,14 @@ public class DailyScheduleMailWriter implements ItemWriter<ScheduleMailSectionCo
         return LocalDate.parse(baseDateParam);
     }
 
-    private String getRecipientEmail() {
-        if (toEmail == null || toEmail.isBlank()) {
-            throw new IllegalStateException("Property 'app.mail.daily-summary.to' is missing.");
+    private List<String> getRecipientEmails() {
+        if (recipients == null || recipients.isBlank()) {
+            throw new IllegalStateException("StepExecutionContext 'recipients' is missing in writer.");
         }
-        return toEmail;
+        return Arrays.stream(recipients.split(","))
+                .map(String::trim)
+                .filter(recipient -> !recipient.isEmpty())
+                .toList();
     }
 
     private String buildMailBody(LocalDate baseDate, List<? extends ScheduleMailSectionContent> items) {
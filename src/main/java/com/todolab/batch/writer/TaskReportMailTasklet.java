@@ -0,0 +1,93 @@
+package com.todolab.batch.writer;
+
+import com.todolab.batch.domain.TaskReportAccumulator;
+import com.todolab.mail.MailOutboxService;
+import com.todolab.task.domain.DeferReason;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계가 끝난 리포트를 본문으로 렌더링해 메일 outbox 에 적재한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskReportMailTasklet implements Tasklet {
+
+    private final TaskReportAccumulator accumulator;
+    private final MailOutboxService mailOutboxService;
+    private final String recipients;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<String> recipientEmails = getRecipientEmails();
+        String subject = "[ToDoLab] " + accumulator.getPeriod().getTitle() + " 리포트 ("
+                + accumulator.getFrom() + " ~ " + accumulator.getToExclusive().minusDays(1) + ")";
+        String body = render();
+
+        for (String recipient : recipientEmails) {
+            log.info("[BATCH] enqueue report mail. to={}, subject={}, scanned={}, bodyLength={}",
+                    recipient, subject, accumulator.getScannedCount(), body.length());
+
+            mailOutboxService.enqueue(recipient, subject, body);
+        }
+        contribution.incrementWriteCount(recipientEmails.size());
+        return RepeatStatus.FINISHED;
+    }
+
+    String render() {
+        StringBuilder body = new StringBuilder();
+        body.append("안녕하세요. ToDoLab ").append(accumulator.getPeriod().getTitle()).append(" 리포트입니다.\n\n");
+        body.append("기간: ").append(accumulator.getFrom())
+                .append(" ~ ").append(accumulator.getToExclusive().minusDays(1)).append("\n\n");
+
+        body.append("[완료]\n");
+        body.append("- 계획 ").append(accumulator.getPlannedCount())
+                .append("건 중 ").append(accumulator.getPlannedDoneCount()).append("건 완료")
+                .append(" (").append(String.format("%.1f", accumulator.completionRate())).append("%)\n");
+        body.append("- 기간 내 완료 ").append(accumulator.getCompletedCount()).append("건\n");
+        appendCounts(body, accumulator.getCompletedByCategory());
+        body.append("\n");
+
+        body.append("[이월]\n");
+        body.append("- 이월된 할 일 ").append(accumulator.getCarriedOverCount())
+                .append("건 (총 ").append(accumulator.getCarryOverTotal()).append("회)\n");
+        body.append("- 장기 이월 ").append(accumulator.getStaleCarryOverCount()).append("건\n");
+        for (Map.Entry<DeferReason, Long> entry : accumulator.getDeferReasons().entrySet()) {
+            body.append("  · ").append(entry.getKey().getLabel()).append(": ").append(entry.getValue()).append("\n");
+        }
+        body.append("\n");
+
+        body.append("[D-Day]\n");
+        if (accumulator.getGoals().isEmpty()) {
+            body.append("- 없음\n");
+        }
+        accumulator.getGoals().values().forEach(goal -> body.append("- ").append(goal.getTitle())
+                .append(" (").append(goal.getTargetDate()).append(")")
+                .append(": 계획 ").append(goal.getPlanned())
+                .append("건, 완료 ").append(goal.getDone()).append("건\n"));
+
+        return body.toString();
+    }
+
+    private void appendCounts(StringBuilder body, Map<String, Long> counts) {
+        counts.forEach((key, count) -> body.append("  · ").append(key).append(": ").append(count).append("\n"));
+    }
+
+    private List<String> getRecipientEmails() {
+        if (recipients == null || recipients.isBlank()) {
+            throw new IllegalStateException("Property 'app.mail.report.to' is missing.");
+        }
+        return Arrays.stream(recipients.split(","))
+                .map(String::trim)
+                .filter(recipient -> !recipient.isEmpty())
+                .toList();
+    }
+}
@@ -1,11 +1,16 @@
 package com.todolab.common.api;
 
+import com.todolab.common.bulkhead.DbBulkheadRejectedException;
+import com.todolab.common.deadline.DeadlineExceededException;
 import com.todolab.dday.exception.DdayGoalNotFoundException;
 import com.todolab.task.exception.TaskValidationException;
 import com.todolab.task.exception.TaskNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,6 +18,7 @@ import org.springframework.web.bind.MissingPathVariableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
@@ -37,6 +43,15 @@ public class ApiExceptionHandler {
         return ResponseEntity.badRequest().body(ApiResponse.failure(ErrorCode.INVALID_INPUT));
     }
 
+    /**
+     * @RequestParam / @PathVariable 의 제약 (@Min 등) 위반
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse<?>> handleHandlerMethodValidationException(HandlerMethodValidationException e) {
+        log.error("Parameter Validation Failed : {}", e.getMessage());
+        return ResponseEntity.badRequest().body(ApiResponse.failure(ErrorCode.INVALID_INPUT));
+    }
+
     /**
      * PathVariable / RequestParam 타입 미스매치
      */
@@ -97,8 +112,39 @@ public class ApiExceptionHandler {
                 .body(ApiResponse.failure(ErrorCode.RESOURCE_NOT_FOUND));
     }
 
+    /**
+     * DB bulkhead 거절
+     * - 트랜잭션 시작 시 커넥션을 못 얻으면 CannotCreateTransactionException 으로 감싸여 온다.
+     */
+    @ExceptionHandler({DbBulkheadRejectedException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ApiResponse<?>> handleDbBulkheadRejectedException(Exception e) {
+        DbBulkheadRejectedException rejected = findCause(e, DbBulkheadRejectedException.class);
+        if (rejected == null) {
+            return handleException(e);
+        }
+        log.warn("DB Bulkhead Rejected : {}", rejected.getMessage());
+        return ResponseEntity.status(ErrorCode.SERVER_BUSY.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.failure(ErrorCode.SERVER_BUSY));
+    }
+
+    /**
+     * 요청 deadline 초과
+     * - 쿼리 전 / 단계 사이 확인은 DeadlineExceededException, 실행 중 JDBC query timeout 은 QueryTimeoutException 으로 온다.
+     */
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ApiResponse<?>> handleDeadlineExceededException(Exception e) {
+        log.warn("Request Deadline Exceeded : {}", e.getMessage());
+        return ResponseEntity.status(ErrorCode.REQUEST_TIMEOUT.getStatus())
+                .body(ApiResponse.failure(ErrorCode.REQUEST_TIMEOUT));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleException(Exception e) {
+        // 트랜잭션 / 프록시 예외로 한 번 더 감싸여 온 deadline 초과
+        if (findCause(e, DeadlineExceededException.class) != null || findCause(e, QueryTimeoutException.class) != null) {
+            return handleDeadlineExceededException(e);
+        }
         log.error("Unhandled Exception", e);
         return ResponseEntity.internalServerError().body(ApiResponse.failure(ErrorCode.INTERNAL_ERROR));
     }
@@ -116,4 +162,13 @@ public class ApiExceptionHandler {
         }
         return null;
     }
+
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+        }
+        return null;
+    }
 }
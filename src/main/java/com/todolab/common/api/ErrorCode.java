@@ -19,6 +19,11 @@ public enum ErrorCode {
     // D-Day
     DDAY_GOAL_NOT_FOUND(HttpStatus.NOT_FOUND, 30001, "D-Day 목표를 찾을 수 없습니다."),
 
+    // 과부하
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 90001, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 90002, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    REQUEST_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, 90003, "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요."),
+
     // 서버 내부 오류
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 99999, "서버 오류가 발생했습니다.");
 
@@ -0,0 +1,83 @@
+package com.todolab.common.bulkhead;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 얻기 전에 DbBulkhead permit 을 받고, 커넥션을 닫을 때 돌려준다.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Supplier<DbBulkhead> bulkhead;
+
+    public BulkheadDataSource(DataSource targetDataSource, Supplier<DbBulkhead> bulkhead) {
+        super(targetDataSource);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DbBulkhead.Permit permit = bulkhead.get().acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DbBulkhead.Permit permit = bulkhead.get().acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    // 컨테이너 종료 시 destroy 메서드 추론이 이 빈을 보므로, 감싼 DataSource 를 대신 닫아 준다.
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection guard(Connection target, DbBulkhead.Permit permit) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(BulkheadDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permit.release();
+                                }
+                            }
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+}
@@ -0,0 +1,13 @@
+package com.todolab.common.bulkhead;
+
+/**
+ * DB 동시 사용 예산을 나누는 단위.
+ *  - API : /api/** 요청
+ *  - PAGE : 그 밖의 웹 요청 (Thymeleaf 페이지 / fragment)
+ *  - BATCH : 요청 밖의 스레드 (배치, 스케줄러, 메일 outbox, warm-up)
+ */
+public enum BulkheadLane {
+    API,
+    PAGE,
+    BATCH
+}
@@ -0,0 +1,53 @@
+package com.todolab.common.bulkhead;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * 현재 스레드가 어느 예산으로 커넥션을 얻는지. 요청 스레드는 BulkheadLaneFilter 가 정하고, 그 밖은 BATCH 다.
+ * lane 과 지금 쥔 permit 은 TracingExecutors / ContextPropagatingTaskDecorator 로 넘긴 작업에도 전달된다.
+ * (커넥션을 쥔 채 fork 한 작업이 같은 lane 의 새 permit 을 기다리다 부모와 서로 막히지 않게, 부모 permit 을 나눠 쓴다)
+ */
+public final class BulkheadLaneContext {
+
+    public static final String LANE_CONTEXT_KEY = "todolab.db.bulkhead.lane";
+    public static final String PERMIT_CONTEXT_KEY = "todolab.db.bulkhead.permit";
+
+    private static final ThreadLocal<BulkheadLane> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<DbBulkhead.Permit> HELD = new ThreadLocal<>();
+
+    static {
+        ContextRegistry registry = ContextRegistry.getInstance();
+        registry.registerThreadLocalAccessor(LANE_CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+        registry.registerThreadLocalAccessor(PERMIT_CONTEXT_KEY, HELD::get, HELD::set, HELD::remove);
+    }
+
+    private BulkheadLaneContext() {
+    }
+
+    public static BulkheadLane current() {
+        BulkheadLane lane = CURRENT.get();
+        return lane == null ? BulkheadLane.BATCH : lane;
+    }
+
+    static void enter(BulkheadLane lane) {
+        CURRENT.set(lane);
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+
+    static DbBulkhead.Permit held() {
+        return HELD.get();
+    }
+
+    static void hold(DbBulkhead.Permit permit) {
+        HELD.set(permit);
+    }
+
+    static void unhold(DbBulkhead.Permit permit) {
+        if (HELD.get() == permit) {
+            HELD.remove();
+        }
+    }
+}
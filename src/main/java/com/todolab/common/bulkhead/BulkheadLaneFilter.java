@@ -0,0 +1,31 @@
+package com.todolab.common.bulkhead;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 경로로 DB 예산을 고른다. /api/** 는 API, 나머지는 PAGE.
+ */
+public class BulkheadLaneFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BulkheadLaneContext.enter(lane(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BulkheadLaneContext.exit();
+        }
+    }
+
+    static BulkheadLane lane(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/api/") ? BulkheadLane.API : BulkheadLane.PAGE;
+    }
+}
@@ -0,0 +1,167 @@
+package com.todolab.common.bulkhead;
+
+import com.todolab.common.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * lane 별 Semaphore 로 DB 커넥션을 동시에 쥘 수 있는 수를 제한한다.
+ * 가상 스레드로 요청을 무제한 받더라도 Hikari 대기열에 줄을 세우지 않고, max-wait 안에 permit 이 나지 않으면 바로 거절한다.
+ *  - db.bulkhead.active / db.bulkhead.waiting : lane 별 사용 중 / 대기 중 수
+ *  - db.bulkhead.wait : permit 을 얻기까지 기다린 시간
+ *  - db.bulkhead.rejected : 거절 수
+ * 같은 스레드가 커넥션을 쥔 채 또 얻으면 (REQUIRES_NEW 등) permit 을 더 받지 않는다. 자기 자신을 기다리며 막히지 않게 하기 위해서다.
+ * 커넥션을 쥔 채 가상 스레드로 fork 한 작업도 마찬가지로 부모 permit 을 나눠 쓴다. (BulkheadLaneContext 가 permit 을 넘긴다)
+ * 이 경우 실제 커넥션은 permits 보다 많아지므로, 커넥션 (트랜잭션) 을 쥔 채 DB 작업을 fork 하지 않는다.
+ */
+@Slf4j
+public class DbBulkhead {
+
+    private final Map<BulkheadLane, Lane> lanes = new EnumMap<>(BulkheadLane.class);
+
+    public DbBulkhead(MeterRegistry meterRegistry, Map<BulkheadLane, Budget> budgets) {
+        for (BulkheadLane lane : BulkheadLane.values()) {
+            Budget budget = budgets.get(lane);
+            if (budget == null) {
+                throw new IllegalArgumentException("DB bulkhead budget 이 없습니다. lane=" + lane);
+            }
+            lanes.put(lane, new Lane(lane, budget, meterRegistry));
+        }
+    }
+
+    public Permit acquire() {
+        Permit current = BulkheadLaneContext.held();
+        if (current != null && current.owner() == this && current.retain()) {
+            return current;
+        }
+
+        Lane lane = lanes.get(BulkheadLaneContext.current());
+        lane.acquire();
+        Permit permit = new Permit(lane);
+        BulkheadLaneContext.hold(permit);
+        return permit;
+    }
+
+    public int available(BulkheadLane lane) {
+        return lanes.get(lane).semaphore.availablePermits();
+    }
+
+    public int waiting(BulkheadLane lane) {
+        return lanes.get(lane).waiting.get();
+    }
+
+    public record Budget(int permits, Duration maxWait) {
+
+        public Budget {
+            if (permits <= 0) {
+                throw new IllegalArgumentException("permits 는 1 이상이어야 합니다. permits=" + permits);
+            }
+        }
+    }
+
+    /**
+     * 커넥션 하나에 묶인 permit. 같은 스레드 (와 그 스레드가 fork 한 작업) 의 중첩 커넥션이 모두 닫혀야 반납된다.
+     */
+    public final class Permit {
+
+        private final Lane lane;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Permit(Lane lane) {
+            this.lane = lane;
+        }
+
+        private DbBulkhead owner() {
+            return DbBulkhead.this;
+        }
+
+        // 다른 스레드에서 이미 반납된 permit 이면 false
+        private boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        public void release() {
+            if (references.decrementAndGet() == 0) {
+                BulkheadLaneContext.unhold(this);
+                lane.semaphore.release();
+            }
+        }
+    }
+
+    private static final class Lane {
+
+        private final BulkheadLane name;
+        private final Semaphore semaphore;
+        private final Duration maxWait;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        private Lane(BulkheadLane name, Budget budget, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.semaphore = new Semaphore(budget.permits(), true);
+            this.maxWait = budget.maxWait();
+
+            String tag = name.name().toLowerCase();
+            this.waitTimer = Timer.builder("db.bulkhead.wait").tag("lane", tag).register(meterRegistry);
+            this.rejected = Counter.builder("db.bulkhead.rejected").tag("lane", tag).register(meterRegistry);
+            Gauge.builder("db.bulkhead.waiting", waiting, AtomicInteger::get).tag("lane", tag).register(meterRegistry);
+            Gauge.builder("db.bulkhead.active", semaphore, s -> budget.permits() - s.availablePermits())
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        private void acquire() {
+            if (semaphore.tryAcquire()) {
+                waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            long start = System.nanoTime();
+            waiting.incrementAndGet();
+            boolean acquired;
+            try {
+                acquired = semaphore.tryAcquire(waitNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+
+            long waited = System.nanoTime() - start;
+            waitTimer.record(waited, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+                log.warn("[SQL] db bulkhead rejected :: lane={}, waitedMs={}", name, waited / 1_000_000);
+                throw new DbBulkheadRejectedException(name, waited / 1_000_000);
+            }
+        }
+
+        // 요청 deadline 이 maxWait 보다 먼저 오면 그때까지만 기다린다.
+        private long waitNanos() {
+            Duration remaining = RequestDeadline.remaining();
+            if (remaining == null) {
+                return maxWait.toNanos();
+            }
+            return Math.max(0, Math.min(maxWait.toNanos(), remaining.toNanos()));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.todolab.common.bulkhead;
+
+import lombok.Getter;
+
+/**
+ * 예산 (permits) 이 max-wait 안에 나지 않아 커넥션 요청을 거절했다.
+ */
+@Getter
+public class DbBulkheadRejectedException extends RuntimeException {
+
+    private final BulkheadLane lane;
+
+    public DbBulkheadRejectedException(BulkheadLane lane, long waitedMs) {
+        super("DB bulkhead rejected. lane=" + lane + ", waitedMs=" + waitedMs);
+        this.lane = lane;
+    }
+}
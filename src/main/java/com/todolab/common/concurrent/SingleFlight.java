@@ -0,0 +1,147 @@
+package com.todolab.common.concurrent;
+
+import com.todolab.common.bulkhead.DbBulkheadRejectedException;
+import com.todolab.common.deadline.DeadlineExceededException;
+import com.todolab.common.deadline.RequestDeadline;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나의 실행으로 합친다.
+ *  - 먼저 들어온 호출(leader)이 자기 스레드에서 loader 를 실행한다.
+ *  - 실행 중에 들어온 같은 키의 호출(follower)은 DB 에 가지 않고 leader 의 결과를 기다린다.
+ *  - 실행이 끝나면 키를 비우므로 결과를 보관하지 않는다. (캐시가 아님)
+ *  - follower 는 자기 요청 deadline 까지만 기다린다. (leader 의 deadline 이 더 길 수 있다)
+ *  - leader 가 자기 deadline / bulkhead 대기 때문에 실패하면 (클라이언트가 X-Request-Timeout 으로 줄일 수 있다)
+ *    그 실패를 follower 에게 넘기지 않고, follower 가 자기 deadline 으로 다시 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+
+        while (true) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                return lead(key, mine, loader);
+            }
+
+            coalesced.increment();
+            try {
+                return await(running);
+            } catch (LeaderAbandonedException e) {
+                // leader 만의 사정으로 실패했다. 다시 줄을 서서 직접 실행하거나 새 leader 를 기다린다.
+                retried.increment();
+            }
+        }
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    public long retried() {
+        return retried.sum();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(leaderLocal(e) ? LeaderAbandonedException.INSTANCE : e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // leader 의 deadline 이나 lane 대기 한도 때문에 난 실패인지. follower 는 deadline 도 lane 도 다를 수 있다.
+    static boolean leaderLocal(Throwable failure) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining != null && !remaining.isPositive()) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeadlineExceededException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof DbBulkheadRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private V await(CompletableFuture<V> running) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null) {
+            return join(running);
+        }
+        try {
+            return running.get(Math.max(0, remaining.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("single-flight", 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for in-flight load", e);
+        } catch (ExecutionException e) {
+            throw unwrap(new CompletionException(e.getCause()));
+        }
+    }
+
+    private V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    // leader 에서 발생한 예외를 그대로 전달한다.
+    private static RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    // follower 에게 "직접 다시 실행하라" 고 알리는 표시. 밖으로 나가지 않는다.
+    private static final class LeaderAbandonedException extends RuntimeException {
+
+        private static final LeaderAbandonedException INSTANCE = new LeaderAbandonedException();
+
+        private LeaderAbandonedException() {
+            super("single-flight leader abandoned", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.todolab.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 이름별 SingleFlight 모음.
+ * 서비스는 이름(예: "task.range")과 키만 넘기고, 합쳐진 호출 수는 이름 단위로 집계한다.
+ *  - single.flight.calls / single.flight.coalesced / single.flight.retried : 전체 / leader 를 기다린 / leader 실패로 다시 실행한 호출 수 (name)
+ *  - single.flight.active : 실행 중인 키 수 (name)
+ */
+@Component
+public class SingleFlightRegistry {
+
+    private final ConcurrentMap<String, SingleFlight<Object, Object>> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> loader) {
+        SingleFlight<Object, Object> flight = flights.computeIfAbsent(name, this::register);
+        return (V) flight.execute(key, (Supplier<Object>) loader);
+    }
+
+    public Map<String, SingleFlight<Object, Object>> flights() {
+        return new TreeMap<>(flights);
+    }
+
+    private SingleFlight<Object, Object> register(String name) {
+        SingleFlight<Object, Object> flight = new SingleFlight<>();
+        FunctionCounter.builder("single.flight.calls", flight, SingleFlight::calls).tag("name", name).register(meterRegistry);
+        FunctionCounter.builder("single.flight.coalesced", flight, SingleFlight::coalesced).tag("name", name).register(meterRegistry);
+        FunctionCounter.builder("single.flight.retried", flight, SingleFlight::retried).tag("name", name).register(meterRegistry);
+        Gauge.builder("single.flight.active", flight, SingleFlight::inFlight).tag("name", name).register(meterRegistry);
+        return flight;
+    }
+}
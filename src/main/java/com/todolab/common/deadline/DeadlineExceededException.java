@@ -0,0 +1,17 @@
+package com.todolab.common.deadline;
+
+import lombok.Getter;
+
+/**
+ * 요청 deadline 이 지나 작업을 더 진행하지 않는다.
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String operation;
+
+    public DeadlineExceededException(String operation, long overrunMs) {
+        super("Request deadline exceeded. operation=" + operation + ", overrunMs=" + overrunMs);
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,93 @@
+package com.todolab.common.deadline;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드 작업의 deadline (System.nanoTime 기준 절대 시각).
+ *  - 웹 요청은 RequestDeadlineFilter 가, 배치 / 메일 발송은 callWithin / runWithin 으로 정한다.
+ *  - 안쪽에서 다시 정하면 더 이른 쪽이 남는다. (바깥 deadline 을 늘리지 않는다)
+ *  - TracingExecutors / ContextPropagatingTaskDecorator 로 넘긴 작업에도 전달된다. (ContextRegistry 에 ThreadLocalAccessor 로 등록)
+ * deadline 이 없으면 모든 메서드가 아무 제한도 두지 않는다.
+ */
+public final class RequestDeadline {
+
+    public static final String CONTEXT_KEY = "todolab.request.deadline";
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private RequestDeadline() {
+    }
+
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    // deadline 이 없으면 null
+    public static Duration remaining() {
+        Long deadline = CURRENT.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+    }
+
+    public static void check(String operation) {
+        Duration remaining = remaining();
+        if (remaining != null && !remaining.isPositive()) {
+            throw new DeadlineExceededException(operation, -remaining.toMillis());
+        }
+    }
+
+    /**
+     * JDBC query timeout (초) 로 쓸 남은 시간. deadline 이 없으면 null.
+     * JDBC 는 초 단위라 올림하고 최소 1초다. (ms 힌트는 Hibernate 가 반올림해 1초 미만이면 0 = 무제한이 된다)
+     * 이미 지났으면 커넥션을 잡기 전에 DeadlineExceededException 을 던진다.
+     */
+    public static Integer queryTimeoutSeconds(String operation) {
+        Duration remaining = remaining();
+        if (remaining == null) {
+            return null;
+        }
+        if (!remaining.isPositive()) {
+            throw new DeadlineExceededException(operation, -remaining.toMillis());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(remaining.toMillis(), 1000L));
+    }
+
+    public static <T> T callWithin(Duration budget, Supplier<T> work) {
+        Long previous = enter(budget);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runWithin(Duration budget, Runnable work) {
+        Long previous = enter(budget);
+        try {
+            work.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Long enter(Duration budget) {
+        Long previous = CURRENT.get();
+        long deadline = System.nanoTime() + budget.toNanos();
+        CURRENT.set(previous == null ? deadline : Math.min(previous, deadline));
+        return previous;
+    }
+
+    static void restore(Long previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.todolab.common.deadline;
+
+import com.todolab.common.web.EndpointMatcher;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청마다 deadline 을 정한다.
+ *  - X-Request-Timeout 헤더 (ms) 가 있으면 그 값, 없으면 endpoint 기본값 규칙 중 처음 맞는 것
+ *  - 어느 쪽이든 max 를 넘지 않는다. 둘 다 없으면 deadline 없이 처리한다.
+ */
+@Slf4j
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final List<RequestDeadlineRule> rules;
+    private final Duration max;
+
+    public RequestDeadlineFilter(List<RequestDeadlineRule> rules, Duration max) {
+        this.rules = List.copyOf(rules);
+        this.max = max;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration timeout = timeout(request);
+        if (timeout == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Long previous = RequestDeadline.enter(timeout);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.restore(previous);
+        }
+    }
+
+    Duration timeout(HttpServletRequest request) {
+        Duration timeout = fromHeader(request);
+        if (timeout == null) {
+            PathContainer path = EndpointMatcher.path(request);
+            timeout = rules.stream()
+                    .filter(rule -> rule.endpoint().matches(request, path))
+                    .map(RequestDeadlineRule::timeout)
+                    .findFirst()
+                    .orElse(null);
+        }
+        return timeout == null || timeout.compareTo(max) <= 0 ? timeout : max;
+    }
+
+    private Duration fromHeader(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            return millis > 0 ? Duration.ofMillis(millis) : null;
+        } catch (NumberFormatException e) {
+            log.debug("[API] invalid {} header :: {}", TIMEOUT_HEADER, header);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.todolab.common.deadline;
+
+import com.todolab.common.web.EndpointMatcher;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * endpoint 별 기본 deadline. "METHOD /path/pattern[?param=value]:duration" 형식이다.
+ *   GET /api/tasks?type=month:3s
+ *   * /api/**:2s
+ */
+public record RequestDeadlineRule(EndpointMatcher endpoint, Duration timeout) {
+
+    public static RequestDeadlineRule parse(String rule) {
+        int colon = rule.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("deadline 형식은 'METHOD /path[?param=value]:duration' 입니다. rule=" + rule);
+        }
+        return new RequestDeadlineRule(
+                EndpointMatcher.parse(rule.substring(0, colon)),
+                DurationStyle.detectAndParse(rule.substring(colon + 1).trim())
+        );
+    }
+}
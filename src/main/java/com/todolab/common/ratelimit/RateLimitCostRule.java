@@ -0,0 +1,24 @@
+package com.todolab.common.ratelimit;
+
+import com.todolab.common.web.EndpointMatcher;
+
+/**
+ * endpoint 별 토큰 비용. "METHOD /path/pattern[?param=value]:cost" 형식이다.
+ *   GET /api/tasks?type=month:5  -> 월간 조회는 토큰 5개
+ *   * /api/admin/**:5
+ */
+public record RateLimitCostRule(EndpointMatcher endpoint, int cost) {
+
+    public static RateLimitCostRule parse(String rule) {
+        int colon = rule.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("rate limit 비용 형식은 'METHOD /path[?param=value]:cost' 입니다. rule=" + rule);
+        }
+
+        int cost = Integer.parseInt(rule.substring(colon + 1).trim());
+        if (cost < 0) {
+            throw new IllegalArgumentException("rate limit 비용은 0 이상이어야 합니다. rule=" + rule);
+        }
+        return new RateLimitCostRule(EndpointMatcher.parse(rule.substring(0, colon)), cost);
+    }
+}
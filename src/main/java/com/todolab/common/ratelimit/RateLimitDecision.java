@@ -0,0 +1,35 @@
+package com.todolab.common.ratelimit;
+
+/**
+ * 토큰 소비 결과.
+ *  - resetNanos : 버킷이 다시 가득 찰 때까지 남은 시간
+ *  - retryAfterNanos : 거절된 경우 같은 비용으로 다시 시도할 수 있을 때까지 남은 시간
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        int limit,
+        int remaining,
+        long resetNanos,
+        long retryAfterNanos
+) {
+
+    static RateLimitDecision allowed(int limit, int remaining, long resetNanos) {
+        return new RateLimitDecision(true, limit, remaining, resetNanos, 0);
+    }
+
+    static RateLimitDecision rejected(int limit, int remaining, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, remaining, resetNanos, retryAfterNanos);
+    }
+
+    public long resetSeconds() {
+        return ceilSeconds(resetNanos);
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, ceilSeconds(retryAfterNanos));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,68 @@
+package com.todolab.common.ratelimit;
+
+import com.todolab.common.api.ApiResponse;
+import com.todolab.common.api.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * /api/** 요청마다 클라이언트 버킷에서 endpoint 비용만큼 토큰을 꺼낸다.
+ *  - 응답 헤더 : RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset (IETF RateLimit header fields)
+ *  - 모자라면 429 + Retry-After + ApiResponse (TOO_MANY_REQUESTS)
+ * CORS preflight (OPTIONS) 는 세지 않는다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT = "RateLimit-Limit";
+    public static final String REMAINING = "RateLimit-Remaining";
+    public static final String RESET = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = request.getRemoteAddr();
+        int cost = rateLimiter.cost(request);
+        RateLimitDecision decision = rateLimiter.tryConsume(client, cost);
+
+        response.setHeader(LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(RESET, String.valueOf(decision.resetSeconds()));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("[API] rate limited :: client={}, {} {}, cost={}, retryAfter={}s",
+                client, request.getMethod(), request.getRequestURI(), cost, decision.retryAfterSeconds());
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.failure(ErrorCode.TOO_MANY_REQUESTS));
+    }
+}
@@ -0,0 +1,78 @@
+package com.todolab.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todolab.common.web.EndpointMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 클라이언트 키 (지금은 IP) 별 토큰 버킷.
+ *  - capacity 만큼 몰아서 쓸 수 있고, 초당 refill-per-second 개씩 다시 찬다.
+ *  - 버킷은 Caffeine 에 두고 idle-timeout 동안 요청이 없으면 버린다. (그만큼 지났으면 어차피 가득 찬 버킷이다)
+ *  - 요청 비용은 cost 규칙 중 처음 맞는 것, 없으면 1
+ */
+public class RateLimiter {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final List<RateLimitCostRule> costRules;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejected;
+
+    public RateLimiter(
+            MeterRegistry meterRegistry,
+            int capacity,
+            double refillPerSecond,
+            Duration idleTimeout,
+            long maxClients,
+            List<RateLimitCostRule> costRules
+    ) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity / refill-per-second 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.costRules = List.copyOf(costRules);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxClients)
+                .build();
+
+        this.rejected = Counter.builder("http.server.requests.rate.limited")
+                .description("토큰이 모자라 429 로 거절한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public RateLimitDecision tryConsume(String clientKey, int cost) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey, key -> new TokenBucket(capacity, intervalNanos, now));
+        RateLimitDecision decision = bucket.tryConsume(cost, now);
+        if (!decision.allowed()) {
+            rejected.increment();
+        }
+        return decision;
+    }
+
+    public int cost(HttpServletRequest request) {
+        PathContainer path = EndpointMatcher.path(request);
+        for (RateLimitCostRule rule : costRules) {
+            if (rule.endpoint().matches(request, path)) {
+                return rule.cost();
+            }
+        }
+        return 1;
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,45 @@
+package com.todolab.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트 하나의 토큰 버킷. 토큰 수 대신 "버킷이 다시 가득 차는 시각" (GCRA 의 TAT) 하나만 AtomicLong 에 두고 CAS 로 갱신한다.
+ *  - 토큰 1개 = interval (1 / refill-per-second) 만큼의 시간
+ *  - 남은 토큰 = (capacity * interval - (fullAt - now)) / interval
+ * 잠금 없이 토큰 수와 마지막 충전 시각을 함께 바꾸는 것과 같은 효과다.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long intervalNanos, long now) {
+        this.capacity = capacity;
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = capacity * intervalNanos;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    RateLimitDecision tryConsume(int cost, long now) {
+        long costNanos = Math.min(cost, capacity) * intervalNanos;
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, now);
+            long next = base + costNanos;
+            long allowedAt = next - burstNanos;
+
+            if (allowedAt > now) {
+                return RateLimitDecision.rejected(capacity, remaining(base, now), base - now, allowedAt - now);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(capacity, remaining(next, now), next - now);
+            }
+        }
+    }
+
+    private int remaining(long full, long now) {
+        return (int) Math.max(0, (burstNanos - (full - now)) / intervalNanos);
+    }
+}
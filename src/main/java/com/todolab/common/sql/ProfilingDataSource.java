@@ -0,0 +1,324 @@
+package com.todolab.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Connection / Statement / ResultSet 을 JDK 프록시로 감싸 SQL 마다 실행 시간, 행 수, bind 파라미터를 QueryProfiler 에 넘긴다.
+ *  - 실행 시간 : execute* 호출 시간
+ *  - 행 수 : SELECT 는 ResultSet.next() 로 읽은 행 수 (ResultSet / Statement close 시 기록), DML 은 update count
+ *  - 태그 : 실행 시점의 RepositoryMethodContext
+ *  - bind 파라미터 : 느린 SQL 에만 남긴다. 값은 BindValues 에 따라 버리거나 (NONE) 타입 / 길이만 (MASKED) 남긴다.
+ */
+public class ProfilingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    /**
+     * 느린 SQL 에 남길 bind 파라미터.
+     *  - NONE : 남기지 않는다. (set* 호출도 따라가지 않는다)
+     *  - MASKED : 타입과 길이만 ("String(12)")
+     *  - RAW : 값 그대로 (100자까지). 일정 제목 / 메일 본문이 admin API 로 보이므로 로컬 개발에서만 쓴다.
+     */
+    public enum BindValues {
+        NONE,
+        MASKED,
+        RAW
+    }
+
+    private final Supplier<QueryProfiler> profiler;
+    private final BindValues bindValues;
+
+    public ProfilingDataSource(DataSource targetDataSource, Supplier<QueryProfiler> profiler, BindValues bindValues) {
+        super(targetDataSource);
+        this.profiler = profiler;
+        this.bindValues = bindValues;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    // 컨테이너 종료 시 destroy 메서드 추론이 이 빈을 보므로, 원래 풀 (Hikari) 을 대신 닫아 준다.
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // equals / hashCode 는 프록시 자신을 기준으로 한다. (트랜잭션 동기화가 같은 Connection 인지 비교한다)
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, (Connection) proxy, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler((Statement) result, (Connection) proxy, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler((Statement) result, (Connection) proxy, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private Execution pending;
+
+        private StatementHandler(Statement target, Connection connection, String sql) {
+            this.target = target;
+            this.connection = connection;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            String name = method.getName();
+            if (bindValues != BindValues.NONE && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+                return ProfilingDataSource.invoke(target, method, args);
+            }
+
+            return switch (name) {
+                case "getConnection" -> connection;
+                case "clearParameters" -> {
+                    parameters.clear();
+                    yield ProfilingDataSource.invoke(target, method, args);
+                }
+                case "executeQuery" -> {
+                    Execution execution = start(args);
+                    ResultSet resultSet = (ResultSet) ProfilingDataSource.invoke(target, method, args);
+                    execution.executed();
+                    yield wrap(resultSet, execution);
+                }
+                case "execute" -> {
+                    Execution execution = start(args);
+                    boolean hasResultSet = (boolean) ProfilingDataSource.invoke(target, method, args);
+                    execution.executed();
+                    if (hasResultSet) {
+                        pending = execution;
+                    } else {
+                        execution.finish(Math.max(0, target.getUpdateCount()));
+                    }
+                    yield hasResultSet;
+                }
+                case "getResultSet" -> {
+                    ResultSet resultSet = (ResultSet) ProfilingDataSource.invoke(target, method, args);
+                    Execution execution = pending;
+                    pending = null;
+                    yield execution == null ? resultSet : wrap(resultSet, execution);
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    Execution execution = start(args);
+                    Object result = ProfilingDataSource.invoke(target, method, args);
+                    execution.executed();
+                    execution.finish(((Number) result).longValue());
+                    yield result;
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    Execution execution = start(args);
+                    Object result = ProfilingDataSource.invoke(target, method, args);
+                    execution.executed();
+                    execution.finish(sum(result));
+                    yield result;
+                }
+                case "close" -> {
+                    if (pending != null) {
+                        pending.finish(0);
+                        pending = null;
+                    }
+                    yield ProfilingDataSource.invoke(target, method, args);
+                }
+                default -> ProfilingDataSource.invoke(target, method, args);
+            };
+        }
+
+        private Execution start(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                sql = statementSql;
+            }
+            return new Execution(RepositoryMethodContext.current(), sql, parameters);
+        }
+
+        private ResultSet wrap(ResultSet resultSet, Execution execution) {
+            if (resultSet == null) {
+                execution.finish(0);
+                return null;
+            }
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet, execution));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Execution execution;
+        private long rows;
+
+        private ResultSetHandler(ResultSet target, Execution execution) {
+            this.target = target;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((boolean) result) {
+                        rows++;
+                    }
+                }
+                case "close" -> execution.finish(rows);
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+
+    private final class Execution {
+
+        private final String method;
+        private final String sql;
+        private final Map<Integer, Object> boundParameters;
+        private final long startedAt = System.nanoTime();
+        private List<String> parameters = List.of();
+        private long elapsedNanos;
+        private boolean finished;
+
+        private Execution(String method, String sql, Map<Integer, Object> boundParameters) {
+            this.method = method;
+            this.sql = sql;
+            this.boundParameters = boundParameters;
+        }
+
+        // 실행 직후라 Statement 의 bind 값이 아직 이번 실행의 것이다. 느린 SQL 일 때만 복사한다.
+        private void executed() {
+            elapsedNanos = System.nanoTime() - startedAt;
+            if (bindValues != BindValues.NONE && profiler.get().isSlow(elapsedNanos)) {
+                parameters = snapshot(boundParameters, bindValues);
+            }
+        }
+
+        private void finish(long rows) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            profiler.get().record(method, sql, parameters, elapsedNanos, rows);
+        }
+    }
+
+    private static List<String> snapshot(Map<Integer, Object> parameters, BindValues bindValues) {
+        List<String> values = new ArrayList<>(parameters.size());
+        for (Object value : parameters.values()) {
+            values.add(bindValues == BindValues.RAW ? raw(value) : masked(value));
+        }
+        return values;
+    }
+
+    private static String raw(Object value) {
+        String text = String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+
+    private static String masked(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String type = value.getClass().getSimpleName();
+        if (value instanceof CharSequence text) {
+            return type + "(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return type + "(" + bytes.length + ")";
+        }
+        return type;
+    }
+
+    private static long sum(Object counts) {
+        long total = 0;
+        if (counts instanceof int[] ints) {
+            for (int count : ints) {
+                total += Math.max(0, count);
+            }
+        } else if (counts instanceof long[] longs) {
+            for (long count : longs) {
+                total += Math.max(0, count);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,61 @@
+package com.todolab.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 수를 endpoint (method + URI 패턴) 별로 기록한다.
+ *  - http.server.requests.queries : Prometheus 로 노출되는 요청당 쿼리 수 분포
+ *  - warn-threshold 를 넘으면 N+1 후보로 WARN 로그를 남긴다.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryCounter counter = QueryCounter.start()) {
+            filterChain.doFilter(request, response);
+            record(request, counter.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, long queries) {
+        String uri = uri(request);
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (queries > warnThreshold) {
+            log.warn("[SQL] too many queries :: {} {} queries={}", request.getMethod(), uri, queries);
+        } else {
+            log.debug("[SQL] {} {} queries={}", request.getMethod(), uri, queries);
+        }
+    }
+
+    // 태그 수가 늘지 않도록 실제 경로 대신 매핑된 패턴 (/api/tasks/{id}) 을 쓴다.
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
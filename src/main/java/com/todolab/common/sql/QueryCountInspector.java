@@ -0,0 +1,15 @@
+package com.todolab.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 JDBC 로 보내는 모든 SQL 을 QueryCounter 에 센다. SQL 은 그대로 돌려준다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
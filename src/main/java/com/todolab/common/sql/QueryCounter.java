@@ -0,0 +1,43 @@
+package com.todolab.common.sql;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수를 센다.
+ * 요청 하나는 한 (가상) 스레드에서 처리되므로 ThreadLocal 로 요청 단위 카운트가 된다.
+ * 테스트 헬퍼가 필터 안쪽에서 다시 start 할 수 있도록 바깥 카운터에도 함께 더한다.
+ */
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final QueryCounter parent;
+    private long count;
+
+    private QueryCounter(QueryCounter parent) {
+        this.parent = parent;
+    }
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void increment() {
+        for (QueryCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.count++;
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.todolab.common.sql;
+
+public record QueryMethodStats(
+        String method,
+        long count,
+        double meanMs,
+        double maxMs,
+        double p50Ms,
+        double p99Ms,
+        double meanRows
+) {
+}
@@ -0,0 +1,113 @@
+package com.todolab.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * ProfilingDataSource 가 보낸 SQL 실행 결과를 기록한다.
+ *  - db.query : repository 메서드별 실행 시간 (histogram / p50 / p99 는 application.yml)
+ *  - db.query.rows : repository 메서드별 반환 (또는 변경) 행 수
+ *  - slow-threshold 이상 걸린 SQL 은 bind 파라미터와 함께 고정 크기 ring buffer 에 남긴다. (값을 어떻게 남길지는 ProfilingDataSource.BindValues)
+ */
+@Slf4j
+@Component
+public class QueryProfiler {
+
+    public static final String UNTAGGED = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public QueryProfiler(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql.profiler.slow-threshold:100ms}") Duration slowThreshold,
+            @Value("${app.sql.profiler.slow-capacity:100}") int slowCapacity
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowQueries = new AtomicReferenceArray<>(slowCapacity);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    public void record(String method, String sql, List<String> parameters, long elapsedNanos, long rows) {
+        String tag = method == null ? UNTAGGED : method;
+
+        Timer.builder("db.query")
+                .tag("method", tag)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.query.rows")
+                .tag("method", tag)
+                .register(meterRegistry)
+                .record(rows);
+
+        if (isSlow(elapsedNanos)) {
+            double elapsedMs = elapsedNanos / 1_000_000.0;
+            int slot = (int) (cursor.getAndIncrement() % slowQueries.length());
+            slowQueries.set(slot, new SlowQuery(tag, sql, parameters, elapsedMs, rows, LocalDateTime.now()));
+            log.debug("[SQL] slow query :: method={}, elapsedMs={}, rows={}", tag, elapsedMs, rows);
+        }
+    }
+
+    // ring buffer 에 남아 있는 느린 SQL, 느린 순
+    public List<SlowQuery> slowQueries() {
+        return IntStream.range(0, slowQueries.length())
+                .mapToObj(slowQueries::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble(SlowQuery::elapsedMs).reversed())
+                .toList();
+    }
+
+    public List<QueryMethodStats> methodStats() {
+        return meterRegistry.find("db.query").timers().stream()
+                .map(this::toStats)
+                .sorted(Comparator.comparingDouble(QueryMethodStats::p99Ms).reversed())
+                .toList();
+    }
+
+    private QueryMethodStats toStats(Timer timer) {
+        String method = timer.getId().getTag("method");
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        DistributionSummary rows = meterRegistry.find("db.query.rows").tag("method", method).summary();
+
+        return new QueryMethodStats(
+                method,
+                timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.5),
+                percentile(snapshot, 0.99),
+                rows == null ? 0 : rows.mean()
+        );
+    }
+
+    private double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
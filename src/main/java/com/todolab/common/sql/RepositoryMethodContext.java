@@ -0,0 +1,31 @@
+package com.todolab.common.sql;
+
+/**
+ * 현재 스레드에서 실행 중인 repository 메서드 이름 ("TaskRepository.findByStatus").
+ * 바깥 호출이 이름을 정하고, 안쪽 repository 호출은 덮어쓰지 않는다.
+ */
+public final class RepositoryMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static String enter(String method) {
+        String previous = CURRENT.get();
+        if (previous == null) {
+            CURRENT.set(method);
+        }
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.todolab.common.sql;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring Data repository 호출 동안 RepositoryMethodContext 에 메서드 이름을 걸어 둔다.
+ * ProfilingDataSource 가 이 이름으로 SQL 을 태깅한다.
+ * 바깥 repository 호출은 repository span 으로도 남긴다. (trace 에서 쿼리 단위로 보이도록)
+ */
+@Aspect
+@Component
+public class RepositoryMethodTagAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryMethodTagAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object tag(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName();
+        String previous = RepositoryMethodContext.enter(method);
+        try {
+            if (previous != null) {
+                return joinPoint.proceed();
+            }
+            return Observation.createNotStarted("repository", observationRegistry)
+                    .contextualName(method)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(joinPoint::proceed);
+        } finally {
+            RepositoryMethodContext.exit(previous);
+        }
+    }
+
+    // 프록시가 구현한 인터페이스 중 애플리케이션 repository (TaskRepository 등) 이름을 쓴다.
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> Arrays.stream(AopProxyUtils.proxiedUserInterfaces(proxy))
+                .filter(iface -> iface.getName().startsWith("com.todolab."))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(type.getSimpleName()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.todolab.common.sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SlowQuery(
+        String method,
+        String sql,
+        List<String> parameters,
+        double elapsedMs,
+        long rows,
+        LocalDateTime executedAt
+) {
+}
@@ -0,0 +1,102 @@
+package com.todolab.common.trace;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Observation 을 span 으로 바꿔 TraceStore 에 남긴다.
+ *  - 부모 Observation (현재 scope) 이 있으면 같은 traceId 를 잇고, 없으면 새 trace 를 시작한다.
+ *  - 가상 스레드로 넘어가는 작업은 TracingExecutors / ContextPropagatingTaskDecorator 가 부모 scope 를 복원한다.
+ */
+public class InMemoryTraceHandler implements ObservationHandler<Observation.Context> {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final TraceStore traceStore;
+
+    public InMemoryTraceHandler(TraceStore traceStore) {
+        this.traceStore = traceStore;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        SpanState parent = parentSpan(context);
+        Thread thread = Thread.currentThread();
+        context.put(SpanState.class, new SpanState(
+                parent == null ? newId() + newId() : parent.traceId(),
+                newId(),
+                parent == null ? null : parent.spanId(),
+                Instant.now(),
+                System.nanoTime(),
+                thread.getName().isEmpty() ? thread.toString() : thread.getName(),
+                thread.isVirtual()
+        ));
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        SpanState span = context.get(SpanState.class);
+        if (span == null) {
+            return;
+        }
+
+        Throwable error = context.getError();
+        traceStore.add(new SpanRecord(
+                span.traceId(),
+                span.spanId(),
+                span.parentSpanId(),
+                context.getName(),
+                context.getContextualName(),
+                tags(context),
+                span.startedAt(),
+                (System.nanoTime() - span.startNanos()) / 1_000_000.0,
+                span.thread(),
+                span.virtualThread(),
+                error == null ? null : error.getClass().getSimpleName() + ": " + error.getMessage()
+        ));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    private static SpanState parentSpan(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        return parent == null ? null : parent.getContextView().get(SpanState.class);
+    }
+
+    private static Map<String, String> tags(Observation.Context context) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        for (KeyValue keyValue : context.getHighCardinalityKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        return tags;
+    }
+
+    private static String newId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+
+    private record SpanState(
+            String traceId,
+            String spanId,
+            String parentSpanId,
+            Instant startedAt,
+            long startNanos,
+            String thread,
+            boolean virtualThread
+    ) {
+    }
+}
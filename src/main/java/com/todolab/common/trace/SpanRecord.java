@@ -0,0 +1,27 @@
+package com.todolab.common.trace;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 끝난 Observation 하나 (= span 하나).
+ * parentSpanId 가 null 이면 trace 의 root span 이다.
+ */
+public record SpanRecord(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String name,
+        String contextualName,
+        Map<String, String> tags,
+        Instant startedAt,
+        double durationMs,
+        String thread,
+        boolean virtualThread,
+        String error
+) {
+
+    public boolean isRoot() {
+        return parentSpanId == null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.todolab.common.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 trace 를 메모리에 보관한다. (외부 collector 없이 /api/admin/traces 로 조회)
+ *  - capacity 를 넘으면 가장 먼저 들어온 trace 부터 버린다.
+ *  - trace 하나에 max-spans-per-trace 를 넘는 span 은 버린다. (대량 배치 실행 대비)
+ */
+@Component
+public class TraceStore {
+
+    private final int maxSpansPerTrace;
+    private final Map<String, List<SpanRecord>> traces;
+
+    public TraceStore(
+            @Value("${app.trace.capacity:200}") int capacity,
+            @Value("${app.trace.max-spans-per-trace:500}") int maxSpansPerTrace
+    ) {
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.traces = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanRecord>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized void add(SpanRecord span) {
+        List<SpanRecord> spans = traces.computeIfAbsent(span.traceId(), traceId -> new ArrayList<>());
+        if (spans.size() < maxSpansPerTrace) {
+            spans.add(span);
+        }
+    }
+
+    // 최근 trace 부터
+    public synchronized List<TraceSummary> recentTraces(int limit) {
+        List<TraceSummary> summaries = new ArrayList<>(traces.size());
+        traces.forEach((traceId, spans) -> summaries.add(summarize(traceId, spans)));
+        return summaries.stream()
+                .sorted(Comparator.comparing(TraceSummary::startedAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // 시작 시각 순
+    public synchronized List<SpanRecord> spans(String traceId) {
+        return traces.getOrDefault(traceId, List.of()).stream()
+                .sorted(Comparator.comparing(SpanRecord::startedAt))
+                .toList();
+    }
+
+    // root span 이 아직 끝나지 않은 trace 는 가장 먼저 시작한 span 으로 요약한다.
+    private static TraceSummary summarize(String traceId, List<SpanRecord> spans) {
+        SpanRecord root = spans.stream()
+                .filter(SpanRecord::isRoot)
+                .findFirst()
+                .orElseGet(() -> spans.stream().min(Comparator.comparing(SpanRecord::startedAt)).orElseThrow());
+        boolean error = spans.stream().anyMatch(span -> span.error() != null);
+        return new TraceSummary(traceId, displayName(root), root.startedAt(), root.durationMs(), spans.size(), error);
+    }
+
+    static String displayName(SpanRecord span) {
+        return span.contextualName() == null ? span.name() : span.contextualName();
+    }
+}
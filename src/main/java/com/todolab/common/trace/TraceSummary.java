@@ -0,0 +1,13 @@
+package com.todolab.common.trace;
+
+import java.time.Instant;
+
+public record TraceSummary(
+        String traceId,
+        String rootName,
+        Instant startedAt,
+        double durationMs,
+        int spanCount,
+        boolean error
+) {
+}
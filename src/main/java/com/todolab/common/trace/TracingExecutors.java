@@ -0,0 +1,23 @@
+package com.todolab.common.trace;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors.newVirtualThreadPerTaskExecutor() 대신 쓴다.
+ * 작업을 제출한 스레드의 현재 Observation 을 가상 스레드에서 복원해, 그 안의 span 이 같은 trace 에 붙는다.
+ */
+public final class TracingExecutors {
+
+    private static final ContextSnapshotFactory SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
+
+    private TracingExecutors() {
+    }
+
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        return ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(), SNAPSHOT_FACTORY);
+    }
+}
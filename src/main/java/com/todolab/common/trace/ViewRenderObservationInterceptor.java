@@ -0,0 +1,59 @@
+package com.todolab.common.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러가 view 를 돌려준 뒤부터 Thymeleaf 렌더링이 끝날 때까지를 view.render span 으로 남긴다.
+ * 렌더링은 postHandle 과 afterCompletion 사이에 같은 스레드에서 일어난다.
+ */
+public class ViewRenderObservationInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = ViewRenderObservationInterceptor.class.getName() + ".scope";
+    private static final String REDIRECT_PREFIX = "redirect:";
+
+    private final ObservationRegistry observationRegistry;
+
+    public ViewRenderObservationInterceptor(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || !modelAndView.hasView()) {
+            return;
+        }
+
+        String viewName = modelAndView.getViewName() != null
+                ? modelAndView.getViewName()
+                : modelAndView.getView().getClass().getSimpleName();
+        if (viewName.startsWith(REDIRECT_PREFIX)) {
+            return;
+        }
+
+        Observation observation = Observation.createNotStarted("view.render", observationRegistry)
+                .contextualName("render " + viewName)
+                .lowCardinalityKeyValue("view", viewName)
+                .start();
+        request.setAttribute(SCOPE_ATTRIBUTE, observation.openScope());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof Observation.Scope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+
+        Observation observation = scope.getCurrentObservation();
+        scope.close();
+        if (ex != null) {
+            observation.error(ex);
+        }
+        observation.stop();
+    }
+}
@@ -0,0 +1,13 @@
+package com.todolab.common.vthread;
+
+/**
+ * 가상 스레드 스케줄러 (carrier ForkJoinPool) 상태.
+ * queuedVirtualThreads 가 계속 쌓이면 carrier 가 모자라거나 pinning 으로 붙잡혀 있다는 뜻이다.
+ */
+public record CarrierSchedulerSnapshot(
+        int parallelism,
+        int poolSize,
+        int mountedVirtualThreads,
+        long queuedVirtualThreads
+) {
+}
@@ -0,0 +1,21 @@
+package com.todolab.common.vthread;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 같은 스레드 종류 + stack 에서 난 jdk.VirtualThreadPinned 이벤트 집계.
+ *  - thread : pinning 이 난 스레드 이름에서 끝 번호를 뗀 것 (예: tomcat-handler-)
+ *  - appFrame : 잘리기 전 전체 stack 에서 처음 만나는 com.todolab 프레임 (없으면 null)
+ *  - frames : 위에서부터 stack-depth 개
+ */
+public record PinnedStack(
+        String thread,
+        String appFrame,
+        List<String> frames,
+        long count,
+        double totalPinnedMs,
+        double maxPinnedMs,
+        LocalDateTime lastSeenAt
+) {
+}
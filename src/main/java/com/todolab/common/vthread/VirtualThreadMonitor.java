@@ -0,0 +1,272 @@
+package com.todolab.common.vthread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import jdk.management.VirtualThreadSchedulerMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JFR 이벤트 스트림으로 가상 스레드 pinning / 스케줄러 제출 실패를 모은다.
+ *  - jdk.VirtualThreadPinned : pinned-threshold 이상 carrier 를 붙잡은 경우. 스레드 종류 + stack 별로 횟수 / 총 시간을 집계한다.
+ *  - jdk.VirtualThreadSubmitFailed : carrier 스케줄러에 제출하지 못한 경우
+ *  - carrier 포화는 이벤트가 없으므로 VirtualThreadSchedulerMXBean 으로 그때그때 읽는다.
+ * 같은 stack 이 max-stacks 를 넘으면 새 stack 은 횟수만 세고 버린다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadMonitor implements SmartLifecycle {
+
+    static final String PINNED = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+    private static final String APP_PACKAGE = "com.todolab.";
+
+    private final boolean enabled;
+    private final Duration pinnedThreshold;
+    private final int stackDepth;
+    private final int maxStacks;
+    private final VirtualThreadSchedulerMXBean scheduler;
+
+    private final Map<String, StackCounter> stacks = new ConcurrentHashMap<>();
+    private final LongAdder pinned = new LongAdder();
+    private final LongAdder droppedStacks = new LongAdder();
+    private final LongAdder submitFailed = new LongAdder();
+    private final AtomicReference<String> lastSubmitFailure = new AtomicReference<>();
+    private final AtomicLong flushes = new AtomicLong();
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.vthread.monitor.enabled:true}") boolean enabled,
+            @Value("${app.vthread.monitor.pinned-threshold:20ms}") Duration pinnedThreshold,
+            @Value("${app.vthread.monitor.stack-depth:32}") int stackDepth,
+            @Value("${app.vthread.monitor.max-stacks:200}") int maxStacks
+    ) {
+        this.enabled = enabled;
+        this.pinnedThreshold = pinnedThreshold;
+        this.stackDepth = stackDepth;
+        this.maxStacks = maxStacks;
+        this.scheduler = ManagementFactory.getPlatformMXBean(VirtualThreadSchedulerMXBean.class);
+
+        this.pinnedCounter = Counter.builder("vthread.pinned").register(meterRegistry);
+        this.pinnedTimer = Timer.builder("vthread.pinned.duration").register(meterRegistry);
+        this.submitFailedCounter = Counter.builder("vthread.submit.failed").register(meterRegistry);
+        Gauge.builder("vthread.scheduler.queued", scheduler, VirtualThreadSchedulerMXBean::getQueuedVirtualThreadCount)
+                .register(meterRegistry);
+        Gauge.builder("vthread.scheduler.mounted", scheduler, VirtualThreadSchedulerMXBean::getMountedVirtualThreadCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED).withThreshold(pinnedThreshold).withStackTrace();
+        recording.enable(SUBMIT_FAILED).withStackTrace();
+        recording.setMaxAge(Duration.ofMinutes(1));
+        recording.onEvent(PINNED, this::onPinned);
+        recording.onEvent(SUBMIT_FAILED, this::onSubmitFailed);
+        recording.onFlush(flushes::incrementAndGet);
+        recording.onError(e -> log.warn("[VTHREAD] JFR stream error :: {}", e.toString()));
+        recording.startAsync();
+
+        stream = recording;
+        log.info("[VTHREAD] JFR monitor started :: pinnedThreshold={}", pinnedThreshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinned.increment();
+        pinnedCounter.increment();
+        pinnedTimer.record(nanos, TimeUnit.NANOSECONDS);
+
+        String thread = threadName(event.getThread());
+        List<String> allFrames = frames(event.getStackTrace());
+        List<String> frames = allFrames.subList(0, Math.min(stackDepth, allFrames.size()));
+        String key = thread + "\n" + String.join("\n", frames);
+        StackCounter counter = stacks.get(key);
+        if (counter == null) {
+            if (stacks.size() >= maxStacks) {
+                droppedStacks.increment();
+                return;
+            }
+            // 드라이버 / Hibernate 안쪽에서 난 pinning 은 stack-depth 안에 앱 프레임이 없으므로 전체 stack 에서 찾는다.
+            String appFrame = allFrames.stream().filter(f -> f.startsWith(APP_PACKAGE)).findFirst().orElse(null);
+            counter = stacks.computeIfAbsent(key, k -> new StackCounter(thread, appFrame, List.copyOf(frames)));
+        }
+        counter.record(nanos);
+    }
+
+    void onSubmitFailed(RecordedEvent event) {
+        submitFailed.increment();
+        submitFailedCounter.increment();
+        String message = event.hasField("exceptionMessage") ? event.getString("exceptionMessage") : null;
+        lastSubmitFailure.set(message);
+        log.warn("[VTHREAD] virtual thread submit failed :: message={}", message);
+    }
+
+    // 총 pinning 시간이 긴 순
+    public List<PinnedStack> pinnedStacks() {
+        return stacks.values().stream()
+                .map(StackCounter::snapshot)
+                .sorted(Comparator.comparingDouble(PinnedStack::totalPinnedMs).reversed())
+                .toList();
+    }
+
+    public long pinnedCount() {
+        return pinned.sum();
+    }
+
+    public long droppedStacks() {
+        return droppedStacks.sum();
+    }
+
+    public long submitFailedCount() {
+        return submitFailed.sum();
+    }
+
+    public String lastSubmitFailure() {
+        return lastSubmitFailure.get();
+    }
+
+    public Duration pinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    public CarrierSchedulerSnapshot carrierScheduler() {
+        return new CarrierSchedulerSnapshot(
+                scheduler.getParallelism(),
+                scheduler.getPoolSize(),
+                scheduler.getMountedVirtualThreadCount(),
+                scheduler.getQueuedVirtualThreadCount()
+        );
+    }
+
+    // 집계만 비운다. (Micrometer counter 는 누적 그대로 둔다)
+    public void reset() {
+        stacks.clear();
+        pinned.reset();
+        droppedStacks.reset();
+        submitFailed.reset();
+        lastSubmitFailure.set(null);
+    }
+
+    /**
+     * 지금까지 난 이벤트가 집계에 반영될 때까지 기다린다.
+     * 스트림은 약 1초마다 flush 하므로, 호출 시점 이후 flush 가 두 번 지나면 그 전 이벤트는 모두 전달된 것이다.
+     */
+    public boolean awaitFlush(Duration timeout) throws InterruptedException {
+        if (!isRunning()) {
+            return false;
+        }
+        long target = flushes.get() + 2;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (flushes.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .map(VirtualThreadMonitor::frame)
+                .toList();
+    }
+
+    // 요청마다 번호가 붙으므로 (tomcat-handler-12) 끝 번호를 떼어 종류로 묶는다.
+    private static String threadName(RecordedThread thread) {
+        if (thread == null || thread.getJavaName() == null) {
+            return "";
+        }
+        return thread.getJavaName().replaceFirst("\\d+$", "");
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class StackCounter {
+
+        private final String thread;
+        private final String appFrame;
+        private final List<String> frames;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile LocalDateTime lastSeenAt;
+
+        private StackCounter(String thread, String appFrame, List<String> frames) {
+            this.thread = thread;
+            this.appFrame = appFrame;
+            this.frames = frames;
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeenAt = LocalDateTime.now();
+        }
+
+        private PinnedStack snapshot() {
+            return new PinnedStack(
+                    thread,
+                    appFrame,
+                    frames,
+                    count.sum(),
+                    totalNanos.sum() / 1_000_000.0,
+                    maxNanos.get() / 1_000_000.0,
+                    lastSeenAt
+            );
+        }
+    }
+}
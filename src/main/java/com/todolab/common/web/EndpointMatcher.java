@@ -0,0 +1,61 @@
+package com.todolab.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * "METHOD /path/pattern[?param=value]" 로 적은 endpoint 조건. (rate limit 비용, 요청 deadline 기본값 규칙에서 쓴다)
+ * method 는 * 로 모든 method 를 뜻한다. param 값은 대소문자를 구분하지 않고, 값을 생략하면 param 이 있기만 하면 맞는다.
+ */
+public record EndpointMatcher(
+        String method,
+        PathPattern pattern,
+        String parameter,
+        String parameterValue
+) {
+
+    public static EndpointMatcher parse(String endpoint) {
+        String trimmed = endpoint.trim();
+        int space = trimmed.indexOf(' ');
+        if (space < 0) {
+            throw new IllegalArgumentException("endpoint 형식은 'METHOD /path[?param=value]' 입니다. endpoint=" + endpoint);
+        }
+
+        String method = trimmed.substring(0, space).trim().toUpperCase();
+        String target = trimmed.substring(space + 1).trim();
+
+        String path = target;
+        String parameter = null;
+        String parameterValue = null;
+        int question = target.indexOf('?');
+        if (question >= 0) {
+            path = target.substring(0, question);
+            String[] query = target.substring(question + 1).split("=", 2);
+            parameter = query[0];
+            parameterValue = query.length > 1 ? query[1] : null;
+        }
+
+        return new EndpointMatcher(method, PathPatternParser.defaultInstance.parse(path), parameter, parameterValue);
+    }
+
+    public static PathContainer path(HttpServletRequest request) {
+        return PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    public boolean matches(HttpServletRequest request, PathContainer path) {
+        if (!method.equals("*") && !method.equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        if (!pattern.matches(path)) {
+            return false;
+        }
+        if (parameter == null) {
+            return true;
+        }
+
+        String value = request.getParameter(parameter);
+        return parameterValue == null ? value != null : parameterValue.equalsIgnoreCase(value);
+    }
+}
@@ -1,43 +1,66 @@
 package com.todolab.config;
 
+import com.todolab.common.deadline.RequestDeadlineFilter;
+import com.todolab.common.ratelimit.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
+import java.util.List;
 
+/**
+ * /api/** CORS. MVC 매핑 대신 RateLimitFilter 앞의 servlet filter 로 처리해 filter 가 바로 돌려주는 응답 (429 등) 에도 CORS 헤더가 붙는다.
+ * 브라우저 클라이언트가 남은 토큰 / 재시도 시각을 읽을 수 있도록 RateLimit-* / Retry-After 를 노출한다.
+ */
 @Configuration
-public class CorsConfig implements WebMvcConfigurer {
+public class CorsConfig {
 
-    private final String[] allowedOrigins;
+    private final List<String> allowedOrigins;
 
     public CorsConfig(@Value("${app.cors.allowed-origins:}") String allowedOrigins) {
         this.allowedOrigins = Arrays.stream(allowedOrigins.split(","))
                 .map(String::trim)
                 .filter(origin -> !origin.isEmpty())
-                .toArray(String[]::new);
+                .toList();
     }
 
-    @Override
-    public void addCorsMappings(CorsRegistry registry) {
-        if (allowedOrigins.length == 0) {
-            return;
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        if (!allowedOrigins.isEmpty()) {
+            source.registerCorsConfiguration("/api/**", apiCorsConfiguration());
         }
 
-        registry.addMapping("/api/**")
-                .allowedOrigins(allowedOrigins)
-                .allowedMethods(
-                        HttpMethod.GET.name(),
-                        HttpMethod.POST.name(),
-                        HttpMethod.PUT.name(),
-                        HttpMethod.PATCH.name(),
-                        HttpMethod.DELETE.name(),
-                        HttpMethod.OPTIONS.name()
-                )
-                .allowedHeaders(HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT)
-                .maxAge(3600);
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    private CorsConfiguration apiCorsConfiguration() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(allowedOrigins);
+        configuration.setAllowedMethods(List.of(
+                HttpMethod.GET.name(),
+                HttpMethod.POST.name(),
+                HttpMethod.PUT.name(),
+                HttpMethod.PATCH.name(),
+                HttpMethod.DELETE.name(),
+                HttpMethod.OPTIONS.name()
+        ));
+        configuration.setAllowedHeaders(List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT, RequestDeadlineFilter.TIMEOUT_HEADER));
+        configuration.setExposedHeaders(List.of(
+                RateLimitFilter.LIMIT, RateLimitFilter.REMAINING, RateLimitFilter.RESET, HttpHeaders.RETRY_AFTER
+        ));
+        configuration.setMaxAge(3600L);
+        return configuration;
     }
 }
@@ -0,0 +1,71 @@
+package com.todolab.config;
+
+import com.todolab.common.bulkhead.BulkheadDataSource;
+import com.todolab.common.bulkhead.BulkheadLane;
+import com.todolab.common.bulkhead.BulkheadLaneFilter;
+import com.todolab.common.bulkhead.DbBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 애플리케이션 DataSource 를 BulkheadDataSource 로 감싸 lane (API / PAGE / BATCH) 별로 커넥션 동시 사용 수를 나눈다.
+ * lane 별 permits 합은 Hikari maximum-pool-size 이하로 두어야 Hikari 대기열에서 기다리지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "app.db.bulkhead.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class DbBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<DbBulkhead> dbBulkhead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, SingletonSupplier.of(dbBulkhead::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public DbBulkhead dbBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${app.db.bulkhead.api.permits:5}") int apiPermits,
+            @Value("${app.db.bulkhead.api.max-wait:200ms}") Duration apiMaxWait,
+            @Value("${app.db.bulkhead.page.permits:2}") int pagePermits,
+            @Value("${app.db.bulkhead.page.max-wait:500ms}") Duration pageMaxWait,
+            @Value("${app.db.bulkhead.batch.permits:3}") int batchPermits,
+            @Value("${app.db.bulkhead.batch.max-wait:60s}") Duration batchMaxWait
+    ) {
+        return new DbBulkhead(meterRegistry, Map.of(
+                BulkheadLane.API, new DbBulkhead.Budget(apiPermits, apiMaxWait),
+                BulkheadLane.PAGE, new DbBulkhead.Budget(pagePermits, pageMaxWait),
+                BulkheadLane.BATCH, new DbBulkhead.Budget(batchPermits, batchMaxWait)
+        ));
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadLaneFilter> bulkheadLaneFilter() {
+        FilterRegistrationBean<BulkheadLaneFilter> registration = new FilterRegistrationBean<>(new BulkheadLaneFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package com.todolab.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 컨트롤러는 Spring MVC 의 http.server.requests 로 자동 계측된다.
+ * 그 밖의 hot path (TaskRepositoryImpl, TaskViewService) 는 클래스 레벨 @Timed 로 계측한다.
+ * p50 / p99 와 histogram 은 application.yml 의 management.metrics.distribution 에서 이름별로 켠다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
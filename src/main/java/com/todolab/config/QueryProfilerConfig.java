@@ -0,0 +1,42 @@
+package com.todolab.config;
+
+import com.todolab.common.sql.ProfilingDataSource;
+import com.todolab.common.sql.QueryProfiler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 를 ProfilingDataSource 로 감싼다.
+ * QueryProfiler 는 MeterRegistry 에 의존하므로 첫 커넥션을 얻을 때 찾는다.
+ * 느린 SQL 이 /api/admin/queries 로 노출되므로 기본은 꺼져 있고, 로컬 개발 (profiler 프로필) 에서만 켠다.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "app.sql.profiler.enabled",
+        havingValue = "true"
+)
+public class QueryProfilerConfig {
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor(
+            ObjectProvider<QueryProfiler> queryProfiler,
+            @Value("${app.sql.profiler.bind-values:MASKED}") ProfilingDataSource.BindValues bindValues
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource, SingletonSupplier.of(queryProfiler::getObject), bindValues);
+                }
+                return bean;
+            }
+        };
+    }
+}
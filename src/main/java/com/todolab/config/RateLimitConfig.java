@@ -0,0 +1,55 @@
+package com.todolab.config;
+
+import com.todolab.common.ratelimit.RateLimitCostRule;
+import com.todolab.common.ratelimit.RateLimitFilter;
+import com.todolab.common.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * /api/** 앞에 클라이언트 (IP) 별 토큰 버킷 rate limit 을 건다. 비용 규칙은 app.rate-limit.costs (콤마 구분) 로 정한다.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "app.rate-limit.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.capacity:60}") int capacity,
+            @Value("${app.rate-limit.refill-per-second:5}") double refillPerSecond,
+            @Value("${app.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${app.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${app.rate-limit.costs:}") String costs
+    ) {
+        List<RateLimitCostRule> rules = Arrays.stream(costs.split(","))
+                .map(String::trim)
+                .filter(rule -> !rule.isEmpty())
+                .map(RateLimitCostRule::parse)
+                .toList();
+        return new RateLimiter(meterRegistry, capacity, refillPerSecond, idleTimeout, maxClients, rules);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
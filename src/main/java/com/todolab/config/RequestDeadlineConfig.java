@@ -0,0 +1,46 @@
+package com.todolab.config;
+
+import com.todolab.common.deadline.RequestDeadlineFilter;
+import com.todolab.common.deadline.RequestDeadlineRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청마다 deadline 을 정해 JDBC query timeout, DB bulkhead 대기, single-flight 대기, 메일 발송까지 넘긴다.
+ * endpoint 별 기본값은 app.deadline.defaults (콤마 구분) 로 정한다.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "app.deadline.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RequestDeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(
+            @Value("${app.deadline.max:30s}") Duration max,
+            @Value("${app.deadline.defaults:}") String defaults
+    ) {
+        List<RequestDeadlineRule> rules = Arrays.stream(defaults.split(","))
+                .map(String::trim)
+                .filter(rule -> !rule.isEmpty())
+                .map(RequestDeadlineRule::parse)
+                .toList();
+
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(rules, max));
+        registration.addUrlPatterns("/*");
+        // rate limit 다음, bulkhead lane 보다 먼저
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
@@ -0,0 +1,29 @@
+package com.todolab.config;
+
+import com.todolab.common.trace.InMemoryTraceHandler;
+import com.todolab.common.trace.TraceStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 collector 없이 프로세스 안에서 trace 를 모은다.
+ *  - HTTP 요청 (http.server.requests) 과 @Scheduled 실행은 Spring 이 Observation 을 만든다.
+ *  - TaskService / TaskTxService / 배치 reader·processor·writer / MailService 는 클래스 레벨 @Observed,
+ *    repository 호출은 RepositoryMethodTagAspect, Job / Step 은 BatchObservationListener 가 만든다.
+ *  - Thymeleaf view 렌더링은 ViewRenderObservationInterceptor (TracingWebConfig) 가 만든다.
+ * 모인 span 은 TraceStore 에 남고 /api/admin/traces 로 조회한다.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "app.trace.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class TracingConfig {
+
+    @Bean
+    public InMemoryTraceHandler inMemoryTraceHandler(TraceStore traceStore) {
+        return new InMemoryTraceHandler(traceStore);
+    }
+}
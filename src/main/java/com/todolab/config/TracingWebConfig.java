@@ -0,0 +1,26 @@
+package com.todolab.config;
+
+import com.todolab.common.trace.ViewRenderObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// @WebMvcTest 슬라이스에는 ObservationRegistry 가 없을 수 있으므로 NOOP 으로 대신한다.
+@Configuration
+public class TracingWebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public TracingWebConfig(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderObservationInterceptor(
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)
+        ));
+    }
+}
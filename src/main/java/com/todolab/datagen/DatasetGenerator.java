@@ -0,0 +1,192 @@
+package com.todolab.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DDAY_GOAL / TASK 에 합성 데이터를 넣는다.
+ *  - INSERT ... VALUES (...), (...) 로 insert-batch-size 행씩 한 문장에 넣는다. (MySQL / H2 공통, 드라이버 옵션 불필요)
+ *  - chunk 는 parallelism 개의 가상 스레드가 나눠 가진다. 스레드마다 커넥션 하나를 쓴다.
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final String TASK_COLUMNS = "TITLE, TYPE, START_AT, END_AT, ALL_DAY, CATEGORY, DESCRIPTION, STATUS, "
+            + "TARGET_DATE, COMPLETED_AT, CARRY_OVER_COUNT, DEFER_REASON, DDAY_GOAL_ID, CREATED_AT, UPDATED_AT";
+    private static final String TASK_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int TASK_PARAMETER_COUNT = 15;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public DatasetReport generate(DatasetSpec spec) {
+        long start = System.nanoTime();
+        if (spec.truncate()) {
+            truncate();
+        }
+
+        List<Long> ddayGoalIds = insertDdayGoals(spec);
+        long tasks = insertTasks(spec, new TaskRowGenerator(spec, ddayGoalIds));
+
+        DatasetReport report = new DatasetReport(ddayGoalIds.size(), tasks, (System.nanoTime() - start) / 1_000_000);
+        log.info("[DATAGEN] done. seed={}, ddayGoals={}, tasks={}, elapsedMs={}, rowsPerSecond={}",
+                spec.seed(), report.ddayGoals(), report.tasks(), report.elapsedMs(),
+                String.format("%.0f", report.tasks() * 1_000.0 / Math.max(1, report.elapsedMs())));
+        return report;
+    }
+
+    // TASK_ARCHIVE 의 DDAY_GOAL_ID 는 FK 가 없으므로 목표보다 먼저 함께 비운다. 통계도 옛 데이터 기준이라 비운다.
+    private void truncate() {
+        int archived = jdbcTemplate.update("DELETE FROM TASK_ARCHIVE");
+        int tasks = jdbcTemplate.update("DELETE FROM TASK");
+        int stats = jdbcTemplate.update("DELETE FROM DAILY_TASK_STATS");
+        int goals = jdbcTemplate.update("DELETE FROM DDAY_GOAL");
+        log.info("[DATAGEN] truncated. tasks={}, archivedTasks={}, dailyTaskStats={}, ddayGoals={}", tasks, archived, stats, goals);
+    }
+
+    // 목표는 수가 적으므로 한 번에 넣고, 새로 생긴 ID 를 TASK 연결에 쓴다.
+    private List<Long> insertDdayGoals(DatasetSpec spec) {
+        Long before = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(ID), 0) FROM DDAY_GOAL", Long.class);
+
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        List<Object[]> goals = new ArrayList<>(spec.ddayGoals());
+        for (int i = 0; i < spec.ddayGoals(); i++) {
+            LocalDate targetDate = spec.baseDate().plusDays(random.nextInt(-30, 366));
+            goals.add(new Object[]{
+                    "합성 목표 " + i,
+                    targetDate,
+                    spec.baseDate().minusDays(random.nextInt(0, 180)).atTime(9, 0)
+            });
+        }
+        for (List<Object[]> batch : partition(goals, spec.insertBatchSize())) {
+            String sql = "INSERT INTO DDAY_GOAL (TITLE, TARGET_DATE, CREATED_AT) VALUES "
+                    + String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?)"));
+            jdbcTemplate.update(sql, batch.stream().flatMap(Arrays::stream).toArray());
+        }
+
+        return jdbcTemplate.queryForList("SELECT ID FROM DDAY_GOAL WHERE ID > ? ORDER BY ID", Long.class, before);
+    }
+
+    private long insertTasks(DatasetSpec spec, TaskRowGenerator generator) {
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        long chunkCount = spec.chunkCount();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(spec.parallelism());
+            for (int i = 0; i < spec.parallelism(); i++) {
+                workers.add(executor.submit(() -> {
+                    for (long chunk = nextChunk.getAndIncrement(); chunk < chunkCount; chunk = nextChunk.getAndIncrement()) {
+                        long rows = insertChunk(generator.chunk(chunk), spec.insertBatchSize());
+                        long total = inserted.addAndGet(rows);
+                        log.info("[DATAGEN] chunk inserted. chunk={}/{}, tasks={}/{}", chunk + 1, chunkCount, total, spec.tasks());
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                join(worker);
+            }
+        }
+        return inserted.get();
+    }
+
+    private long insertChunk(List<TaskRow> rows, int insertBatchSize) {
+        long inserted = 0;
+        for (List<TaskRow> batch : partition(rows, insertBatchSize)) {
+            String sql = "INSERT INTO TASK (" + TASK_COLUMNS + ") VALUES "
+                    + String.join(", ", Collections.nCopies(batch.size(), TASK_PLACEHOLDERS));
+            inserted += jdbcTemplate.update(sql, ps -> {
+                int index = 0;
+                for (TaskRow row : batch) {
+                    bind(ps, index, row);
+                    index += TASK_PARAMETER_COUNT;
+                }
+            });
+        }
+        return inserted;
+    }
+
+    // null 도 타입을 지정해 넣어 드라이버가 parameter metadata 를 조회하지 않게 한다.
+    private static void bind(PreparedStatement ps, int offset, TaskRow row) throws SQLException {
+        ps.setString(offset + 1, row.title());
+        ps.setString(offset + 2, row.type().name());
+        setDateTime(ps, offset + 3, row.startAt());
+        setDateTime(ps, offset + 4, row.endAt());
+        ps.setBoolean(offset + 5, row.allDay());
+        setString(ps, offset + 6, row.category());
+        setString(ps, offset + 7, row.description());
+        ps.setString(offset + 8, row.status().name());
+        if (row.targetDate() == null) {
+            ps.setNull(offset + 9, Types.DATE);
+        } else {
+            ps.setObject(offset + 9, row.targetDate());
+        }
+        setDateTime(ps, offset + 10, row.completedAt());
+        ps.setInt(offset + 11, row.carryOverCount());
+        setString(ps, offset + 12, row.deferReason() == null ? null : row.deferReason().name());
+        if (row.ddayGoalId() == null) {
+            ps.setNull(offset + 13, Types.BIGINT);
+        } else {
+            ps.setLong(offset + 13, row.ddayGoalId());
+        }
+        setDateTime(ps, offset + 14, row.createdAt());
+        setDateTime(ps, offset + 15, row.updatedAt());
+    }
+
+    private static void setString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    private static void setDateTime(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> partitions = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            partitions.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return partitions;
+    }
+
+    private static void join(Future<?> worker) {
+        try {
+            worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Dataset generation failed.", e.getCause());
+        }
+    }
+}
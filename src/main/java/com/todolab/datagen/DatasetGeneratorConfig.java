@@ -0,0 +1,75 @@
+package com.todolab.datagen;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Configuration
+@Profile("datagen")
+public class DatasetGeneratorConfig {
+
+    @Bean
+    public DatasetGenerator datasetGenerator(JdbcTemplate jdbcTemplate) {
+        return new DatasetGenerator(jdbcTemplate);
+    }
+
+    // base-date 를 비우면 오늘 기준으로 만든다. (같은 데이터를 다시 만들려면 seed 와 base-date 를 함께 고정한다)
+    @Bean
+    public DatasetSpec datasetSpec(
+            @Value("${app.datagen.seed}") long seed,
+            @Value("${app.datagen.base-date:}") String baseDate,
+            @Value("${app.datagen.tasks}") long tasks,
+            @Value("${app.datagen.dday-goals}") int ddayGoals,
+            @Value("${app.datagen.status.inbox-ratio}") double inboxRatio,
+            @Value("${app.datagen.status.today-ratio}") double todayRatio,
+            @Value("${app.datagen.schedule.single-ratio}") double singleRatio,
+            @Value("${app.datagen.schedule.all-day-ratio}") double allDayRatio,
+            @Value("${app.datagen.schedule.days-back}") int daysBack,
+            @Value("${app.datagen.schedule.days-ahead}") int daysAhead,
+            @Value("${app.datagen.schedule.overdue-days}") int overdueDays,
+            @Value("${app.datagen.schedule.max-period-days}") int maxPeriodDays,
+            @Value("${app.datagen.category.count}") int categories,
+            @Value("${app.datagen.category.uncategorized-ratio}") double uncategorizedRatio,
+            @Value("${app.datagen.dday-link-ratio}") double ddayLinkRatio,
+            @Value("${app.datagen.carry-over.ratio}") double carryOverRatio,
+            @Value("${app.datagen.carry-over.max}") int maxCarryOver,
+            @Value("${app.datagen.carry-over.defer-reason-ratio}") double deferReasonRatio,
+            @Value("${app.datagen.chunk-size}") int chunkSize,
+            @Value("${app.datagen.insert-batch-size}") int insertBatchSize,
+            @Value("${app.datagen.parallelism}") int parallelism,
+            @Value("${app.datagen.truncate}") boolean truncate
+    ) {
+        // base-date 를 고정하면 asOf 도 그날의 끝으로 고정해 같은 seed 로 같은 데이터가 나온다.
+        LocalDateTime now = LocalDateTime.now();
+        return DatasetSpec.builder()
+                .seed(seed)
+                .baseDate(baseDate.isBlank() ? now.toLocalDate() : LocalDate.parse(baseDate))
+                .asOf(baseDate.isBlank() ? now : null)
+                .tasks(tasks)
+                .ddayGoals(ddayGoals)
+                .inboxRatio(inboxRatio)
+                .todayRatio(todayRatio)
+                .singleRatio(singleRatio)
+                .allDayRatio(allDayRatio)
+                .daysBack(daysBack)
+                .daysAhead(daysAhead)
+                .overdueDays(overdueDays)
+                .maxPeriodDays(maxPeriodDays)
+                .categories(categories)
+                .uncategorizedRatio(uncategorizedRatio)
+                .ddayLinkRatio(ddayLinkRatio)
+                .carryOverRatio(carryOverRatio)
+                .maxCarryOver(maxCarryOver)
+                .deferReasonRatio(deferReasonRatio)
+                .chunkSize(chunkSize)
+                .insertBatchSize(insertBatchSize)
+                .parallelism(parallelism)
+                .truncate(truncate)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.todolab.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * datagen 프로필로 띄우면 합성 데이터를 넣고 종료한다.
+ *
+ *   ./gradlew bootRun --args='--spring.profiles.active=local,datagen --app.datagen.tasks=1000000 --app.datagen.seed=42'
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+    private final DatasetSpec datasetSpec;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${app.datagen.exit-on-complete:true}")
+    private boolean exitOnComplete;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[DATAGEN] start. spec={}", datasetSpec);
+        datasetGenerator.generate(datasetSpec);
+
+        // System.exit 대신 컨텍스트만 닫는다. 스케줄러 / 풀 스레드가 정리되면 JVM 은 스스로 끝나고,
+        // 테스트나 다른 호출자 안에서 돌 때 JVM 을 죽이지 않는다.
+        if (exitOnComplete) {
+            SpringApplication.exit(applicationContext);
+        }
+    }
+}
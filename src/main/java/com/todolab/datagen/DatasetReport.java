@@ -0,0 +1,8 @@
+package com.todolab.datagen;
+
+public record DatasetReport(
+        int ddayGoals,
+        long tasks,
+        long elapsedMs
+) {
+}
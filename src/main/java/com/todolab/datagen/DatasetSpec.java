@@ -0,0 +1,73 @@
+package com.todolab.datagen;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 합성 데이터 분포. (application-datagen.yml 의 app.datagen.*)
+ *  - 상태 비율 : inbox / today / 나머지는 done
+ *  - 일정 모양 : single (시간 지정) / all-day / 나머지는 period
+ *  - DONE 은 baseDate 이전 daysBack 일 안, TODAY 는 baseDate - overdueDays ~ baseDate + daysAhead 안에 놓인다.
+ *  - asOf : 데이터를 만든 시각. createdAt / completedAt / updatedAt 은 이 시각을 넘지 않는다. (없으면 baseDate 의 끝)
+ */
+@Builder(toBuilder = true)
+public record DatasetSpec(
+        long seed,
+        LocalDate baseDate,
+        LocalDateTime asOf,
+        long tasks,
+        int ddayGoals,
+        double inboxRatio,
+        double todayRatio,
+        double singleRatio,
+        double allDayRatio,
+        int daysBack,
+        int daysAhead,
+        int overdueDays,
+        int maxPeriodDays,
+        int categories,
+        double uncategorizedRatio,
+        double ddayLinkRatio,
+        double carryOverRatio,
+        int maxCarryOver,
+        double deferReasonRatio,
+        int chunkSize,
+        int insertBatchSize,
+        int parallelism,
+        boolean truncate
+) {
+
+    public DatasetSpec {
+        if (asOf == null && baseDate != null) {
+            asOf = baseDate.atTime(LocalTime.MAX);
+        }
+        requireRatio("inbox-ratio + today-ratio", inboxRatio + todayRatio);
+        requireRatio("single-ratio + all-day-ratio", singleRatio + allDayRatio);
+        requireRatio("uncategorized-ratio", uncategorizedRatio);
+        requireRatio("dday-link-ratio", ddayLinkRatio);
+        requireRatio("carry-over-ratio", carryOverRatio);
+        requireRatio("defer-reason-ratio", deferReasonRatio);
+        if (tasks < 0 || ddayGoals < 0) {
+            throw new IllegalArgumentException("tasks / dday-goals 는 0 이상이어야 합니다.");
+        }
+        if (chunkSize <= 0 || insertBatchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("chunk-size / insert-batch-size / parallelism 은 1 이상이어야 합니다.");
+        }
+        if (daysBack < 0 || daysAhead < 0 || overdueDays < 0 || maxPeriodDays < 1 || categories < 1 || maxCarryOver < 1) {
+            throw new IllegalArgumentException("기간 / 카테고리 / 이월 설정이 올바르지 않습니다.");
+        }
+    }
+
+    public long chunkCount() {
+        return (tasks + chunkSize - 1) / chunkSize;
+    }
+
+    private static void requireRatio(String name, double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException(name + " 는 0 ~ 1 사이여야 합니다. value=" + ratio);
+        }
+    }
+}
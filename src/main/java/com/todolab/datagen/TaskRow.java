@@ -0,0 +1,28 @@
+package com.todolab.datagen;
+
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// TASK 테이블 한 행 (TODAY_ORDER 는 사용자가 직접 정하는 값이라 비워 둔다)
+public record TaskRow(
+        String title,
+        TaskType type,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        boolean allDay,
+        String category,
+        String description,
+        TaskStatus status,
+        LocalDate targetDate,
+        LocalDateTime completedAt,
+        int carryOverCount,
+        DeferReason deferReason,
+        Long ddayGoalId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,145 @@
+package com.todolab.datagen;
+
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * DatasetSpec 분포대로 Task 행을 만든다.
+ * chunk 마다 (seed, chunkIndex) 로 난수를 새로 만들기 때문에 병렬로 돌려도 같은 seed 면 같은 데이터가 나온다.
+ *
+ * Task 도메인 규칙을 그대로 따른다.
+ *  - INBOX : 일정 / targetDate / completedAt 없음, 종일 아님, 타입은 TODO / IDEA
+ *  - TODAY : 일정 있음, targetDate = 시작일 (이월된 일정도 시작일이 targetDate 로 옮겨진 상태)
+ *  - DONE  : TODAY 조건 + completedAt
+ *  - 종일 일정은 00:00 ~ 다음날 00:00, 기간 일정은 endAt > startAt
+ *  - 카테고리는 null 또는 "미분류" 가 아닌 이름
+ *  - createdAt <= completedAt <= asOf (미래 시각이나 생성 전에 완료된 행을 만들지 않는다)
+ */
+public class TaskRowGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final DeferReason[] DEFER_REASONS = DeferReason.values();
+
+    private final DatasetSpec spec;
+    private final List<Long> ddayGoalIds;
+
+    public TaskRowGenerator(DatasetSpec spec, List<Long> ddayGoalIds) {
+        this.spec = spec;
+        this.ddayGoalIds = List.copyOf(ddayGoalIds);
+    }
+
+    public List<TaskRow> chunk(long chunkIndex) {
+        long from = chunkIndex * spec.chunkSize();
+        long to = Math.min(spec.tasks(), from + spec.chunkSize());
+
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ (chunkIndex + 1) * GOLDEN_GAMMA);
+        List<TaskRow> rows = new ArrayList<>((int) (to - from));
+        for (long sequence = from; sequence < to; sequence++) {
+            rows.add(next(random, sequence));
+        }
+        return rows;
+    }
+
+    private TaskRow next(SplittableRandom random, long sequence) {
+        String title = "합성 일정 " + sequence;
+        String category = category(random);
+        Long ddayGoalId = ddayGoalId(random);
+
+        double statusRoll = random.nextDouble();
+        if (statusRoll < spec.inboxRatio()) {
+            LocalDateTime createdAt = notAfterAsOf(dateTime(random, spec.baseDate().minusDays(random.nextInt(spec.daysBack() + 1))));
+            return new TaskRow(
+                    title, random.nextBoolean() ? TaskType.IDEA : TaskType.TODO,
+                    null, null, false, category, null,
+                    TaskStatus.INBOX, null, null, 0, null, ddayGoalId,
+                    createdAt, null
+            );
+        }
+
+        TaskStatus status = statusRoll < spec.inboxRatio() + spec.todayRatio() ? TaskStatus.TODAY : TaskStatus.DONE;
+        LocalDate day = status == TaskStatus.DONE
+                ? spec.baseDate().minusDays(random.nextInt(spec.daysBack() + 1))
+                : spec.baseDate().plusDays(random.nextInt(-spec.overdueDays(), spec.daysAhead() + 1));
+
+        int carryOverCount = carryOverCount(random);
+        DeferReason deferReason = carryOverCount > 0 && random.nextDouble() < spec.deferReasonRatio()
+                ? DEFER_REASONS[random.nextInt(DEFER_REASONS.length)]
+                : null;
+        LocalDateTime createdAt = notAfterAsOf(dateTime(random, day.minusDays(carryOverCount + random.nextInt(8))));
+        LocalDateTime completedAt = status == TaskStatus.DONE ? between(dateTime(random, day), createdAt) : null;
+        LocalDateTime updatedAt = completedAt != null ? completedAt : carryOverCount > 0 ? between(day.atStartOfDay(), createdAt) : null;
+
+        double shape = random.nextDouble();
+        if (shape < spec.singleRatio()) {
+            return new TaskRow(
+                    title, random.nextInt(4) == 0 ? TaskType.TODO : TaskType.SCHEDULE,
+                    day.atTime(7 + random.nextInt(15), random.nextInt(4) * 15), null, false, category, null,
+                    status, day, completedAt, carryOverCount, deferReason, ddayGoalId,
+                    createdAt, updatedAt
+            );
+        }
+        if (shape < spec.singleRatio() + spec.allDayRatio()) {
+            return new TaskRow(
+                    title, random.nextBoolean() ? TaskType.TODO : TaskType.SCHEDULE,
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay(), true, category, null,
+                    status, day, completedAt, carryOverCount, deferReason, ddayGoalId,
+                    createdAt, updatedAt
+            );
+        }
+        LocalDateTime startAt = day.atTime(8 + random.nextInt(10), 0);
+        return new TaskRow(
+                title, TaskType.SCHEDULE,
+                startAt, startAt.plusDays(1 + random.nextInt(spec.maxPeriodDays())).plusHours(random.nextInt(8)), false, category, null,
+                status, day, completedAt, carryOverCount, deferReason, ddayGoalId,
+                createdAt, updatedAt
+        );
+    }
+
+    // 몇몇 카테고리에 몰리도록 제곱 분포로 고른다.
+    private String category(SplittableRandom random) {
+        if (random.nextDouble() < spec.uncategorizedRatio()) {
+            return null;
+        }
+        double skewed = random.nextDouble();
+        return "카테고리" + (int) (spec.categories() * skewed * skewed);
+    }
+
+    private Long ddayGoalId(SplittableRandom random) {
+        if (ddayGoalIds.isEmpty() || random.nextDouble() >= spec.ddayLinkRatio()) {
+            return null;
+        }
+        return ddayGoalIds.get(random.nextInt(ddayGoalIds.size()));
+    }
+
+    // 이월은 대부분 1~2 회에 그치도록 기하 분포로 뽑는다.
+    private int carryOverCount(SplittableRandom random) {
+        if (random.nextDouble() >= spec.carryOverRatio()) {
+            return 0;
+        }
+        int count = 1;
+        while (count < spec.maxCarryOver() && random.nextBoolean()) {
+            count++;
+        }
+        return count;
+    }
+
+    private LocalDateTime notAfterAsOf(LocalDateTime value) {
+        return value.isAfter(spec.asOf()) ? spec.asOf() : value;
+    }
+
+    // [createdAt, asOf] 로 자른다.
+    private LocalDateTime between(LocalDateTime value, LocalDateTime createdAt) {
+        return value.isBefore(createdAt) ? createdAt : notAfterAsOf(value);
+    }
+
+    private static LocalDateTime dateTime(SplittableRandom random, LocalDate day) {
+        return day.atTime(random.nextInt(24), random.nextInt(60));
+    }
+}
@@ -1,14 +1,19 @@
 package com.todolab.dday.repository;
 
 import com.todolab.dday.domain.DdayGoal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface DdayGoalRepository extends JpaRepository<DdayGoal, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<DdayGoal> findAllByOrderByTargetDateAscIdAsc();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<DdayGoal> findByTargetDateBetweenOrderByTargetDateAscIdAsc(LocalDate startDate, LocalDate endDate);
 }
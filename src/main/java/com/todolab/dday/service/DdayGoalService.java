@@ -1,5 +1,6 @@
 package com.todolab.dday.service;
 
+import com.todolab.common.concurrent.SingleFlightRegistry;
 import com.todolab.dday.domain.DdayGoal;
 import com.todolab.dday.dto.DdayGoalRequest;
 import com.todolab.dday.dto.DdayGoalResponse;
@@ -7,20 +8,47 @@ import com.todolab.dday.exception.DdayGoalNotFoundException;
 import com.todolab.dday.repository.DdayGoalRepository;
 import com.todolab.task.domain.Task;
 import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.event.TaskChangedEvent;
+import com.todolab.task.event.TaskFootprint;
+import com.todolab.task.repository.TaskArchiveRepository;
 import com.todolab.task.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class DdayGoalService {
 
+    private static final String GOAL_FLIGHT = "dday.goal";
+
     private final DdayGoalRepository ddayGoalRepository;
     private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final SingleFlightRegistry singleFlights;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DdayGoalService(
+            DdayGoalRepository ddayGoalRepository,
+            TaskRepository taskRepository,
+            TaskArchiveRepository taskArchiveRepository,
+            SingleFlightRegistry singleFlights,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.ddayGoalRepository = ddayGoalRepository;
+        this.taskRepository = taskRepository;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.singleFlights = singleFlights;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public DdayGoalResponse create(DdayGoalRequest request) {
@@ -28,25 +56,27 @@ public class DdayGoalService {
         return DdayGoalResponse.from(saved);
     }
 
-    @Transactional(readOnly = true)
+    // 목록 조회는 트랜잭션 밖에서 합치고, 실제로 읽는 leader 만 읽기 전용 트랜잭션을 연다.
+    // (@Transactional(readOnly = true) 를 메서드에 두면 기다리는 호출도 커넥션을 잡는다)
     public List<DdayGoalResponse> findAll() {
-        return ddayGoalRepository.findAllByOrderByTargetDateAscIdAsc().stream()
-                .map(DdayGoalResponse::from)
-                .toList();
+        return singleFlights.execute(GOAL_FLIGHT, "all", () -> readOnlyTransaction.execute(status ->
+                ddayGoalRepository.findAllByOrderByTargetDateAscIdAsc().stream()
+                        .map(DdayGoalResponse::from)
+                        .toList()
+        ));
     }
 
-    @Transactional(readOnly = true)
     public List<DdayGoalResponse> findByDateRange(LocalDate startDate, LocalDate endDate) {
-        return ddayGoalRepository.findByTargetDateBetweenOrderByTargetDateAscIdAsc(startDate, endDate).stream()
-                .map(DdayGoalResponse::from)
-                .toList();
+        return singleFlights.execute(GOAL_FLIGHT, List.of(startDate, endDate), () -> readOnlyTransaction.execute(status ->
+                ddayGoalRepository.findByTargetDateBetweenOrderByTargetDateAscIdAsc(startDate, endDate).stream()
+                        .map(DdayGoalResponse::from)
+                        .toList()
+        ));
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> findTasks(Long id) {
-        if (!ddayGoalRepository.existsById(id)) {
-            throw new DdayGoalNotFoundException(id);
-        }
+        findGoal(id);
 
         return taskRepository.findByDdayGoalId(id).stream()
                 .map(TaskResponse::from)
@@ -55,11 +85,22 @@ public class DdayGoalService {
 
     @Transactional
     public void delete(Long id) {
-        if (!ddayGoalRepository.existsById(id)) {
-            throw new DdayGoalNotFoundException(id);
-        }
+        DdayGoal goal = findGoal(id);
         taskRepository.findByDdayGoalId(id)
-                .forEach(Task::disconnectDdayGoal);
-        ddayGoalRepository.deleteById(id);
+                .forEach(this::disconnect);
+        taskArchiveRepository.disconnectDdayGoal(id);
+        ddayGoalRepository.delete(goal);
+    }
+
+    private void disconnect(Task task) {
+        TaskFootprint before = TaskFootprint.of(task);
+        task.disconnectDdayGoal();
+        eventPublisher.publishEvent(TaskChangedEvent.changed(before, task));
+    }
+
+    // 2차 캐시에 적재된 목표는 DB 조회 없이 확인한다.
+    private DdayGoal findGoal(Long id) {
+        return ddayGoalRepository.findById(id)
+                .orElseThrow(() -> new DdayGoalNotFoundException(id));
     }
 }
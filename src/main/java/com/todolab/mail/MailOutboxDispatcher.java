@@ -0,0 +1,209 @@
+package com.todolab.mail;
+
+import com.todolab.common.deadline.DeadlineExceededException;
+import com.todolab.common.deadline.RequestDeadline;
+import com.todolab.common.trace.TracingExecutors;
+import com.todolab.mail.domain.MailOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * MAIL_OUTBOX 를 주기적으로 비우는 발송기.
+ *  - batch-size 만큼 가져와 connections 개 묶음으로 나누고, 묶음마다 가상 스레드에서 SMTP 연결 하나로 보낸다.
+ *  - 실패한 메일은 지수 backoff 로 재시도하고, max-attempts 에 도달하면 FAILED 로 남긴다.
+ *  - 한 회차는 lease 안에 끝낸다. lease 가 지나면 다른 발송기가 다시 claim 하므로, 그 뒤에 보내면 중복 발송이 된다.
+ *  - mail.outbox.sent : 실제로 SMTP 로 보낸 메일 수 (rate 가 초당 발송 수)
+ *  - mail.outbox.throughput : 회차마다 초당 발송 수 (보낸 메일 수 / 회차 소요 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "app.mail.outbox.dispatcher.enabled",
+        havingValue = "true"
+)
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailService mailService;
+
+    private final int batchSize;
+    private final int connections;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final Counter sentCounter;
+    private final DistributionSummary throughput;
+
+    public MailOutboxDispatcher(
+            MailOutboxService mailOutboxService,
+            MailService mailService,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+            @Value("${app.mail.outbox.connections:2}") int connections,
+            @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.mail.outbox.max-backoff:1h}") Duration maxBackoff,
+            @Value("${app.mail.outbox.lease:5m}") Duration lease
+    ) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailService = mailService;
+        this.batchSize = batchSize;
+        this.connections = Math.max(1, connections);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.throughput = DistributionSummary.builder("mail.outbox.throughput")
+                .baseUnit("mails/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        try {
+            dispatch(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("[MAIL] outbox dispatch 실패", e);
+        }
+    }
+
+    /***
+     * @return 이번 회차에 발송 완료한 메일 수
+     */
+    public int dispatch(LocalDateTime now) {
+        return RequestDeadline.callWithin(lease, () -> dispatchWithinLease(now));
+    }
+
+    private int dispatchWithinLease(LocalDateTime now) {
+        List<MailOutbox> claimed = mailOutboxService.claim(now, batchSize, lease);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        int sent = 0;
+        try (ExecutorService executor = TracingExecutors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (List<MailOutbox> slice : slice(claimed)) {
+                results.add(executor.submit(() -> sendSlice(slice, now)));
+            }
+            for (Future<Integer> result : results) {
+                sent += join(result);
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        double mailsPerSecond = sent * 1_000.0 / elapsedMs;
+        sentCounter.increment(sent);
+        throughput.record(mailsPerSecond);
+        log.info("[MAIL] outbox dispatched. claimed={}, sent={}, elapsedMs={}, mailsPerSecond={}",
+                claimed.size(), sent, elapsedMs, String.format("%.2f", mailsPerSecond));
+        return sent;
+    }
+
+    private int sendSlice(List<MailOutbox> slice, LocalDateTime now) {
+        List<SimpleMailMessage> messages = slice.stream()
+                .map(mail -> mailService.createTextMessage(mail.getRecipient(), mail.getSubject(), mail.getBody()))
+                .toList();
+
+        try {
+            mailService.sendBatch(messages);
+            mailOutboxService.markSent(ids(slice), now);
+            return slice.size();
+        } catch (MailSendException e) {
+            return handlePartialFailure(slice, messages, e, now);
+        } catch (DeadlineExceededException e) {
+            // 보내지 않은 묶음은 lease 가 끝나면 다시 claim 된다.
+            log.warn("[MAIL] outbox slice 발송 생략 (lease 초과). size={}", slice.size());
+            return 0;
+        } catch (MailException e) {
+            log.warn("[MAIL] outbox slice 발송 실패. size={}, error={}", slice.size(), e.getMessage());
+            markFailed(slice, e.getMessage(), now);
+            return 0;
+        }
+    }
+
+    // 실패한 메일만 재시도 대상으로 돌린다. 연결 실패면 JavaMailSenderImpl 이 남은 메일 전부를 failedMessages 에 담는다.
+    private int handlePartialFailure(List<MailOutbox> slice, List<SimpleMailMessage> messages, MailSendException e, LocalDateTime now) {
+        Map<Object, Exception> failedMessages = e.getFailedMessages();
+        if (failedMessages.isEmpty()) {
+            // failedMessages 가 비어 있는 MailSendException 은 전부 보낸 뒤 연결 종료 (QUIT) 에만 실패한 경우다.
+            // 다시 보내면 중복 발송이므로 보낸 것으로 처리한다.
+            log.warn("[MAIL] outbox slice 발송 후 연결 종료 실패. size={}, error={}", slice.size(), e.getMessage());
+            mailOutboxService.markSent(ids(slice), now);
+            return slice.size();
+        }
+
+        List<MailOutbox> sent = new ArrayList<>();
+        for (int i = 0; i < slice.size(); i++) {
+            Exception failure = failedMessages.get(messages.get(i));
+            if (failure == null) {
+                sent.add(slice.get(i));
+            } else {
+                log.warn("[MAIL] outbox 발송 실패. id={}, to={}, error={}",
+                        slice.get(i).getId(), slice.get(i).getRecipient(), failure.getMessage());
+                markFailed(List.of(slice.get(i)), failure.getMessage(), now);
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            mailOutboxService.markSent(ids(sent), now);
+        }
+        return sent.size();
+    }
+
+    private void markFailed(List<MailOutbox> mails, String error, LocalDateTime now) {
+        mailOutboxService.markFailed(ids(mails), error, now, maxAttempts, initialBackoff, maxBackoff);
+    }
+
+    private List<List<MailOutbox>> slice(List<MailOutbox> claimed) {
+        int sliceSize = (claimed.size() + connections - 1) / connections;
+        List<List<MailOutbox>> slices = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += sliceSize) {
+            slices.add(claimed.subList(from, Math.min(from + sliceSize, claimed.size())));
+        }
+        return slices;
+    }
+
+    private List<Long> ids(List<MailOutbox> mails) {
+        return mails.stream()
+                .map(MailOutbox::getId)
+                .toList();
+    }
+
+    private int join(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Outbox dispatch interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Outbox dispatch failed.", e.getCause());
+        }
+    }
+}
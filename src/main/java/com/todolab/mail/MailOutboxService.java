@@ -0,0 +1,53 @@
+package com.todolab.mail;
+
+import com.todolab.mail.domain.MailOutbox;
+import com.todolab.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /***
+     * 메일을 outbox 에 적재한다.
+     * 호출한 쪽의 트랜잭션(예: batch chunk)에 참여하므로, 롤백되면 메일도 발송되지 않는다.
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String body) {
+        MailOutbox saved = mailOutboxRepository.save(new MailOutbox(to, subject, body));
+        log.debug("[MAIL] outbox enqueued. id={}, to={}", saved.getId(), to);
+    }
+
+    // 발송할 메일을 가져오면서 lease 만큼 다음 발송 시각을 미뤄 둔다.
+    @Transactional
+    public List<MailOutbox> claim(LocalDateTime now, int batchSize, Duration lease) {
+        List<MailOutbox> claimed = mailOutboxRepository.findDispatchable(now, PageRequest.of(0, batchSize));
+        claimed.forEach(mail -> mail.claim(now, lease));
+        return claimed;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids, LocalDateTime now) {
+        mailOutboxRepository.findAllById(ids)
+                .forEach(mail -> mail.markSent(now));
+    }
+
+    @Transactional
+    public void markFailed(Collection<Long> ids, String error, LocalDateTime now,
+                           int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        mailOutboxRepository.findAllById(ids)
+                .forEach(mail -> mail.markFailed(error, now, maxAttempts, initialBackoff, maxBackoff));
+    }
+}
@@ -1,5 +1,7 @@
 package com.todolab.mail;
 
+import com.todolab.common.deadline.RequestDeadline;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,8 +9,11 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
+@Observed(name = "mail")
 @RequiredArgsConstructor
 public class MailService {
 
@@ -22,12 +27,23 @@ public class MailService {
     }
 
     public void sendText(String to, String subject, String body) {
+        RequestDeadline.check("mail");
+        mailSender.send(createTextMessage(to, subject, body));
+    }
+
+    // 여러 메일을 SMTP 연결 하나로 보낸다. 실패한 메일은 MailSendException.getFailedMessages() 로 전달된다.
+    // deadline 이 이미 지났으면 연결을 열지 않고 DeadlineExceededException 을 던진다.
+    public void sendBatch(List<SimpleMailMessage> messages) {
+        RequestDeadline.check("mail");
+        mailSender.send(messages.toArray(SimpleMailMessage[]::new));
+    }
+
+    public SimpleMailMessage createTextMessage(String to, String subject, String body) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(FROM);
         message.setTo(to);
         message.setSubject(subject);
         message.setText(body);
-
-        mailSender.send(message);
+        return message;
     }
 }
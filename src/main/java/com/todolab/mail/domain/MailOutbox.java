@@ -0,0 +1,111 @@
+package com.todolab.mail.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "`MAIL_OUTBOX`")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "`ID`")
+    private Long id;
+
+    @Column(name = "`RECIPIENT`", nullable = false)
+    private String recipient;
+
+    @Column(name = "`SUBJECT`", nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "`BODY`", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`STATUS`", nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(name = "`ATTEMPT_COUNT`", nullable = false)
+    private int attemptCount;
+
+    /***
+     * 다음 발송 가능 시각
+     *  - PENDING 상태에서 이 시각이 지나면 dispatcher 가 가져간다.
+     *  - dispatcher 가 가져갈 때 lease 만큼 미뤄 두므로, 발송 도중 죽으면 lease 가 끝난 뒤 다시 발송된다.
+     */
+    @Column(name = "`NEXT_ATTEMPT_AT`", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "`LAST_ERROR`", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "`CREATED_AT`", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "`SENT_AT`")
+    private LocalDateTime sentAt;
+
+    public MailOutbox(String recipient, String subject, String body) {
+        if (recipient == null || recipient.isBlank()) {
+            throw new IllegalArgumentException("recipient는 필수입니다.");
+        }
+        this.recipient = recipient.trim();
+        this.subject = subject;
+        this.body = body;
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount = 0;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    public void claim(LocalDateTime now, Duration lease) {
+        this.nextAttemptAt = now.plus(lease);
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /***
+     * 발송 실패 처리
+     *  - 재시도 간격은 initialBackoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+     *  - maxAttempts 에 도달하면 FAILED 로 종료한다.
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.attemptCount++;
+        this.lastError = truncate(error);
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+            return;
+        }
+
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(this.attemptCount - 1, 20));
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,13 @@
+package com.todolab.mail.domain;
+
+public enum MailOutboxStatus {
+
+    // 발송 대기 (재시도 대기 포함)
+    PENDING,
+
+    // 발송 완료
+    SENT,
+
+    // 최대 재시도 초과
+    FAILED
+}
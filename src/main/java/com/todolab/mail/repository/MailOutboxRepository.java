@@ -0,0 +1,31 @@
+package com.todolab.mail.repository;
+
+import com.todolab.mail.domain.MailOutbox;
+import com.todolab.mail.domain.MailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 여러 인스턴스가 동시에 가져가지 않도록 잠근 행은 건너뛴다. (lock.timeout = -2 : SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select m from MailOutbox m
+            where m.status = com.todolab.mail.domain.MailOutboxStatus.PENDING
+              and m.nextAttemptAt <= :now
+            order by m.id
+            """)
+    List<MailOutbox> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(MailOutboxStatus status);
+}
@@ -0,0 +1,39 @@
+package com.todolab.stats.controller;
+
+import com.todolab.common.api.ApiResponse;
+import com.todolab.stats.dto.DailyTaskStatsResponse;
+import com.todolab.stats.service.DailyTaskStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final DailyTaskStatsService dailyTaskStatsService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<DailyTaskStatsResponse>> getStats(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) String category
+    ) {
+        log.info("[API] getStats request :: from={}, to={}, category={}", from, to, category);
+
+        DailyTaskStatsResponse res = dailyTaskStatsService.getStats(from, to, category);
+
+        log.info("[API] getStats success :: from={}, to={}, days={}", from, to, res.days().size());
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(res));
+    }
+}
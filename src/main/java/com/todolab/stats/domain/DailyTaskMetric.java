@@ -0,0 +1,30 @@
+package com.todolab.stats.domain;
+
+import com.todolab.task.domain.DeferReason;
+
+/***
+ * DAILY_TASK_STATS.METRIC
+ *  - CREATED      : 그날 만든 일정 (CREATED_AT)
+ *  - COMPLETED    : 그날 완료한 일정 (COMPLETED_AT, 완료 취소 시 빠진다)
+ *  - DDAY_LINKED  : COMPLETED 중 D-Day 목표에 연결된 일정
+ *  - CARRIED_OVER : 그날에서 다음 날로 미룬 횟수
+ *  - DEFERRED     : 그날 계획된 일정 중 미룬 이유가 적힌 일정. METRIC 값은 "DEFERRED.{DeferReason}"
+ */
+public enum DailyTaskMetric {
+    CREATED,
+    COMPLETED,
+    DDAY_LINKED,
+    CARRIED_OVER,
+    DEFERRED;
+
+    private static final String DEFERRED_PREFIX = DEFERRED.name() + ".";
+
+    public static String deferred(DeferReason reason) {
+        return DEFERRED_PREFIX + reason.name();
+    }
+
+    // "DEFERRED.TOO_BIG" → TOO_BIG, 그 밖의 METRIC 은 null
+    public static DeferReason deferReasonOf(String code) {
+        return code.startsWith(DEFERRED_PREFIX) ? DeferReason.valueOf(code.substring(DEFERRED_PREFIX.length())) : null;
+    }
+}
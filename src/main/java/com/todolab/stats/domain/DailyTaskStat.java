@@ -0,0 +1,29 @@
+package com.todolab.stats.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/***
+ * DAILY_TASK_STATS : (날짜, 카테고리, 지표) 별 일정 수
+ *  - TaskTxService 의 상태 전이마다 DailyTaskStatsRecorder 가 증감분만 더한다.
+ *  - 기존 데이터는 dailyTaskStatsBackfillJob 으로 날짜 구간별로 다시 만든다.
+ */
+@Entity
+@Table(name = "`DAILY_TASK_STATS`")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyTaskStat {
+
+    @EmbeddedId
+    private DailyTaskStatId id;
+
+    @Column(name = "`STAT_COUNT`", nullable = false)
+    private long statCount;
+
+    public DailyTaskStat(DailyTaskStatId id, long statCount) {
+        this.id = id;
+        this.statCount = statCount;
+    }
+}
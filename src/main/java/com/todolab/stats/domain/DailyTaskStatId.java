@@ -0,0 +1,43 @@
+package com.todolab.stats.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DailyTaskStatId implements Serializable, Comparable<DailyTaskStatId> {
+
+    // 여러 행을 한 트랜잭션에서 갱신할 때 항상 같은 순서로 잠그도록 정렬 기준을 둔다.
+    private static final Comparator<DailyTaskStatId> ORDER = Comparator
+            .comparing(DailyTaskStatId::getStatDate)
+            .thenComparing(DailyTaskStatId::getCategory)
+            .thenComparing(DailyTaskStatId::getMetric);
+
+    @Column(name = "`STAT_DATE`", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "`CATEGORY`", nullable = false)
+    private String category;
+
+    @Column(name = "`METRIC`", nullable = false, length = 50)
+    private String metric;
+
+    @Override
+    public int compareTo(DailyTaskStatId other) {
+        return ORDER.compare(this, other);
+    }
+}
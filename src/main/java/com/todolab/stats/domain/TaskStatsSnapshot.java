@@ -0,0 +1,74 @@
+package com.todolab.stats.domain;
+
+import com.todolab.Constant;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 통계에 쓰이는 Task 필드 스냅샷.
+ * CARRIED_OVER 를 뺀 지표는 Task 의 현재 상태만으로 정해지므로, 전이 전후 contributions() 의 차이가 곧 증감분이다.
+ * (백필도 같은 contributions() 로 다시 만든다)
+ */
+public record TaskStatsSnapshot(
+        String category,
+        LocalDate createdDate,
+        LocalDate completedDate,
+        LocalDate plannedDate,
+        int carryOverCount,
+        DeferReason deferReason,
+        boolean ddayLinked
+) {
+
+    public static TaskStatsSnapshot of(Task task) {
+        return of(
+                task.getCategory(),
+                task.getCreatedAt(),
+                task.getStatus(),
+                task.getCompletedAt(),
+                task.getPlannedDate(),
+                task.getCarryOverCount(),
+                task.getDeferReason(),
+                task.getDdayGoal() != null
+        );
+    }
+
+    public static TaskStatsSnapshot of(String category, LocalDateTime createdAt, TaskStatus status, LocalDateTime completedAt,
+                                       LocalDate plannedDate, int carryOverCount, DeferReason deferReason, boolean ddayLinked) {
+        return new TaskStatsSnapshot(
+                category == null || category.isBlank() ? Constant.UNCATEGORIZED : category,
+                createdAt == null ? null : createdAt.toLocalDate(),
+                status == TaskStatus.DONE && completedAt != null ? completedAt.toLocalDate() : null,
+                plannedDate,
+                carryOverCount,
+                deferReason,
+                ddayLinked
+        );
+    }
+
+    public Map<DailyTaskStatId, Long> contributions() {
+        Map<DailyTaskStatId, Long> contributions = new HashMap<>();
+        if (createdDate != null) {
+            contributions.put(key(createdDate, DailyTaskMetric.CREATED.name()), 1L);
+        }
+        if (completedDate != null) {
+            contributions.put(key(completedDate, DailyTaskMetric.COMPLETED.name()), 1L);
+            if (ddayLinked) {
+                contributions.put(key(completedDate, DailyTaskMetric.DDAY_LINKED.name()), 1L);
+            }
+        }
+        if (deferReason != null && plannedDate != null) {
+            contributions.put(key(plannedDate, DailyTaskMetric.deferred(deferReason)), 1L);
+        }
+        return contributions;
+    }
+
+    public DailyTaskStatId key(LocalDate date, String metric) {
+        return new DailyTaskStatId(date, category, metric);
+    }
+}
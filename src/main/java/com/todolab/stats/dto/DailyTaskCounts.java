@@ -0,0 +1,35 @@
+package com.todolab.stats.dto;
+
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.task.domain.DeferReason;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public record DailyTaskCounts(
+        long created,
+        long completed,
+        long ddayLinked,
+        long carriedOver,
+        Map<DeferReason, Long> deferred
+) {
+
+    // METRIC 코드별 합계 → 응답 모양
+    public static DailyTaskCounts from(Map<String, Long> metrics) {
+        Map<DeferReason, Long> deferred = new EnumMap<>(DeferReason.class);
+        metrics.forEach((metric, count) -> {
+            DeferReason reason = DailyTaskMetric.deferReasonOf(metric);
+            if (reason != null && count != 0) {
+                deferred.put(reason, count);
+            }
+        });
+
+        return new DailyTaskCounts(
+                metrics.getOrDefault(DailyTaskMetric.CREATED.name(), 0L),
+                metrics.getOrDefault(DailyTaskMetric.COMPLETED.name(), 0L),
+                metrics.getOrDefault(DailyTaskMetric.DDAY_LINKED.name(), 0L),
+                metrics.getOrDefault(DailyTaskMetric.CARRIED_OVER.name(), 0L),
+                deferred
+        );
+    }
+}
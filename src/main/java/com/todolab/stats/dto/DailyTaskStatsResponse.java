@@ -0,0 +1,20 @@
+package com.todolab.stats.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record DailyTaskStatsResponse(
+        LocalDate from,
+        LocalDate to,
+        DailyTaskCounts total,
+        List<Day> days
+) {
+
+    public record Day(
+            LocalDate date,
+            DailyTaskCounts total,
+            Map<String, DailyTaskCounts> categories
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.todolab.stats.repository;
+
+import com.todolab.stats.domain.DailyTaskStat;
+import com.todolab.stats.domain.DailyTaskStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyTaskStatRepository extends JpaRepository<DailyTaskStat, DailyTaskStatId> {
+
+    // PK (STAT_DATE, CATEGORY, METRIC) 의 앞부분으로 범위를 읽는다.
+    List<DailyTaskStat> findByIdStatDateBetween(LocalDate from, LocalDate to);
+}
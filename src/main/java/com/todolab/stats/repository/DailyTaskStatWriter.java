@@ -0,0 +1,73 @@
+package com.todolab.stats.repository;
+
+import com.todolab.stats.domain.DailyTaskStatId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DAILY_TASK_STATS 쓰기. 행 단위 증감이라 JPA 엔티티를 읽지 않고 JDBC 로 바로 더한다.
+ * 호출한 쪽 트랜잭션 (TaskTxService / 백필 tasklet) 에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyTaskStatWriter {
+
+    private static final String UPSERT = """
+            INSERT INTO DAILY_TASK_STATS (STAT_DATE, CATEGORY, METRIC, STAT_COUNT)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE STAT_COUNT = STAT_COUNT + ?
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO DAILY_TASK_STATS (STAT_DATE, CATEGORY, METRIC, STAT_COUNT)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키마다 증감분을 더하고, 행이 없으면 만든다. (INSERT ... ON DUPLICATE KEY UPDATE 한 문장)
+     * UPDATE 로 없는 키를 먼저 찾으면 REPEATABLE READ 에서 두 트랜잭션이 같은 gap lock 을 잡은 채 서로의 INSERT 를 기다리며 deadlock 이 난다.
+     * 키 순서대로 보내 두 트랜잭션이 서로의 행을 기다리는 일이 없게 한다.
+     */
+    public void add(Map<DailyTaskStatId, Long> deltas) {
+        List<Object[]> rows = new TreeMap<>(deltas).entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new Object[]{
+                        Date.valueOf(entry.getKey().getStatDate()),
+                        entry.getKey().getCategory(),
+                        entry.getKey().getMetric(),
+                        entry.getValue(),
+                        entry.getValue()
+                })
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+    }
+
+    // [from, to] 구간을 지우고 counts 로 다시 채운다. (백필)
+    public int replace(LocalDate from, LocalDate to, Map<DailyTaskStatId, Long> counts) {
+        jdbcTemplate.update("DELETE FROM DAILY_TASK_STATS WHERE STAT_DATE BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to));
+
+        List<Object[]> rows = new TreeMap<>(counts).entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new Object[]{
+                        Date.valueOf(entry.getKey().getStatDate()),
+                        entry.getKey().getCategory(),
+                        entry.getKey().getMetric(),
+                        entry.getValue()
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.todolab.stats.service;
+
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.stats.domain.DailyTaskStatId;
+import com.todolab.stats.domain.TaskStatsSnapshot;
+import com.todolab.stats.repository.DailyTaskStatWriter;
+import com.todolab.task.domain.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Task 상태 전이마다 DAILY_TASK_STATS 에 증감분만 더한다. 호출한 쪽 트랜잭션 안에서 실행된다.
+ *  - CREATED / COMPLETED / DDAY_LINKED / DEFERRED : 전이 전후 스냅샷 contributions() 의 차이
+ *  - CARRIED_OVER : 미룬 횟수가 늘어난 만큼, 미루기 전 계획일에 더한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyTaskStatsRecorder {
+
+    private final DailyTaskStatWriter dailyTaskStatWriter;
+
+    public void recordCreated(Task task) {
+        dailyTaskStatWriter.add(TaskStatsSnapshot.of(task).contributions());
+    }
+
+    public void recordChanged(TaskStatsSnapshot before, Task task) {
+        dailyTaskStatWriter.add(delta(before, TaskStatsSnapshot.of(task)));
+    }
+
+    public void recordDeleted(Task task) {
+        Map<DailyTaskStatId, Long> deltas = new HashMap<>();
+        TaskStatsSnapshot.of(task).contributions().forEach((key, count) -> deltas.put(key, -count));
+        dailyTaskStatWriter.add(deltas);
+    }
+
+    static Map<DailyTaskStatId, Long> delta(TaskStatsSnapshot before, TaskStatsSnapshot after) {
+        Map<DailyTaskStatId, Long> deltas = new HashMap<>(after.contributions());
+        before.contributions().forEach((key, count) -> deltas.merge(key, -count, Long::sum));
+
+        int carriedOver = after.carryOverCount() - before.carryOverCount();
+        if (carriedOver > 0) {
+            LocalDate carriedFrom = before.plannedDate() == null ? LocalDate.now() : before.plannedDate();
+            deltas.merge(after.key(carriedFrom, DailyTaskMetric.CARRIED_OVER.name()), (long) carriedOver, Long::sum);
+        }
+
+        deltas.values().removeIf(count -> count == 0);
+        return deltas;
+    }
+}
@@ -0,0 +1,79 @@
+package com.todolab.stats.service;
+
+import com.todolab.stats.domain.DailyTaskStat;
+import com.todolab.stats.dto.DailyTaskCounts;
+import com.todolab.stats.dto.DailyTaskStatsResponse;
+import com.todolab.stats.repository.DailyTaskStatRepository;
+import com.todolab.task.exception.TaskValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DAILY_TASK_STATS 만 읽어 기간 통계를 만든다. TASK 는 보지 않으므로 비용은 기간 (일 수 × 카테고리 × 지표) 에 비례한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DailyTaskStatsService {
+
+    private final DailyTaskStatRepository dailyTaskStatRepository;
+    private final int maxDays;
+
+    public DailyTaskStatsService(
+            DailyTaskStatRepository dailyTaskStatRepository,
+            @Value("${app.stats.max-days:366}") int maxDays
+    ) {
+        this.dailyTaskStatRepository = dailyTaskStatRepository;
+        this.maxDays = maxDays;
+    }
+
+    public DailyTaskStatsResponse getStats(LocalDate from, LocalDate to, String category) {
+        validateRange(from, to);
+
+        // date → category → metric → count
+        Map<LocalDate, Map<String, Map<String, Long>>> byDate = new HashMap<>();
+        for (DailyTaskStat stat : dailyTaskStatRepository.findByIdStatDateBetween(from, to)) {
+            if (category != null && !category.equals(stat.getId().getCategory())) {
+                continue;
+            }
+            byDate.computeIfAbsent(stat.getId().getStatDate(), date -> new TreeMap<>())
+                    .computeIfAbsent(stat.getId().getCategory(), c -> new HashMap<>())
+                    .merge(stat.getId().getMetric(), stat.getStatCount(), Long::sum);
+        }
+
+        Map<String, Long> total = new HashMap<>();
+        List<DailyTaskStatsResponse.Day> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Map<String, Map<String, Long>> categories = byDate.getOrDefault(date, Map.of());
+
+            Map<String, Long> dayTotal = new HashMap<>();
+            Map<String, DailyTaskCounts> dayCategories = new TreeMap<>();
+            categories.forEach((name, metrics) -> {
+                metrics.forEach((metric, count) -> dayTotal.merge(metric, count, Long::sum));
+                dayCategories.put(name, DailyTaskCounts.from(metrics));
+            });
+            dayTotal.forEach((metric, count) -> total.merge(metric, count, Long::sum));
+
+            days.add(new DailyTaskStatsResponse.Day(date, DailyTaskCounts.from(dayTotal), dayCategories));
+        }
+
+        return new DailyTaskStatsResponse(from, to, DailyTaskCounts.from(total), days);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new TaskValidationException("통계 조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new TaskValidationException("통계 조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.todolab.task.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 날짜 범위 조회 결과 캐시.
+ *  - 키 : 정규화된 날짜 구간(TaskRangeKey)
+ *  - 무효화 : Task 변경 전/후 시점이 걸리는 구간만 제거한다. (커밋 이후)
+ */
+@Slf4j
+@Component
+public class TaskRangeCache {
+
+    private final Cache<TaskRangeKey, List<TaskResponse>> cache;
+
+    // 조회 도중 무효화가 끼어들면 적재한 결과를 버리기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // getIfPresent + put 으로 적재하므로 Caffeine 의 loadCount 에 잡히지 않는다.
+    private final LongAdder putCount = new LongAdder();
+
+    public TaskRangeCache(
+            @Value("${app.cache.task-range.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.task-range.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public List<TaskResponse> get(TaskRangeKey key, Supplier<List<TaskResponse>> loader) {
+        List<TaskResponse> cached = getIfPresent(key);
+        return cached != null ? cached : load(key, loader);
+    }
+
+    public List<TaskResponse> getIfPresent(TaskRangeKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * loader 를 실행해 적재한다. 실행 도중 무효화가 끼어들면 적재한 결과를 버린다.
+     * 세대는 loader 를 실행하는 호출이 읽어야 하므로, 다른 호출의 결과를 넘겨받아 (single-flight follower) 적재하면 안 된다.
+     */
+    public List<TaskResponse> load(TaskRangeKey key, Supplier<List<TaskResponse>> loader) {
+        long loadGeneration = generation.get();
+        List<TaskResponse> loaded = List.copyOf(loader.get());
+        cache.put(key, loaded);
+        putCount.increment();
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet()
+                .removeIf(key -> event.footprints().anyMatch(key::isTouchedBy));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.info("[CACHE] task range cache cleared");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long putCount() {
+        return putCount.sum();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
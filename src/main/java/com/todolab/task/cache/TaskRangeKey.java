@@ -0,0 +1,64 @@
+package com.todolab.task.cache;
+
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.domain.query.DateRange;
+import com.todolab.task.event.TaskFootprint;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 범위 조회 캐시 키.
+ * DateRange는 항상 00:00 경계로 만들어지므로 날짜 단위 [from, toExclusive) 구간으로 정규화한다.
+ * from == null 이면 하한이 없는 구간(지난 미완료 조회)이다.
+ */
+public record TaskRangeKey(
+        Kind kind,
+        TaskType taskType,
+        LocalDate from,
+        LocalDate toExclusive
+) {
+
+    public enum Kind {
+        SCHEDULE,
+        PLANNED,
+        DONE
+    }
+
+    public static TaskRangeKey schedule(DateRange range, TaskType taskType) {
+        return new TaskRangeKey(Kind.SCHEDULE, taskType, range.getStart().toLocalDate(), range.getEnd().toLocalDate());
+    }
+
+    public static TaskRangeKey planned(LocalDate fromInclusive, LocalDate toExclusive) {
+        return new TaskRangeKey(Kind.PLANNED, null, fromInclusive, toExclusive);
+    }
+
+    public static TaskRangeKey done(LocalDate startDate, LocalDate endDate) {
+        return new TaskRangeKey(Kind.DONE, null, startDate, endDate.plusDays(1));
+    }
+
+    public boolean isTouchedBy(TaskFootprint footprint) {
+        return switch (kind) {
+            case SCHEDULE -> overlapsSchedule(footprint.startAt(), footprint.endAt());
+            case PLANNED -> footprint.targetDate() != null && contains(footprint.targetDate().atStartOfDay());
+            case DONE -> footprint.completedAt() != null && contains(footprint.completedAt());
+        };
+    }
+
+    // TaskRepositoryImpl.overlapsRange 와 같은 기준으로 겹침을 판단한다.
+    private boolean overlapsSchedule(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null) {
+            return false;
+        }
+        if (endAt == null) {
+            return contains(startAt);
+        }
+        return (toExclusive == null || startAt.isBefore(toExclusive.atStartOfDay()))
+                && (from == null || endAt.isAfter(from.atStartOfDay()));
+    }
+
+    private boolean contains(LocalDateTime dateTime) {
+        return (from == null || !dateTime.isBefore(from.atStartOfDay()))
+                && (toExclusive == null || dateTime.isBefore(toExclusive.atStartOfDay()));
+    }
+}
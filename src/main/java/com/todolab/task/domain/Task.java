@@ -87,6 +87,10 @@ public class Task {
     @Column(name = "`UPDATED_AT`")
     private LocalDateTime updatedAt;
 
+    // TASK_ARCHIVE 에서 복원한 완료 일정. TASK 에 없으므로 수정 / 완료 취소 / 삭제할 수 없다.
+    @Transient
+    private boolean archived;
+
     @PrePersist
     protected void onCreate() {
         if (this.status == null) {
@@ -113,6 +117,29 @@ public class Task {
         this.ddayGoal = ddayGoal;
     }
 
+    static Task restore(TaskArchive archive) {
+        Task task = new Task();
+        task.id = archive.getId();
+        task.title = archive.getTitle();
+        task.description = archive.getDescription();
+        task.type = archive.getType();
+        task.startAt = archive.getStartAt();
+        task.endAt = archive.getEndAt();
+        task.allDay = archive.isAllDay();
+        task.category = archive.getCategory();
+        task.status = archive.getStatus();
+        task.targetDate = archive.getTargetDate();
+        task.todayOrder = archive.getTodayOrder();
+        task.completedAt = archive.getCompletedAt();
+        task.carryOverCount = archive.getCarryOverCount();
+        task.deferReason = archive.getDeferReason();
+        task.ddayGoal = archive.getDdayGoal();
+        task.createdAt = archive.getCreatedAt();
+        task.updatedAt = archive.getUpdatedAt();
+        task.archived = true;
+        return task;
+    }
+
     public void update(String title, String description, TaskType type, LocalDateTime startAt, LocalDateTime endAt, boolean allDay, String category) {
         apply(title, description, type, startAt, endAt, allDay, category);
         if (this.status != TaskStatus.DONE && !isUnscheduled()) {
@@ -0,0 +1,97 @@
+package com.todolab.task.domain;
+
+import com.todolab.dday.domain.DdayGoal;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/***
+ * TASK_ARCHIVE : 보관 기간이 지나 TASK 에서 옮긴 완료 일정 (읽기 전용)
+ *  - 행은 taskArchiveJob 이 INSERT ... SELECT 로 옮기므로 ID 는 TASK 의 ID 그대로다.
+ *  - D-Day 목표는 지워질 수 있으므로 FK 를 두지 않는다. (삭제 시 DDAY_GOAL_ID 를 비운다)
+ */
+@Entity
+@Immutable
+@Table(name = "`TASK_ARCHIVE`")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskArchive {
+
+    @Id
+    @Column(name = "`ID`")
+    private Long id;
+
+    @Column(name = "`TITLE`")
+    private String title;
+
+    @Column(name = "`DESCRIPTION`")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`TYPE`", nullable = false)
+    private TaskType type;
+
+    @Column(name = "`START_AT`")
+    private LocalDateTime startAt;
+
+    @Column(name = "`END_AT`")
+    private LocalDateTime endAt;
+
+    @Column(name = "`ALL_DAY`")
+    private boolean allDay;
+
+    @Column(name = "`CATEGORY`")
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`STATUS`", nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "`TARGET_DATE`")
+    private LocalDate targetDate;
+
+    @Column(name = "`TODAY_ORDER`")
+    private Integer todayOrder;
+
+    @Column(name = "`COMPLETED_AT`")
+    private LocalDateTime completedAt;
+
+    @Column(name = "`CARRY_OVER_COUNT`", nullable = false)
+    private int carryOverCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`DEFER_REASON`")
+    private DeferReason deferReason;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "`DDAY_GOAL_ID`", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private DdayGoal ddayGoal;
+
+    @Column(name = "`CREATED_AT`")
+    private LocalDateTime createdAt;
+
+    @Column(name = "`UPDATED_AT`")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "`ARCHIVED_AT`", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * COMPLETED_AT 이 이 시각보다 이른 완료 일정이 보관 대상이다.
+     * taskArchiveJob 과 완료 로그 조회가 같은 기준을 쓴다.
+     */
+    public static LocalDateTime cutoff(LocalDate today, Duration retention) {
+        return today.minusDays(retention.toDays()).atStartOfDay();
+    }
+
+    // 완료 로그 조회 결과를 TASK 조회와 같은 모양으로 돌려준다. (영속 상태가 아닌 Task)
+    public Task toTask() {
+        return Task.restore(this);
+    }
+}
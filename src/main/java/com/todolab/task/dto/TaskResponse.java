@@ -35,7 +35,9 @@ public record TaskResponse(
         LocalDate ddayGoalTargetDate,
         Long ddayDaysLeft,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        // TASK_ARCHIVE 로 옮겨진 완료 일정. 읽기 전용이라 상세 / 완료 취소 같은 동작을 걸지 않는다.
+        boolean archived
 ) {
     public TaskResponse(
             Long id,
@@ -48,7 +50,7 @@ public record TaskResponse(
             String category,
             LocalDateTime createdAt
     ) {
-        this(id, TaskType.defaultType(), title, description, startAt, endAt, allDay, unscheduled, category, null, null, null, null, null, 0, false, null, null, null, null, null, null, createdAt, null);
+        this(id, TaskType.defaultType(), title, description, startAt, endAt, allDay, unscheduled, category, null, null, null, null, null, 0, false, null, null, null, null, null, null, createdAt, null, false);
     }
 
     public static TaskResponse from(Task t) {
@@ -78,6 +80,7 @@ public record TaskResponse(
                 .ddayDaysLeft(ddayGoal == null ? null : ChronoUnit.DAYS.between(LocalDate.now(), ddayGoal.getTargetDate()))
                 .createdAt(t.getCreatedAt())
                 .updatedAt(t.getUpdatedAt())
+                .archived(t.isArchived())
                 .build();
     }
 }
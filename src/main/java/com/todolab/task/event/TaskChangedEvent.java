@@ -0,0 +1,34 @@
+package com.todolab.task.event;
+
+import com.todolab.task.domain.Task;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Task 변경 이벤트.
+ *  - before == null : 생성
+ *  - after == null  : 삭제
+ */
+public record TaskChangedEvent(
+        TaskFootprint before,
+        TaskFootprint after
+) {
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(null, TaskFootprint.of(task));
+    }
+
+    public static TaskChangedEvent changed(TaskFootprint before, Task after) {
+        return new TaskChangedEvent(before, TaskFootprint.of(after));
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(TaskFootprint.of(task), null);
+    }
+
+    public Stream<TaskFootprint> footprints() {
+        return Stream.of(Optional.ofNullable(before), Optional.ofNullable(after))
+                .flatMap(Optional::stream);
+    }
+}
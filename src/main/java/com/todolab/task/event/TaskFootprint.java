@@ -0,0 +1,29 @@
+package com.todolab.task.event;
+
+import com.todolab.task.domain.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Task가 조회 범위에 걸리는 기준 시점 스냅샷.
+ *  - 일정 범위 조회 : startAt / endAt
+ *  - Today 조회    : targetDate
+ *  - 완료 로그 조회 : completedAt
+ */
+public record TaskFootprint(
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        LocalDate targetDate,
+        LocalDateTime completedAt
+) {
+
+    public static TaskFootprint of(Task task) {
+        return new TaskFootprint(
+                task.getStartAt(),
+                task.getEndAt(),
+                task.getTargetDate(),
+                task.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.todolab.task.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 완료 로그 조회가 TASK_ARCHIVE 를 함께 읽어야 하는 경계. (이 시각보다 이른 완료 일정은 TASK_ARCHIVE 에 있을 수 있다)
+ *  - 시작할 때 (스키마가 준비되고 요청을 받기 전) TASK_ARCHIVE 의 MAX(COMPLETED_AT) 로 한 번 읽고, taskArchiveJob 이 끝나면 그 cutoff 로 올린다.
+ *  - 다른 노드에서 돈 보관은 refresh 주기마다 다시 읽어 반영한다.
+ * 조회마다 TASK_ARCHIVE 를 건드리지 않도록 메모리에 둔다. 경계가 높으면 쿼리 하나가 늘 뿐이라 올리기만 한다.
+ */
+@Slf4j
+@Component
+public class TaskArchiveBoundary implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicReference<LocalDateTime> archivedBefore = new AtomicReference<>();
+
+    public TaskArchiveBoundary(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    public boolean covers(LocalDateTime start) {
+        LocalDateTime boundary = archivedBefore.get();
+        return boundary != null && start.isBefore(boundary);
+    }
+
+    // taskArchiveJob 이 cutoff 이전 완료 일정을 옮긴 뒤 부른다.
+    public void advanceTo(LocalDateTime cutoff) {
+        LocalDateTime boundary = archivedBefore.accumulateAndGet(cutoff, TaskArchiveBoundary::later);
+        log.info("[BATCH] task archive boundary advanced. archivedBefore={}", boundary);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.task-archive.boundary-refresh-ms:300000}",
+            initialDelayString = "${app.task-archive.boundary-refresh-ms:300000}"
+    )
+    public void refresh() {
+        Timestamp maxCompletedAt = jdbcTemplate.queryForObject("SELECT MAX(COMPLETED_AT) FROM TASK_ARCHIVE", Timestamp.class);
+        if (maxCompletedAt != null) {
+            // cutoff 와 같은 단위 (자정) 로 올려 잡는다.
+            archivedBefore.accumulateAndGet(
+                    maxCompletedAt.toLocalDateTime().toLocalDate().plusDays(1).atStartOfDay(),
+                    TaskArchiveBoundary::later
+            );
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
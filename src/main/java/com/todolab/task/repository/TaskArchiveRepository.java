@@ -0,0 +1,15 @@
+package com.todolab.task.repository;
+
+import com.todolab.task.domain.TaskArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+
+    // TaskArchive 는 @Immutable 이라 HQL 대신 native 로 비운다.
+    @Modifying
+    @Query(value = "UPDATE TASK_ARCHIVE SET DDAY_GOAL_ID = NULL WHERE DDAY_GOAL_ID = :ddayGoalId", nativeQuery = true)
+    int disconnectDdayGoal(@Param("ddayGoalId") Long ddayGoalId);
+}
@@ -2,37 +2,53 @@ package com.todolab.task.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.todolab.common.deadline.RequestDeadline;
 import com.todolab.task.domain.QTask;
+import com.todolab.task.domain.QTaskArchive;
 import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskArchive;
 import com.todolab.task.domain.TaskStatus;
 import com.todolab.task.domain.TaskType;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+@Timed(value = "task.repository", description = "TaskRepositoryCustom 쿼리 실행 시간")
 public class TaskRepositoryImpl implements TaskRepositoryCustom {
 
+    private static final Comparator<Task> COMPLETED_EARLIEST_FIRST =
+            Comparator.comparing(Task::getCompletedAt).thenComparing(Task::getId);
+    private static final Comparator<Task> COMPLETED_LATEST_FIRST =
+            Comparator.comparing(Task::getCompletedAt).reversed().thenComparing(Task::getId);
+
     private final JPAQueryFactory queryFactory;
+    private final TaskArchiveBoundary archiveBoundary;
 
-    public TaskRepositoryImpl(EntityManager em) {
+    public TaskRepositoryImpl(EntityManager em, TaskArchiveBoundary archiveBoundary) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.archiveBoundary = archiveBoundary;
     }
 
     @Override
     public List<Task> findByDateRange(LocalDateTime start, LocalDateTime end) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
                 .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
                         t.startAt.isNotNull(),
                         overlapsRange(t, start, end)
                 )
-                .orderBy(t.startAt.asc(), t.id.asc())
+                .orderBy(t.startAt.asc(), t.id.asc()))
                 .fetch();
     }
 
@@ -40,7 +56,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
     public List<Task> findByDateRangeAndType(LocalDateTime start, LocalDateTime end, TaskType taskType) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
                 .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
@@ -48,7 +64,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
                         t.startAt.isNotNull(),
                         overlapsRange(t, start, end)
                 )
-                .orderBy(t.startAt.asc(), t.id.asc())
+                .orderBy(t.startAt.asc(), t.id.asc()))
                 .fetch();
     }
 
@@ -56,13 +72,14 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
     public List<Task> findUnscheduledTask() {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
+                .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
                         t.startAt.isNull(),
                         t.endAt.isNull()
                 )
-                .orderBy(t.id.asc())
+                .orderBy(t.id.asc()))
                 .fetch();
     }
 
@@ -70,10 +87,11 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
     public List<Task> findByStatus(TaskStatus status) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
+                .leftJoin(t.ddayGoal).fetchJoin()
                 .where(t.status.eq(status))
-                .orderBy(t.createdAt.asc(), t.id.asc())
+                .orderBy(t.createdAt.asc(), t.id.asc()))
                 .fetch();
     }
 
@@ -81,7 +99,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
     public List<Task> findPlannedTasks(LocalDate fromInclusive, LocalDate toExclusive) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
                 .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
@@ -96,7 +114,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
                         t.todayOrder.asc().nullsLast(),
                         t.createdAt.asc(),
                         t.id.asc()
-                )
+                ))
                 .fetch();
     }
 
@@ -104,13 +122,13 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
     public Integer findMaxTodayOrder(LocalDate targetDate) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .select(t.todayOrder.max())
                 .from(t)
                 .where(
                         t.status.eq(TaskStatus.TODAY),
                         t.targetDate.eq(targetDate)
-                )
+                ))
                 .fetchOne();
     }
 
@@ -135,7 +153,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
         LocalDateTime start = completedDate.atStartOfDay();
         LocalDateTime end = completedDate.plusDays(1).atStartOfDay();
 
-        return queryFactory
+        List<Task> tasks = withDeadline(queryFactory
                 .selectFrom(t)
                 .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
@@ -143,8 +161,10 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
                         t.completedAt.goe(start),
                         t.completedAt.lt(end)
                 )
-                .orderBy(t.completedAt.desc(), t.id.asc())
+                .orderBy(t.completedAt.desc(), t.id.asc()))
                 .fetch();
+
+        return withArchived(tasks, start, end, COMPLETED_LATEST_FIRST);
     }
 
     @Override
@@ -153,7 +173,7 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = endDate.plusDays(1).atStartOfDay();
 
-        return queryFactory
+        List<Task> tasks = withDeadline(queryFactory
                 .selectFrom(t)
                 .leftJoin(t.ddayGoal).fetchJoin()
                 .where(
@@ -161,21 +181,60 @@ public class TaskRepositoryImpl implements TaskRepositoryCustom {
                         t.completedAt.goe(start),
                         t.completedAt.lt(end)
                 )
-                .orderBy(t.completedAt.asc(), t.id.asc())
+                .orderBy(t.completedAt.asc(), t.id.asc()))
                 .fetch();
+
+        return withArchived(tasks, start, end, COMPLETED_EARLIEST_FIRST);
     }
 
     @Override
     public List<Task> findByDdayGoalId(Long ddayGoalId) {
         QTask t = QTask.task;
 
-        return queryFactory
+        return withDeadline(queryFactory
                 .selectFrom(t)
+                .join(t.ddayGoal).fetchJoin()
                 .where(t.ddayGoal.id.eq(ddayGoalId))
-                .orderBy(t.targetDate.asc().nullsLast(), t.createdAt.asc(), t.id.asc())
+                .orderBy(t.targetDate.asc().nullsLast(), t.createdAt.asc(), t.id.asc()))
                 .fetch();
     }
 
+    /**
+     * 조회 범위가 보관 경계 (TaskArchiveBoundary) 이전으로 넘어가면 TASK_ARCHIVE 의 완료 일정을 합친다.
+     * 경계는 현재 retention 설정이 아니라 실제로 옮겨진 데이터에서 잡으므로, retention 을 바꾼 뒤에도 빠지는 행이 없다.
+     * 옮기기는 INSERT + DELETE 를 한 트랜잭션에서 하므로 두 테이블에 같은 행이 동시에 보이지 않는다.
+     */
+    private List<Task> withArchived(List<Task> tasks, LocalDateTime start, LocalDateTime end, Comparator<Task> order) {
+        if (!archiveBoundary.covers(start)) {
+            return tasks;
+        }
+
+        QTaskArchive a = QTaskArchive.taskArchive;
+        List<TaskArchive> archived = withDeadline(queryFactory
+                .selectFrom(a)
+                .leftJoin(a.ddayGoal).fetchJoin()
+                .where(
+                        a.completedAt.goe(start),
+                        a.completedAt.lt(end)
+                ))
+                .fetch();
+        if (archived.isEmpty()) {
+            return tasks;
+        }
+
+        List<Task> merged = new ArrayList<>(tasks.size() + archived.size());
+        merged.addAll(tasks);
+        archived.forEach(archive -> merged.add(archive.toTask()));
+        merged.sort(order);
+        return merged;
+    }
+
+    // 요청 deadline 이 있으면 남은 시간을 JDBC query timeout 으로 건다.
+    private <T> JPAQuery<T> withDeadline(JPAQuery<T> query) {
+        Integer timeoutSeconds = RequestDeadline.queryTimeoutSeconds("task.repository");
+        return timeoutSeconds == null ? query : query.setHint(HibernateHints.HINT_TIMEOUT, timeoutSeconds);
+    }
+
     private BooleanExpression overlapsRange(QTask t, LocalDateTime start, LocalDateTime end) {
         return singleScheduleInRange(t, start, end)
                 .or(periodScheduleOverlapsRange(t, start, end));
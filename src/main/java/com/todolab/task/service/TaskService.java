@@ -1,5 +1,9 @@
 package com.todolab.task.service;
 
+import com.todolab.common.concurrent.SingleFlightRegistry;
+import com.todolab.stats.service.DailyTaskStatsRecorder;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.cache.TaskRangeKey;
 import com.todolab.task.domain.DeferReason;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
@@ -11,25 +15,39 @@ import com.todolab.task.dto.TaskRequest;
 import com.todolab.task.dto.TaskQueryRequest;
 import com.todolab.task.dto.TaskRecommendationResponse;
 import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.event.TaskChangedEvent;
 import com.todolab.task.exception.TaskNotFoundException;
 import com.todolab.task.repository.TaskRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
+@Observed(name = "task.service")
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final String RANGE_FLIGHT = "task.range";
+    private static final String LIST_FLIGHT = "task.list";
+
     private final TaskTxService taskTxService;
     private final TaskRepository taskRepository;
     private final TaskCategoryGrouper taskCategoryGrouper;
+    private final TaskRangeCache taskRangeCache;
+    private final SingleFlightRegistry singleFlights;
+    private final DailyTaskStatsRecorder dailyTaskStats;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public TaskResponse create(TaskRequest req) {
         Task task = Task.builder()
                 .title(req.title())
@@ -42,6 +60,8 @@ public class TaskService {
                 .build();
 
         Task saved = taskRepository.save(task);
+        dailyTaskStats.recordCreated(saved);
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
         return TaskResponse.from(saved);
     }
 
@@ -69,15 +89,15 @@ public class TaskService {
     }
 
     public List<TaskResponse> getInboxTasks() {
-        return taskRepository.findByStatus(TaskStatus.INBOX).stream()
-                .map(TaskResponse::from)
-                .toList();
+        return singleFlights.execute(LIST_FLIGHT, "inbox", () ->
+                taskRepository.findByStatus(TaskStatus.INBOX).stream()
+                        .map(TaskResponse::from)
+                        .toList()
+        );
     }
 
     public List<TaskRecommendationResponse> getTodayRecommendations(LocalDate referenceDate) {
-        List<TaskResponse> overdueTasks = taskRepository.findPlannedTasks(null, referenceDate).stream()
-                .map(TaskResponse::from)
-                .toList();
+        List<TaskResponse> overdueTasks = findPlannedTasks(null, referenceDate);
         List<TaskResponse> inboxTasks = taskRepository.findByStatus(TaskStatus.INBOX).stream()
                 .map(TaskResponse::from)
                 .toList();
@@ -94,21 +114,15 @@ public class TaskService {
     }
 
     public List<TaskResponse> getTodayTasks(LocalDate targetDate) {
-        return taskRepository.findPlannedTasks(targetDate, targetDate.plusDays(1)).stream()
-                .map(TaskResponse::from)
-                .toList();
+        return findPlannedTasks(targetDate, targetDate.plusDays(1));
     }
 
     public List<TaskResponse> getPlannedTasksBetween(LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findPlannedTasks(startDate, endDate.plusDays(1)).stream()
-                .map(TaskResponse::from)
-                .toList();
+        return findPlannedTasks(startDate, endDate.plusDays(1));
     }
 
     public List<TaskResponse> getOverdueTasks(LocalDate beforeDate) {
-        return taskRepository.findPlannedTasks(null, beforeDate).stream()
-                .map(TaskResponse::from)
-                .toList();
+        return findPlannedTasks(null, beforeDate);
     }
 
     public List<TaskResponse> getDoneTasks(LocalDate completedDate) {
@@ -118,9 +132,12 @@ public class TaskService {
     }
 
     public List<TaskResponse> getDoneTasksBetween(LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findDoneTasksBetween(startDate, endDate).stream()
-                .map(TaskResponse::from)
-                .toList();
+        return findRange(
+                TaskRangeKey.done(startDate, endDate),
+                () -> taskRepository.findDoneTasksBetween(startDate, endDate).stream()
+                        .map(TaskResponse::from)
+                        .toList()
+        );
     }
 
     public TaskResponse update(Long id, TaskRequest taskRequest) {
@@ -178,11 +195,13 @@ public class TaskService {
         return TaskResponse.from(disconnected);
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
-        }
-        taskRepository.deleteById(id);
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        taskRepository.delete(task);
+        dailyTaskStats.recordDeleted(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
 
     private List<TaskResponse> findTasks(TaskQueryRequest request) {
@@ -191,16 +210,40 @@ public class TaskService {
 
         DateRange range = type.calculate(strDate);
 
-        return taskRepository.findByDateRangeAndType(range.getStart(), range.getEnd(), request.getTaskType())
-                .stream()
-                .map(TaskResponse::from)
-                .toList();
+        return findRange(
+                TaskRangeKey.schedule(range, request.getTaskType()),
+                () -> taskRepository.findByDateRangeAndType(range.getStart(), range.getEnd(), request.getTaskType())
+                        .stream()
+                        .map(TaskResponse::from)
+                        .toList()
+        );
+    }
+
+    private List<TaskResponse> findPlannedTasks(LocalDate fromInclusive, LocalDate toExclusive) {
+        return findRange(
+                TaskRangeKey.planned(fromInclusive, toExclusive),
+                () -> taskRepository.findPlannedTasks(fromInclusive, toExclusive).stream()
+                        .map(TaskResponse::from)
+                        .toList()
+        );
     }
 
     private List<TaskResponse> findUnscheduledTasks() {
-        return taskRepository.findUnscheduledTask().stream()
-                .map(TaskResponse::from)
-                .toList();
+        return singleFlights.execute(LIST_FLIGHT, "unscheduled", () ->
+                taskRepository.findUnscheduledTask().stream()
+                        .map(TaskResponse::from)
+                        .toList()
+        );
+    }
+
+    // 캐시 미스가 동시에 나면 같은 구간 조회는 한 번만 DB 로 보낸다.
+    // 적재는 flight 안에서 leader 만 한다. follower 가 자기 세대로 leader 의 결과를 적재하면, 그 사이 커밋된 변경의 무효화를 놓친다.
+    private List<TaskResponse> findRange(TaskRangeKey key, Supplier<List<TaskResponse>> loader) {
+        List<TaskResponse> cached = taskRangeCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlights.execute(RANGE_FLIGHT, key, () -> taskRangeCache.load(key, loader));
     }
 
     private record RecommendationCandidate(TaskResponse task, String reason, int priority, long sortKey) {
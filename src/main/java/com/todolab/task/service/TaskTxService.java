@@ -3,15 +3,21 @@ package com.todolab.task.service;
 import com.todolab.dday.domain.DdayGoal;
 import com.todolab.dday.exception.DdayGoalNotFoundException;
 import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.stats.domain.TaskStatsSnapshot;
+import com.todolab.stats.service.DailyTaskStatsRecorder;
 import com.todolab.task.domain.DeferReason;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
 import com.todolab.task.domain.TodayOrderDirection;
 import com.todolab.task.dto.TaskRequest;
+import com.todolab.task.event.TaskChangedEvent;
+import com.todolab.task.event.TaskFootprint;
 import com.todolab.task.exception.TaskNotFoundException;
 import com.todolab.task.exception.TaskValidationException;
 import com.todolab.task.repository.TaskRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,62 +26,78 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
+@Observed(name = "task.tx")
 @RequiredArgsConstructor
 public class TaskTxService {
 
     private final TaskRepository taskRepository;
     private final DdayGoalRepository ddayGoalRepository;
+    private final DailyTaskStatsRecorder dailyTaskStats;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Task updateTx(Long id, TaskRequest req) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
 
         task.update(req.title(), req.description(), req.normalizedType(), req.startAt(), req.endAt(), req.allDay(), req.category());
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task moveToTodayTx(Long id, LocalDate targetDate) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.moveToToday(targetDate);
         assignLastTodayOrder(task, targetDate);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task moveToInboxTx(Long id) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.moveToInbox();
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task completeTx(Long id, LocalDateTime completedAt) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.complete(completedAt);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task reopenTodayTx(Long id, LocalDate targetDate) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.reopenToday(targetDate);
         assignLastTodayOrder(task, targetDate);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task carryOverTx(Long id, LocalDate nextDate) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.carryOverTo(nextDate);
         assignLastTodayOrder(task, nextDate);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task reorderTodayTx(Long id, LocalDate targetDate, TodayOrderDirection direction) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
         validateTodayOrderTarget(task, targetDate, direction);
 
         List<Task> tasks = taskRepository.findPlannedTasks(targetDate, targetDate.plusDays(1));
@@ -92,38 +114,54 @@ public class TaskTxService {
         target.assignTodayOrder(neighbor.getTodayOrder());
         neighbor.assignTodayOrder(targetOrder);
         taskRepository.saveAll(tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.changed(before, target));
         return target;
     }
 
     @Transactional
     public Task setDeferReasonTx(Long id, DeferReason reason) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.setDeferReason(reason);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task clearDeferReasonTx(Long id) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.clearDeferReason();
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task connectDdayGoalTx(Long id, Long ddayGoalId) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         DdayGoal ddayGoal = ddayGoalRepository.findById(ddayGoalId)
                 .orElseThrow(() -> new DdayGoalNotFoundException(ddayGoalId));
 
         task.connectDdayGoal(ddayGoal);
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
     }
 
     @Transactional
     public Task disconnectDdayGoalTx(Long id) {
         Task task = findTask(id);
+        TaskFootprint before = TaskFootprint.of(task);
+        TaskStatsSnapshot stats = TaskStatsSnapshot.of(task);
         task.disconnectDdayGoal();
-        return taskRepository.save(task);
+        return saveChanged(before, stats, task);
+    }
+
+    private Task saveChanged(TaskFootprint before, TaskStatsSnapshot stats, Task task) {
+        Task saved = taskRepository.save(task);
+        dailyTaskStats.recordChanged(stats, task);
+        eventPublisher.publishEvent(TaskChangedEvent.changed(before, task));
+        return saved;
     }
 
     private Task findTask(Long id) {
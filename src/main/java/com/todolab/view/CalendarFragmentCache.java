@@ -0,0 +1,101 @@
+package com.todolab.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todolab.view.model.CalendarCell;
+import com.todolab.view.model.DaySchedule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캘린더 셀 렌더링 결과 캐시.
+ *  - 키 : 셀 종류 + 날짜 + 선택 여부 + 셀이 실제로 그리는 표시 플래그 (이번 달 여부, 일정 / 완료 / 지연 / D-Day 점)
+ *  - 셀은 일정 목록 자체를 그리지 않으므로 모델 전체를 키로 두지 않는다.
+ *    키가 작아 캐시가 일정 데이터를 붙잡지 않고, 점 모양이 같으면 일정이 바뀌어도 다시 렌더링하지 않는다.
+ */
+@Component
+public class CalendarFragmentCache {
+
+    private static final String TEMPLATE = "fragments/calendar-cell";
+    private static final String MONTH_CELL = "monthCell";
+    private static final String WEEK_CELL = "weekCell";
+
+    private final SpringTemplateEngine templateEngine;
+    private final Cache<CellKey, String> cache;
+
+    public CalendarFragmentCache(
+            SpringTemplateEngine templateEngine,
+            @Value("${app.cache.calendar-fragment.maximum-size:2000}") long maximumSize
+    ) {
+        this.templateEngine = templateEngine;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public List<String> renderMonthCells(List<CalendarCell> cells, LocalDate selectedDate) {
+        List<String> rendered = new ArrayList<>(cells.size());
+        for (CalendarCell cell : cells) {
+            boolean selected = cell.date().equals(selectedDate);
+            CellKey key = new CellKey(MONTH_CELL, cell.date(), cell.inMonth(), selected,
+                    hasAny(cell.tasks()), cell.hasDoneTasks(), cell.hasStaleTasks(), hasAny(cell.ddayGoals()));
+            rendered.add(cache.get(key, k -> render(MONTH_CELL, "c", cell, selected, null)));
+        }
+        return rendered;
+    }
+
+    public List<String> renderWeekCells(List<DaySchedule> days, LocalDate selectedDate) {
+        List<String> rendered = new ArrayList<>(days.size());
+        for (int i = 0; i < days.size(); i++) {
+            DaySchedule day = days.get(i);
+            int index = i;
+            boolean selected = day.date().equals(selectedDate);
+            CellKey key = new CellKey(WEEK_CELL, day.date(), false, selected,
+                    hasAny(day.tasks()), day.hasDoneTasks(), day.hasStaleTasks(), hasAny(day.ddayGoals()));
+            rendered.add(cache.get(key, k -> render(WEEK_CELL, "ds", day, selected, index)));
+        }
+        return rendered;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private String render(String fragment, String variableName, Object cell, boolean selected, Integer index) {
+        Context ctx = new Context();
+        ctx.setVariable(variableName, cell);
+        ctx.setVariable("selected", selected);
+        ctx.setVariable("index", index);
+        return templateEngine.process(TEMPLATE, Set.of(fragment), ctx);
+    }
+
+    private static boolean hasAny(List<?> items) {
+        return items != null && !items.isEmpty();
+    }
+
+    // 주간 셀의 요일 인덱스 / 라벨은 날짜(요일)로 결정되므로 키에 따로 두지 않는다.
+    private record CellKey(
+            String fragment,
+            LocalDate date,
+            boolean inMonth,
+            boolean selected,
+            boolean hasTasks,
+            boolean hasDoneTasks,
+            boolean hasStaleTasks,
+            boolean hasDdayGoals
+    ) {
+    }
+}
@@ -27,6 +27,7 @@ public class TaskPageController {
     private final SpringTemplateEngine templateEngine;
     private final TaskService taskService;
     private final TaskViewService taskViewService;
+    private final CalendarFragmentCache calendarFragmentCache;
 
     // ===========================
     //  일정 등록 모달
@@ -180,6 +181,7 @@ public class TaskPageController {
 
         model.addAttribute("selectedDate", page.selectedDate());
         model.addAttribute("weeklyTasks", page.weeklyTasks());
+        model.addAttribute("weekCellsHtml", calendarFragmentCache.renderWeekCells(page.weeklyTasks(), page.selectedDate()));
         model.addAttribute("selectedSchedule", page.selectedSchedule());
         model.addAttribute("weekTotalCount", page.weekTotalCount());
 
@@ -213,6 +215,7 @@ public class TaskPageController {
         model.addAttribute("monthRange", page.monthRange());
 
         model.addAttribute("monthDays", page.monthDays());
+        model.addAttribute("monthCellsHtml", calendarFragmentCache.renderMonthCells(page.monthDays(), page.selectedDate()));
         model.addAttribute("monthTotalCount", page.monthTotalCount());
 
         model.addAttribute("contentView", "pages/task/month");
@@ -1,5 +1,6 @@
 package com.todolab.view;
 
+import com.todolab.common.deadline.RequestDeadline;
 import com.todolab.dday.dto.DdayGoalResponse;
 import com.todolab.dday.service.DdayGoalService;
 import com.todolab.task.domain.query.TaskQueryType;
@@ -12,6 +13,7 @@ import com.todolab.view.model.DdayGoalUi;
 import com.todolab.view.model.MonthPageModel;
 import com.todolab.view.model.TaskUi;
 import com.todolab.view.model.WeekPageModel;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -24,6 +26,7 @@ import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "task.view", description = "주간 / 월간 페이지 모델 생성 시간")
 public class TaskViewService {
 
     private final TaskService taskService;
@@ -48,6 +51,8 @@ public class TaskViewService {
         List<TaskResponse> todayTaskList = taskService.getPlannedTasksBetween(weekStart, weekEnd);
         List<TaskResponse> doneTaskList = taskService.getDoneTasksBetween(weekStart, weekEnd);
         List<DdayGoalResponse> ddayGoals = ddayGoalService.findByDateRange(weekStart, weekEnd);
+        // 조회에 deadline 을 다 썼으면 화면 모델을 만들지 않는다.
+        RequestDeadline.check("task.view.week");
 
         List<DaySchedule> weeklyTasks = new ArrayList<>(7);
         for (int i = 0; i < 7; i++) {
@@ -130,6 +135,7 @@ public class TaskViewService {
         List<TaskResponse> todayTaskList = taskService.getPlannedTasksBetween(gridStart, gridEnd);
         List<TaskResponse> doneTaskList = taskService.getDoneTasksBetween(gridStart, gridEnd);
         List<DdayGoalResponse> ddayGoals = ddayGoalService.findByDateRange(gridStart, gridEnd);
+        RequestDeadline.check("task.view.month");
 
         LocalDate selectedDate = (date != null && date.length() == 10)
                 ? LocalDate.parse(date)
@@ -0,0 +1,48 @@
+package com.todolab.warmup;
+
+import com.todolab.dday.service.DdayGoalService;
+import com.todolab.task.service.TaskService;
+import com.todolab.view.CalendarFragmentCache;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.MonthPageModel;
+import com.todolab.view.model.WeekPageModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 기준일의 hot 데이터를 미리 조회해 캐시(범위 조회 / 셀 렌더링 / 2차 캐시)를 채운다.
+ *  - Today : 오늘 할 일 / 지난 미완료 / 추천
+ *  - Calendar : 기준일이 속한 주간 / 월간 페이지 모델과 셀 HTML
+ *  - D-Day : 목표 목록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotDataWarmer {
+
+    private final TaskService taskService;
+    private final DdayGoalService ddayGoalService;
+    private final TaskViewService taskViewService;
+    private final CalendarFragmentCache calendarFragmentCache;
+
+    public void warmUp(LocalDate baseDate) {
+        long start = System.nanoTime();
+
+        taskService.getTodayTasks(baseDate);
+        taskService.getOverdueTasks(baseDate);
+        taskService.getTodayRecommendations(baseDate);
+        ddayGoalService.findAll();
+
+        // 날짜 파라미터 없이 들어오는 첫 요청과 같은 키가 되도록 기준일을 그대로 넘긴다.
+        WeekPageModel week = taskViewService.getWeekPage(null, baseDate.toString());
+        calendarFragmentCache.renderWeekCells(week.weeklyTasks(), week.selectedDate());
+
+        MonthPageModel month = taskViewService.getMonthPage(null, baseDate.toString());
+        calendarFragmentCache.renderMonthCells(month.monthDays(), month.selectedDate());
+
+        log.info("[WARMUP] hot data warmed. baseDate={}, elapsedMs={}", baseDate, (System.nanoTime() - start) / 1_000_000);
+    }
+}
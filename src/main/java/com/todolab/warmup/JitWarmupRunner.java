@@ -0,0 +1,170 @@
+package com.todolab.warmup;
+
+import com.todolab.Constant;
+import com.todolab.common.api.ApiResponse;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.service.TaskService;
+import com.todolab.view.CalendarFragmentCache;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.MonthPageModel;
+import com.todolab.view.model.WeekPageModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 배포 직후 첫 요청들이 느린 것 (JIT / Hibernate 쿼리 플랜이 차가움) 을 줄이기 위해, 트래픽을 받기 전에 주요 조회 경로를 반복 호출한다.
+ *  - 읽기 전용 + rollback-only 트랜잭션 안에서 TaskService 조회 / TaskViewService 페이지 모델 / 셀 렌더링 / ApiResponse JSON 직렬화
+ *  - 웹 서버가 떠 있으면 loopback 으로 Today / 주간 / 월간 페이지를 요청해 DispatcherServlet 과 Thymeleaf 전체 템플릿까지 데운다.
+ * ApplicationRunner 가 모두 끝나야 Spring Boot 가 ReadinessState.ACCEPTING_TRAFFIC 을 발행하므로,
+ * 시작할 때 REFUSING_TRAFFIC 을 명시해 두면 warm-up 이 끝날 때까지 /actuator/health/readiness 는 OUT_OF_SERVICE 다.
+ * 실패해도 기동은 막지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "app.warmup.enabled",
+        havingValue = "true"
+)
+public class JitWarmupRunner implements ApplicationRunner {
+
+    static final List<String> PAGES = List.of("/tasks/today", "/tasks/week", "/tasks/month");
+
+    private final TaskService taskService;
+    private final TaskViewService taskViewService;
+    private final CalendarFragmentCache calendarFragmentCache;
+    private final TaskRangeCache taskRangeCache;
+    private final HotDataWarmer hotDataWarmer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final int iterations;
+    private final int httpIterations;
+    private final Duration maxDuration;
+
+    public JitWarmupRunner(
+            TaskService taskService,
+            TaskViewService taskViewService,
+            CalendarFragmentCache calendarFragmentCache,
+            TaskRangeCache taskRangeCache,
+            HotDataWarmer hotDataWarmer,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            Environment environment,
+            @Value("${app.warmup.iterations:200}") int iterations,
+            @Value("${app.warmup.http-iterations:20}") int httpIterations,
+            @Value("${app.warmup.max-duration:30s}") Duration maxDuration
+    ) {
+        this.taskService = taskService;
+        this.taskViewService = taskViewService;
+        this.calendarFragmentCache = calendarFragmentCache;
+        this.taskRangeCache = taskRangeCache;
+        this.hotDataWarmer = hotDataWarmer;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.iterations = iterations;
+        this.httpIterations = httpIterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        LocalDate baseDate = LocalDate.now(ZoneId.of(Constant.ZONE_ID));
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        try {
+            int done = warmUpInProcess(baseDate, deadline);
+            int requests = warmUpHttp(deadline);
+            log.info("[WARMUP] jit warm-up done. iterations={}, httpRequests={}, elapsedMs={}",
+                    done, requests, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("[WARMUP] jit warm-up 실패. 그대로 트래픽을 받는다.", e);
+        } finally {
+            // 반복 중에 비운 범위 캐시를 기준일 hot 데이터로 다시 채운다.
+            taskRangeCache.invalidateAll();
+            hotDataWarmer.warmUp(baseDate);
+        }
+    }
+
+    int warmUpInProcess(LocalDate baseDate, long deadline) {
+        int done = 0;
+        while (done < iterations && System.nanoTime() < deadline) {
+            // 범위 캐시에 가려지지 않도록 비우고 조회해야 Hibernate 쿼리 경로까지 데워진다.
+            taskRangeCache.invalidateAll();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                readPaths(baseDate);
+            });
+            done++;
+        }
+        return done;
+    }
+
+    private void readPaths(LocalDate baseDate) {
+        List<TaskResponse> today = taskService.getTodayTasks(baseDate);
+        taskService.getOverdueTasks(baseDate);
+        taskService.getTodayRecommendations(baseDate);
+        taskService.getInboxTasks();
+        taskService.getDoneTasks(baseDate);
+
+        WeekPageModel week = taskViewService.getWeekPage(null, baseDate.toString());
+        calendarFragmentCache.renderWeekCells(week.weeklyTasks(), week.selectedDate());
+        MonthPageModel month = taskViewService.getMonthPage(null, baseDate.toString());
+        calendarFragmentCache.renderMonthCells(month.monthDays(), month.selectedDate());
+
+        objectMapper.writeValueAsString(ApiResponse.success(today));
+    }
+
+    int warmUpHttp(long deadline) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || httpIterations <= 0) {
+            return 0;
+        }
+
+        int requests = 0;
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()) {
+            for (int i = 0; i < httpIterations && System.nanoTime() < deadline; i++) {
+                for (String page : PAGES) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + page))
+                            .timeout(Duration.ofSeconds(5))
+                            .GET()
+                            .build();
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    requests++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("[WARMUP] loopback 요청 실패 :: {}", e.toString());
+        }
+        return requests;
+    }
+}
@@ -19,6 +19,7 @@ CREATE TABLE TASK (
     DESCRIPTION VARCHAR(255) NULL,
     STATUS VARCHAR(30) NOT NULL DEFAULT 'INBOX',
     TARGET_DATE DATE NULL,
+    TODAY_ORDER INTEGER NULL,
     COMPLETED_AT DATETIME NULL,
     CARRY_OVER_COUNT INT NOT NULL DEFAULT 0,
     DEFER_REASON VARCHAR(30) NULL,
@@ -28,3 +29,70 @@ CREATE TABLE TASK (
     PRIMARY KEY (ID),
     CONSTRAINT FK_TASK_DDAY_GOAL FOREIGN KEY (DDAY_GOAL_ID) REFERENCES DDAY_GOAL(ID)
 );
+
+CREATE INDEX IDX_TASK_STATUS_COMPLETED_AT ON TASK (STATUS, COMPLETED_AT);
+CREATE INDEX IDX_TASK_CREATED_AT ON TASK (CREATED_AT);
+CREATE INDEX IDX_TASK_TARGET_DATE_START_AT ON TASK (TARGET_DATE, START_AT);
+
+-- TASK_ARCHIVE
+CREATE TABLE TASK_ARCHIVE (
+    ID BIGINT NOT NULL,
+    TITLE VARCHAR(255) NOT NULL,
+    TYPE VARCHAR(30) NOT NULL,
+    START_AT DATETIME NULL,
+    END_AT DATETIME NULL,
+    ALL_DAY BOOLEAN NOT NULL DEFAULT FALSE,
+    CATEGORY VARCHAR(255) NULL,
+    DESCRIPTION VARCHAR(255) NULL,
+    STATUS VARCHAR(30) NOT NULL,
+    TARGET_DATE DATE NULL,
+    TODAY_ORDER INTEGER NULL,
+    COMPLETED_AT DATETIME NOT NULL,
+    CARRY_OVER_COUNT INT NOT NULL DEFAULT 0,
+    DEFER_REASON VARCHAR(30) NULL,
+    DDAY_GOAL_ID BIGINT NULL,
+    CREATED_AT DATETIME NOT NULL,
+    UPDATED_AT DATETIME NULL,
+    ARCHIVED_AT DATETIME NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_TASK_ARCHIVE_COMPLETED_AT ON TASK_ARCHIVE (COMPLETED_AT);
+CREATE INDEX IDX_TASK_ARCHIVE_CREATED_AT ON TASK_ARCHIVE (CREATED_AT);
+CREATE INDEX IDX_TASK_ARCHIVE_TARGET_DATE_START_AT ON TASK_ARCHIVE (TARGET_DATE, START_AT);
+
+-- DAILY_TASK_STATS
+CREATE TABLE DAILY_TASK_STATS (
+    STAT_DATE DATE NOT NULL,
+    CATEGORY VARCHAR(255) NOT NULL,
+    METRIC VARCHAR(50) NOT NULL,
+    STAT_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (STAT_DATE, CATEGORY, METRIC)
+);
+
+-- MAIL_OUTBOX
+CREATE TABLE MAIL_OUTBOX (
+    ID BIGINT NOT NULL AUTO_INCREMENT,
+    RECIPIENT VARCHAR(255) NOT NULL,
+    SUBJECT VARCHAR(255) NOT NULL,
+    BODY LONGTEXT NOT NULL,
+    STATUS VARCHAR(30) NOT NULL DEFAULT 'PENDING',
+    ATTEMPT_COUNT INT NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT DATETIME NOT NULL,
+    LAST_ERROR VARCHAR(500) NULL,
+    CREATED_AT DATETIME NOT NULL,
+    SENT_AT DATETIME NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_MAIL_OUTBOX_DISPATCH ON MAIL_OUTBOX (STATUS, NEXT_ATTEMPT_AT);
+
+-- SCHEDULER_LOCK
+CREATE TABLE SCHEDULER_LOCK (
+    LOCK_NAME VARCHAR(100) NOT NULL,
+    STATUS VARCHAR(30) NOT NULL,
+    LOCKED_BY VARCHAR(255) NOT NULL,
+    LOCKED_AT DATETIME NOT NULL,
+    LOCK_UNTIL DATETIME NOT NULL,
+    PRIMARY KEY (LOCK_NAME)
+);
@@ -149,6 +149,19 @@
   TaskUI.renderTaskCard = (task, options = {}) => {
     if (!task) return '';
 
+    // ✅ 보관된 완료 일정은 TASK 에 없어 상세 / 완료 취소 API 가 404 다. 읽기 전용으로만 그린다.
+    if (task.archived) {
+      options = {
+        showRightTime: options.showRightTime,
+        rightText: options.rightText,
+        metaText: options.metaText ? `${options.metaText} · 보관됨` : '보관됨',
+        barColor: options.barColor,
+        doneState: options.doneState,
+        showDesc: options.showDesc,
+        readOnly: true
+      };
+    }
+
     const title = TaskUI.escapeHtml(task.title || '(제목 없음)');
     const desc  = TaskUI.escapeHtml((task.description || '').trim());
     const cat   = TaskUI.escapeHtml((task.category || '').trim());
@@ -360,12 +373,17 @@
       : '';
     const actionsHtml = overdueActionsHtml || deferReasonActionsHtml;
 
-    return `
-<div class="task-card task-card-clickable${todayOrderClass} ${staleCarryOver ? 'task-card-stale' : ''}"
+    const cardAttrs = options.readOnly
+      ? `class="task-card ${staleCarryOver ? 'task-card-stale' : ''}"
+     data-archived-task-id="${TaskUI.escapeHtml(task.id)}"`
+      : `class="task-card task-card-clickable${todayOrderClass} ${staleCarryOver ? 'task-card-stale' : ''}"
      data-task-id="${TaskUI.escapeHtml(task.id)}"
      tabindex="0"
      role="button"
-     aria-label="${title} 상세 열기">
+     aria-label="${title} 상세 열기"`;
+
+    return `
+<div ${cardAttrs}>
   <div class="task-row ${options.rowClass || ''}">
     <div class="task-left-bar" style="background:${barColor};"></div>
     ${checkHtml}
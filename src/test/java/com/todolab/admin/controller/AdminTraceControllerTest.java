@@ -0,0 +1,57 @@
+package com.todolab.admin.controller;
+
+import com.todolab.common.api.ApiExceptionHandler;
+import com.todolab.common.api.ErrorCode;
+import com.todolab.common.trace.TraceStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(ApiExceptionHandler.class)
+@WebMvcTest(controllers = AdminTraceController.class)
+class AdminTraceControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    TraceStore traceStore;
+
+    @Test
+    @DisplayName("최근 trace 조회 실패 - limit 이 0 이하면 INVALID_INPUT")
+    void getRecentTraces_fail_nonPositiveLimit() throws Exception {
+        mockMvc.perform(get("/api/admin/traces")
+                        .param("limit", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_INPUT.getCode()));
+
+        then(traceStore).should(never()).recentTraces(anyInt());
+    }
+
+    @Test
+    @DisplayName("최근 trace 조회 성공 - 너무 큰 limit 은 최대값으로 줄인다")
+    void getRecentTraces_success_clampsLimit() throws Exception {
+        given(traceStore.recentTraces(200)).willReturn(List.of());
+
+        mockMvc.perform(get("/api/admin/traces")
+                        .param("limit", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        then(traceStore).should().recentTraces(200);
+    }
+}
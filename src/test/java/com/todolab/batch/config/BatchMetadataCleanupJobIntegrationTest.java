@@ -0,0 +1,98 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.tasklet.BatchMetadataCleanupTasklet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.batch.metadata-cleanup.retention=30d",
+        "app.batch.metadata-cleanup.batch-size=2"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class BatchMetadataCleanupJobIntegrationTest {
+
+    private static final int OLD_EXECUTIONS = 5;
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job batchMetadataCleanupJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(batchMetadataCleanupJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("retention 이 지난 메타데이터만 batch-size 단위로 지우고 삭제 건수를 기록한다")
+    void batchMetadataCleanupJob_deletesExpiredMetadata() throws Exception {
+        // given : 지난 실행 5건을 만들고 retention 밖으로 보낸다
+        for (int i = 1; i <= OLD_EXECUTIONS; i++) {
+            jobOperatorTestUtils.startJob(new JobParametersBuilder()
+                    .addString("baseDate", "2026-01-0" + i)
+                    .toJobParameters());
+        }
+        jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET CREATE_TIME = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(31)));
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(new JobParametersBuilder()
+                .addString("baseDate", "2026-03-12")
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        StepExecution step = jobExecution.getStepExecutions().iterator().next();
+        assertThat(step.getExecutionContext().getLong(BatchMetadataCleanupTasklet.DELETED_JOB_EXECUTIONS))
+                .isEqualTo(OLD_EXECUTIONS);
+        assertThat(step.getExecutionContext().getLong(BatchMetadataCleanupTasklet.DELETED_STEP_EXECUTIONS))
+                .isEqualTo(OLD_EXECUTIONS);
+        assertThat(step.getExecutionContext().getLong(BatchMetadataCleanupTasklet.DELETED_JOB_INSTANCES))
+                .isEqualTo(OLD_EXECUTIONS);
+        // batch-size 2 → 2, 2, 1 세 번의 트랜잭션
+        assertThat(step.getCommitCount()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_JOB_EXECUTION", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_JOB_INSTANCE", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_STEP_EXECUTION", Long.class)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.todolab.batch.config;
+
+import com.todolab.mail.MailOutboxService;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 파티션 수가 BATCH permit 보다 많아도, 각 worker 가 chunk 트랜잭션 커넥션을 쥔 채
+ * 실제 reader 가 fork 한 조회들이 permit 을 기다리다 막히지 않는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.mail.daily-summary.to=a@todolab.com,b@todolab.com,c@todolab.com,d@todolab.com",
+        "app.mail.daily-summary.shard-size=1",
+        "app.mail.daily-summary.concurrency=4",
+        "app.db.bulkhead.enabled=true",
+        "app.db.bulkhead.batch.permits=2",
+        "app.db.bulkhead.batch.max-wait=5s"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class DailyScheduleMailBulkheadIntegrationTest {
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job dailyScheduleMailJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockitoBean
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(dailyScheduleMailJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 파티션 수가 BATCH permit 보다 많아도 실제 reader 조회가 permit 을 기다리다 실패하지 않는다")
+    void dailyScheduleMailJob_concurrencyAbovePermits() throws Exception {
+        // given
+        LocalDate baseDate = LocalDate.of(2026, 3, 12);
+        taskRepository.save(Task.builder()
+                .title("오늘 할 일")
+                .type(TaskType.TODO)
+                .status(TaskStatus.TODAY)
+                .targetDate(baseDate)
+                .build());
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(new JobParametersBuilder()
+                .addString("baseDate", baseDate.toString())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        then(mailOutboxService).should(times(4)).enqueue(anyString(), anyString(), anyString());
+    }
+}
@@ -1,6 +1,6 @@
 package com.todolab.batch.config;
 
-import com.todolab.mail.MailService;
+import com.todolab.mail.MailOutboxService;
 import com.todolab.task.domain.query.TaskQueryType;
 import com.todolab.task.dto.TaskQueryRequest;
 import com.todolab.task.dto.TaskResponse;
@@ -56,7 +56,7 @@ class DailyScheduleMailJobIntegrationTest {
     private TaskService taskService;
 
     @MockitoBean
-    private MailService mailService;
+    private MailOutboxService mailOutboxService;
 
     @BeforeEach
     void setUp() {
@@ -116,7 +116,7 @@ class DailyScheduleMailJobIntegrationTest {
         then(taskService).should().getTasks(refEq(new TaskQueryRequest(TaskQueryType.DAY, "2026-03-12")));
         then(taskService).should().getTasks(refEq(new TaskQueryRequest(TaskQueryType.WEEK, "2026-03-12")));
 
-        then(mailService).should().sendText(
+        then(mailOutboxService).should().enqueue(
                 eq("test@todolab.com"),
                 eq("[ToDoLab] 2026-03-12 일정 요약"),
                 contains("기준일: 2026-03-12")
@@ -136,7 +136,7 @@ class DailyScheduleMailJobIntegrationTest {
 
         // then
         assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
-        then(mailService).shouldHaveNoInteractions();
+        then(mailOutboxService).shouldHaveNoInteractions();
     }
 
     private TaskResponse taskResponse(Long id, String title, LocalDateTime startAt, LocalDateTime endAt, boolean unscheduled) {
@@ -0,0 +1,115 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.listener.DailyMailThroughputListener;
+import com.todolab.mail.MailOutboxService;
+import com.todolab.task.dto.TaskQueryRequest;
+import com.todolab.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.mail.daily-summary.shard-size=1",
+        "app.mail.daily-summary.concurrency=8"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class DailyScheduleMailPartitionIntegrationTest {
+
+    private static final int RECIPIENTS = 40;
+
+    @DynamicPropertySource
+    static void recipients(DynamicPropertyRegistry registry) {
+        registry.add("app.mail.daily-summary.to", () -> IntStream.range(0, RECIPIENTS)
+                .mapToObj(i -> "user" + i + "@todolab.com")
+                .collect(Collectors.joining(",")));
+    }
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job dailyScheduleMailJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(dailyScheduleMailJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @Test
+    @DisplayName("수신자별 파티션으로 모든 수신자에게 메일을 보내고 처리량을 기록한다")
+    void dailyScheduleMailJob_partitionedPerRecipient() throws Exception {
+        // given
+        given(taskService.getUnscheduledTasks()).willReturn(List.of());
+        given(taskService.getTasks(any(TaskQueryRequest.class))).willReturn(List.of());
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("baseDate", "2026-03-12")
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        then(mailOutboxService).should(times(RECIPIENTS)).enqueue(anyString(), anyString(), anyString());
+        then(mailOutboxService).should().enqueue(eq("user0@todolab.com"), anyString(), anyString());
+
+        int enqueued = jobExecution.getExecutionContext().getInt(DailyMailThroughputListener.ENQUEUED_COUNT);
+        double enqueuedPerSecond = jobExecution.getExecutionContext().getDouble(DailyMailThroughputListener.ENQUEUED_PER_SECOND);
+
+        // Job 은 outbox 에 적재만 하므로 SMTP 지연이 없다. 적재 처리량은 값이 기록됐는지만 본다.
+        assertThat(enqueued).isEqualTo(RECIPIENTS);
+        assertThat(enqueuedPerSecond).isPositive();
+        assertThat(jobExecution.getStepExecutions())
+                .filteredOn(step -> step.getStepName().startsWith("dailyScheduleMailWorkerStep"))
+                .hasSize(RECIPIENTS);
+    }
+}
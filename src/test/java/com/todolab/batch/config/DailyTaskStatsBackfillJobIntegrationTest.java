@@ -0,0 +1,179 @@
+package com.todolab.batch.config;
+
+import com.todolab.Constant;
+import com.todolab.dday.domain.DdayGoal;
+import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.stats.dto.DailyTaskStatsResponse;
+import com.todolab.stats.service.DailyTaskStatsService;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.stats.backfill.partition-days=3",
+        "app.stats.backfill.concurrency=2"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class DailyTaskStatsBackfillJobIntegrationTest {
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job dailyTaskStatsBackfillJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DdayGoalRepository ddayGoalRepository;
+
+    @Autowired
+    private DailyTaskStatsService dailyTaskStatsService;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(dailyTaskStatsBackfillJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM DAILY_TASK_STATS");
+        taskRepository.deleteAll();
+        ddayGoalRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("날짜 구간 파티션마다 DAILY_TASK_STATS 를 다시 만들고, 다시 돌려도 결과가 같으며, /api/stats 는 그 행만 읽는다")
+    void dailyTaskStatsBackfillJob_rebuildsStats() throws Exception {
+        // given : 5일 전 완료한 D-Day 연결 일정, 두 번 미뤄 어제로 계획된 미분류 일정, 구간 안팎의 오래된 통계 행
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(10);
+        DdayGoal goal = ddayGoalRepository.save(new DdayGoal("정보처리기사", today.plusDays(30)));
+
+        taskRepository.saveAll(List.of(
+                Task.builder()
+                        .title("done")
+                        .type(TaskType.TODO)
+                        .category("공부")
+                        .status(TaskStatus.DONE)
+                        .targetDate(today.minusDays(5))
+                        .completedAt(today.minusDays(5).atTime(21, 0))
+                        .ddayGoal(goal)
+                        .build(),
+                Task.builder()
+                        .title("carried")
+                        .type(TaskType.TODO)
+                        .status(TaskStatus.TODAY)
+                        .targetDate(today.minusDays(1))
+                        .carryOverCount(2)
+                        .deferReason(DeferReason.TOO_BIG)
+                        .build()
+        ));
+        insertStat(today.minusDays(4), "공부", DailyTaskMetric.COMPLETED.name(), 99);
+        insertStat(today.minusDays(20), "공부", DailyTaskMetric.COMPLETED.name(), 7);
+
+        JobParameters params = new JobParametersBuilder()
+                .addString("fromDate", from.toString())
+                .addString("toDate", today.toString())
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(params);
+
+        // then : 11일 / 3일 → 4개 파티션 + manager step
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions()).hasSize(5);
+
+        Map<String, Long> expected = Map.of(
+                today + "|공부|CREATED", 1L,
+                today + "|" + Constant.UNCATEGORIZED + "|CREATED", 1L,
+                today.minusDays(5) + "|공부|COMPLETED", 1L,
+                today.minusDays(5) + "|공부|DDAY_LINKED", 1L,
+                today.minusDays(1) + "|" + Constant.UNCATEGORIZED + "|" + DailyTaskMetric.deferred(DeferReason.TOO_BIG), 1L,
+                today.minusDays(2) + "|" + Constant.UNCATEGORIZED + "|CARRIED_OVER", 1L,
+                today.minusDays(3) + "|" + Constant.UNCATEGORIZED + "|CARRIED_OVER", 1L,
+                today.minusDays(20) + "|공부|COMPLETED", 7L
+        );
+        assertThat(stats()).isEqualTo(expected);
+
+        // 같은 구간을 다시 돌려도 행이 그대로다
+        JobExecution rerun = jobOperatorTestUtils.startJob(new JobParametersBuilder(params)
+                .addLong("timestamp", System.currentTimeMillis() + 1)
+                .toJobParameters());
+        assertThat(rerun.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stats()).isEqualTo(expected);
+
+        DailyTaskStatsResponse response = dailyTaskStatsService.getStats(from, today, null);
+        assertThat(response.days()).hasSize(11);
+        assertThat(response.total().created()).isEqualTo(2);
+        assertThat(response.total().completed()).isEqualTo(1);
+        assertThat(response.total().ddayLinked()).isEqualTo(1);
+        assertThat(response.total().carriedOver()).isEqualTo(2);
+        assertThat(response.total().deferred()).containsOnly(Map.entry(DeferReason.TOO_BIG, 1L));
+        assertThat(dailyTaskStatsService.getStats(from, today, "공부").total().carriedOver()).isZero();
+    }
+
+    private void insertStat(LocalDate date, String category, String metric, long count) {
+        jdbcTemplate.update("INSERT INTO DAILY_TASK_STATS (STAT_DATE, CATEGORY, METRIC, STAT_COUNT) VALUES (?, ?, ?, ?)",
+                Date.valueOf(date), category, metric, count);
+    }
+
+    private Map<String, Long> stats() {
+        return jdbcTemplate.query("SELECT STAT_DATE, CATEGORY, METRIC, STAT_COUNT FROM DAILY_TASK_STATS", rs -> {
+            Map<String, Long> rows = new HashMap<>();
+            while (rs.next()) {
+                rows.put(rs.getDate("STAT_DATE").toLocalDate() + "|" + rs.getString("CATEGORY") + "|" + rs.getString("METRIC"),
+                        rs.getLong("STAT_COUNT"));
+            }
+            return rows;
+        });
+    }
+}
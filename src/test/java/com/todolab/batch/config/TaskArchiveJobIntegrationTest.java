@@ -0,0 +1,193 @@
+package com.todolab.batch.config;
+
+import com.todolab.batch.tasklet.TaskArchiveTasklet;
+import com.todolab.dday.domain.DdayGoal;
+import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.cache.TaskRangeKey;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.repository.TaskArchiveBoundary;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.task-archive.retention=30d",
+        "app.task-archive.batch-size=2"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class TaskArchiveJobIntegrationTest {
+
+    private static final int OLD_DONE_TASKS = 5;
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job taskArchiveJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DdayGoalRepository ddayGoalRepository;
+
+    @Autowired
+    private TaskRangeCache taskRangeCache;
+
+    @Autowired
+    private TaskArchiveBoundary taskArchiveBoundary;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(taskArchiveJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM TASK_ARCHIVE");
+        taskRepository.deleteAll();
+        ddayGoalRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("retention 이 지난 완료 일정만 batch-size 단위로 TASK_ARCHIVE 로 옮기고, 완료 로그 조회는 두 테이블을 합쳐 돌려준다")
+    void taskArchiveJob_movesOldDoneTasks() throws Exception {
+        // given : 40일 전부터 완료된 일정 5건, 최근 완료 1건, 오래 미룬 미완료 1건
+        LocalDate today = LocalDate.now();
+        LocalDate oldest = today.minusDays(44);
+        DdayGoal goal = ddayGoalRepository.save(new DdayGoal("정보처리기사", today.plusDays(30)));
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < OLD_DONE_TASKS; i++) {
+            LocalDate day = oldest.plusDays(i);
+            tasks.add(done("old-" + i, day, i == 0 ? goal : null));
+        }
+        tasks.add(done("recent", today.minusDays(2), null));
+        tasks.add(Task.builder()
+                .title("carried")
+                .type(TaskType.TODO)
+                .status(TaskStatus.TODAY)
+                .targetDate(oldest)
+                .carryOverCount(3)
+                .build());
+        taskRepository.saveAll(tasks);
+        taskRangeCache.get(TaskRangeKey.done(oldest, today), List::of);
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(new JobParametersBuilder()
+                .addString("baseDate", today.toString())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // 옮긴 행을 TASK id 로 들고 있던 캐시는 비우고, 완료 로그 조회는 TASK_ARCHIVE 를 읽는다.
+        assertThat(taskRangeCache.estimatedSize()).isZero();
+        assertThat(taskArchiveBoundary.covers(oldest.atStartOfDay())).isTrue();
+
+        StepExecution step = jobExecution.getStepExecutions().iterator().next();
+        assertThat(step.getExecutionContext().getLong(TaskArchiveTasklet.ARCHIVED_TASKS)).isEqualTo(OLD_DONE_TASKS);
+        // batch-size 2 → 2, 2, 1 세 번의 트랜잭션
+        assertThat(step.getCommitCount()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TASK_ARCHIVE", Long.class)).isEqualTo(OLD_DONE_TASKS);
+        assertThat(taskRepository.findAll())
+                .extracting(Task::getTitle)
+                .containsExactlyInAnyOrder("recent", "carried");
+
+        assertThat(taskRepository.findDoneTasksBetween(oldest, today))
+                .extracting(Task::getTitle)
+                .containsExactly("old-0", "old-1", "old-2", "old-3", "old-4", "recent");
+        assertThat(taskRepository.findDoneTasksBetween(oldest, today))
+                .extracting(Task::getTitle, Task::isArchived)
+                .contains(tuple("old-0", true), tuple("recent", false));
+        assertThat(taskRepository.findDoneTasks(oldest))
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getDdayGoal().getTitle()).isEqualTo("정보처리기사");
+                    assertThat(TaskResponse.from(task).archived()).isTrue();
+                });
+        assertThat(taskRepository.findDoneTasksBetween(today.minusDays(7), today))
+                .extracting(Task::getTitle)
+                .containsExactly("recent");
+    }
+
+    @Test
+    @DisplayName("cutoff 는 실행한 날이 아니라 jobParameters 의 baseDate 에서 계산한다")
+    void taskArchiveJob_cutoffFromBaseDate() throws Exception {
+        // given : 40 ~ 44일 전 완료 5건. baseDate 가 10일 전이면 cutoff 는 40일 전 자정이다.
+        LocalDate today = LocalDate.now();
+        LocalDate oldest = today.minusDays(44);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < OLD_DONE_TASKS; i++) {
+            tasks.add(done("old-" + i, oldest.plusDays(i), null));
+        }
+        taskRepository.saveAll(tasks);
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(new JobParametersBuilder()
+                .addString("baseDate", today.minusDays(10).toString())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(taskRepository.findAll())
+                .extracting(Task::getTitle)
+                .containsExactly("old-4");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TASK_ARCHIVE", Long.class)).isEqualTo(OLD_DONE_TASKS - 1);
+    }
+
+    private Task done(String title, LocalDate day, DdayGoal goal) {
+        return Task.builder()
+                .title(title)
+                .type(TaskType.TODO)
+                .status(TaskStatus.DONE)
+                .targetDate(day)
+                .completedAt(day.atTime(21, 0))
+                .ddayGoal(goal)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.todolab.batch.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TaskReportJobConfigTest {
+
+    @Test
+    @DisplayName("MySQL 에 useCursorFetch 가 없으면 행 단위 스트리밍으로 바꾼다")
+    void cursorFetchSize_mysqlWithoutCursorFetch_streamsRowByRow() throws SQLException {
+        // given
+        DataSource dataSource = dataSource("MySQL", "jdbc:mysql://db:3306/todolab");
+
+        // when
+        int fetchSize = TaskReportJobConfig.cursorFetchSize(dataSource, 500);
+
+        // then
+        assertThat(fetchSize).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("MySQL 에 useCursorFetch=true 면 설정한 fetch-size 를 그대로 쓴다")
+    void cursorFetchSize_mysqlWithCursorFetch_keepsFetchSize() throws SQLException {
+        // given
+        DataSource dataSource = dataSource("MySQL", "jdbc:mysql://db:3306/todolab?useCursorFetch=true");
+
+        // when
+        int fetchSize = TaskReportJobConfig.cursorFetchSize(dataSource, 500);
+
+        // then
+        assertThat(fetchSize).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("MySQL 이 아니면 설정한 fetch-size 를 그대로 쓴다")
+    void cursorFetchSize_otherDatabase_keepsFetchSize() throws SQLException {
+        // given
+        DataSource dataSource = dataSource("H2", "jdbc:h2:mem:test;MODE=MySQL");
+
+        // when
+        int fetchSize = TaskReportJobConfig.cursorFetchSize(dataSource, 500);
+
+        // then
+        assertThat(fetchSize).isEqualTo(500);
+    }
+
+    private DataSource dataSource(String productName, String url) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+        given(metaData.getDatabaseProductName()).willReturn(productName);
+        given(metaData.getURL()).willReturn(url);
+        return dataSource;
+    }
+}
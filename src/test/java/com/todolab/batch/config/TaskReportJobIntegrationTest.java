@@ -0,0 +1,154 @@
+package com.todolab.batch.config;
+
+import com.todolab.dday.domain.DdayGoal;
+import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.mail.MailOutboxService;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.test.JobOperatorTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@SpringBootTest(properties = {
+        "app.mail.report.to=report@todolab.com",
+        "app.batch.report.chunk-size=100",
+        "app.batch.report.fetch-size=100",
+        "spring.batch.job.enabled=false"
+})
+@SpringBatchTest
+@ActiveProfiles("test")
+class TaskReportJobIntegrationTest {
+
+    private static final int DONE_TASKS = 1_000;
+
+    @Autowired
+    private JobOperatorTestUtils jobOperatorTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job taskReportJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DdayGoalRepository ddayGoalRepository;
+
+    @MockitoBean
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        jobOperatorTestUtils.setJob(taskReportJob);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")
+        ).execute(dataSource);
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        ddayGoalRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("지난달 TASK 를 커서로 스트리밍 집계해 리포트 메일을 outbox 에 적재한다")
+    void taskReportJob_monthly_enqueuesRenderedReport() throws Exception {
+        // given
+        DdayGoal goal = ddayGoalRepository.save(new DdayGoal("정보처리기사", LocalDate.of(2026, 4, 25)));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < DONE_TASKS; i++) {
+            LocalDate day = LocalDate.of(2026, 2, 1).plusDays(i % 28);
+            tasks.add(Task.builder()
+                    .title("done-" + i)
+                    .type(TaskType.TODO)
+                    .category(i % 2 == 0 ? "운동" : "공부")
+                    .status(TaskStatus.DONE)
+                    .targetDate(day)
+                    .completedAt(day.atTime(21, 0))
+                    .ddayGoal(i % 10 == 0 ? goal : null)
+                    .build());
+        }
+        tasks.add(Task.builder()
+                .title("carried")
+                .type(TaskType.TODO)
+                .status(TaskStatus.TODAY)
+                .targetDate(LocalDate.of(2026, 2, 27))
+                .carryOverCount(3)
+                .build());
+        tasks.add(Task.builder()
+                .title("out-of-range")
+                .type(TaskType.TODO)
+                .status(TaskStatus.DONE)
+                .targetDate(LocalDate.of(2026, 3, 2))
+                .completedAt(LocalDateTime.of(2026, 3, 2, 9, 0))
+                .build());
+        taskRepository.saveAll(tasks);
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("period", "MONTHLY")
+                .addString("baseDate", "2026-03-12")
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobOperatorTestUtils.startJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        StepExecution aggregate = jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("taskReportAggregateStep"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(aggregate.getReadCount()).isEqualTo(DONE_TASKS + 1);
+        assertThat(aggregate.getWriteCount()).isZero();
+
+        ArgumentCaptor<String> subject = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        then(mailOutboxService).should().enqueue(eq("report@todolab.com"), subject.capture(), body.capture());
+
+        assertThat(subject.getValue()).isEqualTo("[ToDoLab] 월간 리포트 (2026-02-01 ~ 2026-02-28)");
+        assertThat(body.getValue())
+                .contains("계획 1001건 중 1000건 완료")
+                .contains("기간 내 완료 1000건")
+                .contains("운동: 500")
+                .contains("장기 이월 1건")
+                .contains("정보처리기사 (2026-04-25): 계획 100건, 완료 100건");
+    }
+}
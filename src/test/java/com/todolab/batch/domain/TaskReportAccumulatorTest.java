@@ -0,0 +1,78 @@
+package com.todolab.batch.domain;
+
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskReportAccumulatorTest {
+
+    // 2026-03-12 (목) 기준 지난주 : 2026-03-01 (일) ~ 2026-03-07 (토)
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 3, 12);
+
+    private TaskReportAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new TaskReportAccumulator(ReportPeriod.WEEKLY, ReportPeriod.WEEKLY.previousRange(BASE_DATE));
+    }
+
+    @Test
+    @DisplayName("WEEKLY 는 지난주 일요일 ~ 토요일, MONTHLY 는 지난달 전체를 집계 기간으로 잡는다")
+    void previousRange() {
+        // when
+        TaskReportAccumulator monthly = new TaskReportAccumulator(
+                ReportPeriod.MONTHLY, ReportPeriod.MONTHLY.previousRange(BASE_DATE));
+
+        // then
+        assertThat(accumulator.getFrom()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(accumulator.getToExclusive()).isEqualTo(LocalDate.of(2026, 3, 8));
+        assertThat(monthly.getFrom()).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(monthly.getToExclusive()).isEqualTo(LocalDate.of(2026, 3, 1));
+    }
+
+    @Test
+    @DisplayName("계획 / 완료 / 이월 / 카테고리 / D-Day 별로 카운터만 누적한다")
+    void add_accumulatesCounters() {
+        // given
+        TaskReportRow doneInPeriod = row(TaskStatus.DONE, "운동", LocalDate.of(2026, 3, 2),
+                LocalDateTime.of(2026, 3, 2, 20, 0), 0, null, 1L);
+        TaskReportRow carriedOver = row(TaskStatus.TODAY, "공부", LocalDate.of(2026, 3, 7),
+                null, 3, DeferReason.TOO_BIG, 1L);
+        TaskReportRow plannedBeforeDoneInPeriod = row(TaskStatus.DONE, null, LocalDate.of(2026, 2, 27),
+                LocalDateTime.of(2026, 3, 1, 9, 0), 1, null, null);
+
+        // when
+        accumulator.add(doneInPeriod);
+        accumulator.add(carriedOver);
+        accumulator.add(plannedBeforeDoneInPeriod);
+
+        // then
+        assertThat(accumulator.getScannedCount()).isEqualTo(3);
+        assertThat(accumulator.getPlannedCount()).isEqualTo(2);
+        assertThat(accumulator.getPlannedDoneCount()).isEqualTo(1);
+        assertThat(accumulator.completionRate()).isEqualTo(50.0);
+        assertThat(accumulator.getCompletedCount()).isEqualTo(2);
+        assertThat(accumulator.getCarriedOverCount()).isEqualTo(1);
+        assertThat(accumulator.getCarryOverTotal()).isEqualTo(3);
+        assertThat(accumulator.getStaleCarryOverCount()).isEqualTo(1);
+        assertThat(accumulator.getDeferReasons()).containsEntry(DeferReason.TOO_BIG, 1L);
+        assertThat(accumulator.getCompletedByCategory())
+                .containsEntry("운동", 1L)
+                .containsEntry("미분류", 1L);
+        assertThat(accumulator.getGoals().get(1L).getPlanned()).isEqualTo(2);
+        assertThat(accumulator.getGoals().get(1L).getDone()).isEqualTo(1);
+    }
+
+    private TaskReportRow row(TaskStatus status, String category, LocalDate plannedDate, LocalDateTime completedAt,
+                              int carryOverCount, DeferReason deferReason, Long ddayGoalId) {
+        return new TaskReportRow(1L, status, category, plannedDate, completedAt, carryOverCount, deferReason,
+                ddayGoalId, ddayGoalId == null ? null : "정보처리기사", ddayGoalId == null ? null : LocalDate.of(2026, 5, 1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.todolab.batch.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.step.StepExecution;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BatchStepMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchStepMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new BatchStepMetricsListener(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Step 종료 시 소요 시간과 read / write / filter / skip 건수를 기록하고, 파티션 접미사는 태그에서 뗀다")
+    void afterStep_recordsDurationAndItemCounts() {
+        // given
+        StepExecution stepExecution = stepExecution("dailyScheduleMailWorkerStep:partition3");
+
+        // when
+        ExitStatus exitStatus = listener.afterStep(stepExecution);
+
+        // then
+        assertThat(exitStatus).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(meterRegistry.get("batch.step")
+                .tags("job", "dailyScheduleMailJob", "step", "dailyScheduleMailWorkerStep", "status", "COMPLETED")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.step.items").tags("type", "read").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("batch.step.items").tags("type", "write").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("batch.step.items").tags("type", "filter").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.step.items").tags("type", "skip").counter().count()).isZero();
+    }
+
+    private StepExecution stepExecution(String stepName) {
+        JobInstance jobInstance = mock(JobInstance.class);
+        given(jobInstance.getJobName()).willReturn("dailyScheduleMailJob");
+        JobExecution jobExecution = mock(JobExecution.class);
+        given(jobExecution.getJobInstance()).willReturn(jobInstance);
+
+        StepExecution stepExecution = mock(StepExecution.class);
+        given(stepExecution.getJobExecution()).willReturn(jobExecution);
+        given(stepExecution.getStepName()).willReturn(stepName);
+        given(stepExecution.getStatus()).willReturn(BatchStatus.COMPLETED);
+        given(stepExecution.getExitStatus()).willReturn(ExitStatus.COMPLETED);
+        given(stepExecution.getStartTime()).willReturn(LocalDateTime.now().minusSeconds(1));
+        given(stepExecution.getReadCount()).willReturn(3L);
+        given(stepExecution.getWriteCount()).willReturn(2L);
+        given(stepExecution.getFilterCount()).willReturn(1L);
+        given(stepExecution.getSkipCount()).willReturn(0L);
+        return stepExecution;
+    }
+}
@@ -0,0 +1,167 @@
+package com.todolab.batch.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulerLockTest {
+
+    private static final String LOCK_NAME = "dailyScheduleMailJob:2026-03-12";
+
+    private EmbeddedDatabase database;
+    private SchedulerLock nodeA;
+    private SchedulerLock nodeB;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE SCHEDULER_LOCK (
+                    LOCK_NAME VARCHAR(100) NOT NULL,
+                    STATUS VARCHAR(30) NOT NULL,
+                    LOCKED_BY VARCHAR(255) NOT NULL,
+                    LOCKED_AT TIMESTAMP NOT NULL,
+                    LOCK_UNTIL TIMESTAMP NOT NULL,
+                    PRIMARY KEY (LOCK_NAME)
+                )
+                """);
+
+        nodeA = new SchedulerLock(jdbcTemplate, Duration.ofMinutes(30), "node-a");
+        nodeB = new SchedulerLock(jdbcTemplate, Duration.ofMinutes(30), "node-b");
+        now = LocalDateTime.of(2026, 3, 12, 9, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease 가 살아 있는 동안에는 다른 노드가 락을 얻지 못한다")
+    void tryAcquire_whileLeaseAlive_rejectsOtherNode() {
+        // when
+        boolean first = nodeA.tryAcquire(LOCK_NAME, now);
+        boolean second = nodeB.tryAcquire(LOCK_NAME, now.plusMinutes(10));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("보유 노드가 죽어 lease 가 만료되면 다른 노드가 락을 가져간다")
+    void tryAcquire_afterLeaseExpired_takesOver() {
+        // given
+        nodeA.tryAcquire(LOCK_NAME, now);
+
+        // when
+        boolean acquired = nodeB.tryAcquire(LOCK_NAME, now.plusMinutes(31));
+
+        // then
+        assertThat(acquired).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료된 락은 lease 가 지나도 다시 얻을 수 없다")
+    void tryAcquire_afterCompleted_rejects() {
+        // given
+        nodeA.tryAcquire(LOCK_NAME, now);
+        nodeA.complete(LOCK_NAME);
+
+        // when
+        boolean acquired = nodeB.tryAcquire(LOCK_NAME, now.plusDays(1));
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패로 반납된 락은 즉시 다시 얻을 수 있다")
+    void tryAcquire_afterReleased_acquires() {
+        // given
+        nodeA.tryAcquire(LOCK_NAME, now);
+        nodeA.release(LOCK_NAME, now.plusMinutes(1));
+
+        // when
+        boolean acquired = nodeB.tryAcquire(LOCK_NAME, now.plusMinutes(1));
+
+        // then
+        assertThat(acquired).isTrue();
+    }
+
+    @Test
+    @DisplayName("heartbeat 로 lease 를 연장하면 처음 lease 가 지나도 다른 노드가 가져가지 못한다")
+    void renew_extendsLease() {
+        // given
+        nodeA.tryAcquire(LOCK_NAME, now);
+
+        // when
+        boolean renewed = nodeA.renew(LOCK_NAME, now.plusMinutes(20));
+        boolean acquired = nodeB.tryAcquire(LOCK_NAME, now.plusMinutes(31));
+
+        // then
+        assertThat(renewed).isTrue();
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 가져간 락은 연장하지 못한다")
+    void renew_afterTakenOver_fails() {
+        // given
+        nodeA.tryAcquire(LOCK_NAME, now);
+        nodeB.tryAcquire(LOCK_NAME, now.plusMinutes(31));
+
+        // when
+        boolean renewed = nodeA.renew(LOCK_NAME, now.plusMinutes(32));
+
+        // then
+        assertThat(renewed).isFalse();
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 락은 반납됐거나 lease 가 끝난 것만 catch-up 대상이 된다")
+    void findUnfinished_returnsReleasedAndExpired() {
+        // given
+        nodeA.tryAcquire("released:2026-03-12", now);
+        nodeA.release("released:2026-03-12", now.plusMinutes(1));
+        nodeA.tryAcquire("crashed:2026-03-12", now);
+        nodeA.tryAcquire("running:2026-03-12", now.plusMinutes(20));
+        nodeA.tryAcquire("completed:2026-03-12", now);
+        nodeA.complete("completed:2026-03-12");
+
+        // when
+        List<String> unfinished = nodeB.findUnfinished(Duration.ofDays(1), now.plusMinutes(40));
+
+        // then
+        assertThat(unfinished).containsExactlyInAnyOrder("released:2026-03-12", "crashed:2026-03-12");
+    }
+
+    @Test
+    @DisplayName("락 시각은 노드 시계가 아니라 DB 시계로 잡는다")
+    void tryAcquire_usesDatabaseClock() {
+        // when
+        boolean acquired = nodeA.tryAcquire(LOCK_NAME);
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(nodeA.renew(LOCK_NAME)).isTrue();
+    }
+}
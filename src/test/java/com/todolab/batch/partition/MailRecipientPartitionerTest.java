@@ -0,0 +1,58 @@
+package com.todolab.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailRecipientPartitionerTest {
+
+    @Test
+    @DisplayName("shard-size 가 1이면 수신자마다 파티션을 만든다")
+    void partition_perRecipient() {
+        // given
+        MailRecipientPartitioner partitioner = new MailRecipientPartitioner("a@todolab.com, b@todolab.com,c@todolab.com", 1);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getString(MailRecipientPartitioner.RECIPIENTS)).isEqualTo("a@todolab.com");
+        assertThat(partitions.get("partition1").getString(MailRecipientPartitioner.RECIPIENTS)).isEqualTo("b@todolab.com");
+        assertThat(partitions.get("partition2").getInt(MailRecipientPartitioner.RECIPIENT_COUNT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shard-size 단위로 수신자를 묶고 중복 주소는 한 번만 담는다")
+    void partition_byShard() {
+        // given
+        MailRecipientPartitioner partitioner = new MailRecipientPartitioner(
+                "a@todolab.com,b@todolab.com,a@todolab.com,c@todolab.com,d@todolab.com,e@todolab.com", 2);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getString(MailRecipientPartitioner.RECIPIENTS)).isEqualTo("a@todolab.com,b@todolab.com");
+        assertThat(partitions.get("partition2").getString(MailRecipientPartitioner.RECIPIENTS)).isEqualTo("e@todolab.com");
+        assertThat(partitions.get("partition2").getInt(MailRecipientPartitioner.RECIPIENT_COUNT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 예외가 발생한다")
+    void partition_withoutRecipients_throwsException() {
+        // given
+        MailRecipientPartitioner partitioner = new MailRecipientPartitioner(" , ", 1);
+
+        // when & then
+        assertThatThrownBy(() -> partitioner.partition(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Property 'app.mail.daily-summary.to' is missing.");
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -118,4 +120,25 @@ class DailyScheduleMailSectionReaderTest {
         then(taskService).should(times(1)).getUnscheduledTasks();
         then(taskService).should(times(2)).getTasks(any(TaskQueryRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("세 섹션은 read 를 호출한 스레드 (파티션의 chunk 트랜잭션) 에서 조회한다")
+    void read_loadsSectionsOnCallerThread() {
+        // given
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        given(taskService.getUnscheduledTasks()).willAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return List.of();
+        });
+        given(taskService.getTasks(any(TaskQueryRequest.class))).willAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return List.of();
+        });
+
+        // when
+        reader.read();
+
+        // then
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+}
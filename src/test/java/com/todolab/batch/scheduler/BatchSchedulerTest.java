@@ -1,16 +1,22 @@
 package com.todolab.batch.scheduler;
 
 import com.todolab.Constant;
+import com.todolab.batch.lock.SchedulerLock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -20,21 +26,40 @@ class BatchSchedulerTest {
 
     private JobOperator jobOperator;
     private Job dailyScheduleMailJob;
+    private Job taskReportJob;
+    private Job batchMetadataCleanupJob;
+    private Job taskArchiveJob;
+    private SchedulerLock schedulerLock;
+    private JobRepository jobRepository;
     private BatchScheduler batchScheduler;
+    private String lockName;
 
     @BeforeEach
     void setUp() {
         jobOperator = mock(JobOperator.class);
         dailyScheduleMailJob = mock(Job.class);
-        batchScheduler = new BatchScheduler(jobOperator, dailyScheduleMailJob);
+        taskReportJob = mock(Job.class);
+        batchMetadataCleanupJob = mock(Job.class);
+        taskArchiveJob = mock(Job.class);
+        schedulerLock = mock(SchedulerLock.class);
+        jobRepository = mock(JobRepository.class);
+        batchScheduler = new BatchScheduler(jobOperator, dailyScheduleMailJob, taskReportJob, batchMetadataCleanupJob, taskArchiveJob,
+                schedulerLock, jobRepository, Duration.ofDays(1));
+
+        given(dailyScheduleMailJob.getName()).willReturn("dailyScheduleMailJob");
+        given(taskReportJob.getName()).willReturn("taskReportJob");
+        given(batchMetadataCleanupJob.getName()).willReturn("batchMetadataCleanupJob");
+        given(taskArchiveJob.getName()).willReturn("taskArchiveJob");
+        lockName = "dailyScheduleMailJob:" + LocalDate.now(ZoneId.of(Constant.ZONE_ID));
     }
 
     @Test
-    @DisplayName("스케줄러 실행 시 dailyScheduleMailJob을 실행한다")
+    @DisplayName("스케줄러 실행 시 dailyScheduleMailJob을 baseDate 파라미터만으로 실행한다")
     void runDailyScheduleMailJob_startsJob() throws Exception {
         // given
         ArgumentCaptor<JobParameters> jobParametersCaptor = ArgumentCaptor.forClass(JobParameters.class);
         String expectedBaseDate = LocalDate.now(ZoneId.of(Constant.ZONE_ID)).toString();
+        given(schedulerLock.tryAcquire(lockName)).willReturn(true);
 
         // when
         batchScheduler.runDailyScheduleMailJob();
@@ -45,13 +70,44 @@ class BatchSchedulerTest {
 
         JobParameters jobParameters = jobParametersCaptor.getValue();
         assertThat(jobParameters.getString("baseDate")).isEqualTo(expectedBaseDate);
-        assertThat(jobParameters.getLong("timestamp")).isNotNull();
+        assertThat(jobParameters.getLong("timestamp")).isNull();
+    }
+
+    @Test
+    @DisplayName("Job 이 COMPLETED 로 끝나면 락을 완료 처리해 같은 baseDate 로 다시 실행하지 않는다")
+    void runDailyScheduleMailJob_whenCompleted_completesLock() throws Exception {
+        // given
+        JobExecution execution = mock(JobExecution.class);
+        given(execution.getStatus()).willReturn(BatchStatus.COMPLETED);
+        given(schedulerLock.tryAcquire(lockName)).willReturn(true);
+        given(jobOperator.start(any(Job.class), any(JobParameters.class))).willReturn(execution);
+
+        // when
+        batchScheduler.runDailyScheduleMailJob();
+
+        // then
+        then(schedulerLock).should().complete(lockName);
+        then(schedulerLock).should(never()).release(anyString());
     }
 
     @Test
-    @DisplayName("Job 실행 중 예외가 발생해도 메서드 밖으로 예외를 던지지 않는다")
+    @DisplayName("다른 노드가 락을 보유 중이면 Job 을 실행하지 않는다")
+    void runDailyScheduleMailJob_whenLockNotAcquired_skips() throws Exception {
+        // given
+        given(schedulerLock.tryAcquire(lockName)).willReturn(false);
+
+        // when
+        batchScheduler.runDailyScheduleMailJob();
+
+        // then
+        then(jobOperator).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Job 실행 중 예외가 발생해도 메서드 밖으로 예외를 던지지 않고 락을 반납한다")
     void runDailyscheduleMailJob_whenExceptionOccurs_doesNotThrow() throws Exception {
         // given
+        given(schedulerLock.tryAcquire(lockName)).willReturn(true);
         willThrow(new RuntimeException("batch start failed"))
                 .given(jobOperator)
                 .start(any(Job.class), any(JobParameters.class));
@@ -61,5 +117,63 @@ class BatchSchedulerTest {
                 .doesNotThrowAnyException();
         then(jobOperator).should()
                 .start(any(Job.class), any(JobParameters.class));
+        then(schedulerLock).should().release(lockName);
+    }
+
+    @Test
+    @DisplayName("주간 리포트는 period 별로 락을 잡고 period / baseDate 파라미터로 실행한다")
+    void runWeeklyReportJob_startsReportJob() throws Exception {
+        // given
+        String baseDate = LocalDate.now(ZoneId.of(Constant.ZONE_ID)).toString();
+        String reportLockName = "taskReportJob:WEEKLY:" + baseDate;
+        ArgumentCaptor<JobParameters> jobParametersCaptor = ArgumentCaptor.forClass(JobParameters.class);
+        given(schedulerLock.tryAcquire(reportLockName)).willReturn(true);
+
+        // when
+        batchScheduler.runWeeklyReportJob();
+
+        // then
+        then(jobOperator).should().start(eq(taskReportJob), jobParametersCaptor.capture());
+        assertThat(jobParametersCaptor.getValue().getString("period")).isEqualTo("WEEKLY");
+        assertThat(jobParametersCaptor.getValue().getString("baseDate")).isEqualTo(baseDate);
+    }
+
+    @Test
+    @DisplayName("catch-up 은 끝나지 않은 락의 baseDate / period 로 Job 을 다시 실행하고, window 밖의 baseDate 는 건너뛴다")
+    void runCatchUp_relaunchesUnfinishedLocks() throws Exception {
+        // given
+        LocalDate today = LocalDate.now(ZoneId.of(Constant.ZONE_ID));
+        String reportLockName = "taskReportJob:WEEKLY:" + today.minusDays(1);
+        String staleLockName = "taskArchiveJob:" + today.minusDays(10);
+        ArgumentCaptor<JobParameters> jobParametersCaptor = ArgumentCaptor.forClass(JobParameters.class);
+        given(schedulerLock.findUnfinished(Duration.ofDays(1))).willReturn(List.of(reportLockName, staleLockName));
+        given(schedulerLock.tryAcquire(reportLockName)).willReturn(true);
+
+        // when
+        batchScheduler.runCatchUp();
+
+        // then
+        then(jobOperator).should().start(eq(taskReportJob), jobParametersCaptor.capture());
+        then(jobOperator).should(never()).start(eq(taskArchiveJob), any(JobParameters.class));
+        assertThat(jobParametersCaptor.getValue().getString("period")).isEqualTo("WEEKLY");
+        assertThat(jobParametersCaptor.getValue().getString("baseDate")).isEqualTo(today.minusDays(1).toString());
+    }
+
+    @Test
+    @DisplayName("이전 보유 노드가 남긴 STARTED 실행은 FAILED 로 닫은 뒤 다시 시작한다")
+    void runDailyScheduleMailJob_withAbandonedExecution_failsItBeforeStart() throws Exception {
+        // given
+        JobExecution abandoned = mock(JobExecution.class);
+        given(abandoned.isRunning()).willReturn(true);
+        given(schedulerLock.tryAcquire(lockName)).willReturn(true);
+        given(jobRepository.getLastJobExecution(eq("dailyScheduleMailJob"), any(JobParameters.class))).willReturn(abandoned);
+
+        // when
+        batchScheduler.runDailyScheduleMailJob();
+
+        // then
+        then(abandoned).should().setStatus(BatchStatus.FAILED);
+        then(jobRepository).should().update(abandoned);
+        then(jobOperator).should().start(eq(dailyScheduleMailJob), any(JobParameters.class));
     }
-}
\ No newline at end of file
+}
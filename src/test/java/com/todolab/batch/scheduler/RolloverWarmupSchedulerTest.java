@@ -0,0 +1,71 @@
+package com.todolab.batch.scheduler;
+
+import com.todolab.Constant;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.warmup.HotDataWarmer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.*;
+
+class RolloverWarmupSchedulerTest {
+
+    private HotDataWarmer hotDataWarmer;
+    private TaskRangeCache taskRangeCache;
+    private RolloverWarmupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        hotDataWarmer = mock(HotDataWarmer.class);
+        taskRangeCache = mock(TaskRangeCache.class);
+        scheduler = new RolloverWarmupScheduler(hotDataWarmer, taskRangeCache);
+    }
+
+    @Test
+    @DisplayName("자정 전에는 다음 날 기준으로 데운다")
+    void prewarmNextDay_warmsTomorrow() {
+        // given
+        LocalDate tomorrow = LocalDate.now(ZoneId.of(Constant.ZONE_ID)).plusDays(1);
+
+        // when
+        scheduler.prewarmNextDay();
+
+        // then
+        then(hotDataWarmer).should().warmUp(tomorrow);
+        then(taskRangeCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("자정 직후에는 범위 조회 캐시를 비운 뒤 오늘 기준으로 다시 채운다")
+    void rollover_invalidatesThenWarmsToday() {
+        // given
+        LocalDate today = LocalDate.now(ZoneId.of(Constant.ZONE_ID));
+
+        // when
+        scheduler.rollover();
+
+        // then
+        InOrder inOrder = inOrder(taskRangeCache, hotDataWarmer);
+        inOrder.verify(taskRangeCache).invalidateAll();
+        inOrder.verify(hotDataWarmer).warmUp(today);
+    }
+
+    @Test
+    @DisplayName("워밍업 중 예외가 발생해도 메서드 밖으로 예외를 던지지 않는다")
+    void rollover_whenExceptionOccurs_doesNotThrow() {
+        // given
+        willThrow(new RuntimeException("warmup failed"))
+                .given(hotDataWarmer)
+                .warmUp(any(LocalDate.class));
+
+        // when & then
+        assertThatCode(() -> scheduler.rollover()).doesNotThrowAnyException();
+        assertThatCode(() -> scheduler.prewarmNextDay()).doesNotThrowAnyException();
+    }
+}
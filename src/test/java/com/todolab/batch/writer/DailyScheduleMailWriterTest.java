@@ -2,7 +2,7 @@ package com.todolab.batch.writer;
 
 import com.todolab.batch.domain.ScheduleMailSectionContent;
 import com.todolab.batch.domain.ScheduleSectionType;
-import com.todolab.mail.MailService;
+import com.todolab.mail.MailOutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +17,15 @@ import static org.mockito.BDDMockito.*;
 
 class DailyScheduleMailWriterTest {
 
-    private MailService mailService;
+    private MailOutboxService mailOutboxService;
     private DailyScheduleMailWriter writer;
 
     @BeforeEach
     void setUp() {
-        mailService = mock(MailService.class);
-        writer = new DailyScheduleMailWriter(mailService);
+        mailOutboxService = mock(MailOutboxService.class);
+        writer = new DailyScheduleMailWriter(mailOutboxService);
 
-        ReflectionTestUtils.setField(writer, "toEmail", "test@todolab.com");
+        ReflectionTestUtils.setField(writer, "recipients", "test@todolab.com");
         ReflectionTestUtils.setField(writer, "baseDateParam", "2026-03-12");
     }
 
@@ -39,8 +39,8 @@ class DailyScheduleMailWriterTest {
         writer.write(chunk);
 
         // then
-        then(mailService).should(never())
-                .sendText(anyString(), anyString(), anyString());
+        then(mailOutboxService).should(never())
+                .enqueue(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -80,14 +80,36 @@ class DailyScheduleMailWriterTest {
         writer.write(chunk);
 
         // then
-        then(mailService).should()
-                .sendText(
+        then(mailOutboxService).should()
+                .enqueue(
                         eq("test@todolab.com"),
                         eq("[ToDoLab] 2026-03-12 일정 요약"),
                         eq(expectedBody)
                 );
     }
 
+    @Test
+    @DisplayName("파티션 수신자가 여러 명이면 같은 본문을 수신자마다 보낸다")
+    void write_multipleRecipients_sendMailToEach() {
+        // given
+        ReflectionTestUtils.setField(writer, "recipients", "a@todolab.com, b@todolab.com");
+
+        Chunk<ScheduleMailSectionContent> chunk = new Chunk<>(
+                List.of(new ScheduleMailSectionContent(
+                        ScheduleSectionType.TODAY,
+                        "- 회의 [2026-03-12 10:00]\n"
+                ))
+        );
+
+        // when
+        writer.write(chunk);
+
+        // then
+        then(mailOutboxService).should().enqueue(eq("a@todolab.com"), eq("[ToDoLab] 2026-03-12 일정 요약"), anyString());
+        then(mailOutboxService).should().enqueue(eq("b@todolab.com"), eq("[ToDoLab] 2026-03-12 일정 요약"), anyString());
+        then(mailOutboxService).shouldHaveNoMoreInteractions();
+    }
+
     @Test
     @DisplayName("baseDate 파라미터가 없으면 예외가 발생한다")
     void write_withoutBaseDate_throwsException() {
@@ -111,7 +133,7 @@ class DailyScheduleMailWriterTest {
     @DisplayName("수신자 메일 주소가 없으면 예외가 발생한다")
     void write_withoutRecipient_throwsException() {
         // given
-        ReflectionTestUtils.setField(writer, "toEmail", " ");
+        ReflectionTestUtils.setField(writer, "recipients", " ");
 
         Chunk<ScheduleMailSectionContent> chunk = new Chunk<>(
                 List.of(new ScheduleMailSectionContent(
@@ -123,6 +145,6 @@ class DailyScheduleMailWriterTest {
         // when & then
         assertThatThrownBy(() -> writer.write(chunk))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessage("Property 'app.mail.daily-summary.to' is missing.");
+                .hasMessage("StepExecutionContext 'recipients' is missing in writer.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.todolab.common.bulkhead;
+
+import com.todolab.common.trace.TracingExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DbBulkheadTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        BulkheadLaneContext.exit();
+    }
+
+    @Test
+    @DisplayName("lane 의 permit 이 다 차면 max-wait 만큼 기다린 뒤 거절하고 거절 수를 남긴다")
+    void acquire_laneFull_rejectedAfterMaxWait() throws Exception {
+        // given
+        DbBulkhead bulkhead = bulkhead(1, 1, 1, Duration.ofMillis(50));
+        BulkheadLaneContext.enter(BulkheadLane.API);
+        DbBulkhead.Permit permit = bulkhead.acquire();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> other = executor.submit(() -> {
+                BulkheadLaneContext.enter(BulkheadLane.API);
+                return bulkhead.acquire();
+            });
+
+            // then
+            assertThatThrownBy(() -> other.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DbBulkheadRejectedException.class);
+        }
+        assertThat(meterRegistry.get("db.bulkhead.rejected").tag("lane", "api").counter().count()).isEqualTo(1);
+        assertThat(bulkhead.waiting(BulkheadLane.API)).isZero();
+
+        permit.release();
+        assertThat(bulkhead.available(BulkheadLane.API)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lane 별 예산은 서로 독립이라 API 가 가득 차도 BATCH 는 커넥션을 얻는다")
+    void acquire_lanesAreIsolated() throws Exception {
+        // given
+        DbBulkhead bulkhead = bulkhead(1, 1, 1, Duration.ofMillis(50));
+        BulkheadLaneContext.enter(BulkheadLane.API);
+        DbBulkhead.Permit apiPermit = bulkhead.acquire();
+
+        // when
+        DbBulkhead.Permit batchPermit;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            batchPermit = executor.submit(bulkhead::acquire).get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(bulkhead.available(BulkheadLane.API)).isZero();
+        assertThat(bulkhead.available(BulkheadLane.BATCH)).isZero();
+        assertThat(bulkhead.available(BulkheadLane.PAGE)).isEqualTo(1);
+
+        apiPermit.release();
+        batchPermit.release();
+    }
+
+    @Test
+    @DisplayName("같은 스레드가 커넥션을 쥔 채 또 얻으면 permit 을 더 받지 않고, 모두 닫힌 뒤 반납한다")
+    void getConnection_nestedOnSameThread_sharesPermit() throws Exception {
+        // given
+        DbBulkhead bulkhead = bulkhead(1, 1, 1, Duration.ofMillis(50));
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        BulkheadDataSource dataSource = new BulkheadDataSource(database, () -> bulkhead);
+
+        try {
+            // when
+            Connection outer = dataSource.getConnection();
+            Connection inner = dataSource.getConnection();
+
+            // then
+            assertThat(bulkhead.available(BulkheadLane.BATCH)).isZero();
+            inner.close();
+            assertThat(bulkhead.available(BulkheadLane.BATCH)).isZero();
+            outer.close();
+            outer.close();
+            assertThat(bulkhead.available(BulkheadLane.BATCH)).isEqualTo(1);
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("permit 을 쥔 채 fork 한 작업은 lane 과 부모 permit 을 이어받아, lane 이 가득 차도 기다리지 않는다")
+    void acquire_forkedWhileHolding_sharesParentPermit() throws Exception {
+        // given
+        DbBulkhead bulkhead = bulkhead(1, 1, 1, Duration.ofMillis(50));
+        BulkheadLaneContext.enter(BulkheadLane.API);
+        DbBulkhead.Permit parent = bulkhead.acquire();
+
+        // when
+        DbBulkhead.Permit child;
+        try (ExecutorService executor = TracingExecutors.newVirtualThreadPerTaskExecutor()) {
+            child = executor.submit(bulkhead::acquire).get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(child).isSameAs(parent);
+        assertThat(bulkhead.available(BulkheadLane.BATCH)).isEqualTo(1);
+
+        parent.release();
+        assertThat(bulkhead.available(BulkheadLane.API)).isZero();
+        child.release();
+        assertThat(bulkhead.available(BulkheadLane.API)).isEqualTo(1);
+    }
+
+    private DbBulkhead bulkhead(int api, int page, int batch, Duration maxWait) {
+        return new DbBulkhead(meterRegistry, Map.of(
+                BulkheadLane.API, new DbBulkhead.Budget(api, maxWait),
+                BulkheadLane.PAGE, new DbBulkhead.Budget(page, maxWait),
+                BulkheadLane.BATCH, new DbBulkhead.Budget(batch, maxWait)
+        ));
+    }
+}
@@ -0,0 +1,153 @@
+package com.todolab.common.concurrent;
+
+import com.todolab.common.deadline.DeadlineExceededException;
+import com.todolab.common.deadline.RequestDeadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행하고 결과를 공유한다")
+    void execute_concurrentSameKey_coalesced() throws Exception {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 50;
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>(callers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flight.execute("week", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            waitUntil(() -> flight.coalesced() == callers - 1);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        }
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(flight.coalesced()).isEqualTo(callers - 1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행이 끝난 뒤 들어온 호출은 새로 실행한다")
+    void execute_sequential_notCoalesced() {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        flight.execute("today", loads::incrementAndGet);
+        flight.execute("today", loads::incrementAndGet);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(flight.coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 에서 발생한 예외는 기다리던 호출에도 그대로 전달된다")
+    void execute_leaderFails_followersReceiveSameException() throws Exception {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> flight.execute("dday", () -> {
+                await(release);
+                throw new IllegalStateException("db down");
+            }));
+            waitUntil(() -> flight.inFlight() == 1);
+            Future<Integer> follower = executor.submit(() -> flight.execute("dday", () -> 1));
+            waitUntil(() -> flight.coalesced() == 1);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("db down");
+        }
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 가 자기 deadline 때문에 실패하면 follower 는 그 실패를 받지 않고 자기 deadline 으로 다시 실행한다")
+    void execute_leaderDeadlineExceeded_followerLoadsItself() throws Exception {
+        // given : leader 는 1ms deadline (X-Request-Timeout: 1), follower 는 deadline 없음 (배치)
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> RequestDeadline.callWithin(Duration.ofMillis(1), () ->
+                    flight.execute("week", () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        RequestDeadline.check("load");
+                        return 1;
+                    })));
+            waitUntil(() -> flight.inFlight() == 1);
+            Future<Integer> follower = executor.submit(() -> flight.execute("week", () -> {
+                loads.incrementAndGet();
+                return 42;
+            }));
+            waitUntil(() -> flight.coalesced() == 1);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DeadlineExceededException.class);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(loads).hasValue(2);
+        assertThat(flight.retried()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
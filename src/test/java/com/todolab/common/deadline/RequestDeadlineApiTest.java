@@ -0,0 +1,93 @@
+package com.todolab.common.deadline;
+
+import com.todolab.common.api.ApiExceptionHandler;
+import com.todolab.common.api.ErrorCode;
+import com.todolab.config.RequestDeadlineConfig;
+import com.todolab.task.controller.TaskController;
+import com.todolab.task.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 deadline 이 지나면 예외가 어떤 모양으로 오든 504 + REQUEST_TIMEOUT (90003) 으로 응답하는지 확인한다.
+ */
+@Import({ApiExceptionHandler.class, RequestDeadlineConfig.class})
+@WebMvcTest(controllers = TaskController.class)
+class RequestDeadlineApiTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 21);
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    TaskService taskService;
+
+    @Test
+    @DisplayName("X-Request-Timeout 이 지난 뒤 조회하려 하면 504 와 REQUEST_TIMEOUT 으로 응답한다")
+    void tinyTimeoutHeader_respondsGatewayTimeout() throws Exception {
+        // given : 조회 전에 deadline 이 지나도록 잠시 멈춘 뒤, 리포지토리처럼 query timeout 을 구한다.
+        willAnswer(invocation -> {
+            Thread.sleep(50);
+            RequestDeadline.queryTimeoutSeconds("task.repository");
+            return List.of();
+        }).given(taskService).getTodayTasks(DATE);
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/today")
+                        .header(RequestDeadlineFilter.TIMEOUT_HEADER, "1")
+                        .param("date", DATE.toString()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.status").value("fail"))
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.REQUEST_TIMEOUT.getCode()));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 시작 중 deadline 이 지나 CannotCreateTransactionException 으로 감싸여 와도 504 로 응답한다")
+    void deadlineWrappedByTransactionBegin_respondsGatewayTimeout() throws Exception {
+        // given
+        given(taskService.getTodayTasks(DATE)).willThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new DeadlineExceededException("db.bulkhead", 5)
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/today").param("date", DATE.toString()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.status").value("fail"))
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.REQUEST_TIMEOUT.getCode()));
+    }
+
+    @Test
+    @DisplayName("JDBC query timeout 이 트랜잭션 예외로 감싸여 와도 504 로 응답한다")
+    void queryTimeoutWrappedByTransaction_respondsGatewayTimeout() throws Exception {
+        // given
+        given(taskService.getTodayTasks(DATE)).willThrow(new TransactionSystemException(
+                "Could not commit JPA transaction",
+                new QueryTimeoutException("Query timed out")
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/today").param("date", DATE.toString()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.status").value("fail"))
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.REQUEST_TIMEOUT.getCode()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.todolab.common.deadline;
+
+import com.todolab.common.trace.TracingExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestDeadlineTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(
+            List.of(
+                    RequestDeadlineRule.parse("GET /api/tasks?type=month:3s"),
+                    RequestDeadlineRule.parse("* /api/**:2s")
+            ),
+            Duration.ofSeconds(5)
+    );
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.restore(null);
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 처음 맞는 endpoint 기본값을 쓰고, 맞는 규칙이 없으면 deadline 을 두지 않는다")
+    void timeout_defaults() {
+        // given
+        MockHttpServletRequest month = new MockHttpServletRequest("GET", "/api/tasks");
+        month.setParameter("type", "MONTH");
+        MockHttpServletRequest today = new MockHttpServletRequest("GET", "/api/tasks/today");
+        MockHttpServletRequest page = new MockHttpServletRequest("GET", "/css/app.css");
+
+        // when & then
+        assertThat(filter.timeout(month)).isEqualTo(Duration.ofSeconds(3));
+        assertThat(filter.timeout(today)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(filter.timeout(page)).isNull();
+    }
+
+    @Test
+    @DisplayName("X-Request-Timeout 헤더가 기본값보다 우선하고, max 를 넘으면 max 로 줄인다")
+    void timeout_header() {
+        // given
+        MockHttpServletRequest shorter = new MockHttpServletRequest("GET", "/api/tasks/today");
+        shorter.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "500");
+        MockHttpServletRequest longer = new MockHttpServletRequest("GET", "/api/tasks/today");
+        longer.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "60000");
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/tasks/today");
+        invalid.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "soon");
+
+        // when & then
+        assertThat(filter.timeout(shorter)).isEqualTo(Duration.ofMillis(500));
+        assertThat(filter.timeout(longer)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(filter.timeout(invalid)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("필터 안에서만 deadline 이 걸리고, 요청이 끝나면 지운다")
+    void filter_scopesDeadline() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/today");
+        AtomicReference<Duration> seen = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.remaining()));
+
+        // then
+        assertThat(seen.get()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(2));
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("남은 시간은 초 단위로 올림한 query timeout 이 되고, 지난 deadline 은 쿼리 전에 DeadlineExceededException 을 던진다")
+    void queryTimeoutSeconds() {
+        // given & when & then
+        assertThat(RequestDeadline.queryTimeoutSeconds("test")).isNull();
+
+        RequestDeadline.runWithin(Duration.ofMillis(1_500), () ->
+                assertThat(RequestDeadline.queryTimeoutSeconds("test")).isEqualTo(2));
+
+        RequestDeadline.runWithin(Duration.ZERO, () ->
+                assertThatThrownBy(() -> RequestDeadline.queryTimeoutSeconds("task.repository"))
+                        .isInstanceOf(DeadlineExceededException.class)
+                        .extracting("operation")
+                        .isEqualTo("task.repository"));
+    }
+
+    @Test
+    @DisplayName("안쪽에서 더 긴 deadline 을 정해도 바깥 deadline 을 늘리지 않고, 끝나면 바깥 deadline 으로 돌아간다")
+    void nestedDeadline_keepsEarlier() {
+        RequestDeadline.runWithin(Duration.ofSeconds(1), () -> {
+            // given
+            Long outer = RequestDeadline.current();
+
+            // when
+            Long inner = RequestDeadline.callWithin(Duration.ofMinutes(1), RequestDeadline::current);
+
+            // then
+            assertThat(inner).isEqualTo(outer);
+            assertThat(RequestDeadline.current()).isEqualTo(outer);
+        });
+    }
+
+    @Test
+    @DisplayName("TracingExecutors 로 넘긴 가상 스레드 작업에도 deadline 이 전달된다")
+    void deadline_propagatesToVirtualThreads() {
+        RequestDeadline.runWithin(Duration.ofSeconds(1), () -> {
+            // given
+            Long deadline = RequestDeadline.current();
+
+            // when
+            Long propagated;
+            try (ExecutorService executor = TracingExecutors.newVirtualThreadPerTaskExecutor()) {
+                Future<Long> result = executor.submit(RequestDeadline::current);
+                propagated = result.get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            // then
+            assertThat(propagated).isEqualTo(deadline);
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.todolab.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("capacity 만큼 몰아서 쓴 뒤에는 거절하고, 시간이 지나면 초당 충전량만큼 다시 허용한다")
+    void tokenBucket_burstThenRefill() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, SECOND, 0);
+
+        // when & then
+        assertThat(bucket.tryConsume(1, 0).remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume(1, 0).remaining()).isEqualTo(1);
+        assertThat(bucket.tryConsume(1, 0).remaining()).isZero();
+
+        RateLimitDecision rejected = bucket.tryConsume(1, 0);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(rejected.resetSeconds()).isEqualTo(3);
+
+        assertThat(bucket.tryConsume(1, SECOND).allowed()).isTrue();
+        assertThat(bucket.tryConsume(1, SECOND).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비용이 큰 요청은 남은 토큰이 비용보다 적으면 거절하고, 비용만큼 기다리라고 알려 준다")
+    void tokenBucket_weightedCost() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, SECOND, 0);
+        bucket.tryConsume(7, 0);
+
+        // when
+        RateLimitDecision rejected = bucket.tryConsume(5, 0);
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isEqualTo(3);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(2);
+        assertThat(bucket.tryConsume(5, 2 * SECOND).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 꺼내도 capacity 보다 많이 허용하지 않는다")
+    void tryConsume_concurrent_neverExceedsCapacity() throws Exception {
+        // given
+        RateLimiter limiter = limiter(50, List.of());
+        int callers = 200;
+
+        // when
+        List<Future<RateLimitDecision>> results = new ArrayList<>(callers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> limiter.tryConsume("10.0.0.1", 1)));
+            }
+        }
+        long allowed = 0;
+        for (Future<RateLimitDecision> result : results) {
+            if (result.get().allowed()) {
+                allowed++;
+            }
+        }
+
+        // then
+        assertThat(allowed).isEqualTo(50);
+        assertThat(limiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비용 규칙은 method / 경로 / 쿼리 파라미터로 고르고, 맞는 규칙이 없으면 1 이다")
+    void cost_matchesRules() {
+        // given
+        RateLimiter limiter = limiter(60, List.of(
+                RateLimitCostRule.parse("GET /api/tasks?type=month:5"),
+                RateLimitCostRule.parse("GET /api/tasks?type=week:2"),
+                RateLimitCostRule.parse("* /api/admin/**:5")
+        ));
+
+        // when & then
+        assertThat(limiter.cost(request("GET", "/api/tasks", "MONTH"))).isEqualTo(5);
+        assertThat(limiter.cost(request("GET", "/api/tasks", "week"))).isEqualTo(2);
+        assertThat(limiter.cost(request("GET", "/api/tasks", "day"))).isEqualTo(1);
+        assertThat(limiter.cost(request("POST", "/api/tasks", "month"))).isEqualTo(1);
+        assertThat(limiter.cost(request("DELETE", "/api/admin/virtual-threads/pinned", null))).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("허용하면 RateLimit 헤더를 붙여 통과시키고, 모자라면 429 와 Retry-After 를 돌려준다")
+    void filter_setsHeadersAndRejects() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(
+                limiter(1, List.of(RateLimitCostRule.parse("GET /api/tasks?type=month:5"))),
+                JsonMapper.builder().build()
+        );
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockFilterChain firstChain = new MockFilterChain();
+        filter.doFilter(request("GET", "/api/tasks", null), first, firstChain);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockFilterChain secondChain = new MockFilterChain();
+        filter.doFilter(request("GET", "/api/tasks", null), second, secondChain);
+
+        // then
+        assertThat(firstChain.getRequest()).isNotNull();
+        assertThat(first.getHeader(RateLimitFilter.LIMIT)).isEqualTo("1");
+        assertThat(first.getHeader(RateLimitFilter.REMAINING)).isEqualTo("0");
+
+        assertThat(secondChain.getRequest()).isNull();
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isNotNull();
+        assertThat(second.getContentAsString()).contains("\"code\":90002");
+    }
+
+    private RateLimiter limiter(int capacity, List<RateLimitCostRule> rules) {
+        return new RateLimiter(new SimpleMeterRegistry(), capacity, 0.001, Duration.ofMinutes(10), 1000, rules);
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String type) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        if (type != null) {
+            request.setParameter("type", type);
+        }
+        return request;
+    }
+}
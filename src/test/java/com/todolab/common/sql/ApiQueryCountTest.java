@@ -0,0 +1,194 @@
+package com.todolab.common.sql;
+
+import com.todolab.dday.domain.DdayGoal;
+import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.todolab.support.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 endpoint / 화면 / Today 변경 API 별 SQL 수 상한.
+ * 목표마다 할 일을 따로 연결해 두므로 ddayGoal 을 fetch join 하지 않으면 목표 수만큼 쿼리가 늘어 실패한다.
+ * DAILY_TASK_STATS 증감은 JdbcTemplate 로 보내므로 (Hibernate 밖) 세지 않는다.
+ */
+@SpringBootTest(properties = "spring.batch.job.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApiQueryCountTest {
+
+    private static final int GOALS = 10;
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 3, 12);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DdayGoalRepository ddayGoalRepository;
+
+    @Autowired
+    private TaskRangeCache taskRangeCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long goalId;
+    private Long taskId;
+    private Long todayTaskId;
+    private Long doneTaskId;
+
+    @BeforeEach
+    void setUp() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < GOALS; i++) {
+            DdayGoal goal = ddayGoalRepository.save(new DdayGoal("goal-" + i, BASE_DATE.plusMonths(1)));
+            goalId = goal.getId();
+
+            tasks.add(Task.builder().title("inbox-" + i).type(TaskType.TODO)
+                    .status(TaskStatus.INBOX).ddayGoal(goal).build());
+            tasks.add(Task.builder().title("today-" + i).type(TaskType.SCHEDULE)
+                    .startAt(BASE_DATE.atTime(9, 0)).status(TaskStatus.TODAY).targetDate(BASE_DATE)
+                    .todayOrder(i).ddayGoal(goal).build());
+            tasks.add(Task.builder().title("overdue-" + i).type(TaskType.SCHEDULE)
+                    .startAt(BASE_DATE.minusDays(2).atTime(9, 0)).status(TaskStatus.TODAY)
+                    .targetDate(BASE_DATE.minusDays(2)).carryOverCount(3).ddayGoal(goal).build());
+            tasks.add(Task.builder().title("done-" + i).type(TaskType.SCHEDULE)
+                    .startAt(BASE_DATE.atTime(10, 0)).status(TaskStatus.DONE).targetDate(BASE_DATE)
+                    .completedAt(BASE_DATE.atTime(11, 0)).ddayGoal(goal).build());
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskId = saved.getFirst().getId();
+        todayTaskId = idOf(saved, "today-0");
+        doneTaskId = idOf(saved, "done-0");
+
+        // 캐시가 쿼리를 가리지 않도록 매번 비운다.
+        taskRangeCache.invalidateAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        ddayGoalRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0} <= {1} queries")
+    @CsvSource({
+            "/api/tasks/inbox, 1",
+            "/api/tasks/unscheduled, 1",
+            "/api/tasks/unscheduled/grouped, 1",
+            "/api/tasks/today?date=2026-03-12, 1",
+            "/api/tasks/overdue?date=2026-03-12, 1",
+            "/api/tasks/stale?date=2026-03-12, 1",
+            "/api/tasks/done?date=2026-03-12, 1",
+            "/api/tasks/recommendations/today?date=2026-03-12, 2",
+            "/api/tasks?type=week&taskType=SCHEDULE&date=2026-03-12, 1",
+            "/api/tasks/grouped?type=day&taskType=SCHEDULE&date=2026-03-12, 1",
+            "/api/ddays, 1",
+            "/api/stats?from=2026-03-12&to=2026-03-18, 1"
+    })
+    @DisplayName("목록 조회 endpoint 는 할 일 수와 무관하게 정해진 쿼리 수 안에서 끝난다")
+    void listEndpoints_stayWithinQueryBudget(String url, long maxQueries) throws Throwable {
+        assertMaxQueries(maxQueries, () ->
+                mockMvc.perform(get(url)).andExpect(status().isOk()));
+    }
+
+    // 주간 / 월간 : 기간 일정 + Today + 완료 + D-Day 목표. Today / 로그 화면은 API 로 다시 그리므로 SQL 이 없다.
+    @ParameterizedTest(name = "{0} <= {1} queries")
+    @CsvSource({
+            "/tasks/today, 0",
+            "/tasks/log?date=2026-03-12, 0",
+            "/tasks/week?date=2026-03-12, 4",
+            "/tasks/month?date=2026-03-12, 4"
+    })
+    @DisplayName("화면 endpoint 는 할 일 수와 무관하게 정해진 쿼리 수 안에서 끝난다")
+    void pageEndpoints_stayWithinQueryBudget(String url, long maxQueries) throws Throwable {
+        assertMaxQueries(maxQueries, () ->
+                mockMvc.perform(get(url)).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("완료 처리는 할 일 조회 + UPDATE + D-Day 목표 세 번으로 끝난다")
+    void complete_staysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(3, () ->
+                mockMvc.perform(patch("/api/tasks/{id}/done", todayTaskId)).andExpect(status().isOk()));
+    }
+
+    // 상태를 바꾼 뒤 MAX(TODAY_ORDER) 를 읽기 전에 auto flush 로 UPDATE 가 한 번 더 나간다.
+    @Test
+    @DisplayName("완료 취소는 할 일 조회 + 순서 조회 + UPDATE 두 번 + D-Day 목표 안에서 끝난다")
+    void reopenToday_staysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(5, () ->
+                mockMvc.perform(patch("/api/tasks/{id}/done/cancel", doneTaskId).param("date", BASE_DATE.toString()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("이월은 할 일 조회 + 순서 조회 + UPDATE 두 번 + D-Day 목표 안에서 끝난다")
+    void carryOver_staysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(5, () ->
+                mockMvc.perform(patch("/api/tasks/{id}/carry-over", todayTaskId).param("date", BASE_DATE.plusDays(1).toString()))
+                        .andExpect(status().isOk()));
+    }
+
+    // 순서가 이미 0..n 으로 정리돼 있으면 자리를 바꾼 두 건만 UPDATE 한다.
+    @Test
+    @DisplayName("Today 순서 변경은 그날 Today 수와 무관하게 조회 두 번 + UPDATE 두 번으로 끝난다")
+    void reorderToday_staysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(4, () ->
+                mockMvc.perform(patch("/api/tasks/{id}/today-order", todayTaskId)
+                                .param("date", BASE_DATE.toString())
+                                .param("direction", "DOWN"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("D-Day 목표의 할 일 조회는 목표 + 할 일 두 번으로 끝난다")
+    void ddayTasks_stayWithinQueryBudget() throws Throwable {
+        assertMaxQueries(2, () ->
+                mockMvc.perform(get("/api/ddays/{id}/tasks", goalId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("단건 조회는 할 일 + D-Day 목표 두 번으로 끝나고, 카운터는 실제로 SQL 을 센다")
+    void getTask_staysWithinQueryBudget() throws Throwable {
+        long queries = assertMaxQueries(2, () ->
+                mockMvc.perform(get("/api/tasks/{id}", taskId)).andExpect(status().isOk()));
+
+        assertThat(queries).isPositive();
+    }
+
+    private static Long idOf(List<Task> tasks, String title) {
+        return tasks.stream()
+                .filter(task -> task.getTitle().equals(title))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+}
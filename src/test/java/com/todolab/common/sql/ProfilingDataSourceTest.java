@@ -0,0 +1,123 @@
+package com.todolab.common.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfilingDataSourceTest {
+
+    private EmbeddedDatabase database;
+    private SimpleMeterRegistry meterRegistry;
+    private QueryProfiler queryProfiler;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        queryProfiler = new QueryProfiler(meterRegistry, Duration.ZERO, 3);
+        jdbcTemplate = new JdbcTemplate(new ProfilingDataSource(database, () -> queryProfiler, ProfilingDataSource.BindValues.RAW));
+
+        jdbcTemplate.execute("CREATE TABLE TASK (ID BIGINT PRIMARY KEY, STATUS VARCHAR(30))");
+        jdbcTemplate.batchUpdate("INSERT INTO TASK (ID, STATUS) VALUES (?, ?)", List.of(
+                new Object[]{1L, "TODAY"}, new Object[]{2L, "TODAY"}, new Object[]{3L, "DONE"}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("SQL 을 실행한 repository 메서드로 태깅해 실행 시간과 반환 행 수를 기록한다")
+    void select_isTaggedWithRepositoryMethod() {
+        // given
+        String previous = RepositoryMethodContext.enter("TaskRepository.findByStatus");
+
+        // when
+        List<Long> ids;
+        try {
+            ids = jdbcTemplate.queryForList("SELECT ID FROM TASK WHERE STATUS = ?", Long.class, "TODAY");
+        } finally {
+            RepositoryMethodContext.exit(previous);
+        }
+
+        // then
+        assertThat(ids).hasSize(2);
+        assertThat(meterRegistry.get("db.query").tag("method", "TaskRepository.findByStatus").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("db.query.rows").tag("method", "TaskRepository.findByStatus").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(queryProfiler.methodStats())
+                .extracting(QueryMethodStats::method)
+                .contains("TaskRepository.findByStatus", QueryProfiler.UNTAGGED);
+    }
+
+    @Test
+    @DisplayName("느린 SQL 은 bind 파라미터와 함께 고정 크기 ring buffer 에 남고 오래된 것부터 덮어쓴다")
+    void slowQueries_keptInRingBuffer() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.queryForList("SELECT ID FROM TASK WHERE ID > ?", Long.class, i);
+        }
+
+        // then
+        List<SlowQuery> slowQueries = queryProfiler.slowQueries();
+        assertThat(slowQueries).hasSize(3);
+        assertThat(slowQueries)
+                .extracting(SlowQuery::sql)
+                .containsOnly("SELECT ID FROM TASK WHERE ID > ?");
+        assertThat(slowQueries)
+                .flatExtracting(SlowQuery::parameters)
+                .containsExactlyInAnyOrder("2", "3", "4");
+    }
+
+    @Test
+    @DisplayName("DML 은 update count 를 행 수로 기록한다")
+    void update_recordsUpdateCount() {
+        // when
+        jdbcTemplate.update("UPDATE TASK SET STATUS = ? WHERE STATUS = ?", "DONE", "TODAY");
+
+        // then
+        assertThat(queryProfiler.slowQueries())
+                .filteredOn(query -> query.sql().startsWith("UPDATE"))
+                .singleElement()
+                .extracting(SlowQuery::rows)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("MASKED 는 bind 값 대신 타입과 길이만 남기고, 느리지 않은 SQL 은 bind 값을 남기지 않는다")
+    void slowQueries_maskedBindValues() {
+        // given
+        QueryProfiler slowOnly = new QueryProfiler(meterRegistry, Duration.ofDays(1), 3);
+        JdbcTemplate masked = new JdbcTemplate(new ProfilingDataSource(database, () -> queryProfiler, ProfilingDataSource.BindValues.MASKED));
+        JdbcTemplate fast = new JdbcTemplate(new ProfilingDataSource(database, () -> slowOnly, ProfilingDataSource.BindValues.RAW));
+
+        // when
+        masked.update("UPDATE TASK SET STATUS = ? WHERE ID = ?", "SECRET", 1L);
+        fast.update("UPDATE TASK SET STATUS = ? WHERE ID = ?", "SECRET", 2L);
+
+        // then
+        assertThat(queryProfiler.slowQueries())
+                .filteredOn(query -> query.sql().startsWith("UPDATE"))
+                .singleElement()
+                .extracting(SlowQuery::parameters)
+                .isEqualTo(List.of("String(6)", "Long"));
+        assertThat(slowOnly.slowQueries()).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.todolab.common.sql;
+
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.batch.job.enabled=false",
+        "app.sql.profiler.enabled=true",
+        "app.sql.profiler.slow-threshold=0ms",
+        "app.sql.profiler.bind-values=MASKED"
+})
+@ActiveProfiles("test")
+class QueryProfilerIntegrationTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private QueryProfiler queryProfiler;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("실제 repository 호출의 SQL 은 repository 메서드 이름으로 태깅되고, bind 값은 가려진다")
+    void repositoryCall_taggedAndMasked() {
+        // given
+        Task saved = taskRepository.save(Task.builder()
+                .title("비밀 제목")
+                .type(TaskType.TODO)
+                .build());
+
+        // when
+        taskRepository.findById(saved.getId());
+
+        // then
+        assertThat(queryProfiler.methodStats())
+                .extracting(QueryMethodStats::method)
+                .contains("TaskRepository.findById");
+        assertThat(queryProfiler.slowQueries())
+                .filteredOn(query -> query.sql().toLowerCase().startsWith("insert into task"))
+                .isNotEmpty()
+                .allSatisfy(query -> assertThat(query.parameters()).doesNotContain("비밀 제목").contains("String(5)"));
+    }
+}
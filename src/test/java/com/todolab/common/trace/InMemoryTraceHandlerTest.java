@@ -0,0 +1,123 @@
+package com.todolab.common.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTraceHandlerTest {
+
+    private TraceStore traceStore;
+    private ObservationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        traceStore = new TraceStore(10, 100);
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new InMemoryTraceHandler(traceStore));
+    }
+
+    @Test
+    @DisplayName("scope 안에서 시작한 Observation 은 같은 trace 의 자식 span 이 된다")
+    void nestedObservation_sameTrace() {
+        // given
+        Observation parent = Observation.createNotStarted("http.server.requests", registry)
+                .contextualName("http get /api/tasks");
+
+        // when
+        parent.observe(() -> Observation.createNotStarted("task.service", registry)
+                .lowCardinalityKeyValue("method", "getTasks")
+                .observe(() -> {
+                }));
+
+        // then
+        List<TraceSummary> traces = traceStore.recentTraces(10);
+        assertThat(traces).hasSize(1);
+        assertThat(traces.getFirst().rootName()).isEqualTo("http get /api/tasks");
+        assertThat(traces.getFirst().spanCount()).isEqualTo(2);
+
+        List<SpanRecord> spans = traceStore.spans(traces.getFirst().traceId());
+        SpanRecord root = spans.stream().filter(SpanRecord::isRoot).findFirst().orElseThrow();
+        SpanRecord child = spans.stream().filter(span -> !span.isRoot()).findFirst().orElseThrow();
+        assertThat(child.parentSpanId()).isEqualTo(root.spanId());
+        assertThat(child.tags()).containsEntry("method", "getTasks");
+    }
+
+    @Test
+    @DisplayName("TracingExecutors 로 넘긴 가상 스레드 작업은 제출한 스레드의 span 아래에 붙는다")
+    void virtualThread_propagatesParent() throws Exception {
+        // given
+        Observation parent = Observation.createNotStarted("batch.reader", registry);
+
+        // when
+        parent.observeChecked(() -> {
+            try (ExecutorService executor = TracingExecutors.newVirtualThreadPerTaskExecutor()) {
+                Future<?> seed = executor.submit(() -> Observation.createNotStarted("repository", registry).observe(() -> {
+                }));
+                Future<?> today = executor.submit(() -> Observation.createNotStarted("repository", registry).observe(() -> {
+                }));
+                seed.get(5, TimeUnit.SECONDS);
+                today.get(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+
+        // then
+        List<TraceSummary> traces = traceStore.recentTraces(10);
+        assertThat(traces).hasSize(1);
+
+        List<SpanRecord> spans = traceStore.spans(traces.getFirst().traceId());
+        SpanRecord root = spans.stream().filter(SpanRecord::isRoot).findFirst().orElseThrow();
+        List<SpanRecord> children = spans.stream().filter(span -> !span.isRoot()).toList();
+        assertThat(children).hasSize(2)
+                .allSatisfy(span -> {
+                    assertThat(span.parentSpanId()).isEqualTo(root.spanId());
+                    assertThat(span.virtualThread()).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("실패한 Observation 은 span 에 에러를 남긴다")
+    void failedObservation_recordsError() {
+        // given
+        Observation observation = Observation.createNotStarted("mail", registry).start();
+
+        // when
+        observation.error(new IllegalStateException("smtp down"));
+        observation.stop();
+
+        // then
+        TraceSummary trace = traceStore.recentTraces(10).getFirst();
+        assertThat(trace.error()).isTrue();
+        assertThat(traceStore.spans(trace.traceId()).getFirst().error())
+                .isEqualTo("IllegalStateException: smtp down");
+    }
+
+    @Test
+    @DisplayName("capacity 를 넘으면 가장 오래된 trace 부터 버린다")
+    void capacity_evictsOldestTrace() {
+        // given
+        TraceStore store = new TraceStore(2, 100);
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new InMemoryTraceHandler(store));
+
+        // when
+        for (String name : List.of("first", "second", "third")) {
+            Observation.createNotStarted(name, registry).observe(() -> {
+            });
+        }
+
+        // then
+        assertThat(store.recentTraces(10))
+                .extracting(TraceSummary::rootName)
+                .containsExactlyInAnyOrder("second", "third");
+    }
+}
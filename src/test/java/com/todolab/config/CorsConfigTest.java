@@ -0,0 +1,71 @@
+package com.todolab.config;
+
+import com.todolab.common.ratelimit.RateLimitFilter;
+import com.todolab.common.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.CorsFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorsConfigTest {
+
+    private static final String ORIGIN = "http://localhost:8081";
+
+    @Test
+    @DisplayName("rate limit 으로 거절한 429 응답에도 CORS 헤더가 붙고, RateLimit / Retry-After 헤더를 노출한다")
+    void rateLimited_responseCarriesCorsHeaders() throws Exception {
+        // given
+        CorsFilter corsFilter = new CorsConfig(ORIGIN).corsFilter().getFilter();
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(
+                new RateLimiter(new SimpleMeterRegistry(), 1, 0.001, Duration.ofMinutes(10), 1000, List.of()),
+                JsonMapper.builder().build()
+        );
+
+        MockHttpServletResponse allowed = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {}, corsFilter, rateLimitFilter).doFilter(request(ORIGIN), allowed);
+
+        // when
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {}, corsFilter, rateLimitFilter).doFilter(request(ORIGIN), rejected);
+
+        // then
+        assertThat(allowed.getHeader("Access-Control-Allow-Origin")).isEqualTo(ORIGIN);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Access-Control-Allow-Origin")).isEqualTo(ORIGIN);
+        assertThat(rejected.getHeader("Access-Control-Expose-Headers"))
+                .contains(RateLimitFilter.LIMIT, RateLimitFilter.REMAINING, RateLimitFilter.RESET, "Retry-After");
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 Origin 은 rate limit 전에 CORS filter 에서 거절한다")
+    void unknownOrigin_rejectedBeforeRateLimit() throws Exception {
+        // given
+        CorsFilter corsFilter = new CorsConfig(ORIGIN).corsFilter().getFilter();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        corsFilter.doFilter(request("http://evil.example"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletRequest request(String origin) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/today");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("Origin", origin);
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package com.todolab.config;
+
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.repository.TaskRepository;
+import com.todolab.view.TaskViewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.batch.job.enabled=false")
+@ActiveProfiles("test")
+class MetricsConfigTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskViewService taskViewService;
+
+    @Test
+    @DisplayName("TaskRepositoryCustom 메서드와 TaskViewService 페이지 생성이 메서드별 타이머로 기록된다")
+    void timedHotPaths_areRecorded() {
+        // when
+        taskRepository.findByStatus(TaskStatus.TODAY);
+        taskViewService.getWeekPage(null, "2026-03-12");
+
+        // then
+        assertThat(meterRegistry.get("task.repository").tag("method", "findByStatus").timer().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("task.view").tag("method", "getWeekPage").timer().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+}
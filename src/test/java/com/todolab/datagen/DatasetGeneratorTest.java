@@ -0,0 +1,132 @@
+package com.todolab.datagen;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetGeneratorTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE DDAY_GOAL (
+                    ID BIGINT NOT NULL AUTO_INCREMENT,
+                    TITLE VARCHAR(50) NOT NULL,
+                    TARGET_DATE DATE NOT NULL,
+                    CREATED_AT TIMESTAMP NOT NULL,
+                    PRIMARY KEY (ID)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE TASK (
+                    ID BIGINT NOT NULL AUTO_INCREMENT,
+                    TITLE VARCHAR(255) NOT NULL,
+                    TYPE VARCHAR(30) NOT NULL DEFAULT 'SCHEDULE',
+                    START_AT TIMESTAMP NULL,
+                    END_AT TIMESTAMP NULL,
+                    ALL_DAY BOOLEAN NOT NULL DEFAULT FALSE,
+                    CATEGORY VARCHAR(255) NULL,
+                    DESCRIPTION VARCHAR(255) NULL,
+                    STATUS VARCHAR(30) NOT NULL DEFAULT 'INBOX',
+                    TARGET_DATE DATE NULL,
+                    TODAY_ORDER INT NULL,
+                    COMPLETED_AT TIMESTAMP NULL,
+                    CARRY_OVER_COUNT INT NOT NULL DEFAULT 0,
+                    DEFER_REASON VARCHAR(30) NULL,
+                    DDAY_GOAL_ID BIGINT NULL,
+                    CREATED_AT TIMESTAMP NOT NULL,
+                    UPDATED_AT TIMESTAMP NULL,
+                    PRIMARY KEY (ID),
+                    CONSTRAINT FK_TASK_DDAY_GOAL FOREIGN KEY (DDAY_GOAL_ID) REFERENCES DDAY_GOAL(ID)
+                )
+                """);
+        // truncate 가 함께 비우는 테이블은 필요한 컬럼만 만든다.
+        jdbcTemplate.execute("CREATE TABLE TASK_ARCHIVE (ID BIGINT NOT NULL, DDAY_GOAL_ID BIGINT NULL, PRIMARY KEY (ID))");
+        jdbcTemplate.execute("""
+                CREATE TABLE DAILY_TASK_STATS (
+                    STAT_DATE DATE NOT NULL,
+                    CATEGORY VARCHAR(255) NOT NULL,
+                    METRIC VARCHAR(50) NOT NULL,
+                    STAT_COUNT BIGINT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (STAT_DATE, CATEGORY, METRIC)
+                )
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("설정한 수만큼 목표와 일정을 넣고, 일정은 새로 만든 목표에만 연결한다")
+    void generate_insertsRequestedRows() {
+        // given
+        DatasetSpec spec = TaskRowGeneratorTest.spec(42L, 5_500);
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate);
+
+        // when
+        DatasetReport report = generator.generate(spec);
+
+        // then
+        assertThat(report.ddayGoals()).isEqualTo(20);
+        assertThat(report.tasks()).isEqualTo(5_500);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM DDAY_GOAL", Long.class)).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TASK", Long.class)).isEqualTo(5_500);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM TASK t
+                LEFT JOIN DDAY_GOAL g ON g.ID = t.DDAY_GOAL_ID
+                WHERE t.DDAY_GOAL_ID IS NOT NULL AND g.ID IS NULL
+                """, Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 seed 로 다시 만들면 (truncate) 같은 데이터가 들어가고, 보관 일정과 통계도 함께 비운다")
+    void generate_sameSeed_sameData() {
+        // given
+        DatasetSpec spec = TaskRowGeneratorTest.spec(42L, 3_000);
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate);
+
+        // when
+        generator.generate(spec);
+        List<Map<String, Object>> first = snapshot();
+        jdbcTemplate.update("INSERT INTO TASK_ARCHIVE (ID, DDAY_GOAL_ID) SELECT 1, MIN(ID) FROM DDAY_GOAL");
+        jdbcTemplate.update("INSERT INTO DAILY_TASK_STATS (STAT_DATE, CATEGORY, METRIC, STAT_COUNT) VALUES (DATE '2026-03-12', '공부', 'DONE', 1)");
+        generator.generate(spec.toBuilder().truncate(true).build());
+        List<Map<String, Object>> second = snapshot();
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TASK_ARCHIVE", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM DAILY_TASK_STATS", Long.class)).isZero();
+    }
+
+    // ID 는 다시 만들면 바뀌므로 내용과 목표 순번만 비교한다.
+    private List<Map<String, Object>> snapshot() {
+        return jdbcTemplate.queryForList("""
+                SELECT t.TITLE, t.TYPE, t.START_AT, t.END_AT, t.ALL_DAY, t.CATEGORY, t.STATUS, t.TARGET_DATE,
+                       t.COMPLETED_AT, t.CARRY_OVER_COUNT, t.DEFER_REASON, g.TITLE AS GOAL_TITLE
+                FROM TASK t
+                LEFT JOIN DDAY_GOAL g ON g.ID = t.DDAY_GOAL_ID
+                ORDER BY t.TITLE
+                """);
+    }
+}
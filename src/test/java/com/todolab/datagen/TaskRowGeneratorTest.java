@@ -0,0 +1,183 @@
+package com.todolab.datagen;
+
+import com.todolab.Constant;
+import com.todolab.task.domain.Task;
+import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.domain.TaskType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+
+class TaskRowGeneratorTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 10, 19);
+
+    @Test
+    @DisplayName("같은 seed 와 chunk 면 같은 행을 만든다")
+    void chunk_sameSeed_reproducible() {
+        // given
+        DatasetSpec spec = spec(42L, 5_000);
+
+        // when
+        List<TaskRow> first = new TaskRowGenerator(spec, List.of(1L, 2L, 3L)).chunk(3);
+        List<TaskRow> second = new TaskRowGenerator(spec, List.of(1L, 2L, 3L)).chunk(3);
+        List<TaskRow> otherSeed = new TaskRowGenerator(spec(43L, 5_000), List.of(1L, 2L, 3L)).chunk(3);
+
+        // then
+        assertThat(first).hasSize(1_000).isEqualTo(second);
+        assertThat(otherSeed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("만든 행은 모두 Task 도메인 규칙을 지킨다")
+    void chunk_respectsTaskInvariants() {
+        // given
+        DatasetSpec spec = spec(7L, 20_000);
+        TaskRowGenerator generator = new TaskRowGenerator(spec, List.of(10L, 11L));
+
+        // when
+        List<TaskRow> rows = LongStream.range(0, spec.chunkCount())
+                .mapToObj(generator::chunk)
+                .flatMap(List::stream)
+                .toList();
+
+        // then
+        assertThat(rows).hasSize(20_000);
+        assertThat(rows).allSatisfy(row -> {
+            // 일정 / 종일 / 카테고리 규칙은 Task 생성자가 검증한다.
+            assertThatCode(() -> toTask(row)).doesNotThrowAnyException();
+            assertThat(row.category()).isNotEqualTo(Constant.UNCATEGORIZED);
+            assertThat(row.carryOverCount()).isBetween(0, spec.maxCarryOver());
+            if (row.deferReason() != null) {
+                assertThat(row.carryOverCount()).isPositive();
+            }
+
+            if (row.status() == TaskStatus.INBOX) {
+                assertThat(row.startAt()).isNull();
+                assertThat(row.endAt()).isNull();
+                assertThat(row.allDay()).isFalse();
+                assertThat(row.targetDate()).isNull();
+                assertThat(row.completedAt()).isNull();
+                assertThat(row.type()).isNotEqualTo(TaskType.SCHEDULE);
+                return;
+            }
+
+            assertThat(row.startAt().toLocalDate()).isEqualTo(row.targetDate());
+            if (row.allDay()) {
+                assertThat(row.startAt().toLocalTime()).isEqualTo(LocalTime.MIDNIGHT);
+                assertThat(row.endAt()).isEqualTo(row.targetDate().plusDays(1).atStartOfDay());
+            }
+            if (row.status() == TaskStatus.DONE) {
+                assertThat(row.completedAt()).isNotNull();
+                assertThat(row.completedAt()).isBetween(row.createdAt(), spec.asOf());
+                assertThat(row.targetDate()).isBeforeOrEqualTo(BASE_DATE);
+            } else {
+                assertThat(row.completedAt()).isNull();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("생성 / 완료 / 수정 시각은 asOf 를 넘지 않고, 완료는 생성 이후다")
+    void chunk_timestampsNotAfterAsOf() {
+        // given
+        LocalDateTime asOf = BASE_DATE.atTime(9, 0);
+        DatasetSpec spec = spec(13L, 20_000).toBuilder().asOf(asOf).build();
+        TaskRowGenerator generator = new TaskRowGenerator(spec, List.of());
+
+        // when
+        List<TaskRow> rows = LongStream.range(0, spec.chunkCount())
+                .mapToObj(generator::chunk)
+                .flatMap(List::stream)
+                .toList();
+
+        // then
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.createdAt()).isBeforeOrEqualTo(asOf);
+            if (row.completedAt() != null) {
+                assertThat(row.completedAt()).isBetween(row.createdAt(), asOf);
+            }
+            if (row.updatedAt() != null) {
+                assertThat(row.updatedAt()).isBetween(row.createdAt(), asOf);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("상태 / 일정 모양 / D-Day 연결 비율이 설정값을 따른다")
+    void chunk_followsDistribution() {
+        // given
+        DatasetSpec spec = spec(11L, 50_000);
+        TaskRowGenerator generator = new TaskRowGenerator(spec, List.of(1L));
+
+        // when
+        List<TaskRow> rows = LongStream.range(0, spec.chunkCount())
+                .mapToObj(generator::chunk)
+                .flatMap(List::stream)
+                .toList();
+
+        // then
+        assertThat(ratio(rows, row -> row.status() == TaskStatus.INBOX)).isCloseTo(0.15, within(0.01));
+        assertThat(ratio(rows, row -> row.status() == TaskStatus.TODAY)).isCloseTo(0.20, within(0.01));
+        assertThat(ratio(rows, row -> row.status() == TaskStatus.DONE)).isCloseTo(0.65, within(0.01));
+        assertThat(ratio(rows, row -> row.ddayGoalId() != null)).isCloseTo(0.10, within(0.01));
+        assertThat(ratio(rows, TaskRow::allDay)).isCloseTo(0.85 * 0.25, within(0.01));
+    }
+
+    private static double ratio(List<TaskRow> rows, Predicate<TaskRow> predicate) {
+        return rows.stream().filter(predicate).count() / (double) rows.size();
+    }
+
+    private static Task toTask(TaskRow row) {
+        return Task.builder()
+                .title(row.title())
+                .type(row.type())
+                .startAt(row.startAt())
+                .endAt(row.endAt())
+                .allDay(row.allDay())
+                .category(row.category())
+                .status(row.status())
+                .targetDate(row.targetDate())
+                .completedAt(row.completedAt())
+                .carryOverCount(row.carryOverCount())
+                .deferReason(row.deferReason())
+                .build();
+    }
+
+    static DatasetSpec spec(long seed, long tasks) {
+        return DatasetSpec.builder()
+                .seed(seed)
+                .baseDate(BASE_DATE)
+                .tasks(tasks)
+                .ddayGoals(20)
+                .inboxRatio(0.15)
+                .todayRatio(0.20)
+                .singleRatio(0.60)
+                .allDayRatio(0.25)
+                .daysBack(365)
+                .daysAhead(60)
+                .overdueDays(14)
+                .maxPeriodDays(5)
+                .categories(30)
+                .uncategorizedRatio(0.20)
+                .ddayLinkRatio(0.10)
+                .carryOverRatio(0.25)
+                .maxCarryOver(10)
+                .deferReasonRatio(0.50)
+                .chunkSize(1_000)
+                .insertBatchSize(250)
+                .parallelism(4)
+                .truncate(false)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.todolab.dday.repository;
+
+import com.todolab.dday.domain.DdayGoal;
+import com.todolab.support.RepositoryTestSupport;
+import com.todolab.task.repository.TaskArchiveBoundary;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DataJpaTest
+@Import(TaskArchiveBoundary.class)
+@ActiveProfiles("test")
+class DdayGoalRepositoryTest extends RepositoryTestSupport {
+
+    @Autowired
+    DdayGoalRepository ddayGoalRepository;
+
+    @Test
+    @DisplayName("한 번 조회한 D-Day 목표는 2차 캐시에서 다시 조회된다")
+    void findById_secondLevelCacheHit() {
+        // given
+        DdayGoal saved = ddayGoalRepository.save(new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10)));
+        flushAndClear();
+
+        CacheRegionStatistics region = regionStatistics();
+        long hitsBefore = region.getHitCount();
+
+        // when
+        ddayGoalRepository.findById(saved.getId());
+        em.clear();
+        DdayGoal cached = ddayGoalRepository.findById(saved.getId()).orElseThrow();
+
+        // then
+        then(cached.getTitle()).isEqualTo("정보처리기사");
+        then(regionStatistics().getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("D-Day 목표를 생성하면 캐시된 목록 조회 결과에 바로 반영된다")
+    void findAll_reflectsCreatedGoal() {
+        // given
+        ddayGoalRepository.save(new DdayGoal("포트폴리오 제출", LocalDate.of(2026, 6, 5)));
+        flushAndClear();
+        List<DdayGoal> before = ddayGoalRepository.findAllByOrderByTargetDateAscIdAsc();
+
+        // when
+        ddayGoalRepository.save(new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10)));
+        flushAndClear();
+        List<DdayGoal> after = ddayGoalRepository.findAllByOrderByTargetDateAscIdAsc();
+
+        // then
+        then(after).hasSize(before.size() + 1);
+        then(after).extracting(DdayGoal::getTitle).contains("정보처리기사");
+    }
+
+    @Test
+    @DisplayName("D-Day 목표를 삭제하면 2차 캐시에서도 제거된다")
+    void delete_evictsSecondLevelCache() {
+        // given
+        DdayGoal saved = ddayGoalRepository.save(new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10)));
+        flushAndClear();
+        ddayGoalRepository.findById(saved.getId());
+        em.clear();
+
+        // when
+        ddayGoalRepository.delete(ddayGoalRepository.findById(saved.getId()).orElseThrow());
+        flushAndClear();
+
+        // then
+        then(ddayGoalRepository.findById(saved.getId())).isEmpty();
+    }
+
+    private CacheRegionStatistics regionStatistics() {
+        return em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics()
+                .getCacheRegionStatistics(DdayGoal.class.getName());
+    }
+}
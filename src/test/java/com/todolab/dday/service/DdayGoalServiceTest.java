@@ -1,23 +1,32 @@
 package com.todolab.dday.service;
 
+import com.todolab.common.concurrent.SingleFlightRegistry;
 import com.todolab.dday.domain.DdayGoal;
 import com.todolab.dday.dto.DdayGoalRequest;
 import com.todolab.dday.exception.DdayGoalNotFoundException;
 import com.todolab.dday.repository.DdayGoalRepository;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
+import com.todolab.task.event.TaskChangedEvent;
+import com.todolab.task.repository.TaskArchiveRepository;
 import com.todolab.task.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -31,10 +40,19 @@ class DdayGoalServiceTest {
     @Mock
     TaskRepository taskRepository;
 
+    @Mock
+    TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     @Test
     @DisplayName("D-Day 목표를 생성한다")
     void create_success() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
         DdayGoal goal = new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10));
         given(ddayGoalRepository.save(org.mockito.ArgumentMatchers.any(DdayGoal.class))).willReturn(goal);
 
@@ -49,7 +67,7 @@ class DdayGoalServiceTest {
     @Test
     @DisplayName("D-Day 목표를 날짜순으로 조회한다")
     void findAll_success() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
         given(ddayGoalRepository.findAllByOrderByTargetDateAscIdAsc()).willReturn(List.of(
                 new DdayGoal("포트폴리오 제출", LocalDate.of(2026, 6, 5))
         ));
@@ -60,12 +78,14 @@ class DdayGoalServiceTest {
         assertThat(responses.getFirst().title()).isEqualTo("포트폴리오 제출");
         then(ddayGoalRepository).should().findAllByOrderByTargetDateAscIdAsc();
         then(taskRepository).shouldHaveNoInteractions();
+        // single-flight leader 는 읽기 전용 트랜잭션 안에서 읽는다.
+        then(transactionManager).should().getTransaction(argThat(TransactionDefinition::isReadOnly));
     }
 
     @Test
     @DisplayName("D-Day 목표를 날짜 범위로 조회한다")
     void findByDateRange_success() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
         LocalDate startDate = LocalDate.of(2026, 6, 1);
         LocalDate endDate = LocalDate.of(2026, 6, 30);
         given(ddayGoalRepository.findByTargetDateBetweenOrderByTargetDateAscIdAsc(startDate, endDate))
@@ -83,7 +103,7 @@ class DdayGoalServiceTest {
     @Test
     @DisplayName("D-Day 목표에 연결된 Task를 조회한다")
     void findTasks_success() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
         long ddayGoalId = 1L;
         DdayGoal goal = new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10));
         Task task = Task.builder()
@@ -93,7 +113,7 @@ class DdayGoalServiceTest {
                 .ddayGoal(goal)
                 .build();
 
-        given(ddayGoalRepository.existsById(ddayGoalId)).willReturn(true);
+        given(ddayGoalRepository.findById(ddayGoalId)).willReturn(Optional.of(goal));
         given(taskRepository.findByDdayGoalId(ddayGoalId)).willReturn(List.of(task));
 
         var responses = service.findTasks(ddayGoalId);
@@ -101,27 +121,27 @@ class DdayGoalServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.getFirst().title()).isEqualTo("기출 20문제 풀기");
         assertThat(responses.getFirst().status()).isEqualTo(TaskStatus.TODAY);
-        then(ddayGoalRepository).should().existsById(ddayGoalId);
+        then(ddayGoalRepository).should().findById(ddayGoalId);
         then(taskRepository).should().findByDdayGoalId(ddayGoalId);
     }
 
     @Test
     @DisplayName("존재하지 않는 D-Day 목표의 Task 조회 시 예외를 던진다")
     void findTasks_fail_notFound() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
-        given(ddayGoalRepository.existsById(99L)).willReturn(false);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
+        given(ddayGoalRepository.findById(99L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.findTasks(99L))
                 .isInstanceOf(DdayGoalNotFoundException.class);
 
-        then(ddayGoalRepository).should().existsById(99L);
+        then(ddayGoalRepository).should().findById(99L);
         then(taskRepository).should(never()).findByDdayGoalId(99L);
     }
 
     @Test
     @DisplayName("D-Day 목표 삭제 시 연결된 Task는 보존하고 연결만 해제한다")
     void delete_success_disconnectTasks() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
         long ddayGoalId = 1L;
         DdayGoal goal = new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10));
         Task task = Task.builder()
@@ -131,27 +151,29 @@ class DdayGoalServiceTest {
                 .ddayGoal(goal)
                 .build();
 
-        given(ddayGoalRepository.existsById(ddayGoalId)).willReturn(true);
+        given(ddayGoalRepository.findById(ddayGoalId)).willReturn(Optional.of(goal));
         given(taskRepository.findByDdayGoalId(ddayGoalId)).willReturn(List.of(task));
 
         service.delete(ddayGoalId);
 
         assertThat(task.getDdayGoal()).isNull();
-        then(ddayGoalRepository).should().existsById(ddayGoalId);
+        then(ddayGoalRepository).should().findById(ddayGoalId);
         then(taskRepository).should().findByDdayGoalId(ddayGoalId);
-        then(ddayGoalRepository).should().deleteById(ddayGoalId);
+        then(taskArchiveRepository).should().disconnectDdayGoal(ddayGoalId);
+        then(ddayGoalRepository).should().delete(goal);
+        then(eventPublisher).should().publishEvent(org.mockito.ArgumentMatchers.any(TaskChangedEvent.class));
     }
 
     @Test
     @DisplayName("존재하지 않는 D-Day 목표 삭제 시 예외를 던진다")
     void delete_fail_notFound() {
-        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository);
-        given(ddayGoalRepository.existsById(99L)).willReturn(false);
+        DdayGoalService service = new DdayGoalService(ddayGoalRepository, taskRepository, taskArchiveRepository, new SingleFlightRegistry(new SimpleMeterRegistry()), eventPublisher, transactionManager);
+        given(ddayGoalRepository.findById(99L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.delete(99L))
                 .isInstanceOf(DdayGoalNotFoundException.class);
 
-        then(ddayGoalRepository).should().existsById(99L);
+        then(ddayGoalRepository).should().findById(99L);
         then(taskRepository).shouldHaveNoInteractions();
     }
 }
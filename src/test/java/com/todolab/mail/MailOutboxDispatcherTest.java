@@ -0,0 +1,221 @@
+package com.todolab.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.todolab.mail.domain.MailOutbox;
+import com.todolab.mail.domain.MailOutboxStatus;
+import com.todolab.mail.repository.MailOutboxRepository;
+import com.todolab.task.repository.TaskArchiveBoundary;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({MailOutboxService.class, TaskArchiveBoundary.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    MailOutboxService mailOutboxService;
+
+    @Autowired
+    MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("outbox 에 쌓인 메일을 묶음으로 발송하고 SENT 로 표시한다")
+    void dispatch_sendsPendingMails() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            mailOutboxService.enqueue("user" + i + "@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문 " + i);
+        }
+        MailOutboxDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort(), 5);
+
+        // when
+        int sent = dispatcher.dispatch(now.plusSeconds(1));
+
+        // then
+        assertThat(sent).isEqualTo(5);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(mailOutboxRepository.countByStatus(MailOutboxStatus.SENT)).isEqualTo(5);
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(5);
+        DistributionSummary throughput = meterRegistry.get("mail.outbox.throughput").summary();
+        assertThat(throughput.count()).isEqualTo(1);
+        assertThat(throughput.max()).isPositive();
+    }
+
+    @Test
+    @DisplayName("SMTP 발송에 실패하면 backoff 이후에 다시 발송한다")
+    void dispatch_smtpDown_retriesAfterBackoff() throws IOException {
+        // given
+        mailOutboxService.enqueue("user@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문");
+        MailOutboxDispatcher down = dispatcher(closedPort(), 5);
+        MailOutboxDispatcher up = dispatcher(greenMail.getSmtp().getPort(), 5);
+
+        // when
+        int firstTry = down.dispatch(now.plusSeconds(1));
+        int duringBackoff = up.dispatch(now.plusSeconds(10));
+        int afterBackoff = up.dispatch(now.plusSeconds(40));
+
+        // then
+        assertThat(firstTry).isZero();
+        assertThat(duringBackoff).isZero();
+        assertThat(afterBackoff).isEqualTo(1);
+
+        MailOutbox mail = mailOutboxRepository.findAll().getFirst();
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(mail.getAttemptCount()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수에 도달하면 FAILED 로 남긴다")
+    void dispatch_maxAttempts_marksFailed() throws IOException {
+        // given
+        mailOutboxService.enqueue("user@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문");
+        MailOutboxDispatcher down = dispatcher(closedPort(), 2);
+
+        // when
+        down.dispatch(now.plusSeconds(1));
+        down.dispatch(now.plusMinutes(5));
+
+        // then
+        MailOutbox mail = mailOutboxRepository.findAll().getFirst();
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(mail.getAttemptCount()).isEqualTo(2);
+        assertThat(mail.getLastError()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("모두 보낸 뒤 연결 종료에만 실패하면 보낸 것으로 처리해 다시 보내지 않는다")
+    void dispatch_closeFailedAfterSend_marksSent() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            mailOutboxService.enqueue("user" + i + "@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문 " + i);
+        }
+        // JavaMailSenderImpl 은 transport.close() 가 실패하면 failedMessages 없이 MailSendException 을 던진다.
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(SimpleMailMessage... simpleMessages) {
+                super.send(simpleMessages);
+                throw new MailSendException("Failed to close server connection after message sending",
+                        new MessagingException("QUIT failed"));
+            }
+        };
+        MailOutboxDispatcher dispatcher = dispatcher(mailSender, greenMail.getSmtp().getPort(), 5);
+
+        // when
+        int sent = dispatcher.dispatch(now.plusSeconds(1));
+        int retried = dispatcher.dispatch(now.plusMinutes(10));
+
+        // then
+        assertThat(sent).isEqualTo(3);
+        assertThat(retried).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(mailOutboxRepository.countByStatus(MailOutboxStatus.SENT)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가져간 메일은 lease 동안 다른 dispatcher 가 다시 가져가지 않는다")
+    void claim_leaseHidesClaimedMails() {
+        // given
+        mailOutboxService.enqueue("user@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문");
+
+        // when
+        List<MailOutbox> first = mailOutboxService.claim(now.plusSeconds(1), 10, Duration.ofMinutes(5));
+        List<MailOutbox> second = mailOutboxService.claim(now.plusMinutes(1), 10, Duration.ofMinutes(5));
+        List<MailOutbox> afterLease = mailOutboxService.claim(now.plusMinutes(10), 10, Duration.ofMinutes(5));
+
+        // then
+        assertThat(first).hasSize(1);
+        assertThat(second).isEmpty();
+        assertThat(afterLease).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("적재한 트랜잭션이 롤백되면 outbox 에 남지 않는다")
+    void enqueue_rolledBack_notPersisted() {
+        // given
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // when
+        tx.executeWithoutResult(status -> {
+            mailOutboxService.enqueue("user@todolab.com", "[ToDoLab] 2026-03-12 일정 요약", "본문");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    private MailOutboxDispatcher dispatcher(int smtpPort, int maxAttempts) {
+        return dispatcher(new JavaMailSenderImpl(), smtpPort, maxAttempts);
+    }
+
+    private MailOutboxDispatcher dispatcher(JavaMailSenderImpl mailSender, int smtpPort, int maxAttempts) {
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        MailService mailService = new MailService(mailSender);
+        ReflectionTestUtils.invokeMethod(mailService, "setMailSender", "todolab@localhost");
+
+        return new MailOutboxDispatcher(
+                mailOutboxService,
+                mailService,
+                meterRegistry,
+                50,
+                2,
+                maxAttempts,
+                Duration.ofSeconds(30),
+                Duration.ofHours(1),
+                Duration.ofMinutes(5)
+        );
+    }
+
+    private int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.todolab.stats.controller;
+
+import com.todolab.common.api.ApiExceptionHandler;
+import com.todolab.common.api.ErrorCode;
+import com.todolab.stats.dto.DailyTaskCounts;
+import com.todolab.stats.dto.DailyTaskStatsResponse;
+import com.todolab.stats.service.DailyTaskStatsService;
+import com.todolab.task.exception.TaskValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(ApiExceptionHandler.class)
+@WebMvcTest(controllers = StatsController.class)
+class StatsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    DailyTaskStatsService dailyTaskStatsService;
+
+    @Test
+    @DisplayName("기간 통계 조회 성공 - 카테고리 필터를 서비스로 넘긴다")
+    void getStats_success() throws Exception {
+        LocalDate date = LocalDate.of(2026, 10, 1);
+        DailyTaskCounts counts = new DailyTaskCounts(2, 1, 0, 0, Map.of());
+        given(dailyTaskStatsService.getStats(date, date, "공부")).willReturn(new DailyTaskStatsResponse(
+                date, date, counts, List.of(new DailyTaskStatsResponse.Day(date, counts, Map.of("공부", counts)))));
+
+        mockMvc.perform(get("/api/stats")
+                        .param("from", "2026-10-01")
+                        .param("to", "2026-10-01")
+                        .param("category", "공부"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.total.created").value(2))
+                .andExpect(jsonPath("$.data.days[0].date").value("2026-10-01"))
+                .andExpect(jsonPath("$.data.days[0].categories['공부'].completed").value(1));
+
+        then(dailyTaskStatsService).should().getStats(date, date, "공부");
+    }
+
+    @Test
+    @DisplayName("기간 통계 조회 실패 - 범위가 잘못되면 INVALID_INPUT")
+    void getStats_fail_invalidRange() throws Exception {
+        LocalDate from = LocalDate.of(2026, 10, 3);
+        LocalDate to = LocalDate.of(2026, 10, 1);
+        given(dailyTaskStatsService.getStats(from, to, null))
+                .willThrow(new TaskValidationException("통계 조회 종료일은 시작일보다 빠를 수 없습니다."));
+
+        mockMvc.perform(get("/api/stats")
+                        .param("from", "2026-10-03")
+                        .param("to", "2026-10-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_INPUT.getCode()));
+    }
+
+    @Test
+    @DisplayName("기간 통계 조회 실패 - 날짜 형식이 잘못되면 INVALID_INPUT")
+    void getStats_fail_invalidDate() throws Exception {
+        mockMvc.perform(get("/api/stats")
+                        .param("from", "2026-13-01")
+                        .param("to", "2026-10-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_INPUT.getCode()));
+
+        then(dailyTaskStatsService).shouldHaveNoInteractions();
+    }
+}
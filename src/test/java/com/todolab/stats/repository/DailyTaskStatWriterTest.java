@@ -0,0 +1,95 @@
+package com.todolab.stats.repository;
+
+import com.todolab.stats.domain.DailyTaskStatId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyTaskStatWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private DailyTaskStatWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // 운영과 같은 INSERT ... ON DUPLICATE KEY UPDATE 를 쓰도록 MySQL 모드로 띄운다.
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("stats-" + System.nanoTime() + ";MODE=MySQL")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE DAILY_TASK_STATS (
+                    STAT_DATE DATE NOT NULL,
+                    CATEGORY VARCHAR(255) NOT NULL,
+                    METRIC VARCHAR(50) NOT NULL,
+                    STAT_COUNT BIGINT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (STAT_DATE, CATEGORY, METRIC)
+                )
+                """);
+        writer = new DailyTaskStatWriter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("없는 키는 만들고, 있는 키는 증감분을 더하며, 0 인 증감분은 보내지 않는다")
+    void add_upserts() {
+        // given
+        DailyTaskStatId created = new DailyTaskStatId(DAY, "공부", "CREATED");
+        DailyTaskStatId completed = new DailyTaskStatId(DAY, "공부", "COMPLETED");
+
+        // when
+        writer.add(Map.of(created, 1L, completed, 0L));
+        writer.add(Map.of(created, 2L));
+        writer.add(Map.of(created, -1L, completed, -1L));
+
+        // then
+        assertThat(count(created)).isEqualTo(2);
+        assertThat(count(completed)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("replace 는 구간 안의 행만 지우고 0 이 아닌 값으로 다시 채운다")
+    void replace_rewritesRange() {
+        // given
+        DailyTaskStatId inside = new DailyTaskStatId(DAY, "공부", "CREATED");
+        DailyTaskStatId outside = new DailyTaskStatId(DAY.plusDays(5), "공부", "CREATED");
+        writer.add(Map.of(inside, 9L, outside, 7L));
+
+        // when
+        int rows = writer.replace(DAY, DAY.plusDays(1), Map.of(
+                inside, 1L,
+                new DailyTaskStatId(DAY, "공부", "COMPLETED"), 0L
+        ));
+
+        // then
+        assertThat(rows).isEqualTo(1);
+        assertThat(count(inside)).isEqualTo(1);
+        assertThat(count(outside)).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM DAILY_TASK_STATS", Long.class)).isEqualTo(2);
+    }
+
+    private long count(DailyTaskStatId key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT STAT_COUNT FROM DAILY_TASK_STATS WHERE STAT_DATE = ? AND CATEGORY = ? AND METRIC = ?",
+                Long.class, Date.valueOf(key.getStatDate()), key.getCategory(), key.getMetric());
+    }
+}
@@ -0,0 +1,102 @@
+package com.todolab.stats.service;
+
+import com.todolab.Constant;
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.stats.domain.DailyTaskStatId;
+import com.todolab.stats.domain.TaskStatsSnapshot;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.domain.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyTaskStatsRecorderTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDate PLANNED = LocalDate.of(2026, 10, 5);
+
+    @Test
+    @DisplayName("완료하면 완료일에 COMPLETED 가, D-Day 연결 일정이면 DDAY_LINKED 도 1 늘고, 완료 취소하면 그대로 빠진다")
+    void delta_completeAndReopen() {
+        // given
+        TaskStatsSnapshot today = snapshot("공부", TaskStatus.TODAY, null, PLANNED, 0, null);
+        TaskStatsSnapshot done = snapshot("공부", TaskStatus.DONE, PLANNED.atTime(21, 0), PLANNED, 0, null);
+
+        // when
+        Map<DailyTaskStatId, Long> completed = DailyTaskStatsRecorder.delta(today, done);
+        Map<DailyTaskStatId, Long> reopened = DailyTaskStatsRecorder.delta(done, today);
+
+        // then
+        assertThat(completed).containsOnly(
+                Map.entry(key(PLANNED, "공부", DailyTaskMetric.COMPLETED.name()), 1L),
+                Map.entry(key(PLANNED, "공부", DailyTaskMetric.DDAY_LINKED.name()), 1L)
+        );
+        assertThat(reopened).containsOnly(
+                Map.entry(key(PLANNED, "공부", DailyTaskMetric.COMPLETED.name()), -1L),
+                Map.entry(key(PLANNED, "공부", DailyTaskMetric.DDAY_LINKED.name()), -1L)
+        );
+    }
+
+    @Test
+    @DisplayName("미루면 미루기 전 계획일에 CARRIED_OVER 가 늘고, 미룬 이유는 새 계획일로 옮겨 간다")
+    void delta_carryOver() {
+        // given
+        TaskStatsSnapshot before = snapshot("공부", TaskStatus.TODAY, null, PLANNED, 0, DeferReason.TOO_BIG);
+        TaskStatsSnapshot after = snapshot("공부", TaskStatus.TODAY, null, PLANNED.plusDays(1), 1, DeferReason.TOO_BIG);
+
+        // when
+        Map<DailyTaskStatId, Long> delta = DailyTaskStatsRecorder.delta(before, after);
+
+        // then
+        String deferred = DailyTaskMetric.deferred(DeferReason.TOO_BIG);
+        assertThat(delta).containsOnly(
+                Map.entry(key(PLANNED, "공부", DailyTaskMetric.CARRIED_OVER.name()), 1L),
+                Map.entry(key(PLANNED, "공부", deferred), -1L),
+                Map.entry(key(PLANNED.plusDays(1), "공부", deferred), 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("카테고리를 바꾸면 이전 카테고리에서 빼고 새 카테고리에 더하며, 빈 카테고리는 미분류로 모은다")
+    void delta_categoryChange() {
+        // given
+        TaskStatsSnapshot before = snapshot("", TaskStatus.TODAY, null, PLANNED, 0, null);
+        TaskStatsSnapshot after = snapshot("운동", TaskStatus.TODAY, null, PLANNED, 0, null);
+
+        // when
+        Map<DailyTaskStatId, Long> delta = DailyTaskStatsRecorder.delta(before, after);
+
+        // then
+        assertThat(delta).containsOnly(
+                Map.entry(key(CREATED_AT.toLocalDate(), Constant.UNCATEGORIZED, DailyTaskMetric.CREATED.name()), -1L),
+                Map.entry(key(CREATED_AT.toLocalDate(), "운동", DailyTaskMetric.CREATED.name()), 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("통계에 쓰이지 않는 필드만 바뀌면 증감분이 없다")
+    void delta_noChange() {
+        // given
+        TaskStatsSnapshot before = snapshot("공부", TaskStatus.TODAY, null, PLANNED, 0, DeferReason.AVOIDING);
+
+        // when
+        Map<DailyTaskStatId, Long> delta = DailyTaskStatsRecorder.delta(before, before);
+
+        // then
+        assertThat(delta).isEmpty();
+    }
+
+    private TaskStatsSnapshot snapshot(String category, TaskStatus status, LocalDateTime completedAt, LocalDate plannedDate,
+                                       int carryOverCount, DeferReason deferReason) {
+        return TaskStatsSnapshot.of(category, CREATED_AT, status, completedAt, plannedDate, carryOverCount, deferReason, true);
+    }
+
+    private DailyTaskStatId key(LocalDate date, String category, String metric) {
+        return new DailyTaskStatId(date, category, metric);
+    }
+}
@@ -0,0 +1,107 @@
+package com.todolab.stats.service;
+
+import com.todolab.Constant;
+import com.todolab.stats.domain.DailyTaskMetric;
+import com.todolab.stats.domain.DailyTaskStat;
+import com.todolab.stats.domain.DailyTaskStatId;
+import com.todolab.stats.dto.DailyTaskStatsResponse;
+import com.todolab.stats.repository.DailyTaskStatRepository;
+import com.todolab.task.domain.DeferReason;
+import com.todolab.task.exception.TaskValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class DailyTaskStatsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 3);
+
+    @Mock
+    DailyTaskStatRepository dailyTaskStatRepository;
+
+    DailyTaskStatsService dailyTaskStatsService;
+
+    @BeforeEach
+    void setUp() {
+        dailyTaskStatsService = new DailyTaskStatsService(dailyTaskStatRepository, 31);
+    }
+
+    @Test
+    @DisplayName("기간 통계는 빈 날을 0 으로 채우고, 날짜별 / 카테고리별 / 전체 합계를 만든다")
+    void getStats_aggregatesByDayAndCategory() {
+        // given
+        given(dailyTaskStatRepository.findByIdStatDateBetween(FROM, TO)).willReturn(List.of(
+                stat(FROM, "공부", DailyTaskMetric.CREATED.name(), 2),
+                stat(FROM, Constant.UNCATEGORIZED, DailyTaskMetric.CREATED.name(), 1),
+                stat(FROM, "공부", DailyTaskMetric.COMPLETED.name(), 1),
+                stat(TO, "공부", DailyTaskMetric.CARRIED_OVER.name(), 3),
+                stat(TO, "운동", DailyTaskMetric.deferred(DeferReason.AVOIDING), 1)
+        ));
+
+        // when
+        DailyTaskStatsResponse res = dailyTaskStatsService.getStats(FROM, TO, null);
+
+        // then
+        assertThat(res.days()).extracting(DailyTaskStatsResponse.Day::date)
+                .containsExactly(FROM, FROM.plusDays(1), TO);
+        assertThat(res.days().get(0).total().created()).isEqualTo(3);
+        assertThat(res.days().get(0).categories()).containsOnlyKeys("공부", Constant.UNCATEGORIZED);
+        assertThat(res.days().get(1).total().created()).isZero();
+        assertThat(res.days().get(1).categories()).isEmpty();
+        assertThat(res.days().get(2).categories().get("운동").deferred()).containsOnly(Map.entry(DeferReason.AVOIDING, 1L));
+
+        assertThat(res.total().created()).isEqualTo(3);
+        assertThat(res.total().completed()).isEqualTo(1);
+        assertThat(res.total().carriedOver()).isEqualTo(3);
+        assertThat(res.total().deferred()).containsOnly(Map.entry(DeferReason.AVOIDING, 1L));
+    }
+
+    @Test
+    @DisplayName("카테고리를 주면 그 카테고리 행만 합친다")
+    void getStats_filtersCategory() {
+        // given
+        given(dailyTaskStatRepository.findByIdStatDateBetween(FROM, TO)).willReturn(List.of(
+                stat(FROM, "공부", DailyTaskMetric.CREATED.name(), 2),
+                stat(FROM, "운동", DailyTaskMetric.CREATED.name(), 5)
+        ));
+
+        // when
+        DailyTaskStatsResponse res = dailyTaskStatsService.getStats(FROM, TO, "공부");
+
+        // then
+        assertThat(res.total().created()).isEqualTo(2);
+        assertThat(res.days().get(0).categories()).containsOnlyKeys("공부");
+    }
+
+    @Test
+    @DisplayName("종료일이 시작일보다 빠르거나 최대 일 수를 넘으면 조회하지 않고 실패한다")
+    void getStats_invalidRange() {
+        // when & then
+        assertThatThrownBy(() -> dailyTaskStatsService.getStats(TO, FROM, null))
+                .isInstanceOf(TaskValidationException.class);
+        assertThatThrownBy(() -> dailyTaskStatsService.getStats(FROM, FROM.plusDays(31), null))
+                .isInstanceOf(TaskValidationException.class);
+
+        then(dailyTaskStatRepository).should(never()).findByIdStatDateBetween(any(), any());
+    }
+
+    private DailyTaskStat stat(LocalDate date, String category, String metric, long count) {
+        return new DailyTaskStat(new DailyTaskStatId(date, category, metric), count);
+    }
+}
@@ -0,0 +1,27 @@
+package com.todolab.support;
+
+import com.todolab.common.sql.QueryCounter;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * action 안에서 실행된 SQL 수가 maxQueries 이하인지 검증한다. (N+1 회귀 방지)
+ * QueryCountInspector 가 등록된 컨텍스트 (@SpringBootTest) 에서 사용한다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static long assertMaxQueries(long maxQueries, ThrowingCallable action) throws Throwable {
+        try (QueryCounter counter = QueryCounter.start()) {
+            action.call();
+
+            assertThat(counter.count())
+                    .as("실행된 SQL 수")
+                    .isLessThanOrEqualTo(maxQueries);
+            return counter.count();
+        }
+    }
+}
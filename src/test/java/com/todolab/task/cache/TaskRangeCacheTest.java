@@ -0,0 +1,138 @@
+package com.todolab.task.cache;
+
+import com.todolab.task.domain.TaskType;
+import com.todolab.task.domain.query.TaskQueryType;
+import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.event.TaskChangedEvent;
+import com.todolab.task.event.TaskFootprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRangeCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 9);
+
+    TaskRangeCache cache;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskRangeCache(100, Duration.ofMinutes(10));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 범위를 다시 조회하면 캐시된 결과를 반환한다")
+    void get_sameKey_returnsCached() {
+        // given
+        TaskRangeKey week = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.toString()), TaskType.SCHEDULE);
+
+        // when
+        cache.get(week, this::load);
+        cache.get(week, this::load);
+
+        // then
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.putCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경된 Task의 이전/이후 시점이 걸리는 구간만 무효화한다")
+    void onTaskChanged_invalidatesTouchedBucketsOnly() {
+        // given
+        TaskRangeKey thisWeek = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.toString()), TaskType.SCHEDULE);
+        TaskRangeKey nextWeek = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.plusWeeks(1).toString()), TaskType.SCHEDULE);
+        TaskRangeKey farWeek = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.plusWeeks(4).toString()), TaskType.SCHEDULE);
+        cache.get(thisWeek, this::load);
+        cache.get(nextWeek, this::load);
+        cache.get(farWeek, this::load);
+
+        TaskFootprint before = new TaskFootprint(MONDAY.atTime(10, 0), null, MONDAY, null);
+        TaskFootprint after = new TaskFootprint(MONDAY.plusWeeks(1).atTime(10, 0), null, MONDAY.plusWeeks(1), null);
+
+        // when
+        cache.onTaskChanged(new TaskChangedEvent(before, after));
+
+        // then
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+        cache.get(farWeek, this::load);
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Today 조회 구간은 targetDate, 완료 구간은 completedAt 기준으로 무효화한다")
+    void onTaskChanged_usesTargetDateAndCompletedAt() {
+        // given
+        TaskRangeKey today = TaskRangeKey.planned(MONDAY, MONDAY.plusDays(1));
+        TaskRangeKey overdue = TaskRangeKey.planned(null, MONDAY);
+        TaskRangeKey doneWeek = TaskRangeKey.done(MONDAY, MONDAY.plusDays(6));
+        cache.get(today, this::load);
+        cache.get(overdue, this::load);
+        cache.get(doneWeek, this::load);
+
+        TaskFootprint before = new TaskFootprint(null, null, MONDAY, null);
+        TaskFootprint after = new TaskFootprint(null, null, MONDAY, LocalDateTime.of(MONDAY.plusDays(2), LocalTime.NOON));
+
+        // when
+        cache.onTaskChanged(new TaskChangedEvent(before, after));
+
+        // then
+        cache.get(overdue, this::load);
+        assertThat(loadCount).hasValue(3);
+        cache.get(today, this::load);
+        cache.get(doneWeek, this::load);
+        assertThat(loadCount).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("기간 일정은 구간과 겹치는 모든 주를 무효화한다")
+    void onTaskChanged_periodScheduleSpansBuckets() {
+        // given
+        TaskRangeKey thisWeek = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.toString()), TaskType.SCHEDULE);
+        TaskRangeKey nextWeek = TaskRangeKey.schedule(TaskQueryType.WEEK.calculate(MONDAY.plusWeeks(1).toString()), TaskType.SCHEDULE);
+        cache.get(thisWeek, this::load);
+        cache.get(nextWeek, this::load);
+
+        TaskFootprint period = new TaskFootprint(MONDAY.plusDays(4).atStartOfDay(), MONDAY.plusDays(9).atStartOfDay(), null, null);
+
+        // when
+        cache.onTaskChanged(new TaskChangedEvent(null, period));
+
+        // then
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 일어나면 조회 결과를 캐시에 남기지 않는다")
+    void get_invalidatedWhileLoading_doesNotKeepStaleResult() {
+        // given
+        TaskRangeKey today = TaskRangeKey.planned(MONDAY, MONDAY.plusDays(1));
+        TaskFootprint footprint = new TaskFootprint(null, null, MONDAY, null);
+
+        // when
+        cache.get(today, () -> {
+            cache.onTaskChanged(new TaskChangedEvent(null, footprint));
+            return load();
+        });
+        cache.get(today, this::load);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private List<TaskResponse> load() {
+        loadCount.incrementAndGet();
+        return List.of();
+    }
+}
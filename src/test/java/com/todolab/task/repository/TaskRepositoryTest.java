@@ -1,11 +1,15 @@
 package com.todolab.task.repository;
 
+import com.todolab.common.deadline.RequestDeadline;
 import com.todolab.config.QuerydslConfig;
 import com.todolab.dday.domain.DdayGoal;
 import com.todolab.support.RepositoryTestSupport;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
 import com.todolab.task.domain.TaskType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,20 +17,27 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.Mockito.mock;
 
 @DataJpaTest
-@Import(QuerydslConfig.class)
+@Import({QuerydslConfig.class, TaskArchiveBoundary.class})
 @ActiveProfiles("test")
 class TaskRepositoryTest extends RepositoryTestSupport {
 
     @Autowired
     TaskRepository taskRepository;
 
+    @Autowired
+    TaskArchiveBoundary archiveBoundary;
+
     @Test
     @DisplayName("일정(Task) 저장 성공")
     void save_success() {
@@ -569,4 +580,47 @@ class TaskRepositoryTest extends RepositoryTestSupport {
         then(result).extracting("title")
                 .containsExactly("기출 20문제 풀기", "오답 정리");
     }
+
+    @Test
+    @DisplayName("요청 deadline 안에서 조회하면 남은 시간 (초, 올림) 을 query timeout 힌트로 건다")
+    void withDeadline_setsQueryTimeoutHint() {
+        // given
+        LocalDate date = LocalDate.of(2026, 5, 30);
+        taskRepository.save(Task.builder()
+                .title("deadline")
+                .status(TaskStatus.TODAY)
+                .targetDate(date)
+                .build());
+        flushAndClear();
+
+        List<Query> queries = new ArrayList<>();
+        TaskRepositoryImpl repository = new TaskRepositoryImpl(recordingQueries(queries), archiveBoundary);
+
+        // when
+        List<Task> withDeadline = RequestDeadline.callWithin(Duration.ofSeconds(3),
+                () -> repository.findPlannedTasks(date, date.plusDays(1)));
+        List<Task> withoutDeadline = repository.findPlannedTasks(date, date.plusDays(1));
+
+        // then
+        then(withDeadline).hasSize(1);
+        then(withoutDeadline).hasSize(1);
+        then(queries).hasSize(2);
+        then(queries.get(0).getHints()).containsEntry(HibernateHints.HINT_TIMEOUT, 3);
+        then(queries.get(1).getHints()).doesNotContainKey(HibernateHints.HINT_TIMEOUT);
+    }
+
+    // 실제 EntityManager 로 위임하면서 만들어진 Query 를 모은다.
+    private EntityManager recordingQueries(List<Query> queries) {
+        return mock(EntityManager.class, invocation -> {
+            try {
+                Object result = invocation.getMethod().invoke(em, invocation.getArguments());
+                if (result instanceof Query query) {
+                    queries.add(query);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
 }
@@ -1,7 +1,10 @@
 package com.todolab.task.service;
 
 import com.todolab.common.api.ErrorCode;
+import com.todolab.common.concurrent.SingleFlightRegistry;
 import com.todolab.dday.domain.DdayGoal;
+import com.todolab.stats.service.DailyTaskStatsRecorder;
+import com.todolab.task.cache.TaskRangeCache;
 import com.todolab.task.domain.DeferReason;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
@@ -14,8 +17,11 @@ import com.todolab.task.dto.TaskQueryRequest;
 import com.todolab.task.dto.TaskRecommendationResponse;
 import com.todolab.task.dto.TaskRequest;
 import com.todolab.task.dto.TaskResponse;
+import com.todolab.task.event.TaskChangedEvent;
+import com.todolab.task.event.TaskFootprint;
 import com.todolab.task.exception.TaskNotFoundException;
 import com.todolab.task.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,12 +29,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -50,12 +63,32 @@ class TaskServiceTest {
 
     TaskCategoryGrouper taskCategoryGrouper;
 
+    @Mock
+    DailyTaskStatsRecorder dailyTaskStats;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    TaskRangeCache taskRangeCache;
+
+    SimpleMeterRegistry meterRegistry;
+
     TaskService taskService;
 
     @BeforeEach
     void setUp() {
         taskCategoryGrouper = new TaskCategoryGrouper();
-        taskService = new TaskService(taskTxService, taskRepository, taskCategoryGrouper);
+        taskRangeCache = new TaskRangeCache(1_000, Duration.ofMinutes(10));
+        meterRegistry = new SimpleMeterRegistry();
+        taskService = new TaskService(
+                taskTxService,
+                taskRepository,
+                taskCategoryGrouper,
+                taskRangeCache,
+                new SingleFlightRegistry(meterRegistry),
+                dailyTaskStats,
+                eventPublisher
+        );
     }
 
     /*******************
@@ -615,15 +648,20 @@ class TaskServiceTest {
     void deleteTask_success() {
         // given
         long id = 1L;
-        given(taskRepository.existsById(id)).willReturn(true);
+        Task task = Task.builder()
+                .title("삭제할 일정")
+                .startAt(LocalDateTime.of(2025, 11, 27, 10, 0))
+                .build();
+        given(taskRepository.findById(id)).willReturn(Optional.of(task));
 
         // when
         taskService.delete(id);
 
         // then
-        InOrder inOrder = inOrder(taskRepository);
-        inOrder.verify(taskRepository).existsById(id);
-        inOrder.verify(taskRepository).deleteById(id);
+        InOrder inOrder = inOrder(taskRepository, eventPublisher);
+        inOrder.verify(taskRepository).findById(id);
+        inOrder.verify(taskRepository).delete(task);
+        inOrder.verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
 
         then(taskRepository).shouldHaveNoMoreInteractions();
         then(taskTxService).shouldHaveNoInteractions();
@@ -634,7 +672,7 @@ class TaskServiceTest {
     void deleteTask_notFound() {
         // given
         long id = 999L;
-        given(taskRepository.existsById(id)).willReturn(false);
+        given(taskRepository.findById(id)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> taskService.delete(id))
@@ -644,8 +682,8 @@ class TaskServiceTest {
                     assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TASK_NOT_FOUND);
                 });
 
-        then(taskRepository).should(times(1)).existsById(id);
-        then(taskRepository).should(never()).deleteById(id);
+        then(taskRepository).should(times(1)).findById(id);
+        then(taskRepository).should(never()).delete(any(Task.class));
         then(taskRepository).shouldHaveNoMoreInteractions();
         then(taskTxService).shouldHaveNoInteractions();
     }
@@ -810,6 +848,42 @@ class TaskServiceTest {
         then(taskTxService).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("조회 도중 변경이 커밋된 뒤 합류한 호출도 leader 의 이전 결과를 캐시에 남기지 않는다")
+    void getTodayTasks_followerJoinedAfterInvalidation_doesNotCacheStaleResult() throws Exception {
+        // given
+        LocalDate targetDate = LocalDate.of(2026, 5, 20);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(taskRepository.findPlannedTasks(targetDate, targetDate.plusDays(1))).willAnswer(invocation -> {
+            if (loads.incrementAndGet() == 1) {
+                loading.countDown();
+                release.await();
+            }
+            return List.of();
+        });
+
+        // when : leader 가 조회하는 사이 변경이 커밋되고, 그 뒤에 캐시 미스가 난 호출이 leader 를 기다린다.
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<TaskResponse>> leader = executor.submit(() -> taskService.getTodayTasks(targetDate));
+            loading.await();
+            taskRangeCache.onTaskChanged(new TaskChangedEvent(null, new TaskFootprint(null, null, targetDate, null)));
+            Future<List<TaskResponse>> follower = executor.submit(() -> taskService.getTodayTasks(targetDate));
+            while (coalesced() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            leader.get();
+            follower.get();
+        }
+        taskService.getTodayTasks(targetDate);
+
+        // then : 변경 이전 결과는 캐시에 남지 않아 다시 조회한다.
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("single.flight.calls").tag("name", "task.range").functionCounter().count()).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("계획 날짜 범위 조회는 종료일을 포함하는 Repository 반개방 범위로 변환한다")
     void getPlannedTasksBetween_convertsInclusiveEndDate() {
@@ -1176,4 +1250,8 @@ class TaskServiceTest {
         then(taskTxService).should(times(1)).clearDeferReasonTx(id);
         then(taskRepository).shouldHaveNoInteractions();
     }
+
+    private double coalesced() {
+        return meterRegistry.get("single.flight.coalesced").tag("name", "task.range").functionCounter().count();
+    }
 }
@@ -3,6 +3,8 @@ package com.todolab.task.service;
 import com.todolab.dday.domain.DdayGoal;
 import com.todolab.dday.exception.DdayGoalNotFoundException;
 import com.todolab.dday.repository.DdayGoalRepository;
+import com.todolab.stats.domain.TaskStatsSnapshot;
+import com.todolab.stats.service.DailyTaskStatsRecorder;
 import com.todolab.task.domain.DeferReason;
 import com.todolab.task.domain.Task;
 import com.todolab.task.domain.TaskStatus;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -26,6 +29,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
@@ -39,6 +44,12 @@ class TaskTxServiceTest {
     @Mock
     DdayGoalRepository ddayGoalRepository;
 
+    @Mock
+    DailyTaskStatsRecorder dailyTaskStats;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("updateTx는 날짜 없는 Today Task의 설명을 수정해도 실행 상태를 유지한다")
     void updateTx_unscheduledToday_preservesWorkflowState() {
@@ -59,7 +70,7 @@ class TaskTxServiceTest {
                 null,
                 false
         );
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -86,7 +97,7 @@ class TaskTxServiceTest {
                 .title("task")
                 .type(TaskType.TODO)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.findMaxTodayOrder(targetDate)).willReturn(4);
@@ -122,7 +133,7 @@ class TaskTxServiceTest {
                 .startAt(startAt)
                 .endAt(endAt)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.findMaxTodayOrder(targetDate)).willReturn(null);
@@ -157,7 +168,7 @@ class TaskTxServiceTest {
                 .status(TaskStatus.TODAY)
                 .targetDate(targetDate)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -187,7 +198,7 @@ class TaskTxServiceTest {
                 .status(TaskStatus.TODAY)
                 .targetDate(LocalDate.of(2026, 6, 11))
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -217,7 +228,7 @@ class TaskTxServiceTest {
                 .targetDate(LocalDate.of(2026, 5, 21))
                 .carryOverCount(1)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -231,6 +242,7 @@ class TaskTxServiceTest {
 
         then(taskRepository).should(times(1)).findById(id);
         then(taskRepository).should(times(1)).save(task);
+        then(dailyTaskStats).should().recordChanged(any(TaskStatsSnapshot.class), eq(task));
     }
 
     @Test
@@ -244,7 +256,7 @@ class TaskTxServiceTest {
                 .status(TaskStatus.DONE)
                 .completedAt(LocalDateTime.of(2026, 5, 21, 22, 0))
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.findMaxTodayOrder(targetDate)).willReturn(2);
@@ -283,7 +295,7 @@ class TaskTxServiceTest {
                 .targetDate(currentDate)
                 .carryOverCount(1)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.findMaxTodayOrder(nextDate)).willReturn(7);
@@ -322,7 +334,7 @@ class TaskTxServiceTest {
                 .targetDate(LocalDate.of(2026, 5, 21))
                 .carryOverCount(1)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.findMaxTodayOrder(nextDate)).willReturn(null);
@@ -351,7 +363,7 @@ class TaskTxServiceTest {
         Task first = orderedTodayTask(1L, "first", targetDate, 0);
         Task second = orderedTodayTask(2L, "second", targetDate, 1);
         Task third = orderedTodayTask(3L, "third", targetDate, 2);
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(second));
         given(taskRepository.findPlannedTasks(targetDate, targetDate.plusDays(1)))
@@ -378,7 +390,7 @@ class TaskTxServiceTest {
         long id = 1L;
         LocalDate targetDate = LocalDate.of(2026, 5, 22);
         Task task = orderedTodayTask(id, "task", targetDate.minusDays(1), 0);
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
 
@@ -394,7 +406,7 @@ class TaskTxServiceTest {
     void changeStatus_notFound() {
         // given
         long id = 999L;
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
         given(taskRepository.findById(id)).willReturn(Optional.empty());
 
         // when & then
@@ -414,7 +426,7 @@ class TaskTxServiceTest {
                 .title("기출 20문제 풀기")
                 .build();
         DdayGoal goal = new DdayGoal("정보처리기사", LocalDate.of(2026, 6, 10));
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(ddayGoalRepository.findById(ddayGoalId)).willReturn(Optional.of(goal));
@@ -440,7 +452,7 @@ class TaskTxServiceTest {
         Task task = Task.builder()
                 .title("기출 20문제 풀기")
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(ddayGoalRepository.findById(ddayGoalId)).willReturn(Optional.empty());
@@ -463,7 +475,7 @@ class TaskTxServiceTest {
                 .title("기출 20문제 풀기")
                 .ddayGoal(goal)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -487,7 +499,7 @@ class TaskTxServiceTest {
                 .title("task")
                 .carryOverCount(3)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
@@ -511,7 +523,7 @@ class TaskTxServiceTest {
                 .title("task")
                 .deferReason(DeferReason.TOO_BIG)
                 .build();
-        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository);
+        TaskTxService service = new TaskTxService(taskRepository, ddayGoalRepository, dailyTaskStats, eventPublisher);
 
         given(taskRepository.findById(id)).willReturn(Optional.of(task));
         given(taskRepository.save(task)).willReturn(task);
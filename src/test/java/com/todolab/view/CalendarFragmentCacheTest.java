@@ -0,0 +1,142 @@
+package com.todolab.view;
+
+import com.todolab.view.model.CalendarCell;
+import com.todolab.view.model.DaySchedule;
+import com.todolab.view.model.DdayGoalUi;
+import com.todolab.view.model.TaskUi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarFragmentCacheTest {
+
+    private static final LocalDate GRID_START = LocalDate.of(2026, 2, 22);
+    private static final LocalDate SELECTED = LocalDate.of(2026, 3, 12);
+
+    SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    @Test
+    @DisplayName("같은 셀 데이터는 다시 렌더링하지 않고 캐시된 HTML을 반환한다")
+    void renderMonthCells_sameData_servedFromCache() {
+        // given
+        CalendarFragmentCache cache = new CalendarFragmentCache(templateEngine, 1_000);
+        List<CalendarCell> cells = busyMonth(3);
+
+        // when
+        List<String> first = cache.renderMonthCells(cells, SELECTED);
+        List<String> second = cache.renderMonthCells(busyMonth(3), SELECTED);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.stats().missCount()).isEqualTo(42);
+        assertThat(cache.stats().hitCount()).isEqualTo(42);
+        assertThat(first.get(0)).contains("data-date=\"2026-02-22\"");
+        assertThat(first.get(cells.indexOf(cellOn(cells, SELECTED)))).contains("bg-blue-600");
+    }
+
+    @Test
+    @DisplayName("데이터가 바뀐 날짜의 셀만 다시 렌더링한다")
+    void renderMonthCells_dirtyDay_reRenderedOnly() {
+        // given
+        CalendarFragmentCache cache = new CalendarFragmentCache(templateEngine, 1_000);
+        List<CalendarCell> cells = busyMonth(0);
+        cache.renderMonthCells(cells, SELECTED);
+
+        LocalDate dirtyDay = LocalDate.of(2026, 3, 5);
+        List<CalendarCell> changed = cells.stream()
+                .map(c -> c.date().equals(dirtyDay)
+                        ? new CalendarCell(c.date(), c.inMonth(), List.of(task(99L, dirtyDay)), c.ddayGoals(), false, false)
+                        : c)
+                .toList();
+
+        // when
+        List<String> rendered = cache.renderMonthCells(changed, SELECTED);
+
+        // then
+        assertThat(cache.stats().missCount()).isEqualTo(43);
+        assertThat(rendered.get(changed.indexOf(cellOn(changed, dirtyDay))))
+                .contains("calendar-day-dot-task");
+    }
+
+    @Test
+    @DisplayName("선택 날짜가 바뀌면 이전/새 선택 셀만 다시 렌더링한다")
+    void renderWeekCells_selectionChange_reRendersTwoCells() {
+        // given
+        CalendarFragmentCache cache = new CalendarFragmentCache(templateEngine, 1_000);
+        List<DaySchedule> week = IntStream.range(0, 7)
+                .mapToObj(i -> new DaySchedule(SELECTED.minusDays(4).plusDays(i), "일월화수목금토".substring(i, i + 1),
+                        List.of(), List.of(), false, false))
+                .toList();
+        cache.renderWeekCells(week, SELECTED);
+
+        // when
+        List<String> rendered = cache.renderWeekCells(week, SELECTED.plusDays(1));
+
+        // then
+        assertThat(cache.stats().missCount()).isEqualTo(9);
+        assertThat(rendered.get(0)).contains("text-red-400");
+        assertThat(rendered.get(5)).contains("bg-blue-600");
+    }
+
+    @Test
+    @DisplayName("일정 내용이 바뀌어도 셀에 그리는 점이 같으면 다시 렌더링하지 않는다")
+    void renderMonthCells_sameFlags_servedFromCache() {
+        // given
+        CalendarFragmentCache cache = new CalendarFragmentCache(templateEngine, 1_000);
+        cache.renderMonthCells(busyMonth(3), SELECTED);
+
+        // when
+        cache.renderMonthCells(busyMonth(5), SELECTED);
+
+        // then
+        assertThat(cache.stats().missCount()).isEqualTo(42);
+        assertThat(cache.stats().hitCount()).isEqualTo(42);
+    }
+
+    private List<CalendarCell> busyMonth(int tasksPerDay) {
+        List<CalendarCell> cells = new ArrayList<>(42);
+        for (int i = 0; i < 42; i++) {
+            LocalDate day = GRID_START.plusDays(i);
+            List<TaskUi> tasks = IntStream.range(0, tasksPerDay)
+                    .mapToObj(n -> task((long) i * 100 + n, day))
+                    .toList();
+            List<DdayGoalUi> goals = day.getDayOfMonth() == 10
+                    ? List.of(new DdayGoalUi((long) i, "목표", day, 3))
+                    : List.of();
+            cells.add(new CalendarCell(day, day.getMonthValue() == 3, tasks, goals, i % 3 == 0, i % 7 == 0));
+        }
+        return cells;
+    }
+
+    private TaskUi task(Long id, LocalDate day) {
+        return new TaskUi(id, "일정 " + id, null, day, LocalTime.of(9, 0), false,
+                day.atTime(9, 0), day.atTime(10, 0), "WORK", "#BFDBFE");
+    }
+
+    private CalendarCell cellOn(List<CalendarCell> cells, LocalDate date) {
+        return cells.stream().filter(c -> c.date().equals(date)).findFirst().orElseThrow();
+    }
+}
@@ -48,11 +48,14 @@ class TaskPageControllerTest {
     @Mock
     TaskViewService taskViewService;
 
+    @Mock
+    CalendarFragmentCache calendarFragmentCache;
+
     MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        TaskPageController controller = new TaskPageController(templateEngine, taskService, taskViewService);
+        TaskPageController controller = new TaskPageController(templateEngine, taskService, taskViewService, calendarFragmentCache);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
     }
 
@@ -233,7 +236,10 @@ class TaskPageControllerTest {
                 0
         );
 
+        List<String> weekCellsHtml = List.of("<div>12</div>");
+
         given(taskViewService.getWeekPage("next", "2026-05-05")).willReturn(page);
+        given(calendarFragmentCache.renderWeekCells(weeklyTasks, currentDate)).willReturn(weekCellsHtml);
 
         // when & then
         mockMvc.perform(get("/tasks/week")
@@ -251,6 +257,7 @@ class TaskPageControllerTest {
                 .andExpect(model().attribute("weekRange", "2026-05-10 ~ 2026-05-16"))
                 .andExpect(model().attribute("selectedDate", currentDate))
                 .andExpect(model().attribute("weeklyTasks", weeklyTasks))
+                .andExpect(model().attribute("weekCellsHtml", weekCellsHtml))
                 .andExpect(model().attribute("selectedSchedule", selectedSchedule))
                 .andExpect(model().attribute("weekTotalCount", 0))
                 .andExpect(model().attribute("contentView", "pages/task/week"));
@@ -281,7 +288,10 @@ class TaskPageControllerTest {
                 0
         );
 
+        List<String> monthCellsHtml = List.of("<div>12</div>");
+
         given(taskViewService.getMonthPage(null, "2026-05")).willReturn(page);
+        given(calendarFragmentCache.renderMonthCells(monthDays, selectedDate)).willReturn(monthCellsHtml);
 
         // when & then
         mockMvc.perform(get("/tasks/month")
@@ -299,6 +309,7 @@ class TaskPageControllerTest {
                 .andExpect(model().attribute("monthLabel", "2026-05"))
                 .andExpect(model().attribute("monthRange", "2026-05"))
                 .andExpect(model().attribute("monthDays", monthDays))
+                .andExpect(model().attribute("monthCellsHtml", monthCellsHtml))
                 .andExpect(model().attribute("monthTotalCount", 0))
                 .andExpect(model().attribute("contentView", "pages/task/month"));
 
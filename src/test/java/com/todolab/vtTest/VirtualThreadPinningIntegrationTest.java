@@ -0,0 +1,168 @@
+package com.todolab.vtTest;
+
+import com.todolab.common.vthread.PinnedStack;
+import com.todolab.common.vthread.VirtualThreadMonitor;
+import com.todolab.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드로 처리되는 주요 API 가 carrier 를 붙잡지 않는지 JFR (jdk.VirtualThreadPinned) 로 확인한다.
+ * pinned-threshold 를 0 으로 낮춰 짧은 pinning 도 모두 잡고, 클래스 로딩 / 초기화로 생기는 pinning 은 한 번 돌려 걸러낸다.
+ * 앱 프레임 유무와 관계없이 요청 스레드에서 난 pinning 은 모두 실패로 본다. (JDBC 드라이버 / Hibernate / JavaMail 안쪽 pinning 포함)
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.batch.job.enabled=false",
+                "spring.threads.virtual.enabled=true",
+                "app.vthread.monitor.enabled=true",
+                "app.vthread.monitor.pinned-threshold=0ms",
+                // 실패 메시지에 드라이버 안쪽부터 앱 코드까지 전체 stack 을 남긴다. (JFR stackdepth 는 build.gradle 에서 늘린다)
+                "app.vthread.monitor.stack-depth=512",
+                // 동시 사용자 수가 API 예산보다 많으므로 거절 대신 기다리게 한다.
+                "app.db.bulkhead.api.max-wait=10s",
+                "app.db.bulkhead.page.max-wait=10s",
+                // bulkhead 대기가 요청 deadline 에 잘리지 않게 한다.
+                "app.deadline.max=15s",
+                "app.deadline.defaults=* /**:15s"
+        }
+)
+@ActiveProfiles("test")
+class VirtualThreadPinningIntegrationTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+    private static final int USERS = 16;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    // Tomcat 이 요청을 처리하는 가상 스레드 이름 (tomcat-handler-N)
+    private static final String REQUEST_THREAD = "tomcat-handler-";
+    // 알고 있고 허용하는 pinning. stack 에 이 프레임이 있으면 제외한다. (추가할 때는 이유를 함께 적는다)
+    private static final List<String> TOLERATED_FRAMES = List.of();
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private VirtualThreadMonitor virtualThreadMonitor;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private RestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .requestFactory(new JdkClientHttpRequestFactory())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Today / 캘린더 / 완료·이월 API 를 동시에 호출해도 요청 스레드에서 가상 스레드 pinning 이 없다")
+    void hotApiPaths_doNotPinCarrierThreads() throws Exception {
+        // given
+        assertThat(virtualThreadMonitor.isRunning()).isTrue();
+        journey(0);
+        assertThat(virtualThreadMonitor.awaitFlush(Duration.ofSeconds(10))).isTrue();
+        virtualThreadMonitor.reset();
+
+        // when
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 1; i <= USERS; i++) {
+                int user = i;
+                results.add(users.submit(() -> journey(user)));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        }
+        assertThat(virtualThreadMonitor.awaitFlush(Duration.ofSeconds(10))).isTrue();
+
+        // then
+        List<PinnedStack> requestPins = virtualThreadMonitor.pinnedStacks().stream()
+                .filter(stack -> stack.thread().startsWith(REQUEST_THREAD))
+                .filter(stack -> stack.frames().stream().noneMatch(VirtualThreadPinningIntegrationTest::tolerated))
+                .toList();
+        assertThat(requestPins)
+                .as("pinned stacks:%n%s", describe(requestPins))
+                .isEmpty();
+        assertThat(virtualThreadMonitor.droppedStacks()).isZero();
+        assertThat(virtualThreadMonitor.submitFailedCount()).isZero();
+    }
+
+    private void journey(int user) {
+        String created = client.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"title\":\"pin-" + user + "\",\"type\":\"TODO\"}")
+                .retrieve()
+                .body(String.class);
+        long id = id(created);
+
+        patch("/api/tasks/" + id + "/today?date=" + DATE);
+        get("/api/tasks/today?date=" + DATE);
+        get("/api/tasks/overdue?date=" + DATE);
+        get("/api/tasks/recommendations/today?date=" + DATE);
+        get("/api/tasks/inbox");
+        get("/api/tasks/done?date=" + DATE);
+        patch("/api/tasks/" + id + "/done");
+        patch("/api/tasks/" + id + "/done/cancel?date=" + DATE);
+        patch("/api/tasks/" + id + "/carry-over?date=" + DATE.plusDays(1));
+        get("/tasks/week?date=" + DATE);
+        get("/tasks/month?date=" + DATE);
+    }
+
+    private void get(String uri) {
+        client.get().uri(uri).retrieve().toBodilessEntity();
+    }
+
+    private void patch(String uri) {
+        client.patch().uri(uri).retrieve().toBodilessEntity();
+    }
+
+    private static long id(String body) {
+        Matcher matcher = ID.matcher(body);
+        assertThat(matcher.find()).as("id in %s", body).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static boolean tolerated(String frame) {
+        return TOLERATED_FRAMES.stream().anyMatch(frame::startsWith);
+    }
+
+    private static String describe(List<PinnedStack> stacks) {
+        return stacks.stream()
+                .map(stack -> stack.count() + "x " + stack.totalPinnedMs() + "ms (" + stack.appFrame() + ")\n  "
+                        + String.join("\n  ", stack.frames()))
+                .collect(Collectors.joining("\n"));
+    }
+}
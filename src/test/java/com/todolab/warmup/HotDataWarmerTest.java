@@ -0,0 +1,66 @@
+package com.todolab.warmup;
+
+import com.todolab.dday.service.DdayGoalService;
+import com.todolab.task.service.TaskService;
+import com.todolab.view.CalendarFragmentCache;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.CalendarCell;
+import com.todolab.view.model.DaySchedule;
+import com.todolab.view.model.MonthPageModel;
+import com.todolab.view.model.WeekPageModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class HotDataWarmerTest {
+
+    @Mock
+    TaskService taskService;
+
+    @Mock
+    DdayGoalService ddayGoalService;
+
+    @Mock
+    TaskViewService taskViewService;
+
+    @Mock
+    CalendarFragmentCache calendarFragmentCache;
+
+    @Test
+    @DisplayName("기준일의 Today / 주간 / 월간 / D-Day 데이터를 조회해 캐시를 채운다")
+    void warmUp_loadsHotDataForBaseDate() {
+        // given
+        LocalDate baseDate = LocalDate.of(2026, 3, 12);
+        List<DaySchedule> weeklyTasks = List.of(new DaySchedule(baseDate, "목", List.of(), List.of(), false, false));
+        List<CalendarCell> monthDays = List.of(new CalendarCell(baseDate, true, List.of(), List.of(), false, false));
+        WeekPageModel week = new WeekPageModel(baseDate, baseDate.minusDays(4), baseDate.plusDays(2),
+                "2026-03-08 ~ 2026-03-14", baseDate, weeklyTasks, weeklyTasks.get(0), 0);
+        MonthPageModel month = new MonthPageModel(baseDate, baseDate, baseDate.withDayOfMonth(1),
+                baseDate.withDayOfMonth(31), "2026-03", "2026-03", monthDays, 0);
+
+        given(taskViewService.getWeekPage(null, "2026-03-12")).willReturn(week);
+        given(taskViewService.getMonthPage(null, "2026-03-12")).willReturn(month);
+
+        HotDataWarmer warmer = new HotDataWarmer(taskService, ddayGoalService, taskViewService, calendarFragmentCache);
+
+        // when
+        warmer.warmUp(baseDate);
+
+        // then
+        then(taskService).should().getTodayTasks(baseDate);
+        then(taskService).should().getOverdueTasks(baseDate);
+        then(taskService).should().getTodayRecommendations(baseDate);
+        then(ddayGoalService).should().findAll();
+        then(calendarFragmentCache).should().renderWeekCells(weeklyTasks, baseDate);
+        then(calendarFragmentCache).should().renderMonthCells(monthDays, baseDate);
+    }
+}
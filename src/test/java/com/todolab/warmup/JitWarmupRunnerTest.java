@@ -0,0 +1,144 @@
+package com.todolab.warmup;
+
+import com.todolab.task.cache.TaskRangeCache;
+import com.todolab.task.service.TaskService;
+import com.todolab.view.CalendarFragmentCache;
+import com.todolab.view.TaskViewService;
+import com.todolab.view.model.CalendarCell;
+import com.todolab.view.model.DaySchedule;
+import com.todolab.view.model.MonthPageModel;
+import com.todolab.view.model.WeekPageModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class JitWarmupRunnerTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    TaskService taskService;
+
+    @Mock
+    TaskViewService taskViewService;
+
+    @Mock
+    CalendarFragmentCache calendarFragmentCache;
+
+    @Mock
+    TaskRangeCache taskRangeCache;
+
+    @Mock
+    HotDataWarmer hotDataWarmer;
+
+    @Mock
+    ObjectMapper objectMapper;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        List<DaySchedule> weeklyTasks = List.of(new DaySchedule(BASE_DATE, "월", List.of(), List.of(), false, false));
+        List<CalendarCell> monthDays = List.of(new CalendarCell(BASE_DATE, true, List.of(), List.of(), false, false));
+        WeekPageModel week = new WeekPageModel(BASE_DATE, BASE_DATE.minusDays(7), BASE_DATE.plusDays(7),
+                "2026-10-18 ~ 2026-10-24", BASE_DATE, weeklyTasks, weeklyTasks.get(0), 0);
+        MonthPageModel month = new MonthPageModel(BASE_DATE, BASE_DATE, BASE_DATE.withDayOfMonth(1),
+                BASE_DATE.withDayOfMonth(31), "2026-10", "2026-10", monthDays, 0);
+
+        given(taskViewService.getWeekPage(isNull(), anyString())).willReturn(week);
+        given(taskViewService.getMonthPage(isNull(), anyString())).willReturn(month);
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("설정한 횟수만큼 읽기 전용 rollback-only 트랜잭션 안에서 조회 / 페이지 / 렌더링 / JSON 경로를 호출한다")
+    void warmUpInProcess_repeatsReadPathsInRolledBackTransactions() {
+        // given
+        JitWarmupRunner runner = runner(3);
+
+        // when
+        int done = runner.warmUpInProcess(BASE_DATE, System.nanoTime() + Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(done).isEqualTo(3);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should(times(3)).getTransaction(definition.capture());
+        assertThat(definition.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        then(transactionManager).should(times(3)).commit(status.capture());
+        assertThat(status.getAllValues()).allMatch(TransactionStatus::isRollbackOnly);
+
+        then(taskRangeCache).should(times(3)).invalidateAll();
+        then(taskService).should(times(3)).getTodayTasks(BASE_DATE);
+        then(taskService).should(times(3)).getOverdueTasks(BASE_DATE);
+        then(taskService).should(times(3)).getTodayRecommendations(BASE_DATE);
+        then(taskService).should(times(3)).getInboxTasks();
+        then(taskService).should(times(3)).getDoneTasks(BASE_DATE);
+        then(calendarFragmentCache).should(times(3)).renderWeekCells(any(), any());
+        then(calendarFragmentCache).should(times(3)).renderMonthCells(any(), any());
+        then(objectMapper).should(times(3)).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("시작하면서 readiness 를 REFUSING_TRAFFIC 으로 두고, 끝나면 범위 캐시를 기준일 hot 데이터로 다시 채운다")
+    void run_refusesTrafficUntilWarmedAndRewarmsHotData() {
+        // given
+        JitWarmupRunner runner = runner(1);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        ArgumentCaptor<AvailabilityChangeEvent<?>> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+
+        InOrder order = inOrder(taskService, taskRangeCache, hotDataWarmer);
+        order.verify(taskService).getTodayTasks(any());
+        order.verify(taskRangeCache).invalidateAll();
+        order.verify(hotDataWarmer).warmUp(any());
+    }
+
+    private JitWarmupRunner runner(int iterations) {
+        return new JitWarmupRunner(taskService, taskViewService, calendarFragmentCache, taskRangeCache, hotDataWarmer,
+                objectMapper, transactionManager, eventPublisher, environment, iterations, 0, Duration.ofSeconds(10));
+    }
+}